@@ -31,6 +31,11 @@ android {
             proguardFiles(getDefaultProguardFile("proguard-android.txt"), "proguard-rules.pro")
         }
     }
+    testOptions {
+        unitTests {
+            isIncludeAndroidResources = true
+        }
+    }
     compileOptions {
         sourceCompatibility(JavaVersion.VERSION_17)
         targetCompatibility(JavaVersion.VERSION_17)
@@ -61,6 +66,10 @@ dependencies {
     api("io.reactivex.rxjava2:rxjava:2.2.21")
     api("io.reactivex.rxjava2:rxandroid:2.1.1")
 
+    testImplementation("junit:junit:4.13.2")
+    testImplementation("androidx.test:core:1.6.1")
+    testImplementation("org.robolectric:robolectric:4.14.1")
+
 }
 
 afterEvaluate {
@@ -0,0 +1,433 @@
+package dora;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dora.util.ThreadUtils;
+
+/**
+ * An adapter that pulls pages from a {@link PageLoader} on the io pool as the user scrolls,
+ * instead of holding all items in the data source. At most {@code maxPages} pages stay in
+ * memory, the pages farthest from the last bound position are evicted, and the items not loaded
+ * yet are bound as placeholders by {@link #bindPlaceholder(RecyclerView.ViewHolder, int)}. The
+ * next page is prefetched when a bound position gets within the prefetch distance of the end of
+ * its page. With a known total count all positions exist from the start, otherwise the list
+ * grows page by page until the loader returns a short page. The loader owns the items, so
+ * {@link #submitList(List)}, {@link #addAll(List)} and {@link #clearDataSource()} refresh from
+ * it, and {@link #getDataSource()} is read-only.
+ * 简体中文：在用户滚动时从{@link PageLoader}分页拉取数据（在IO线程池中）的适配器，而不是将所有数据放在数据源中。
+ * 内存中最多保留{@code maxPages}页，离最后绑定位置最远的页会被淘汰，尚未加载的项由
+ * {@link #bindPlaceholder(RecyclerView.ViewHolder, int)}绑定为占位项。当绑定的位置距其所在页的末尾小于预取
+ * 距离时会预取下一页。已知总数时所有位置从一开始就存在，否则列表逐页增长，直到加载器返回不满一页的数据。
+ * 数据由加载器提供，所以{@link #submitList(List)}、{@link #addAll(List)}和{@link #clearDataSource()}会从
+ * 加载器刷新，{@link #getDataSource()}是只读的。
+ */
+public abstract class BasePagedRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
+        extends BaseRecyclerAdapter<T, VH> {
+
+    public static final int LOADING_FOOTER_TYPE = BASE_FOOTER_TYPE + 99;
+    public static final int UNKNOWN_COUNT = -1;
+
+    private final PageLoader<T> pageLoader;
+    private final int pageSize;
+    private final int maxPages;
+    private final int prefetchDistance;
+    private final int totalCount;
+
+    private final Map<Integer, List<T>> pages = new HashMap<>();
+    private final Set<Integer> loadingPages = new HashSet<>();
+    private int loadedCount;
+    private boolean reachedEnd;
+    private int anchorPage;
+    private int generation;
+    private Throwable error;
+    private View loadingView;
+    private OnLoadStateListener onLoadStateListener;
+    private final List<Runnable> refreshCallbacks = new ArrayList<>();
+
+    /**
+     * @param pageLoader       Loads the pages on the io pool.简体中文：在IO线程池中加载分页
+     * @param pageSize         The number of items of a page.简体中文：每页的项数
+     * @param maxPages         The max number of pages in memory, at least 3.简体中文：内存中的最大页数，至少为3
+     * @param prefetchDistance Prefetch the next page within this distance of the end of a page.
+     *                         简体中文：距页末尾小于该距离时预取下一页
+     * @param totalCount       The total number of items, or {@link #UNKNOWN_COUNT}.简体中文：总项数，或{@link #UNKNOWN_COUNT}
+     */
+    public BasePagedRecyclerAdapter(@NonNull Context context, @LayoutRes int resId,
+                                    PageLoader<T> pageLoader, int pageSize, int maxPages,
+                                    int prefetchDistance, int totalCount) {
+        super(context, resId);
+        if (pageSize < 1 || maxPages < 3) {
+            throw new IllegalArgumentException("pageSize < 1 or maxPages < 3");
+        }
+        this.pageLoader = pageLoader;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.prefetchDistance = Math.min(prefetchDistance, pageSize);
+        this.totalCount = totalCount;
+        this.dataSource = new PagedList();
+        this.reachedEnd = totalCount != UNKNOWN_COUNT;
+        loadPage(0);
+    }
+
+    public BasePagedRecyclerAdapter(@NonNull Context context, @LayoutRes int resId,
+                                    PageLoader<T> pageLoader, int pageSize) {
+        this(context, resId, pageLoader, pageSize, 5, pageSize / 4, UNKNOWN_COUNT);
+    }
+
+    /**
+     * Shown as the last footer while a page is loading.
+     * 简体中文：加载分页时作为最后一个尾部显示。
+     */
+    public void setLoadingView(View view) {
+        this.loadingView = view;
+    }
+
+    public void setOnLoadStateListener(OnLoadStateListener listener) {
+        this.onLoadStateListener = listener;
+    }
+
+    public boolean isLoading() {
+        return !loadingPages.isEmpty();
+    }
+
+    /**
+     * The error of the last failed load, null if the loads succeeded.
+     * 简体中文：最近一次加载失败的错误，加载成功时为null。
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Load the page around the last bound position again after a failure.
+     * 简体中文：加载失败后，重新加载最后绑定位置附近的页。
+     */
+    public void retry() {
+        error = null;
+        loadPage(pages.isEmpty() ? 0 : anchorPage);
+    }
+
+    /**
+     * Drop all pages and load from the first page again.
+     * 简体中文：丢弃所有页并从第一页重新加载。
+     */
+    @SuppressLint("NotifyDataSetChanged")
+    public void refresh() {
+        refresh(null);
+    }
+
+    /**
+     * @param callback Run on the main thread when the first page is loaded or failed.
+     *                 简体中文：第一页加载完成或失败时在主线程执行
+     */
+    @SuppressLint("NotifyDataSetChanged")
+    public void refresh(Runnable callback) {
+        if (callback != null) {
+            refreshCallbacks.add(callback);
+        }
+        generation++;
+        pages.clear();
+        loadingPages.clear();
+        loadedCount = 0;
+        anchorPage = 0;
+        error = null;
+        reachedEnd = totalCount != UNKNOWN_COUNT;
+        footers.remove(LOADING_FOOTER_TYPE);
+        notifyDataSetChanged();
+        loadPage(0);
+    }
+
+    /**
+     * Bind an item that isn't loaded yet.
+     * 简体中文：绑定一个尚未加载的项。
+     */
+    protected void bindPlaceholder(VH h, int position) {
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        if (bindPlaceholderIfNotLoaded(holder, position)) {
+            return;
+        }
+        super.onBindViewHolder(holder, position);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position,
+                                 @NonNull List payloads) {
+        if (bindPlaceholderIfNotLoaded(holder, position)) {
+            return;
+        }
+        super.onBindViewHolder(holder, position, payloads);
+    }
+
+    /**
+     * The items are loaded by the {@link PageLoader}, a new list means its data changed, so this
+     * refreshes from it, the list itself is ignored.
+     * 简体中文：数据由{@link PageLoader}加载，新的列表意味着其数据发生了变化，所以会从加载器刷新，列表本身会被忽略。
+     *
+     * @param commitCallback Run on the main thread when the first page is loaded or failed.
+     *                       简体中文：第一页加载完成或失败时在主线程执行
+     */
+    @Override
+    public void submitList(List<T> list, Runnable commitCallback) {
+        refresh(commitCallback);
+    }
+
+    /**
+     * Refresh from the {@link PageLoader}, the same as {@link #submitList(List)}.
+     * 简体中文：从{@link PageLoader}刷新，与{@link #submitList(List)}相同。
+     */
+    @Override
+    public void addAll(List<T> list) {
+        refresh();
+    }
+
+    /**
+     * Refresh from the {@link PageLoader}, the pages are dropped and loaded again.
+     * 简体中文：从{@link PageLoader}刷新，所有页会被丢弃并重新加载。
+     */
+    @Override
+    public void clearDataSource() {
+        refresh();
+    }
+
+    /**
+     * Load the page of the bound item, binding is what drives the loads, and bind it as a
+     * placeholder if it isn't loaded yet.
+     * 简体中文：加载所绑定项所在的页，分页加载由绑定驱动，尚未加载时将其绑定为占位项。
+     */
+    private boolean bindPlaceholderIfNotLoaded(RecyclerView.ViewHolder holder, int position) {
+        if (getItemViewType(position) != ITEM_TYPE) {
+            return false;
+        }
+        int index = position - headers.size();
+        onAccess(index);
+        if (dataSource.get(index) == null) {
+            bindPlaceholder((VH) holder, index);
+            return true;
+        }
+        return false;
+    }
+
+    private int getPageCount() {
+        return (totalCount + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Called when an item is bound, load its page and prefetch the neighbours.
+     * 简体中文：绑定一项时调用，加载其所在页并预取相邻页。
+     */
+    private void onAccess(int index) {
+        int page = index / pageSize;
+        anchorPage = page;
+        loadPage(page);
+        int offset = index - page * pageSize;
+        if (offset >= pageSize - prefetchDistance) {
+            loadPage(page + 1);
+        } else if (offset < prefetchDistance && page > 0) {
+            loadPage(page - 1);
+        }
+    }
+
+    private void loadPage(final int page) {
+        if (pages.containsKey(page) || loadingPages.contains(page) || error != null) {
+            return;
+        }
+        if (totalCount != UNKNOWN_COUNT ? page >= getPageCount() && page > 0
+                : reachedEnd && page * pageSize >= loadedCount && page > 0) {
+            return;
+        }
+        if (loadingPages.isEmpty()) {
+            showLoadingView(true);
+        }
+        loadingPages.add(page);
+        final int loadGeneration = generation;
+        ThreadUtils.executeByIo(new ThreadUtils.SimpleTask<List<T>>() {
+            @Override
+            public List<T> doInBackground() throws Throwable {
+                return pageLoader.loadPage(page, pageSize);
+            }
+
+            @Override
+            public void onSuccess(List<T> result) {
+                if (loadGeneration == generation) {
+                    onPageLoaded(page, result);
+                    runRefreshCallbacks(page);
+                }
+            }
+
+            @Override
+            public void onFail(Throwable t) {
+                super.onFail(t);
+                if (loadGeneration == generation) {
+                    loadingPages.remove(page);
+                    error = t;
+                    showLoadingView(false);
+                    if (onLoadStateListener != null) {
+                        onLoadStateListener.onLoadFailed(page, t);
+                    }
+                    runRefreshCallbacks(page);
+                }
+            }
+        });
+    }
+
+    private void runRefreshCallbacks(int page) {
+        if (page != 0 || refreshCallbacks.isEmpty()) {
+            return;
+        }
+        List<Runnable> callbacks = new ArrayList<>(refreshCallbacks);
+        refreshCallbacks.clear();
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
+    }
+
+    @SuppressLint("NotifyDataSetChanged")
+    private void onPageLoaded(int page, List<T> items) {
+        loadingPages.remove(page);
+        if (items == null) {
+            items = new ArrayList<>();
+        }
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+        }
+        pages.put(page, items);
+        int start = page * pageSize;
+        boolean wasEmpty = dataSource.isEmpty();
+        if (totalCount == UNKNOWN_COUNT) {
+            int end = start + items.size();
+            if (items.size() < pageSize) {
+                reachedEnd = true;
+            }
+            if (end > loadedCount) {
+                int oldCount = loadedCount;
+                loadedCount = end;
+                if (wasEmpty && emptyView != null) {
+                    notifyDataSetChanged();
+                } else {
+                    notifyItemRangeChanged(headers.size() + start, Math.max(0, oldCount - start));
+                    notifyItemRangeInserted(headers.size() + oldCount, end - oldCount);
+                }
+            } else {
+                notifyItemRangeChanged(headers.size() + start, items.size());
+            }
+        } else {
+            notifyItemRangeChanged(headers.size() + start, Math.min(pageSize, totalCount - start));
+        }
+        evictPages(page);
+        if (loadingPages.isEmpty()) {
+            showLoadingView(false);
+        }
+        if (onLoadStateListener != null) {
+            onLoadStateListener.onPageLoaded(page, items.size());
+        }
+    }
+
+    /**
+     * Evict the pages farthest from the anchor page until at most {@code maxPages} are left.
+     * 简体中文：淘汰离锚点页最远的页，直到最多剩下{@code maxPages}页。
+     */
+    private void evictPages(int loadedPage) {
+        while (pages.size() > maxPages) {
+            int farthest = -1;
+            int maxDistance = -1;
+            for (int page : pages.keySet()) {
+                int distance = Math.abs(page - anchorPage);
+                if (page != loadedPage && distance > maxDistance) {
+                    farthest = page;
+                    maxDistance = distance;
+                }
+            }
+            List<T> evicted = pages.remove(farthest);
+            // Rebind as placeholders in case they are still attached.
+            // 简体中文：重新绑定为占位项，以防它们仍在显示。
+            notifyItemRangeChanged(headers.size() + farthest * pageSize, evicted.size());
+        }
+    }
+
+    /**
+     * Posted, because a load may start while binding, when the adapter can't be notified.
+     * 简体中文：通过post执行，因为加载可能在绑定时开始，此时不能通知适配器。
+     */
+    private void showLoadingView(final boolean show) {
+        if (loadingView == null) {
+            return;
+        }
+        ThreadUtils.runOnUiThreadDelayed(new Runnable() {
+            @Override
+            public void run() {
+                boolean shown = footers.indexOfKey(LOADING_FOOTER_TYPE) >= 0;
+                if (show == shown || (dataSource.isEmpty() && emptyView != null)) {
+                    return;
+                }
+                int position = headers.size() + dataSource.size() + footers.size();
+                if (show) {
+                    footers.put(LOADING_FOOTER_TYPE, loadingView);
+                    notifyItemInserted(position);
+                } else {
+                    footers.remove(LOADING_FOOTER_TYPE);
+                    notifyItemRemoved(position - 1);
+                }
+            }
+        }, 0);
+    }
+
+    /**
+     * The read-only data source, the items not loaded are null. Reading it never loads pages,
+     * only binding does.
+     * 简体中文：只读的数据源，未加载的项为null。读取它不会加载分页，只有绑定才会。
+     */
+    private class PagedList extends AbstractList<T> {
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            List<T> page = pages.get(index / pageSize);
+            int offset = index % pageSize;
+            return page != null && offset < page.size() ? page.get(offset) : null;
+        }
+
+        @Override
+        public int size() {
+            return totalCount != UNKNOWN_COUNT ? totalCount : loadedCount;
+        }
+    }
+
+    public interface PageLoader<T> {
+
+        /**
+         * Load a page, called on the io pool. A page shorter than the page size marks the end
+         * when the total count is unknown.
+         * 简体中文：加载一页，在IO线程池中调用。总数未知时，不满一页表示已到末尾。
+         *
+         * @param page     The index of the page, from 0.简体中文：页的索引，从0开始
+         * @param pageSize The number of items of a page.简体中文：每页的项数
+         */
+        List<T> loadPage(int page, int pageSize) throws Throwable;
+    }
+
+    public interface OnLoadStateListener {
+
+        void onPageLoaded(int page, int count);
+
+        void onLoadFailed(int page, Throwable t);
+    }
+}
@@ -3,18 +3,23 @@ package dora;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import dora.util.ThreadUtils;
+
 public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder> extends RecyclerView.Adapter {
 
     public static final int ITEM_TYPE = 0;
@@ -37,6 +42,12 @@ public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
 
     protected boolean showHeaderFooterWhenEmpty;
 
+    protected DiffUtil.ItemCallback<T> diffCallback;
+    protected StableIdProvider<T> stableIdProvider;
+    protected ViewPreInflater preInflater;
+    private int submitGeneration;
+    private final ListUpdateCallback offsetUpdateCallback = new OffsetListUpdateCallback();
+
     public BaseRecyclerAdapter(@NonNull Context context, @LayoutRes int resId) {
         this.context = context;
         this.inflater = LayoutInflater.from(context);
@@ -59,6 +70,236 @@ public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
         dataSource.addAll(list);
     }
 
+    /**
+     * Set how {@link #submitList(List)} tells whether two items are the same and whether their
+     * contents changed, {@link DiffUtil.ItemCallback#getChangePayload(Object, Object)} provides
+     * the payloads for {@link #bindData(RecyclerView.ViewHolder, Object, int, List)}.
+     * 简体中文：设置{@link #submitList(List)}如何判断两项是否相同以及内容是否变化，
+     * {@link DiffUtil.ItemCallback#getChangePayload(Object, Object)}提供传给
+     * {@link #bindData(RecyclerView.ViewHolder, Object, int, List)}的payload。
+     */
+    public void setDiffCallback(DiffUtil.ItemCallback<T> callback) {
+        this.diffCallback = callback;
+    }
+
+    /**
+     * Enable stable ids, call it before setting the adapter to the RecyclerView.
+     * 简体中文：启用稳定id，请在将适配器设置给RecyclerView之前调用。
+     */
+    public void setStableIdProvider(StableIdProvider<T> provider) {
+        this.stableIdProvider = provider;
+        setHasStableIds(provider != null);
+    }
+
+    public void submitList(List<T> list) {
+        submitList(list, null);
+    }
+
+    /**
+     * Replace the data source with the list, the diff is computed on the cpu pool of
+     * {@link ThreadUtils}, and only the changed ranges are notified, offset by the headers. A
+     * newer submission discards the pending one. Don't modify the data source in other ways
+     * while a submission is pending.
+     * 简体中文：用该列表替换数据源，差异在{@link ThreadUtils}的CPU线程池中计算，只通知变化的范围，并按头部
+     * 数量偏移。新的提交会丢弃尚未完成的提交。提交未完成时不要以其他方式修改数据源。
+     *
+     * @param commitCallback Run on the main thread after the list is committed.简体中文：列表提交后在主线程执行
+     */
+    @SuppressLint("NotifyDataSetChanged")
+    public void submitList(List<T> list, Runnable commitCallback) {
+        final int generation = ++submitGeneration;
+        final List<T> newList = list == null ? new ArrayList<>() : new ArrayList<>(list);
+        final List<T> oldList = new ArrayList<>(dataSource);
+        if (oldList.isEmpty() || newList.isEmpty()) {
+            dataSource.clear();
+            dataSource.addAll(newList);
+            if (emptyView != null) {
+                // The empty view takes a position, simply refresh all.
+                // 简体中文：空视图会占用一个位置，直接全部刷新。
+                notifyDataSetChanged();
+            } else if (oldList.isEmpty()) {
+                notifyItemRangeInserted(headers.size(), newList.size());
+            } else {
+                notifyItemRangeRemoved(headers.size(), oldList.size());
+            }
+            if (commitCallback != null) {
+                commitCallback.run();
+            }
+            return;
+        }
+        final DiffUtil.ItemCallback<T> callback = diffCallback != null ? diffCallback
+                : new DefaultItemCallback<>(stableIdProvider);
+        ThreadUtils.executeByCpu(new ThreadUtils.SimpleTask<DiffUtil.DiffResult>() {
+            @Override
+            public DiffUtil.DiffResult doInBackground() {
+                return DiffUtil.calculateDiff(new DiffUtil.Callback() {
+                    @Override
+                    public int getOldListSize() {
+                        return oldList.size();
+                    }
+
+                    @Override
+                    public int getNewListSize() {
+                        return newList.size();
+                    }
+
+                    @Override
+                    public boolean areItemsTheSame(int oldPosition, int newPosition) {
+                        return callback.areItemsTheSame(oldList.get(oldPosition),
+                                newList.get(newPosition));
+                    }
+
+                    @Override
+                    public boolean areContentsTheSame(int oldPosition, int newPosition) {
+                        return callback.areContentsTheSame(oldList.get(oldPosition),
+                                newList.get(newPosition));
+                    }
+
+                    @Override
+                    public Object getChangePayload(int oldPosition, int newPosition) {
+                        return callback.getChangePayload(oldList.get(oldPosition),
+                                newList.get(newPosition));
+                    }
+                });
+            }
+
+            @Override
+            public void onSuccess(DiffUtil.DiffResult result) {
+                if (generation != submitGeneration) {
+                    return;
+                }
+                dataSource.clear();
+                dataSource.addAll(newList);
+                result.dispatchUpdatesTo(offsetUpdateCallback);
+                if (commitCallback != null) {
+                    commitCallback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Take the item views from the pre-inflater before inflating them.
+     * 简体中文：填充条目视图之前先从预填充器中取。
+     */
+    public void setPreInflater(ViewPreInflater preInflater) {
+        this.preInflater = preInflater;
+    }
+
+    /**
+     * Inflate the item views in the background, and when the main thread is idle, create view
+     * holders from them and put them into the {@link RecyclerView.RecycledViewPool} of the
+     * RecyclerView, which may be shared with other RecyclerViews. Call it after setting the
+     * adapter, as setting the first adapter clears the pool.
+     * 简体中文：在后台填充条目视图，并在主线程空闲时用它们创建ViewHolder，放入RecyclerView的
+     * {@link RecyclerView.RecycledViewPool}中，该缓存池可与其他RecyclerView共享。请在设置适配器之后调用，
+     * 因为设置第一个适配器时会清空缓存池。
+     *
+     * @param count The number of item views, e.g. those of one screen.简体中文：条目视图的数量，例如一屏的数量
+     */
+    public void prewarm(final RecyclerView recyclerView, final int count) {
+        SparseIntArray viewTypeCounts = new SparseIntArray();
+        viewTypeCounts.put(ITEM_TYPE, count);
+        prewarm(recyclerView, viewTypeCounts);
+    }
+
+    /**
+     * Prewarm the item views of several view types, see {@link #prewarm(RecyclerView, int)}.
+     * The layout of a view type comes from {@link #getLayoutId(int)}.
+     * 简体中文：预热多种视图类型的条目视图，参见{@link #prewarm(RecyclerView, int)}。视图类型的布局来自
+     * {@link #getLayoutId(int)}。
+     *
+     * @param viewTypeCounts The number of item views by view type.简体中文：按视图类型划分的条目视图数量
+     */
+    public void prewarm(final RecyclerView recyclerView, SparseIntArray viewTypeCounts) {
+        if (preInflater == null) {
+            preInflater = new ViewPreInflater(context);
+        }
+        for (int i = 0; i < viewTypeCounts.size(); i++) {
+            final int viewType = viewTypeCounts.keyAt(i);
+            final int count = viewTypeCounts.valueAt(i);
+            final int layoutId = getLayoutId(viewType);
+            preInflater.preInflate(recyclerView, layoutId, count, new Runnable() {
+                @Override
+                public void run() {
+                    ThreadUtils.lazyLoad(new Runnable() {
+                        @Override
+                        public void run() {
+                            RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+                            pool.setMaxRecycledViews(viewType,
+                                    Math.max(pool.getRecycledViewCount(viewType) + count, 5));
+                            for (int j = 0; j < count && preInflater.getAvailableCount(layoutId) > 0; j++) {
+                                pool.putRecycledView(createViewHolder(recyclerView, viewType));
+                            }
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+    /**
+     * Inflate the header layout in the background, and add it when it's ready. The headers are
+     * added in the order of the calls.
+     * 简体中文：在后台填充头部布局，填充完成后再添加。头部按调用的顺序添加。
+     *
+     * @param parent Used to generate the layout params, not attached to.简体中文：用于生成布局参数，不会添加到其中
+     */
+    public void addHeaderView(ViewGroup parent, @LayoutRes final int layoutId) {
+        inflateInBackground(parent, layoutId, new ViewCallback() {
+            @Override
+            public void onView(View view) {
+                addHeaderView(view);
+                notifyHeaderFooterAdded(headers.size() - 1);
+            }
+        });
+    }
+
+    /**
+     * Inflate the footer layout in the background, and add it when it's ready. The footers are
+     * added in the order of the calls.
+     * 简体中文：在后台填充尾部布局，填充完成后再添加。尾部按调用的顺序添加。
+     *
+     * @param parent Used to generate the layout params, not attached to.简体中文：用于生成布局参数，不会添加到其中
+     */
+    public void addFooterView(ViewGroup parent, @LayoutRes final int layoutId) {
+        inflateInBackground(parent, layoutId, new ViewCallback() {
+            @Override
+            public void onView(View view) {
+                addFooterView(view);
+                notifyHeaderFooterAdded(headers.size() + dataSource.size()
+                        + footers.indexOfValue(view));
+            }
+        });
+    }
+
+    private void inflateInBackground(final ViewGroup parent, @LayoutRes final int layoutId,
+                                     final ViewCallback callback) {
+        if (preInflater == null) {
+            preInflater = new ViewPreInflater(context);
+        }
+        preInflater.preInflate(parent, layoutId, 1, new Runnable() {
+            @Override
+            public void run() {
+                // Inflate it here if it can't be inflated in the background.
+                // 简体中文：无法在后台填充时在此填充。
+                View view = preInflater.take(layoutId);
+                callback.onView(view != null ? view : inflater.inflate(layoutId, parent, false));
+            }
+        });
+    }
+
+    @SuppressLint("NotifyDataSetChanged")
+    private void notifyHeaderFooterAdded(int position) {
+        if (emptyView != null && dataSource.isEmpty()) {
+            // The empty view may hide the headers and footers, simply refresh all.
+            // 简体中文：空视图可能隐藏头部和尾部，直接全部刷新。
+            notifyDataSetChanged();
+        } else {
+            notifyItemInserted(position);
+        }
+    }
+
     public void addHeaderView(View header) {
         if (headers.indexOfValue(header) < 0) {
             headers.put(BASE_HEADER_TYPE + headers.size(), header);
@@ -143,6 +384,15 @@ public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
         return ITEM_TYPE;
     }
 
+    /**
+     * The layout of the item view type, {@code resId} for all the types by default.
+     * 简体中文：条目视图类型的布局，默认所有类型都为{@code resId}。
+     */
+    @LayoutRes
+    protected int getLayoutId(int viewType) {
+        return resId;
+    }
+
     @NonNull
     @Override
     public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -167,30 +417,80 @@ public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
         }
 
         // item
-        return createItemViewHolder(inflater.inflate(resId, parent, false), viewType);
+        int layoutId = getLayoutId(viewType);
+        View itemView = preInflater != null ? preInflater.take(layoutId) : null;
+        if (itemView == null) {
+            itemView = inflater.inflate(layoutId, parent, false);
+        }
+        return createItemViewHolder(itemView, viewType);
     }
 
     protected abstract VH createItemViewHolder(View view, int viewType);
 
     @Override
-    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, @SuppressLint("RecyclerView") final int position) {
+    public void onBindViewHolder(@NonNull final RecyclerView.ViewHolder holder, @SuppressLint("RecyclerView") final int position) {
         if (getItemViewType(position) == ITEM_TYPE) {
             int index = position - headers.size();
-            final T obj = dataSource.get(index);
-            if (onItemClickListener != null) {
-                holder.itemView.setOnClickListener(new View.OnClickListener() {
-                    @Override
-                    public void onClick(View v) {
-                        onItemClickListener.onItemClicked(obj, position);
-                    }
-                });
-            }
+            bindItemClick(holder);
             bindData((VH) holder, dataSource.get(index), index);
         }
     }
 
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position, @NonNull List payloads) {
+        if (payloads.isEmpty() || getItemViewType(position) != ITEM_TYPE) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        int index = position - headers.size();
+        bindItemClick(holder);
+        bindData((VH) holder, dataSource.get(index), index, (List<Object>) payloads);
+    }
+
+    private void bindItemClick(final RecyclerView.ViewHolder holder) {
+        if (onItemClickListener != null) {
+            holder.itemView.setOnClickListener(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    // Look up the position on click, partial updates don't rebind the holder.
+                    // 简体中文：点击时再获取位置，局部刷新不会重新绑定ViewHolder。
+                    int position = holder.getBindingAdapterPosition();
+                    int index = position - headers.size();
+                    if (index >= 0 && index < dataSource.size()) {
+                        onItemClickListener.onItemClicked(dataSource.get(index), position);
+                    }
+                }
+            });
+        }
+    }
+
     protected abstract void bindData(VH h, T obj, int position);
 
+    /**
+     * Bind the changes of an item partially, the payloads come from
+     * {@link DiffUtil.ItemCallback#getChangePayload(Object, Object)}, it binds the whole item
+     * by default.
+     * 简体中文：局部绑定一项的变化，payload来自{@link DiffUtil.ItemCallback#getChangePayload(Object, Object)}，
+     * 默认绑定整项。
+     */
+    protected void bindData(VH h, T obj, int position, List<Object> payloads) {
+        bindData(h, obj, position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        if (stableIdProvider == null) {
+            return RecyclerView.NO_ID;
+        }
+        int index = position - headers.size();
+        if (index < 0 || index >= dataSource.size()) {
+            // Headers, footers and the empty view.
+            // 简体中文：头部、尾部和空视图。
+            return Long.MIN_VALUE + getItemViewType(position);
+        }
+        return stableIdProvider.getStableId(dataSource.get(index));
+    }
+
     @Override
     public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
         RecyclerView.LayoutManager lm = recyclerView.getLayoutManager();
@@ -223,7 +523,70 @@ public abstract class BaseRecyclerAdapter<T, VH extends RecyclerView.ViewHolder>
         return headers.size() + dataSource.size() + footers.size();
     }
 
+    private interface ViewCallback {
+
+        void onView(View view);
+    }
+
     public interface OnItemClickListener<T> {
         void onItemClicked(T obj, int position);
     }
+
+    public interface StableIdProvider<T> {
+        long getStableId(T obj);
+    }
+
+    /**
+     * Items are the same if their stable ids or themselves are equal, contents are the same if
+     * the items are equal.
+     * 简体中文：稳定id相等或本身相等即为同一项，项相等即内容相同。
+     */
+    private static class DefaultItemCallback<T> extends DiffUtil.ItemCallback<T> {
+
+        private final StableIdProvider<T> stableIdProvider;
+
+        DefaultItemCallback(StableIdProvider<T> provider) {
+            this.stableIdProvider = provider;
+        }
+
+        @Override
+        public boolean areItemsTheSame(@NonNull T oldItem, @NonNull T newItem) {
+            if (stableIdProvider != null) {
+                return stableIdProvider.getStableId(oldItem) == stableIdProvider.getStableId(newItem);
+            }
+            return oldItem.equals(newItem);
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull T oldItem, @NonNull T newItem) {
+            return oldItem.equals(newItem);
+        }
+    }
+
+    /**
+     * Offset the positions of the data source by the headers.
+     * 简体中文：将数据源中的位置按头部数量偏移。
+     */
+    private class OffsetListUpdateCallback implements ListUpdateCallback {
+
+        @Override
+        public void onInserted(int position, int count) {
+            notifyItemRangeInserted(position + headers.size(), count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            notifyItemRangeRemoved(position + headers.size(), count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            notifyItemMoved(fromPosition + headers.size(), toPosition + headers.size());
+        }
+
+        @Override
+        public void onChanged(int position, int count, Object payload) {
+            notifyItemRangeChanged(position + headers.size(), count, payload);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package dora;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import dora.util.LogUtils;
+import dora.util.ThreadUtils;
+
+/**
+ * Inflates views ahead of time on the single pool of {@link ThreadUtils}, and hands them out
+ * on demand, so the first screen of a list doesn't pay for every inflation on the main thread.
+ * The layouts are inflated one at a time with a cloned {@link LayoutInflater}, as it isn't
+ * thread-safe. Layouts whose views need a {@link android.os.Looper} in their constructors can't
+ * be inflated in the background, such a failure just stops pre-inflating that layout.
+ * 简体中文：在{@link ThreadUtils}的单线程池中预先填充视图，并按需取用，这样列表的首屏不必在主线程上承担每一次
+ * 布局填充。由于{@link LayoutInflater}不是线程安全的，布局使用克隆出的LayoutInflater逐个填充。构造方法中需要
+ * {@link android.os.Looper}的视图无法在后台填充，此类失败只会停止预填充该布局。
+ */
+public class ViewPreInflater {
+
+    private final LayoutInflater mInflater;
+    private final ConcurrentHashMap<Integer, Queue<View>> mViews = new ConcurrentHashMap<>();
+
+    public ViewPreInflater(Context context) {
+        this.mInflater = LayoutInflater.from(context).cloneInContext(context);
+    }
+
+    public void preInflate(ViewGroup parent, @LayoutRes int resId, int count) {
+        preInflate(parent, resId, count, null);
+    }
+
+    /**
+     * Inflate the layout in the background.
+     * 简体中文：在后台填充布局。
+     *
+     * @param parent   Used to generate the layout params, not attached to.简体中文：用于生成布局参数，不会添加到其中
+     * @param count    The number of views to inflate.简体中文：填充的视图数量
+     * @param callback Run on the main thread when done.简体中文：完成后在主线程执行
+     */
+    public void preInflate(final ViewGroup parent, @LayoutRes final int resId, final int count,
+                           @Nullable final Runnable callback) {
+        final Queue<View> views = getQueue(resId);
+        ThreadUtils.executeBySingle(new ThreadUtils.SimpleTask<Integer>() {
+            @Override
+            public Integer doInBackground() {
+                int inflated = 0;
+                try {
+                    for (; inflated < count; inflated++) {
+                        views.offer(mInflater.inflate(resId, parent, false));
+                    }
+                } catch (Throwable t) {
+                    LogUtils.e("Can't pre-inflate layout " + resId + ": " + t);
+                }
+                return inflated;
+            }
+
+            @Override
+            public void onSuccess(Integer result) {
+                if (callback != null) {
+                    callback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Take a pre-inflated view of the layout.
+     * 简体中文：取出一个该布局预先填充好的视图。
+     *
+     * @return null if there is none left, inflate it as usual.
+     */
+    @Nullable
+    @MainThread
+    public View take(@LayoutRes int resId) {
+        Queue<View> views = mViews.get(resId);
+        return views != null ? views.poll() : null;
+    }
+
+    public int getAvailableCount(@LayoutRes int resId) {
+        Queue<View> views = mViews.get(resId);
+        return views != null ? views.size() : 0;
+    }
+
+    public void clear() {
+        mViews.clear();
+    }
+
+    private Queue<View> getQueue(int resId) {
+        Queue<View> views = mViews.get(resId);
+        if (views == null) {
+            views = new ConcurrentLinkedQueue<>();
+            Queue<View> existing = mViews.putIfAbsent(resId, views);
+            if (existing != null) {
+                views = existing;
+            }
+        }
+        return views;
+    }
+}
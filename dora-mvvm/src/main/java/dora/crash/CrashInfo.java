@@ -23,6 +23,11 @@ import android.os.Build;
 
 import androidx.annotation.NonNull;
 
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
 /**
  * Developers can extend this custom crash information so that the toString() method must be
  * overridden to take effect.
@@ -30,6 +35,18 @@ import androidx.annotation.NonNull;
  */
 public class CrashInfo implements Info {
 
+    // Anonymous classes and lambdas, such as Foo$1 and lambda$run$0.
+    // 简体中文：匿名类和lambda，如Foo$1和lambda$run$0
+    private static final Pattern SYNTHETIC_INDEX = Pattern.compile("\\$\\d+");
+
+    // Classes generated by R8, such as Foo$$ExternalSyntheticLambda0.
+    // 简体中文：R8生成的类，如Foo$$ExternalSyntheticLambda0
+    private static final Pattern EXTERNAL_SYNTHETIC_INDEX = Pattern.compile("(ExternalSynthetic\\w*?)\\d+");
+
+    // Limit the depth of the cause chain.
+    // 简体中文：限制异常原因链的深度
+    private static final int MAX_CAUSE_DEPTH = 8;
+
     // Version name
     // 简体中文：版本名称
     private String versionName;
@@ -134,6 +151,51 @@ public class CrashInfo implements Info {
         return context;
     }
 
+    /**
+     * The SHA-1 of the normalized stack trace, the crashes with the same cause share the same
+     * fingerprint. Only the exception classes and the frames of the cause chain are counted, the
+     * messages, the line numbers and the indexes of synthetic classes are left out, since they
+     * vary between the occurrences or the builds.
+     * 简体中文：规范化后的堆栈的SHA-1，原因相同的崩溃具有相同的指纹。只计入异常原因链中的异常类和栈帧，不计入异常
+     * 消息、行号和合成类的序号，因为它们会随每次发生或每次构建而变化。
+     *
+     * @return the fingerprint, or an empty string if there is no throwable.
+     */
+    public String getFingerprint() {
+        if (throwable == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        Throwable t = throwable;
+        for (int depth = 0; t != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            sb.append(t.getClass().getName()).append('\n');
+            for (StackTraceElement line : t.getStackTrace()) {
+                sb.append(normalize(line.getClassName())).append('.')
+                        .append(normalize(line.getMethodName())).append('\n');
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+            t = t.getCause();
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes("UTF-8"));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            return Integer.toHexString(sb.toString().hashCode());
+        }
+    }
+
+    private static String normalize(String name) {
+        name = SYNTHETIC_INDEX.matcher(name).replaceAll("\\$");
+        return EXTERNAL_SYNTHETIC_INDEX.matcher(name).replaceAll("$1");
+    }
+
     @NonNull
     @Override
     public String toString() {
@@ -53,6 +53,10 @@ class DoraUncaughtExceptionHandler implements Thread.UncaughtExceptionHandler {
 
     public void uncaughtException(Thread t, Throwable e) {
         if (mConfig.enabled) {
+            // The filters may look into the thread and the throwable.
+            // 简体中文：过滤器可能会用到线程和异常信息
+            mConfig.info.setThrowable(e);
+            mConfig.info.setThread(t);
             boolean filterResult = mConfig.filter.filterCrashInfo(mConfig.info);
             if (filterResult) {
                 interceptException(t, e);
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.crash.filter;
+
+import dora.util.IoUtils;
+import dora.util.LogUtils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded on-disk index of crash fingerprints, every entry records how many times the crash
+ * happened, when it was first and last seen, and when it was last reported. The least recently
+ * seen entries are evicted once the index is full. The index is rewritten through a temporary
+ * file and a rename, so a crash in the middle never corrupts it.
+ * 简体中文：有界的崩溃指纹磁盘索引，每个条目记录崩溃发生的次数、首次和最近一次出现的时间，以及最近一次上报的时间。
+ * 索引满后淘汰最久未出现的条目。索引通过临时文件加重命名的方式重写，所以中途崩溃也不会损坏它。
+ */
+public class CrashIndex {
+
+    private static final String SEPARATOR = "\t";
+
+    private final File mFile;
+    private final int mMaxEntries;
+    private LinkedHashMap<String, Entry> mEntries;
+
+    public CrashIndex(File file, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries < 1: " + maxEntries);
+        }
+        this.mFile = file;
+        this.mMaxEntries = maxEntries;
+    }
+
+    /**
+     * Count an occurrence of the crash, and decide whether it should be reported.
+     * 简体中文：记录一次该崩溃的发生，并决定是否应当上报。
+     *
+     * @param fingerprint  The fingerprint of the crash.简体中文：崩溃的指纹
+     * @param now          The current time in milliseconds.简体中文：当前时间，单位毫秒
+     * @param windowMillis A crash is reported at most once in the window.简体中文：在该时间窗口内崩溃至多上报一次
+     * @return true if the crash hasn't been reported in the window.
+     */
+    public synchronized boolean record(String fingerprint, long now, long windowMillis) {
+        Map<String, Entry> entries = getEntriesLocked();
+        Entry entry = entries.get(fingerprint);
+        boolean report;
+        if (entry == null) {
+            entry = new Entry(fingerprint, 1, now, now, now);
+            entries.put(fingerprint, entry);
+            report = true;
+        } else {
+            entry.count++;
+            entry.lastSeen = now;
+            report = now - entry.lastReported >= windowMillis || now < entry.lastReported;
+            if (report) {
+                entry.lastReported = now;
+            }
+        }
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > mMaxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        save(entries);
+        return report;
+    }
+
+    /**
+     * A snapshot of the entries, from the least recently seen to the most recently seen.
+     * 简体中文：条目的快照，按最久未出现到最近出现排列。
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : getEntriesLocked().values()) {
+            entries.add(new Entry(entry.fingerprint, entry.count, entry.firstSeen,
+                    entry.lastSeen, entry.lastReported));
+        }
+        return entries;
+    }
+
+    public synchronized void clear() {
+        getEntriesLocked().clear();
+        save(mEntries);
+    }
+
+    private LinkedHashMap<String, Entry> getEntriesLocked() {
+        if (mEntries == null) {
+            // Access order, so the eldest entry is the least recently seen one.
+            // 简体中文：访问顺序，所以最老的条目就是最久未出现的条目。
+            mEntries = new LinkedHashMap<>(16, 0.75f, true);
+            load(mEntries);
+        }
+        return mEntries;
+    }
+
+    private void load(Map<String, Entry> entries) {
+        if (!mFile.exists()) {
+            return;
+        }
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(mFile), "UTF-8"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(SEPARATOR);
+                if (fields.length != 5) {
+                    continue;
+                }
+                try {
+                    entries.put(fields[0], new Entry(fields[0], Integer.parseInt(fields[1]),
+                            Long.parseLong(fields[2]), Long.parseLong(fields[3]),
+                            Long.parseLong(fields[4])));
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        } catch (IOException e) {
+            LogUtils.e(e.toString());
+        } finally {
+            IoUtils.close(reader);
+        }
+    }
+
+    private void save(Map<String, Entry> entries) {
+        File parent = mFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        File temp = new File(mFile.getPath() + ".tmp");
+        FileOutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(temp);
+            Writer writer = new OutputStreamWriter(outputStream, "UTF-8");
+            for (Entry entry : entries.values()) {
+                writer.write(entry.fingerprint + SEPARATOR + entry.count + SEPARATOR
+                        + entry.firstSeen + SEPARATOR + entry.lastSeen + SEPARATOR
+                        + entry.lastReported + "\n");
+            }
+            writer.flush();
+            outputStream.getFD().sync();
+        } catch (IOException e) {
+            LogUtils.e(e.toString());
+            IoUtils.close(outputStream);
+            temp.delete();
+            return;
+        }
+        IoUtils.close(outputStream);
+        if (!temp.renameTo(mFile)) {
+            LogUtils.e("Can't rename " + temp + " to " + mFile);
+        }
+    }
+
+    public static class Entry {
+
+        private final String fingerprint;
+        private int count;
+        private final long firstSeen;
+        private long lastSeen;
+        private long lastReported;
+
+        Entry(String fingerprint, int count, long firstSeen, long lastSeen, long lastReported) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.firstSeen = firstSeen;
+            this.lastSeen = lastSeen;
+            this.lastReported = lastReported;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getFirstSeen() {
+            return firstSeen;
+        }
+
+        public long getLastSeen() {
+            return lastSeen;
+        }
+
+        public long getLastReported() {
+            return lastReported;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.crash.filter;
+
+import dora.crash.CrashInfo;
+
+import java.io.File;
+
+/**
+ * Filter the duplicate crashes by the fingerprint of the stack trace, so a crash loop reports
+ * a crash only once per window, the occurrences are still counted in the {@link CrashIndex}.
+ * 简体中文：按堆栈指纹过滤重复的崩溃，使崩溃循环在每个时间窗口内只上报一次，发生次数仍会记录在{@link CrashIndex}中。
+ */
+public class DeduplicateFilter extends CrashReportFilter {
+
+    private static final long DEFAULT_WINDOW_MILLIS = 60 * 60 * 1000;
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final CrashIndex mIndex;
+    private final long mWindowMillis;
+
+    public DeduplicateFilter(File indexFile) {
+        this(indexFile, DEFAULT_WINDOW_MILLIS);
+    }
+
+    public DeduplicateFilter(File indexFile, long windowMillis) {
+        this(new CrashIndex(indexFile, DEFAULT_MAX_ENTRIES), windowMillis);
+    }
+
+    public DeduplicateFilter(CrashIndex index, long windowMillis) {
+        this.mIndex = index;
+        this.mWindowMillis = windowMillis;
+    }
+
+    public CrashIndex getIndex() {
+        return mIndex;
+    }
+
+    @Override
+    public boolean handle(CrashInfo info) {
+        String fingerprint = info.getFingerprint();
+        if (fingerprint.isEmpty()) {
+            return true;
+        }
+        return mIndex.record(fingerprint, System.currentTimeMillis(), mWindowMillis);
+    }
+}
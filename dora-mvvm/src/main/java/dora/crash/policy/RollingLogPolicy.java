@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.crash.policy;
+
+import dora.crash.LogInfo;
+import dora.crash.group.DefaultGroup;
+import dora.crash.group.Group;
+
+/**
+ * Save log information to a {@link RollingLogStore}. Reporting only puts the log into the
+ * buffer of the store, the disk IO is done by its background flusher.
+ * 简体中文：把日志信息保存到{@link RollingLogStore}。上报只是将日志放入存储的缓冲区，磁盘IO由其后台刷写线程完成。
+ */
+public class RollingLogPolicy extends LogReportPolicy {
+
+    private final RollingLogStore mStore;
+
+    public RollingLogPolicy(RollingLogStore store) {
+        this(store, new DefaultGroup());
+    }
+
+    public RollingLogPolicy(RollingLogStore store, Group group) {
+        this(store, group, null);
+    }
+
+    public RollingLogPolicy(RollingLogStore store, LogReportPolicy policy) {
+        this(store, new DefaultGroup(), policy);
+    }
+
+    public RollingLogPolicy(RollingLogStore store, Group group, LogReportPolicy policy) {
+        super(group, policy);
+        this.mStore = store;
+    }
+
+    public RollingLogStore getStore() {
+        return mStore;
+    }
+
+    @Override
+    public void report(LogInfo info, Group group) {
+        super.report(info, group);
+        if (group.counts()) {
+            mStore.offer(info);
+        }
+    }
+}
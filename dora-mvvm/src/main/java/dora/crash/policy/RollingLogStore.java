@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.crash.policy;
+
+import dora.crash.LogInfo;
+import dora.util.LogUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An append-only log store rotated by size, shared by {@link RollingLogPolicy} and
+ * {@link RollingStoragePolicy}. The log records are put into a lock-free ring buffer by the
+ * reporting threads and written to disk in batches by a background flusher, so reporting a log
+ * never touches the disk. The crash records are written and fsynced on the crash path, together
+ * with the log records still in the buffer. The active file is "name.log", the rotated files are
+ * "name.1.log" to "name.(maxFiles - 1).log" from the newest to the oldest.
+ * 简体中文：按大小滚动的只追加日志存储，由{@link RollingLogPolicy}和{@link RollingStoragePolicy}共享。上报线程
+ * 将日志记录放入无锁环形缓冲区，由后台刷写线程批量写入磁盘，所以上报日志从不触及磁盘。崩溃记录会在崩溃路径上连同
+ * 缓冲区中尚存的日志记录一起写入并fsync。当前文件为"name.log"，滚动后的文件从新到旧依次为"name.1.log"到
+ * "name.(maxFiles - 1).log"。
+ */
+public class RollingLogStore {
+
+    private static final String SUFFIX = ".log";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File mFolder;
+    private final String mName;
+    private final long mMaxFileSize;
+    private final int mMaxFiles;
+    private final long mFlushIntervalNanos;
+    private final RingBuffer<Record> mRingBuffer;
+    private final int mFlushThreshold;
+    private final AtomicLong mDroppedCount = new AtomicLong();
+    private final Thread mFlusher;
+    private volatile boolean mClosed;
+
+    // Guarded by mWriteLock.
+    // 简体中文：由mWriteLock保护。
+    private final Object mWriteLock = new Object();
+    private final SimpleDateFormat mDateFormat =
+            new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
+    private final Date mDate = new Date();
+    private final StringBuilder mBuilder = new StringBuilder();
+    private FileOutputStream mOutput;
+    private long mFileSize;
+
+    public RollingLogStore(File folder) {
+        this(new Builder(folder));
+    }
+
+    private RollingLogStore(Builder builder) {
+        mFolder = builder.folder;
+        mName = builder.name;
+        mMaxFileSize = builder.maxFileSize;
+        mMaxFiles = builder.maxFiles;
+        mFlushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.flushIntervalMillis);
+        mRingBuffer = new RingBuffer<>(builder.bufferCapacity);
+        mFlushThreshold = mRingBuffer.capacity() / 2;
+        mFlusher = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                flushLoop();
+            }
+        }, "dora-log-flusher");
+        mFlusher.setDaemon(true);
+        mFlusher.setPriority(Thread.MIN_PRIORITY);
+        mFlusher.start();
+    }
+
+    /**
+     * Put the log into the ring buffer, it never blocks. If the buffer is full, the log is
+     * dropped and counted.
+     * 简体中文：将日志放入环形缓冲区，从不阻塞。如果缓冲区已满，则丢弃该日志并计数。
+     *
+     * @return false if the log is dropped.
+     */
+    public boolean offer(LogInfo info) {
+        if (mClosed) {
+            return false;
+        }
+        if (!mRingBuffer.offer(new Record(System.currentTimeMillis(), info.getTag(),
+                info.getContent()))) {
+            mDroppedCount.incrementAndGet();
+            LockSupport.unpark(mFlusher);
+            return false;
+        }
+        if (mRingBuffer.size() >= mFlushThreshold) {
+            LockSupport.unpark(mFlusher);
+        }
+        return true;
+    }
+
+    /**
+     * Write the buffered logs and the record, and then fsync the file before returning. It's
+     * used on the crash path, where the process may die right after.
+     * 简体中文：写入缓冲中的日志和该记录，并在返回前fsync文件。用于崩溃路径，进程可能随即结束。
+     */
+    public void appendSync(String tag, String content) {
+        synchronized (mWriteLock) {
+            try {
+                drainLocked();
+                appendLocked(System.currentTimeMillis(), tag, content);
+                writeLocked();
+                if (mOutput != null) {
+                    mOutput.getFD().sync();
+                }
+            } catch (IOException e) {
+                LogUtils.e(e.toString());
+            }
+        }
+    }
+
+    /**
+     * Write the buffered logs to the file on the calling thread, without fsync.
+     * 简体中文：在调用线程中将缓冲的日志写入文件，不执行fsync。
+     */
+    public void flush() {
+        synchronized (mWriteLock) {
+            try {
+                drainLocked();
+                writeLocked();
+            } catch (IOException e) {
+                LogUtils.e(e.toString());
+            }
+        }
+    }
+
+    /**
+     * Flush the buffered logs, stop the flusher and close the file.
+     * 简体中文：刷写缓冲的日志，停止刷写线程并关闭文件。
+     */
+    public void close() {
+        mClosed = true;
+        LockSupport.unpark(mFlusher);
+        synchronized (mWriteLock) {
+            try {
+                drainLocked();
+                writeLocked();
+                if (mOutput != null) {
+                    mOutput.getFD().sync();
+                }
+            } catch (IOException e) {
+                LogUtils.e(e.toString());
+            } finally {
+                closeOutputLocked();
+            }
+        }
+    }
+
+    /**
+     * The log files from the oldest to the newest, for uploading.
+     * 简体中文：从旧到新排列的日志文件，用于上传。
+     */
+    public List<File> getLogFiles() {
+        List<File> files = new ArrayList<>();
+        for (int i = mMaxFiles - 1; i >= 0; i--) {
+            File file = getFile(i);
+            if (file.exists()) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    private void flushLoop() {
+        while (!mClosed) {
+            // Batch the logs until the interval elapses or the buffer is half full.
+            // 简体中文：攒批写入，直到间隔时间已到或缓冲区已满一半。
+            if (mRingBuffer.size() < mFlushThreshold) {
+                LockSupport.parkNanos(this, mFlushIntervalNanos);
+            }
+            flush();
+        }
+    }
+
+    private void drainLocked() {
+        Record record;
+        while ((record = mRingBuffer.poll()) != null) {
+            appendLocked(record.time, record.tag, record.content);
+        }
+        long dropped = mDroppedCount.getAndSet(0);
+        if (dropped > 0) {
+            appendLocked(System.currentTimeMillis(), "dora",
+                    dropped + " logs were dropped because the buffer was full.");
+        }
+    }
+
+    private void appendLocked(long time, String tag, String content) {
+        mDate.setTime(time);
+        mBuilder.append(mDateFormat.format(mDate)).append(' ').append(tag).append(": ")
+                .append(content).append('\n');
+    }
+
+    private void writeLocked() throws IOException {
+        if (mBuilder.length() == 0) {
+            return;
+        }
+        byte[] bytes = mBuilder.toString().getBytes(UTF_8);
+        mBuilder.setLength(0);
+        if (mOutput == null || mFileSize >= mMaxFileSize) {
+            rotateLocked();
+        }
+        mOutput.write(bytes);
+        mFileSize += bytes.length;
+    }
+
+    private void rotateLocked() throws IOException {
+        if (!mFolder.exists() && !mFolder.mkdirs() && !mFolder.exists()) {
+            throw new IOException("Can't create the folder " + mFolder);
+        }
+        File active = getFile(0);
+        if (mOutput == null && active.length() < mMaxFileSize) {
+            // Continue the active file left by the last process.
+            // 简体中文：继续使用上一个进程留下的当前文件。
+            mOutput = new FileOutputStream(active, true);
+            mFileSize = active.length();
+            return;
+        }
+        closeOutputLocked();
+        File oldest = getFile(mMaxFiles - 1);
+        if (oldest.exists() && !oldest.delete()) {
+            LogUtils.e("Can't delete " + oldest);
+        }
+        for (int i = mMaxFiles - 2; i >= 0; i--) {
+            File file = getFile(i);
+            if (file.exists() && !file.renameTo(getFile(i + 1))) {
+                LogUtils.e("Can't rename " + file);
+            }
+        }
+        mOutput = new FileOutputStream(active, false);
+        mFileSize = 0;
+    }
+
+    private void closeOutputLocked() {
+        if (mOutput != null) {
+            try {
+                mOutput.close();
+            } catch (IOException e) {
+                LogUtils.e(e.toString());
+            }
+            mOutput = null;
+        }
+    }
+
+    private File getFile(int index) {
+        if (index == 0) {
+            return new File(mFolder, mName + SUFFIX);
+        }
+        return new File(mFolder, mName + "." + index + SUFFIX);
+    }
+
+    private static final class Record {
+
+        final long time;
+        final String tag;
+        final String content;
+
+        Record(long time, String tag, String content) {
+            this.time = time;
+            this.tag = tag;
+            this.content = content;
+        }
+    }
+
+    /**
+     * A bounded lock-free multi-producer multi-consumer ring buffer, every slot carries a
+     * sequence number telling whether it's ready to be written or read in the current lap.
+     * 简体中文：有界的无锁多生产者多消费者环形缓冲区，每个槽携带一个序号，表明它在当前这一圈中是否可写或可读。
+     */
+    static final class RingBuffer<E> {
+
+        private final AtomicReferenceArray<E> mBuffer;
+        private final AtomicLongArray mSequences;
+        private final int mMask;
+        private final AtomicLong mHead = new AtomicLong();
+        private final AtomicLong mTail = new AtomicLong();
+
+        RingBuffer(int capacity) {
+            int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+            mBuffer = new AtomicReferenceArray<>(size);
+            mSequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                mSequences.set(i, i);
+            }
+            mMask = size - 1;
+        }
+
+        int capacity() {
+            return mMask + 1;
+        }
+
+        int size() {
+            return (int) Math.max(0, mTail.get() - mHead.get());
+        }
+
+        boolean offer(E e) {
+            while (true) {
+                long pos = mTail.get();
+                int index = (int) (pos & mMask);
+                long diff = mSequences.get(index) - pos;
+                if (diff == 0) {
+                    if (mTail.compareAndSet(pos, pos + 1)) {
+                        mBuffer.lazySet(index, e);
+                        mSequences.set(index, pos + 1);
+                        return true;
+                    }
+                } else if (diff < 0) {
+                    return false;
+                }
+            }
+        }
+
+        E poll() {
+            while (true) {
+                long pos = mHead.get();
+                int index = (int) (pos & mMask);
+                long diff = mSequences.get(index) - (pos + 1);
+                if (diff == 0) {
+                    if (mHead.compareAndSet(pos, pos + 1)) {
+                        E e = mBuffer.get(index);
+                        mBuffer.lazySet(index, null);
+                        mSequences.set(index, pos + mMask + 1);
+                        return e;
+                    }
+                } else if (diff < 0) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+
+        File folder;
+        String name = "dora";
+        long maxFileSize = 1024 * 1024;
+        int maxFiles = 5;
+        int bufferCapacity = 1024;
+        long flushIntervalMillis = 1000;
+
+        public Builder(File folder) {
+            this.folder = folder;
+        }
+
+        // The prefix of the file names.
+        // 简体中文：文件名的前缀。
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        // The file is rotated once it reaches the size.
+        // 简体中文：文件达到该大小后即滚动。
+        public Builder maxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        // Including the active file.
+        // 简体中文：包括当前文件。
+        public Builder maxFiles(int maxFiles) {
+            if (maxFiles < 1) {
+                throw new IllegalArgumentException("maxFiles < 1: " + maxFiles);
+            }
+            this.maxFiles = maxFiles;
+            return this;
+        }
+
+        // Rounded up to a power of 2.
+        // 简体中文：向上取整为2的幂。
+        public Builder bufferCapacity(int bufferCapacity) {
+            this.bufferCapacity = bufferCapacity;
+            return this;
+        }
+
+        public Builder flushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        public RollingLogStore build() {
+            return new RollingLogStore(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.crash.policy;
+
+import dora.crash.CrashInfo;
+import dora.crash.group.DefaultGroup;
+import dora.crash.group.Group;
+
+/**
+ * Save crash information to a {@link RollingLogStore} instead of a new file per crash. The
+ * crash is appended after the logs still buffered in the store, and the file is fsynced before
+ * the process goes on to die. Share the store with a {@link RollingLogPolicy} to keep the logs
+ * leading up to a crash next to it.
+ * 简体中文：把崩溃信息保存到{@link RollingLogStore}，而不是每次崩溃新建一个文件。崩溃信息追加在存储中尚在缓冲的
+ * 日志之后，并在进程结束前fsync文件。与{@link RollingLogPolicy}共享同一个存储，可以让崩溃前的日志紧挨着崩溃信息。
+ */
+public class RollingStoragePolicy extends CrashReportPolicy {
+
+    private static final String TAG = "crash";
+
+    private final RollingLogStore mStore;
+
+    public RollingStoragePolicy(RollingLogStore store) {
+        this(store, new DefaultGroup());
+    }
+
+    public RollingStoragePolicy(RollingLogStore store, Group group) {
+        this(store, group, null);
+    }
+
+    public RollingStoragePolicy(RollingLogStore store, CrashReportPolicy policy) {
+        this(store, new DefaultGroup(), policy);
+    }
+
+    public RollingStoragePolicy(RollingLogStore store, Group group, CrashReportPolicy policy) {
+        super(group, policy);
+        this.mStore = store;
+    }
+
+    public RollingLogStore getStore() {
+        return mStore;
+    }
+
+    @Override
+    public void report(CrashInfo info, Group group) {
+        super.report(info, group);
+        if (group.counts()) {
+            mStore.appendSync(TAG, info.toString().trim());
+        }
+    }
+}
@@ -19,9 +19,12 @@ package dora.lifecycle.application;
 import android.app.Activity;
 import android.app.Application;
 import android.app.Service;
+import android.content.BroadcastReceiver;
 import android.content.ComponentCallbacks2;
 import android.content.ContentProvider;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
 import android.content.res.Configuration;
 
 import androidx.annotation.NonNull;
@@ -34,6 +37,9 @@ import java.util.List;
 import dora.lifecycle.activity.ActivityLifecycle;
 import dora.lifecycle.config.GlobalConfig;
 import dora.lifecycle.fragment.FragmentLifecycle;
+import dora.util.BitmapPool;
+import dora.util.CacheUtils;
+import dora.util.ImageCache;
 import dora.util.ProcessUtils;
 
 public class AppDelegate implements ApplicationLifecycleCallbacks {
@@ -43,6 +49,7 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
     private List<ApplicationLifecycleCallbacks> mApplicationLifecycles = new ArrayList<>();
     private List<Application.ActivityLifecycleCallbacks> mActivityLifecycles = new ArrayList<>();
     private ComponentCallbacks2 mComponentCallback;
+    private BroadcastReceiver mStorageLowReceiver;
 
     public AppDelegate(@NonNull Context context) {
         this.mConfigs = ManifestParser.parse(context);
@@ -70,6 +77,11 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
         // Register callback to release a portion of memory when memory is running low.
         // 简体中文：注册回调，内存紧张时释放部分内存
         mApplication.registerComponentCallbacks(mComponentCallback);
+        mStorageLowReceiver = new StorageLowReceiver();
+        // Register receiver to trim the disk caches when storage is running low.
+        // 简体中文：注册广播接收者，存储空间紧张时裁剪磁盘缓存
+        mApplication.registerReceiver(mStorageLowReceiver,
+                new IntentFilter(Intent.ACTION_DEVICE_STORAGE_LOW));
         // Execute the externally defined, developer-extended logic for App onCreate.
         // 简体中文：执行框架外部，开发者扩展的App onCreate逻辑
         for (ApplicationLifecycleCallbacks lifecycle : mApplicationLifecycles) {
@@ -82,6 +94,9 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
         if (mComponentCallback != null) {
             mApplication.unregisterComponentCallbacks(mComponentCallback);
         }
+        if (mStorageLowReceiver != null) {
+            mApplication.unregisterReceiver(mStorageLowReceiver);
+        }
         if (mActivityLifecycles != null && mActivityLifecycles.size() > 0) {
             for (Application.ActivityLifecycleCallbacks lifecycle : mActivityLifecycles) {
                 mApplication.unregisterActivityLifecycleCallbacks(lifecycle);
@@ -94,6 +109,7 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
         }
         this.mActivityLifecycles = null;
         this.mComponentCallback = null;
+        this.mStorageLowReceiver = null;
         this.mApplicationLifecycles = null;
         this.mApplication = null;
     }
@@ -144,6 +160,9 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
          */
         @Override
         public void onTrimMemory(int level) {
+            BitmapPool.getInstance().trimMemory(level);
+            ImageCache.getInstance().trimMemory(level);
+            CacheUtils.trimMemory(mApp, level);
             // State 1: The developer's app is running.
             // The device starts running slowly but won't be killed or marked as killable. However,
             // the device is running in a low memory state, and the system triggers the mechanism
@@ -250,6 +269,18 @@ public class AppDelegate implements ApplicationLifecycleCallbacks {
         }
     }
 
+    /**
+     * Trims the disk caches of {@link CacheUtils} when the device is running low on storage.
+     * 简体中文：设备存储空间不足时裁剪{@link CacheUtils}的磁盘缓存。
+     */
+    private static class StorageLowReceiver extends BroadcastReceiver {
+
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            CacheUtils.onLowStorage();
+        }
+    }
+
     /**
      * Default global configuration implementation.
      * 简体中文：默认全局配置实现。
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.content.ComponentCallbacks2;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Color;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A pool of mutable bitmaps to be reused by the decodes through {@code inBitmap} and by the
+ * transforms of {@link ImageUtils}, instead of allocating a new bitmap every time. The bitmaps
+ * are grouped by config and allocation size, a request is served by the smallest pooled bitmap
+ * that is large enough, but not more than {@link #MAX_SIZE_MULTIPLE} times larger, and is
+ * reconfigured to the requested size. The pool holds at most {@link #getMaxSize()} bytes, the
+ * least recently pooled bitmaps are evicted first.
+ * 简体中文：可变位图的复用池，供解码通过{@code inBitmap}复用，以及供{@link ImageUtils}的变换复用，而不是每次都
+ * 分配新的位图。位图按配置和分配大小分组，请求由足够大的最小位图满足，但不会超过请求大小的
+ * {@link #MAX_SIZE_MULTIPLE}倍，并被重新配置为请求的尺寸。池中最多保留{@link #getMaxSize()}字节，最早放入的
+ * 位图最先被淘汰。
+ */
+public final class BitmapPool {
+
+    /**
+     * A pooled bitmap larger than this multiple of the requested size is not handed out, to not
+     * waste the memory of a large bitmap on a small one.
+     * 简体中文：大于请求大小该倍数的位图不会被取出，避免大位图的内存浪费在小位图上。
+     */
+    public static final int MAX_SIZE_MULTIPLE = 4;
+
+    private static volatile BitmapPool sInstance;
+
+    private final Map<Bitmap.Config, NavigableMap<Integer, ArrayDeque<Bitmap>>> mBuckets =
+            new EnumMap<>(Bitmap.Config.class);
+    /**
+     * The pooled bitmaps in the order they were put.
+     * 简体中文：按放入顺序排列的池中位图。
+     */
+    private final LinkedHashSet<Bitmap> mLru = new LinkedHashSet<>();
+    private long mMaxSize;
+    private long mCurrentSize;
+    private int mHitCount;
+    private int mMissCount;
+    private int mEvictionCount;
+
+    private BitmapPool(long maxSize) {
+        this.mMaxSize = maxSize;
+    }
+
+    public static BitmapPool getInstance() {
+        if (sInstance == null) {
+            synchronized (BitmapPool.class) {
+                if (sInstance == null) {
+                    sInstance = new BitmapPool(Runtime.getRuntime().maxMemory() / 8);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * Get a bitmap of the size and config, cleared to transparent.
+     * 简体中文：获取一个指定尺寸和配置的位图，已清除为透明。
+     */
+    @NonNull
+    public Bitmap get(int width, int height, @Nullable Bitmap.Config config) {
+        Bitmap bitmap = obtain(width, height, config);
+        if (bitmap != null) {
+            bitmap.eraseColor(Color.TRANSPARENT);
+            return bitmap;
+        }
+        return Bitmap.createBitmap(width, height, normalize(config));
+    }
+
+    /**
+     * Get a bitmap of the size and config with the pixels left by its last user, only for
+     * callers that overwrite every pixel.
+     * 简体中文：获取一个指定尺寸和配置的位图，保留其上一个使用者留下的像素，仅适用于会覆盖所有像素的调用者。
+     */
+    @NonNull
+    public Bitmap getDirty(int width, int height, @Nullable Bitmap.Config config) {
+        Bitmap bitmap = obtain(width, height, config);
+        return bitmap != null ? bitmap : Bitmap.createBitmap(width, height, normalize(config));
+    }
+
+    /**
+     * Give a bitmap that is no longer used to the pool. It must not be used after this.
+     * 简体中文：将不再使用的位图交给池。此后不能再使用它。
+     *
+     * @return false if it can't be pooled, such as immutable or too large, recycle it instead.
+     * 简体中文：无法放入池中时返回false，比如不可变或太大，此时应回收它
+     */
+    public synchronized boolean put(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable()
+                || bitmap.getConfig() == null) {
+            return false;
+        }
+        if (mLru.contains(bitmap)) {
+            return true;
+        }
+        int size = bitmap.getAllocationByteCount();
+        if (size > mMaxSize) {
+            return false;
+        }
+        mLru.add(bitmap);
+        NavigableMap<Integer, ArrayDeque<Bitmap>> buckets = mBuckets.get(bitmap.getConfig());
+        if (buckets == null) {
+            buckets = new TreeMap<>();
+            mBuckets.put(bitmap.getConfig(), buckets);
+        }
+        ArrayDeque<Bitmap> bucket = buckets.get(size);
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets.put(size, bucket);
+        }
+        bucket.addLast(bitmap);
+        mCurrentSize += size;
+        trimToSize(mMaxSize);
+        return true;
+    }
+
+    /**
+     * Decode into a pooled bitmap if there is one fitting. The options must hold the bounds
+     * from a decode with {@code inJustDecodeBounds}, and the {@code inSampleSize} to decode
+     * with. When the decoder can't reuse the bitmap, it's decoded again without it.
+     * 简体中文：如果有合适的位图则解码到池中的位图里。options必须带有使用{@code inJustDecodeBounds}解码出的
+     * 尺寸，以及解码所用的{@code inSampleSize}。解码器无法复用该位图时，会不使用它再解码一次。
+     */
+    @Nullable
+    public Bitmap decode(BitmapFactory.Options options, Decoder decoder) {
+        options.inJustDecodeBounds = false;
+        options.inMutable = true;
+        int sampleSize = Math.max(1, options.inSampleSize);
+        int width = (options.outWidth + sampleSize - 1) / sampleSize;
+        int height = (options.outHeight + sampleSize - 1) / sampleSize;
+        Bitmap inBitmap = width > 0 && height > 0
+                ? obtain(width, height, options.inPreferredConfig) : null;
+        options.inBitmap = inBitmap;
+        if (inBitmap != null) {
+            try {
+                Bitmap bitmap = decoder.decode(options);
+                if (bitmap != null) {
+                    return bitmap;
+                }
+            } catch (IllegalArgumentException e) {
+                LogUtils.w("Can't decode into a pooled bitmap: " + e.getMessage());
+            }
+            options.inBitmap = null;
+            put(inBitmap);
+        }
+        return decoder.decode(options);
+    }
+
+    /**
+     * Release the pooled bitmaps according to the level of
+     * {@link ComponentCallbacks2#onTrimMemory(int)}.
+     * 简体中文：根据{@link ComponentCallbacks2#onTrimMemory(int)}的级别释放池中的位图。
+     */
+    public void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            clearMemory();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            synchronized (this) {
+                trimToSize(mMaxSize / 2);
+            }
+        }
+    }
+
+    public synchronized void clearMemory() {
+        trimToSize(0);
+    }
+
+    public synchronized void setMaxSize(long maxSize) {
+        this.mMaxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    public synchronized long getMaxSize() {
+        return mMaxSize;
+    }
+
+    public synchronized long getCurrentSize() {
+        return mCurrentSize;
+    }
+
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    @Nullable
+    private synchronized Bitmap obtain(int width, int height, Bitmap.Config config) {
+        config = normalize(config);
+        long size = (long) width * height * getBytesPerPixel(config);
+        NavigableMap<Integer, ArrayDeque<Bitmap>> buckets = mBuckets.get(config);
+        if (buckets == null || size > Integer.MAX_VALUE) {
+            mMissCount++;
+            return null;
+        }
+        Map.Entry<Integer, ArrayDeque<Bitmap>> entry = buckets.ceilingEntry((int) size);
+        if (entry == null || entry.getKey() > size * MAX_SIZE_MULTIPLE) {
+            mMissCount++;
+            return null;
+        }
+        Bitmap bitmap = entry.getValue().pollLast();
+        if (entry.getValue().isEmpty()) {
+            buckets.remove(entry.getKey());
+        }
+        mLru.remove(bitmap);
+        mCurrentSize -= entry.getKey();
+        mHitCount++;
+        bitmap.reconfigure(width, height, config);
+        bitmap.setHasAlpha(true);
+        return bitmap;
+    }
+
+    private void trimToSize(long maxSize) {
+        Iterator<Bitmap> iterator = mLru.iterator();
+        while (mCurrentSize > maxSize && iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            iterator.remove();
+            int size = bitmap.getAllocationByteCount();
+            NavigableMap<Integer, ArrayDeque<Bitmap>> buckets = mBuckets.get(bitmap.getConfig());
+            ArrayDeque<Bitmap> bucket = buckets.get(size);
+            bucket.remove(bitmap);
+            if (bucket.isEmpty()) {
+                buckets.remove(size);
+            }
+            mCurrentSize -= size;
+            mEvictionCount++;
+            bitmap.recycle();
+        }
+    }
+
+    private static Bitmap.Config normalize(Bitmap.Config config) {
+        if (config == null || (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                && config == Bitmap.Config.HARDWARE)) {
+            return Bitmap.Config.ARGB_8888;
+        }
+        return config;
+    }
+
+    private static int getBytesPerPixel(Bitmap.Config config) {
+        if (config == Bitmap.Config.ALPHA_8) {
+            return 1;
+        } else if (config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444) {
+            return 2;
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                && config == Bitmap.Config.RGBA_F16) {
+            return 8;
+        }
+        return 4;
+    }
+
+    public interface Decoder {
+
+        /**
+         * Decode with the options, {@code inBitmap} may be set.
+         * 简体中文：使用options解码，可能设置了{@code inBitmap}。
+         */
+        @Nullable
+        Bitmap decode(BitmapFactory.Options options);
+    }
+}
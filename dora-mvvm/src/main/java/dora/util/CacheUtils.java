@@ -16,14 +16,63 @@
 
 package dora.util;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
- * Used for calculating and clearing app cache.
- * 简体中文：用于计算和清除应用缓存。
+ * Used for calculating and clearing app cache. Besides clearing everything, components can
+ * get a {@link DiskLruCache} of their own namespace, bounded by its max size and together by
+ * the disk cache budget, and trimmed when the device runs low on memory or storage.
+ * 简体中文：用于计算和清除应用缓存。除了清除全部缓存，组件还可以获取属于自己命名空间的{@link DiskLruCache}，
+ * 它受自身最大值的限制，所有命名空间一起受磁盘缓存预算的限制，并会在设备内存或存储空间不足时被裁剪。
  */
 public final class CacheUtils {
 
+    public static final long DEFAULT_DISK_CACHE_BUDGET = 256 * 1024 * 1024;
+    private static final String DISK_CACHE_DIR = "dora_cache";
+    private static final Pattern NAMESPACE_PATTERN = Pattern.compile("[a-z0-9_-]{1,64}");
+    /**
+     * The fraction of its max size each namespace is trimmed to when storage is low.
+     * 简体中文：存储空间不足时，每个命名空间被裁剪到其最大值的比例。
+     */
+    private static final float LOW_STORAGE_TRIM_FRACTION = 0.5f;
+    /**
+     * Storage is low below this fraction of the total space, or {@link #LOW_STORAGE_BYTES},
+     * whichever is smaller, the same as the threshold of the system.
+     * 简体中文：可用空间低于总空间的该比例，或低于{@link #LOW_STORAGE_BYTES}（取较小者）时视为存储空间不足，与系统
+     * 的阈值相同。
+     */
+    private static final float LOW_STORAGE_FRACTION = 0.1f;
+    private static final long LOW_STORAGE_BYTES = 500 * 1024 * 1024;
+    private static final String SIZE_INDEX_PREFIX = "dora_size_index_";
+    /**
+     * The size indexes of the cache folders by path, so refreshing the cache size only lists
+     * the folders that changed.
+     * 简体中文：按路径索引的缓存文件夹大小索引，因此刷新缓存大小时只会列出发生变化的文件夹。
+     */
+    private static final Map<String, DirectorySizeIndex> sSizeIndexes = new HashMap<>();
+    private static final Map<String, DiskLruCache> sDiskCaches = new HashMap<>();
+    private static long sDiskCacheBudget = DEFAULT_DISK_CACHE_BUDGET;
+    /**
+     * Keeps the namespaces within the budget after every commit.
+     * 简体中文：每次提交后使各命名空间保持在预算之内。
+     */
+    private static final DiskLruCache.OnCommitListener sBudgetListener = cache -> {
+        synchronized (sDiskCaches) {
+            trimToBudget();
+        }
+    };
+
     private CacheUtils() {
     }
 
@@ -32,21 +81,248 @@ public final class CacheUtils {
     }
 
     public static String getCacheSize(Context context) {
-        long cacheSize = IoUtils.getFolderTotalSize(context.getCacheDir());
-        if (IoUtils.checkMediaMounted()) {
-            cacheSize += IoUtils.getFolderTotalSize(context.getExternalCacheDir());
+        return IoUtils.formatFileSize(getCacheBytes(context));
+    }
+
+    /**
+     * The total bytes of the internal and external cache folders, see {@link DirectorySizeIndex}.
+     * 简体中文：内部和外部缓存文件夹的总字节数，参见{@link DirectorySizeIndex}。
+     */
+    @WorkerThread
+    public static long getCacheBytes(Context context) {
+        long cacheSize = getSizeIndex(context, context.getCacheDir()).getSize();
+        if (IoUtils.checkMediaMounted() && context.getExternalCacheDir() != null) {
+            cacheSize += getSizeIndex(context, context.getExternalCacheDir()).getSize();
         }
-        return IoUtils.formatFileSize(cacheSize);
+        return cacheSize;
     }
 
     public static void clearAllCaches() {
         clearAllCaches(GlobalContext.get());
     }
 
+    /**
+     * Clear the cache folders. The namespaces are closed first and reopened on their next use,
+     * and the shared {@link FileHasher} forgets its cache file.
+     * 简体中文：清除缓存文件夹。各命名空间会先被关闭，并在下次使用时重新打开，共享的{@link FileHasher}会忘记其
+     * 缓存文件。
+     */
     public static void clearAllCaches(Context context) {
+        closeDiskCaches();
+        FileHasher fileHasher = FileHasher.peekInstance();
+        if (fileHasher != null) {
+            fileHasher.clearCache();
+        }
         IoUtils.delete(context.getCacheDir());
-        if (IoUtils.checkMediaMounted()) {
+        getSizeIndex(context, context.getCacheDir()).invalidate();
+        if (IoUtils.checkMediaMounted() && context.getExternalCacheDir() != null) {
             IoUtils.delete(context.getExternalCacheDir());
+            getSizeIndex(context, context.getExternalCacheDir()).invalidate();
+        }
+    }
+
+    /**
+     * Get the disk cache of a namespace, in its own folder of the cache folder, opened on the
+     * first call and after {@link #clearAllCaches(Context)}. Every commit keeps the namespace
+     * within its max size, and all the namespaces within the budget.
+     * 简体中文：获取某个命名空间的磁盘缓存，位于缓存文件夹中属于它自己的文件夹，在第一次调用时以及
+     * {@link #clearAllCaches(Context)}之后打开。每次提交都会使该命名空间保持在其最大值之内，并使所有命名空间保持在
+     * 预算之内。
+     *
+     * @param namespace 1 to 64 characters of [a-z0-9_-].简体中文：1到64个[a-z0-9_-]字符
+     * @param maxSize The max bytes of the namespace, the last call sets it.简体中文：该命名空间的最大字节数，
+     *                以最后一次调用为准
+     */
+    @WorkerThread
+    public static DiskLruCache getDiskCache(String namespace, long maxSize) throws IOException {
+        return getDiskCache(GlobalContext.get(), namespace, maxSize);
+    }
+
+    @WorkerThread
+    public static DiskLruCache getDiskCache(Context context, String namespace, long maxSize)
+            throws IOException {
+        if (!NAMESPACE_PATTERN.matcher(namespace).matches()) {
+            throw new IllegalArgumentException("Namespace must match [a-z0-9_-]{1,64}: "
+                    + namespace);
+        }
+        synchronized (sDiskCaches) {
+            DiskLruCache cache = sDiskCaches.get(namespace);
+            if (cache == null || cache.isClosed()) {
+                File dir = new File(new File(context.getCacheDir(), DISK_CACHE_DIR), namespace);
+                cache = DiskLruCache.open(dir, maxSize);
+                cache.setOnCommitListener(sBudgetListener);
+                sDiskCaches.put(namespace, cache);
+                trimToBudget();
+            } else if (cache.getMaxSize() != maxSize) {
+                cache.setMaxSize(maxSize);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Set the total bytes of all the namespaces, they are trimmed in proportion to their size
+     * when they're over it together.
+     * 简体中文：设置所有命名空间的总字节数，它们加起来超过该值时会按各自大小的比例被裁剪。
+     */
+    @WorkerThread
+    public static void setDiskCacheBudget(long budget) {
+        synchronized (sDiskCaches) {
+            sDiskCacheBudget = budget;
+            trimToBudget();
+        }
+    }
+
+    /**
+     * The bytes of all the namespaces that are open.
+     * 简体中文：所有已打开的命名空间的字节数。
+     */
+    public static long getDiskCacheSize() {
+        synchronized (sDiskCaches) {
+            long size = 0;
+            for (DiskLruCache cache : sDiskCaches.values()) {
+                if (!cache.isClosed()) {
+                    size += cache.size();
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Trim every namespace to a fraction of its max size, evicting the least recently accessed
+     * files first, the max sizes are unchanged.
+     * 简体中文：将每个命名空间裁剪到其最大值的一定比例，最久未访问的文件最先被淘汰，最大值不变。
+     */
+    @WorkerThread
+    public static void trimDiskCaches(float fraction) {
+        synchronized (sDiskCaches) {
+            for (DiskLruCache cache : sDiskCaches.values()) {
+                trim(cache, (long) (cache.getMaxSize() * fraction));
+            }
+        }
+    }
+
+    /**
+     * Delete a namespace with all its files.
+     * 简体中文：删除某个命名空间及其所有文件。
+     */
+    @WorkerThread
+    public static void clearDiskCache(Context context, String namespace) {
+        synchronized (sDiskCaches) {
+            DiskLruCache cache = sDiskCaches.remove(namespace);
+            try {
+                if (cache != null) {
+                    cache.delete();
+                } else {
+                    IoUtils.delete(new File(new File(context.getCacheDir(), DISK_CACHE_DIR),
+                            namespace));
+                }
+            } catch (IOException e) {
+                LogUtils.w("Can't clear the disk cache " + namespace + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Respond to {@link ComponentCallbacks2#onTrimMemory(int)} on the io pool. The journals are
+     * flushed once the process may be killed, and the namespaces are trimmed if storage is low.
+     * 简体中文：在IO线程池上响应{@link ComponentCallbacks2#onTrimMemory(int)}。进程可能被杀死时会刷新日志，
+     * 存储空间不足时会裁剪各命名空间。
+     */
+    public static void trimMemory(Context context, int level) {
+        ThreadUtils.getIoPool().execute(() -> {
+            if (isStorageLow(context)) {
+                trimDiskCaches(LOW_STORAGE_TRIM_FRACTION);
+            }
+            if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+                flushDiskCaches();
+            }
+        });
+    }
+
+    /**
+     * Respond to the device running low on storage on the io pool, by trimming the namespaces.
+     * 简体中文：在IO线程池上响应设备存储空间不足，裁剪各命名空间。
+     */
+    public static void onLowStorage() {
+        ThreadUtils.getIoPool().execute(() -> trimDiskCaches(LOW_STORAGE_TRIM_FRACTION));
+    }
+
+    /**
+     * Whether the storage of the cache folder is low.
+     * 简体中文：缓存文件夹所在的存储空间是否不足。
+     */
+    public static boolean isStorageLow(Context context) {
+        File dir = context.getCacheDir();
+        long threshold = Math.min((long) (dir.getTotalSpace() * LOW_STORAGE_FRACTION),
+                LOW_STORAGE_BYTES);
+        return dir.getUsableSpace() < threshold;
+    }
+
+    private static void trimToBudget() {
+        long total = 0;
+        for (DiskLruCache cache : sDiskCaches.values()) {
+            total += cache.size();
+        }
+        if (total <= sDiskCacheBudget) {
+            return;
+        }
+        double ratio = (double) sDiskCacheBudget / total;
+        for (DiskLruCache cache : sDiskCaches.values()) {
+            trim(cache, (long) (cache.size() * ratio));
+        }
+    }
+
+    private static void flushDiskCaches() {
+        synchronized (sDiskCaches) {
+            for (DiskLruCache cache : sDiskCaches.values()) {
+                try {
+                    if (!cache.isClosed()) {
+                        cache.flush();
+                    }
+                } catch (IOException e) {
+                    LogUtils.w("Can't flush " + cache.getDirectory() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void closeDiskCaches() {
+        synchronized (sDiskCaches) {
+            List<DiskLruCache> caches = new ArrayList<>(sDiskCaches.values());
+            sDiskCaches.clear();
+            for (DiskLruCache cache : caches) {
+                IoUtils.close(cache);
+            }
+        }
+    }
+
+    private static void trim(DiskLruCache cache, long size) {
+        try {
+            if (!cache.isClosed()) {
+                cache.trimToSize(size);
+            }
+        } catch (IOException e) {
+            LogUtils.w("Can't trim " + cache.getDirectory() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The index of a cache folder, persisted to the files folder, since an index inside the
+     * cache folder would change the folder it measures.
+     * 简体中文：缓存文件夹的索引，持久化到files文件夹中，因为位于缓存文件夹内的索引会改变它所计算的文件夹。
+     */
+    private static DirectorySizeIndex getSizeIndex(Context context, File dir) {
+        String path = dir.getAbsolutePath();
+        synchronized (sSizeIndexes) {
+            DirectorySizeIndex index = sSizeIndexes.get(path);
+            if (index == null) {
+                index = new DirectorySizeIndex(dir, new File(context.getFilesDir(),
+                        SIZE_INDEX_PREFIX + CryptoUtils.encryptMD5(path)));
+                sSizeIndexes.put(path, index);
+            }
+            return index;
         }
     }
-}
\ No newline at end of file
+}
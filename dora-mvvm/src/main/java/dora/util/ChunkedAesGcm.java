@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Encrypts files with AES-GCM in independent chunks, so a file is authenticated chunk by
+ * chunk, any chunk can be decrypted on its own, and the chunks are encrypted and decrypted in
+ * parallel on {@link ThreadUtils#getCpuPool()}. The file starts with a header of
+ * {@link #HEADER_SIZE} bytes, the magic, the version, the chunk size, the plaintext length and
+ * a random nonce prefix, followed by the chunks, each one the ciphertext and its tag of
+ * {@link #TAG_SIZE} bytes. The nonce of a chunk is the nonce prefix followed by the chunk index,
+ * and the header is the associated data of every chunk, so a modified header, a reordered or
+ * truncated chunk fails the authentication.
+ * 简体中文：以独立分块的方式使用AES-GCM加密文件，因此文件按块认证，任意一块都可以单独解密，并且各块在
+ * {@link ThreadUtils#getCpuPool()}上并行加解密。文件以{@link #HEADER_SIZE}字节的头部开始，包含魔数、版本、
+ * 块大小、明文长度和随机的nonce前缀，之后是各块，每块为密文及其{@link #TAG_SIZE}字节的标签。块的nonce为
+ * nonce前缀加上块序号，头部作为每一块的附加数据，因此修改头部、调换或截断块都会导致认证失败。
+ */
+public final class ChunkedAesGcm {
+
+    public static final int HEADER_SIZE = 32;
+    public static final int TAG_SIZE = 16;
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    /**
+     * The largest chunk size, a header with a larger one is rejected before any buffer is
+     * allocated for it.
+     * 简体中文：最大的块大小，块大小更大的头部会在为其分配任何缓冲区之前被拒绝。
+     */
+    public static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int MAGIC = 0x44474300; // "DGC\0"
+    private static final int VERSION = 1;
+    private static final int NONCE_SIZE = 12;
+    private static final int NONCE_PREFIX_SIZE = 8;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private ChunkedAesGcm() {
+    }
+
+    /**
+     * Encrypt a file with chunks of {@link #DEFAULT_CHUNK_SIZE} bytes.
+     * 简体中文：使用{@link #DEFAULT_CHUNK_SIZE}字节的块加密文件。
+     */
+    @WorkerThread
+    public static void encrypt(@NonNull File srcFile, @NonNull File dstFile, @NonNull SecretKey key)
+            throws IOException, GeneralSecurityException {
+        encrypt(srcFile, dstFile, key, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Encrypt a file. The destination file is only replaced once all the chunks are written.
+     * 简体中文：加密文件。所有块写入完成后才会替换目标文件。
+     *
+     * @param chunkSize The plaintext size of a chunk, up to {@link #MAX_CHUNK_SIZE}, larger
+     *                  chunks have less overhead, smaller chunks decrypt faster at random
+     *                  positions.
+     *                  简体中文：块的明文大小，最大为{@link #MAX_CHUNK_SIZE}，块越大开销越小，块越小随机位置的
+     *                  解密越快
+     */
+    @WorkerThread
+    public static void encrypt(@NonNull File srcFile, @NonNull File dstFile, @NonNull SecretKey key,
+                               int chunkSize) throws IOException, GeneralSecurityException {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be in (0, " + MAX_CHUNK_SIZE
+                    + "]: " + chunkSize);
+        }
+        byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+        new SecureRandom().nextBytes(noncePrefix);
+        File tmpFile = new File(dstFile.getPath() + ".tmp");
+        boolean done = false;
+        try (RandomAccessFile src = new RandomAccessFile(srcFile, "r");
+             RandomAccessFile dst = new RandomAccessFile(tmpFile, "rw")) {
+            FileChannel in = src.getChannel();
+            FileChannel out = dst.getChannel();
+            long length = in.size();
+            Header header = new Header(chunkSize, length, noncePrefix);
+            dst.setLength(header.getFileLength());
+            writeFully(out, ByteBuffer.wrap(header.toByteArray()), 0);
+            forEachChunk(header.getChunkCount(), () -> {
+                Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+                ByteBuffer plain = ByteBuffer.allocate(header.getBufferSize());
+                ByteBuffer sealed = ByteBuffer.allocate(header.getBufferSize() + TAG_SIZE);
+                return index -> {
+                    plain.clear();
+                    plain.limit(header.getPlainSize(index));
+                    readFully(in, plain, header.getPlainOffset(index));
+                    plain.flip();
+                    sealed.clear();
+                    header.init(cipher, Cipher.ENCRYPT_MODE, key, index);
+                    cipher.doFinal(plain, sealed);
+                    sealed.flip();
+                    writeFully(out, sealed, header.getChunkOffset(index));
+                };
+            });
+            out.force(false);
+            done = true;
+        } finally {
+            if (!done) {
+                tmpFile.delete();
+            }
+        }
+        if (!tmpFile.renameTo(dstFile)) {
+            dstFile.delete();
+            if (!tmpFile.renameTo(dstFile)) {
+                tmpFile.delete();
+                throw new IOException("Can't rename " + tmpFile + " to " + dstFile);
+            }
+        }
+    }
+
+    /**
+     * Decrypt a whole file. Nothing is left at the destination if any chunk fails the
+     * authentication.
+     * 简体中文：解密整个文件。任何一块认证失败时，目标位置不会留下任何内容。
+     */
+    @WorkerThread
+    public static void decrypt(@NonNull File srcFile, @NonNull File dstFile, @NonNull SecretKey key)
+            throws IOException, GeneralSecurityException {
+        File tmpFile = new File(dstFile.getPath() + ".tmp");
+        boolean done = false;
+        try (RandomAccessFile src = new RandomAccessFile(srcFile, "r");
+             RandomAccessFile dst = new RandomAccessFile(tmpFile, "rw")) {
+            FileChannel in = src.getChannel();
+            FileChannel out = dst.getChannel();
+            Header header = Header.read(in);
+            dst.setLength(header.getPlainLength());
+            forEachChunk(header.getChunkCount(), () -> {
+                Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+                ByteBuffer sealed = ByteBuffer.allocate(header.getBufferSize() + TAG_SIZE);
+                ByteBuffer plain = ByteBuffer.allocate(header.getBufferSize());
+                return index -> {
+                    header.decryptChunk(in, cipher, key, index, sealed, plain);
+                    writeFully(out, plain, header.getPlainOffset(index));
+                };
+            });
+            out.force(false);
+            done = true;
+        } finally {
+            if (!done) {
+                tmpFile.delete();
+            }
+        }
+        if (!tmpFile.renameTo(dstFile)) {
+            dstFile.delete();
+            if (!tmpFile.renameTo(dstFile)) {
+                tmpFile.delete();
+                throw new IOException("Can't rename " + tmpFile + " to " + dstFile);
+            }
+        }
+    }
+
+    /**
+     * Open an encrypted file to decrypt it at random positions.
+     * 简体中文：打开加密文件，以便在随机位置解密。
+     */
+    @NonNull
+    public static Reader open(@NonNull File file, @NonNull SecretKey key)
+            throws IOException, GeneralSecurityException {
+        return new Reader(file, key);
+    }
+
+    /**
+     * Process the chunks on the cpu pool and the calling thread, see {@link ParallelLoop}.
+     * After a failure the remaining chunks are skipped and the first failure is thrown.
+     * 简体中文：在cpu线程池和调用线程上处理各块，参见{@link ParallelLoop}。失败后剩余的块会被跳过，并抛出第一个
+     * 失败。
+     */
+    private static void forEachChunk(long chunkCount, ParallelLoop.WorkerFactory factory)
+            throws IOException, GeneralSecurityException {
+        Exception e = ParallelLoop.run(ThreadUtils.getCpuPool(),
+                Runtime.getRuntime().availableProcessors(), chunkCount, factory);
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e instanceof GeneralSecurityException) {
+            throw (GeneralSecurityException) e;
+        } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof InterruptedException) {
+            throw new InterruptedIOException();
+        } else if (e != null) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Decrypts an encrypted file at random positions, only the chunks that are read are
+     * decrypted and authenticated. It isn't thread-safe.
+     * 简体中文：在随机位置解密加密文件，只有被读取的块才会被解密和认证。它不是线程安全的。
+     */
+    public static final class Reader implements Closeable {
+
+        private final RandomAccessFile mFile;
+        private final FileChannel mChannel;
+        private final Header mHeader;
+        private final SecretKey mKey;
+        private final Cipher mCipher;
+        private final ByteBuffer mSealed;
+        private final ByteBuffer mPlain;
+        private long mCachedIndex = -1;
+
+        private Reader(File file, SecretKey key) throws IOException, GeneralSecurityException {
+            this.mFile = new RandomAccessFile(file, "r");
+            try {
+                this.mChannel = mFile.getChannel();
+                this.mHeader = Header.read(mChannel);
+                this.mKey = key;
+                this.mCipher = Cipher.getInstance(TRANSFORMATION);
+                this.mSealed = ByteBuffer.allocate(mHeader.getBufferSize() + TAG_SIZE);
+                this.mPlain = ByteBuffer.allocate(mHeader.getBufferSize());
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                IoUtils.close(mFile);
+                throw e;
+            }
+        }
+
+        /**
+         * The length of the plaintext.
+         * 简体中文：明文的长度。
+         */
+        public long length() {
+            return mHeader.getPlainLength();
+        }
+
+        public int getChunkSize() {
+            return mHeader.getChunkSize();
+        }
+
+        public long getChunkCount() {
+            return mHeader.getChunkCount();
+        }
+
+        /**
+         * Decrypt a chunk.
+         * 简体中文：解密一块。
+         *
+         * @return The plaintext of the chunk, only valid until the next read.
+         * 简体中文：该块的明文，仅在下一次读取之前有效
+         */
+        @NonNull
+        public ByteBuffer readChunk(long index) throws IOException, GeneralSecurityException {
+            if (index < 0 || index >= mHeader.getChunkCount()) {
+                throw new IndexOutOfBoundsException("Chunk " + index + " of "
+                        + mHeader.getChunkCount());
+            }
+            if (index != mCachedIndex) {
+                mCachedIndex = -1;
+                mHeader.decryptChunk(mChannel, mCipher, mKey, index, mSealed, mPlain);
+                mCachedIndex = index;
+            }
+            return mPlain.duplicate();
+        }
+
+        /**
+         * Read the plaintext at a position, decrypting the chunks it spans.
+         * 简体中文：读取某个位置的明文，会解密其跨越的块。
+         *
+         * @return The number of bytes read, -1 at the end of the plaintext.
+         * 简体中文：读取的字节数，到达明文末尾时返回-1
+         */
+        public int read(long position, byte[] buffer, int offset, int length)
+                throws IOException, GeneralSecurityException {
+            if (position >= mHeader.getPlainLength()) {
+                return length == 0 ? 0 : -1;
+            }
+            int total = 0;
+            int chunkSize = mHeader.getChunkSize();
+            while (total < length && position < mHeader.getPlainLength()) {
+                ByteBuffer chunk = readChunk(position / chunkSize);
+                chunk.position((int) (position % chunkSize));
+                int count = Math.min(length - total, chunk.remaining());
+                chunk.get(buffer, offset + total, count);
+                total += count;
+                position += count;
+            }
+            return total;
+        }
+
+        @Override
+        public void close() throws IOException {
+            mFile.close();
+        }
+    }
+
+    private static final class Header {
+
+        private final int mChunkSize;
+        private final long mPlainLength;
+        private final byte[] mNoncePrefix;
+        private final byte[] mBytes;
+
+        Header(int chunkSize, long plainLength, byte[] noncePrefix) {
+            this.mChunkSize = chunkSize;
+            this.mPlainLength = plainLength;
+            this.mNoncePrefix = noncePrefix;
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(chunkSize).putLong(plainLength)
+                    .put(noncePrefix);
+            this.mBytes = buffer.array();
+        }
+
+        static Header read(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            try {
+                readFully(channel, buffer, 0);
+            } catch (EOFException e) {
+                throw new IOException("Not a chunked AES-GCM file");
+            }
+            buffer.flip();
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a chunked AES-GCM file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version);
+            }
+            int chunkSize = buffer.getInt();
+            long plainLength = buffer.getLong();
+            // Checked before the header is authenticated, as the buffers are sized from it.
+            // 简体中文：在头部被认证之前检查，因为缓冲区的大小由它决定。
+            if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE || plainLength < 0) {
+                throw new IOException("Corrupted header");
+            }
+            byte[] noncePrefix = new byte[NONCE_PREFIX_SIZE];
+            buffer.get(noncePrefix);
+            Header header = new Header(chunkSize, plainLength, noncePrefix);
+            if (channel.size() != header.getFileLength()) {
+                throw new IOException("Expected " + header.getFileLength() + " bytes, but was "
+                        + channel.size());
+            }
+            return header;
+        }
+
+        byte[] toByteArray() {
+            return mBytes;
+        }
+
+        int getChunkSize() {
+            return mChunkSize;
+        }
+
+        /**
+         * The plaintext size of the largest chunk, smaller than the chunk size for a short file.
+         * 简体中文：最大的块的明文大小，文件较短时小于块大小。
+         */
+        int getBufferSize() {
+            return (int) Math.min(mChunkSize, mPlainLength);
+        }
+
+        long getPlainLength() {
+            return mPlainLength;
+        }
+
+        /**
+         * An empty file still has a chunk, so its header is authenticated.
+         * 简体中文：空文件也有一块，因此其头部同样经过认证。
+         */
+        long getChunkCount() {
+            return Math.max(1, (mPlainLength + mChunkSize - 1) / mChunkSize);
+        }
+
+        long getFileLength() {
+            return HEADER_SIZE + getChunkCount() * TAG_SIZE + mPlainLength;
+        }
+
+        long getPlainOffset(long index) {
+            return index * mChunkSize;
+        }
+
+        int getPlainSize(long index) {
+            return (int) Math.min(mChunkSize, mPlainLength - getPlainOffset(index));
+        }
+
+        long getChunkOffset(long index) {
+            return HEADER_SIZE + index * ((long) mChunkSize + TAG_SIZE);
+        }
+
+        void init(Cipher cipher, int mode, SecretKey key, long index)
+                throws GeneralSecurityException {
+            if (index > 0xFFFFFFFFL) {
+                throw new GeneralSecurityException("Too many chunks");
+            }
+            ByteBuffer nonce = ByteBuffer.allocate(NONCE_SIZE);
+            nonce.put(mNoncePrefix).putInt((int) index);
+            cipher.init(mode, key, new GCMParameterSpec(TAG_SIZE * 8, nonce.array()));
+            cipher.updateAAD(mBytes);
+        }
+
+        /**
+         * Decrypt a chunk into the plain buffer, flipped for reading.
+         * 简体中文：将一块解密到明文缓冲区，已翻转以供读取。
+         */
+        void decryptChunk(FileChannel channel, Cipher cipher, SecretKey key, long index,
+                          ByteBuffer sealed, ByteBuffer plain)
+                throws IOException, GeneralSecurityException {
+            sealed.clear();
+            sealed.limit(getPlainSize(index) + TAG_SIZE);
+            readFully(channel, sealed, getChunkOffset(index));
+            sealed.flip();
+            plain.clear();
+            init(cipher, Cipher.DECRYPT_MODE, key, index);
+            cipher.doFinal(sealed, plain);
+            plain.flip();
+        }
+    }
+}
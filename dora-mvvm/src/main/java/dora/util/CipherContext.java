@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.interfaces.RSAKey;
+import java.security.spec.AlgorithmParameterSpec;
+
+import javax.crypto.Cipher;
+
+/**
+ * A key with its transformation, parsed once and reused for every call, with a {@link Cipher}
+ * per thread and per direction that is initialized once, so a call costs only the cipher work.
+ * Create it by {@link CryptoUtils#newAESContext(String)}, {@link CryptoUtils#newDESContext(String)},
+ * {@link CryptoUtils#newRSAPublicContext(String)} or {@link CryptoUtils#newRSAPrivateContext(String)}.
+ * It's thread-safe. GCM isn't supported, since it must not encrypt twice with the same IV, use
+ * {@link ChunkedAesGcm} instead.
+ * 简体中文：密钥及其转换方式，只解析一次并在每次调用中复用，每个线程每个方向各有一个只初始化一次的
+ * {@link Cipher}，因此每次调用只有加解密本身的开销。通过{@link CryptoUtils#newAESContext(String)}、
+ * {@link CryptoUtils#newDESContext(String)}、{@link CryptoUtils#newRSAPublicContext(String)}或
+ * {@link CryptoUtils#newRSAPrivateContext(String)}创建。它是线程安全的。不支持GCM，因为它不能使用同一个IV
+ * 加密两次，请改用{@link ChunkedAesGcm}。
+ */
+public final class CipherContext {
+
+    private final String mTransformation;
+    private final Key mKey;
+    private final AlgorithmParameterSpec mParams;
+    /**
+     * The key size in bits of an RSA key, whose data is split into blocks, or 0.
+     * 简体中文：RSA密钥的位数，其数据需要拆分成块，否则为0。
+     */
+    private final int mRSAKeySize;
+    private final ThreadLocal<Cipher> mEncryptCiphers = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> mDecryptCiphers = new ThreadLocal<>();
+
+    CipherContext(@NonNull String transformation, @NonNull Key key,
+                  @Nullable AlgorithmParameterSpec params) throws GeneralSecurityException {
+        if (transformation.toUpperCase().contains("/GCM/")) {
+            throw new IllegalArgumentException("GCM can't be reused with the same IV");
+        }
+        this.mTransformation = transformation;
+        this.mKey = key;
+        this.mParams = params;
+        this.mRSAKeySize = key instanceof RSAKey ? ((RSAKey) key).getModulus().bitLength() : 0;
+        // Fail fast on an invalid key or transformation.
+        // 简体中文：密钥或转换方式无效时尽早失败
+        getCipher(Cipher.ENCRYPT_MODE);
+    }
+
+    @NonNull
+    public String getTransformation() {
+        return mTransformation;
+    }
+
+    @NonNull
+    public byte[] encrypt(@NonNull byte[] data) throws GeneralSecurityException {
+        return doFinal(Cipher.ENCRYPT_MODE, data);
+    }
+
+    @NonNull
+    public byte[] decrypt(@NonNull byte[] data) throws GeneralSecurityException {
+        return doFinal(Cipher.DECRYPT_MODE, data);
+    }
+
+    /**
+     * Encrypt the remaining bytes of the input into the output.
+     * 简体中文：将输入剩余的字节加密到输出中。
+     *
+     * @return The number of bytes written to the output.
+     * 简体中文：写入输出的字节数
+     */
+    public int encrypt(@NonNull ByteBuffer input, @NonNull ByteBuffer output)
+            throws GeneralSecurityException {
+        return doFinal(Cipher.ENCRYPT_MODE, input, output);
+    }
+
+    /**
+     * Decrypt the remaining bytes of the input into the output.
+     * 简体中文：将输入剩余的字节解密到输出中。
+     *
+     * @return The number of bytes written to the output.
+     * 简体中文：写入输出的字节数
+     */
+    public int decrypt(@NonNull ByteBuffer input, @NonNull ByteBuffer output)
+            throws GeneralSecurityException {
+        return doFinal(Cipher.DECRYPT_MODE, input, output);
+    }
+
+    /**
+     * Encrypt the UTF-8 bytes of the text, as Base64.
+     * 简体中文：加密文本的UTF-8字节，结果为Base64。
+     */
+    @NonNull
+    public String encryptToBase64(@NonNull String text) throws GeneralSecurityException {
+        return CryptoUtils.base64Encode(encrypt(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Decrypt Base64 data into UTF-8 text.
+     * 简体中文：将Base64数据解密为UTF-8文本。
+     */
+    @NonNull
+    public String decryptFromBase64(@NonNull String base64Data) throws GeneralSecurityException {
+        return new String(decrypt(CryptoUtils.base64Decode(base64Data)), StandardCharsets.UTF_8);
+    }
+
+    private byte[] doFinal(int mode, byte[] data) throws GeneralSecurityException {
+        Cipher cipher = getCipher(mode);
+        try {
+            if (mRSAKeySize > 0) {
+                return CryptoUtils.rsaSplitCodec(cipher, mode, data, mRSAKeySize);
+            }
+            return cipher.doFinal(data);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            discardCipher(mode);
+            throw e;
+        }
+    }
+
+    private int doFinal(int mode, ByteBuffer input, ByteBuffer output)
+            throws GeneralSecurityException {
+        if (mRSAKeySize > 0) {
+            byte[] data = new byte[input.remaining()];
+            input.get(data);
+            byte[] result = doFinal(mode, data);
+            output.put(result);
+            return result.length;
+        }
+        Cipher cipher = getCipher(mode);
+        try {
+            return cipher.doFinal(input, output);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            discardCipher(mode);
+            throw e;
+        }
+    }
+
+    /**
+     * The cipher of the thread for the mode, a cipher returns to its initialized state after
+     * {@link Cipher#doFinal()}, so it's only initialized once.
+     * 简体中文：当前线程该模式的Cipher，Cipher在{@link Cipher#doFinal()}之后会回到初始化后的状态，因此只需
+     * 初始化一次。
+     */
+    private Cipher getCipher(int mode) throws GeneralSecurityException {
+        ThreadLocal<Cipher> ciphers = mode == Cipher.ENCRYPT_MODE ? mEncryptCiphers
+                : mDecryptCiphers;
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(mTransformation);
+            if (mParams != null) {
+                cipher.init(mode, mKey, mParams);
+            } else {
+                cipher.init(mode, mKey);
+            }
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * A cipher that failed may be left in the middle of an operation, so it isn't reused.
+     * 简体中文：失败的Cipher可能停留在操作中途，因此不再复用。
+     */
+    private void discardCipher(int mode) {
+        if (mode == Cipher.ENCRYPT_MODE) {
+            mEncryptCiphers.remove();
+        } else {
+            mDecryptCiphers.remove();
+        }
+    }
+}
@@ -22,6 +22,8 @@ import android.content.res.Resources;
 import android.text.TextUtils;
 import android.util.Base64;
 
+import androidx.annotation.WorkerThread;
+
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -32,6 +34,7 @@ import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyPair;
@@ -52,12 +55,12 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
-import javax.crypto.Mac;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import javax.security.auth.x500.X500Principal;
@@ -103,6 +106,15 @@ public final class CryptoUtils {
     public static final String DES_CFB_PKCS5 = "DES/CFB/PKCS5Padding";
     public static final String DES_OFB_PKCS5 = "DES/OFB/PKCS5Padding";
     public static final String DES_XTS = "DES/XTS/NoPadding";
+    public static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int MAX_CACHED_CONTEXTS = 16;
+    private static final Map<String, Object> sContexts =
+            new LinkedHashMap<String, Object>(MAX_CACHED_CONTEXTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                    return size() > MAX_CACHED_CONTEXTS;
+                }
+            };
 
     private CryptoUtils() {
     }
@@ -191,10 +203,8 @@ public final class CryptoUtils {
      */
     public static String encryptAES(String secretKey, IvParameterSpec iv, String data) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_CBC_PKCS5);
-            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(secretKey, AES), iv);
-            byte[] encryptByte = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return base64Encode(encryptByte);
+            return getCachedCipherContext(AES, AES_CBC_PKCS5, secretKey, iv)
+                    .encryptToBase64(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -210,10 +220,8 @@ public final class CryptoUtils {
      */
     public static String encryptAES(String secretKey, String data) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ECB_PKCS5);
-            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(secretKey, AES));
-            byte[] encryptByte = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return base64Encode(encryptByte);
+            return getCachedCipherContext(AES, AES_ECB_PKCS5, secretKey, null)
+                    .encryptToBase64(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -230,11 +238,8 @@ public final class CryptoUtils {
      */
     public static String decryptAES(String secretKey, IvParameterSpec iv, String base64Data) {
         try {
-            byte[] data = base64Decode(base64Data);
-            Cipher cipher = Cipher.getInstance(AES_CBC_PKCS5);
-            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(secretKey, AES), iv);
-            byte[] result = cipher.doFinal(data);
-            return new String(result, StandardCharsets.UTF_8);
+            return getCachedCipherContext(AES, AES_CBC_PKCS5, secretKey, iv)
+                    .decryptFromBase64(base64Data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -250,11 +255,8 @@ public final class CryptoUtils {
      */
     public static String decryptAES(String secretKey, String base64Data) {
         try {
-            byte[] data = base64Decode(base64Data);
-            Cipher cipher = Cipher.getInstance(AES_ECB_PKCS5);
-            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(secretKey, AES));
-            byte[] result = cipher.doFinal(data);
-            return new String(result, StandardCharsets.UTF_8);
+            return getCachedCipherContext(AES, AES_ECB_PKCS5, secretKey, null)
+                    .decryptFromBase64(base64Data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -417,6 +419,69 @@ public final class CryptoUtils {
         return decryptFileAES(fis, dir, dstName, secretKey, AES_CFB_PKCS5);
     }
 
+    /**
+     * Encrypting a file using chunked AES-GCM, each chunk is authenticated and the chunks are
+     * encrypted in parallel, see {@link ChunkedAesGcm}.
+     * 简体中文：使用分块AES-GCM加密文件，每块都经过认证，并且各块并行加密，参见{@link ChunkedAesGcm}。
+     *
+     * @param srcFile Source file
+     * @param dir     Storage path of the encrypted file
+     * @param dstName Encrypted file name
+     * @param secretKey  Key
+     */
+    @WorkerThread
+    public static File encryptFileAESGCM(File srcFile, String dir, String dstName, String secretKey) {
+        try {
+            File encryptFile = new File(dir, dstName);
+            ChunkedAesGcm.encrypt(srcFile, encryptFile, getSecretKey(secretKey, AES));
+            return encryptFile;
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Decrypting a file encrypted by {@link #encryptFileAESGCM(File, String, String, String)},
+     * null if it's corrupted or tampered with.
+     * 简体中文：解密由{@link #encryptFileAESGCM(File, String, String, String)}加密的文件，文件损坏或被篡改时
+     * 返回null。
+     *
+     * @param srcFile Source encrypted file
+     * @param dir        Storage path of the decrypted file
+     * @param dstName Decrypted file name
+     * @param secretKey  Key
+     */
+    @WorkerThread
+    public static File decryptFileAESGCM(File srcFile, String dir, String dstName, String secretKey) {
+        try {
+            File decryptFile = new File(dir, dstName);
+            ChunkedAesGcm.decrypt(srcFile, decryptFile, getSecretKey(secretKey, AES));
+            return decryptFile;
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Open a file encrypted by {@link #encryptFileAESGCM(File, String, String, String)} to
+     * decrypt it at random positions, such as seeking in a media file.
+     * 简体中文：打开由{@link #encryptFileAESGCM(File, String, String, String)}加密的文件，以便在随机位置解密，
+     * 比如在媒体文件中跳转。
+     *
+     * @param srcFile Source encrypted file
+     * @param secretKey  Key
+     */
+    public static ChunkedAesGcm.Reader openFileAESGCM(File srcFile, String secretKey) {
+        try {
+            return ChunkedAesGcm.open(srcFile, getSecretKey(secretKey, AES));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
     /**
      * Initialize AES Cipher.
      * 简体中文：初始化AES Cipher。
@@ -453,10 +518,8 @@ public final class CryptoUtils {
      */
     public static String encryptDES(String secretKey, IvParameterSpec iv, String data) {
         try {
-            Cipher cipher = Cipher.getInstance(DES_CBC_PKCS5);
-            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(secretKey, DES), iv);
-            byte[] encryptByte = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return base64Encode(encryptByte);
+            return getCachedCipherContext(DES, DES_CBC_PKCS5, secretKey, iv)
+                    .encryptToBase64(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -472,10 +535,8 @@ public final class CryptoUtils {
      */
     public static String encryptDES(String secretKey, String data) {
         try {
-            Cipher cipher = Cipher.getInstance(DES_ECB_PKCS5);
-            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(secretKey, DES));
-            byte[] encryptByte = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return base64Encode(encryptByte);
+            return getCachedCipherContext(DES, DES_ECB_PKCS5, secretKey, null)
+                    .encryptToBase64(data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -492,11 +553,8 @@ public final class CryptoUtils {
      */
     public static String decryptDES(String secretKey, IvParameterSpec iv, String base64Data) {
         try {
-            byte[] data = base64Decode(base64Data);
-            Cipher cipher = Cipher.getInstance(DES_CBC_PKCS5);
-            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(secretKey, DES), iv);
-            byte[] result = cipher.doFinal(data);
-            return new String(result, StandardCharsets.UTF_8);
+            return getCachedCipherContext(DES, DES_CBC_PKCS5, secretKey, iv)
+                    .decryptFromBase64(base64Data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -512,11 +570,8 @@ public final class CryptoUtils {
      */
     public static String decryptDES(String secretKey, String base64Data) {
         try {
-            byte[] data = base64Decode(base64Data);
-            Cipher cipher = Cipher.getInstance(DES_ECB_PKCS5);
-            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(secretKey, DES));
-            byte[] result = cipher.doFinal(data);
-            return new String(result, StandardCharsets.UTF_8);
+            return getCachedCipherContext(DES, DES_ECB_PKCS5, secretKey, null)
+                    .decryptFromBase64(base64Data);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -685,11 +740,7 @@ public final class CryptoUtils {
      */
     public static String encryptByPublic(String rsaPublic, String content) {
         try {
-            RSAPublicKey publicKey = getPublicKey(rsaPublic);
-            Cipher cipher = Cipher.getInstance(RSA_ECB_PKCS1);
-            cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-            return base64Encode(rsaSplitCodec(cipher, Cipher.ENCRYPT_MODE, content.getBytes(StandardCharsets.UTF_8),
-                    publicKey.getModulus().bitLength()));
+            return getCachedRSAContext(rsaPublic, true).encryptToBase64(content);
         } catch (Exception e) {
             return "";
         }
@@ -704,11 +755,7 @@ public final class CryptoUtils {
      */
     public static String decryptByPrivate(String rsaPrivate, String content) {
         try {
-            RSAPrivateKey privateKey = getPrivateKey(rsaPrivate);
-            Cipher cipher = Cipher.getInstance(RSA_ECB_PKCS1);
-            cipher.init(Cipher.DECRYPT_MODE, privateKey);
-            return new String(rsaSplitCodec(cipher, Cipher.DECRYPT_MODE, base64Decode(content), privateKey.getModulus().bitLength()),
-                    StandardCharsets.UTF_8);
+            return getCachedRSAContext(rsaPrivate, false).decryptFromBase64(content);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -724,10 +771,7 @@ public final class CryptoUtils {
      */
     public static String encryptByPrivate(String rsaPrivate, String content) {
         try {
-            RSAPrivateKey privateKey = getPrivateKey(rsaPrivate);
-            Cipher cipher = Cipher.getInstance(RSA_ECB_PKCS1);
-            cipher.init(Cipher.ENCRYPT_MODE, privateKey);
-            return base64Encode(rsaSplitCodec(cipher, Cipher.ENCRYPT_MODE, content.getBytes(StandardCharsets.UTF_8), privateKey.getModulus().bitLength()));
+            return getCachedRSAContext(rsaPrivate, false).encryptToBase64(content);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -743,11 +787,7 @@ public final class CryptoUtils {
      */
     public static String decryptByPublic(String rsaPublic, String content) {
         try {
-            RSAPublicKey publicKey = getPublicKey(rsaPublic);
-            Cipher cipher = Cipher.getInstance(RSA_ECB_PKCS1);
-            cipher.init(Cipher.DECRYPT_MODE, publicKey);
-            return new String(rsaSplitCodec(cipher, Cipher.DECRYPT_MODE, base64Decode(content),
-                    publicKey.getModulus().bitLength()), StandardCharsets.UTF_8);
+            return getCachedRSAContext(rsaPublic, true).decryptFromBase64(content);
         } catch (Exception e) {
             return "";
         }
@@ -782,7 +822,7 @@ public final class CryptoUtils {
      * Used for splitting large data blocks.
      * 简体中文：用于拆分大的数据块。
      */
-    private static byte[] rsaSplitCodec(Cipher cipher, int opmode, byte[] datas, int keySize) {
+    static byte[] rsaSplitCodec(Cipher cipher, int opmode, byte[] datas, int keySize) {
         int maxBlock;
         if (opmode == Cipher.DECRYPT_MODE) {
             maxBlock = keySize / 8;
@@ -933,6 +973,136 @@ public final class CryptoUtils {
 
     // </editor-folder>
 
+    // <editor-folder desc="Reusable crypto contexts">
+
+    /**
+     * A context of AES with the default mode, see {@link CipherContext}.
+     * 简体中文：默认方式的AES上下文，参见{@link CipherContext}。
+     *
+     * @param secretKey Key
+     */
+    public static CipherContext newAESContext(String secretKey) throws GeneralSecurityException {
+        return newAESContext(secretKey, AES_ECB_PKCS5, null);
+    }
+
+    /**
+     * A context of AES, see {@link CipherContext}.
+     * 简体中文：AES上下文，参见{@link CipherContext}。
+     *
+     * @param secretKey Key
+     * @param transformation In the field of encryption, it usually refers to the combination
+     *                       of encryption algorithms, modes, and padding.
+     * @param iv Offset, null for the modes without it
+     */
+    public static CipherContext newAESContext(String secretKey, String transformation,
+                                              IvParameterSpec iv) throws GeneralSecurityException {
+        return new CipherContext(transformation, getSecretKey(secretKey, AES), iv);
+    }
+
+    /**
+     * A context of DES with the default mode, see {@link CipherContext}.
+     * 简体中文：默认方式的DES上下文，参见{@link CipherContext}。
+     *
+     * @param secretKey Key
+     */
+    public static CipherContext newDESContext(String secretKey) throws GeneralSecurityException {
+        return newDESContext(secretKey, DES_ECB_PKCS5, null);
+    }
+
+    /**
+     * A context of DES, see {@link CipherContext}.
+     * 简体中文：DES上下文，参见{@link CipherContext}。
+     *
+     * @param secretKey Key
+     * @param transformation In the field of encryption, it usually refers to the combination
+     *                       of encryption algorithms, modes, and padding.
+     * @param iv Offset, null for the modes without it
+     */
+    public static CipherContext newDESContext(String secretKey, String transformation,
+                                              IvParameterSpec iv) throws GeneralSecurityException {
+        return new CipherContext(transformation, getSecretKey(secretKey, DES), iv);
+    }
+
+    /**
+     * A context of RSA with the public key, see {@link CipherContext}.
+     * 简体中文：使用公钥的RSA上下文，参见{@link CipherContext}。
+     *
+     * @param rsaPublic RSA public key string
+     */
+    public static CipherContext newRSAPublicContext(String rsaPublic) throws GeneralSecurityException {
+        return new CipherContext(RSA_ECB_PKCS1, getPublicKey(rsaPublic), null);
+    }
+
+    /**
+     * A context of RSA with the private key, see {@link CipherContext}.
+     * 简体中文：使用私钥的RSA上下文，参见{@link CipherContext}。
+     *
+     * @param rsaPrivate RSA private key string
+     */
+    public static CipherContext newRSAPrivateContext(String rsaPrivate) throws GeneralSecurityException {
+        return new CipherContext(RSA_ECB_PKCS1, getPrivateKey(rsaPrivate), null);
+    }
+
+    /**
+     * A context of HMAC-SHA256, see {@link MacContext}.
+     * 简体中文：HMAC-SHA256上下文，参见{@link MacContext}。
+     *
+     * @param secretKey Key
+     */
+    public static MacContext newHMACContext(String secretKey) throws GeneralSecurityException {
+        return new MacContext(HMAC_SHA256, new SecretKeySpec(
+                secretKey.getBytes(StandardCharsets.UTF_8), HMAC_SHA256));
+    }
+
+    private static CipherContext getCachedCipherContext(String algorithm, String transformation,
+                                                        String secretKey, IvParameterSpec iv)
+            throws GeneralSecurityException {
+        String cacheKey = transformation + "\n" + secretKey;
+        if (iv != null) {
+            cacheKey += "\n" + base64Encode(iv.getIV());
+        }
+        return getCachedContext(cacheKey,
+                () -> new CipherContext(transformation, getSecretKey(secretKey, algorithm), iv));
+    }
+
+    private static CipherContext getCachedRSAContext(String rsaKey, boolean isPublic)
+            throws GeneralSecurityException {
+        if (isPublic) {
+            return getCachedContext(RSA_ECB_PKCS1 + "\n" + PUBLIC_KEY + "\n" + rsaKey,
+                    () -> newRSAPublicContext(rsaKey));
+        }
+        return getCachedContext(RSA_ECB_PKCS1 + "\n" + PRIVATE_KEY + "\n" + rsaKey,
+                () -> newRSAPrivateContext(rsaKey));
+    }
+
+    /**
+     * The contexts of the recently used keys of the static methods, so repeated calls with the
+     * same key skip parsing the key and creating the cipher.
+     * 简体中文：静态方法最近使用的密钥的上下文，因此使用相同密钥的重复调用无需再解析密钥和创建Cipher。
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T getCachedContext(String cacheKey, ContextFactory<T> factory)
+            throws GeneralSecurityException {
+        synchronized (sContexts) {
+            Object context = sContexts.get(cacheKey);
+            if (context != null) {
+                return (T) context;
+            }
+        }
+        T context = factory.create();
+        synchronized (sContexts) {
+            sContexts.put(cacheKey, context);
+        }
+        return context;
+    }
+
+    private interface ContextFactory<T> {
+
+        T create() throws GeneralSecurityException;
+    }
+
+    // </editor-folder>
+
     public static String encryptMD5(String text) {
         try {
             MessageDigest md = MessageDigest.getInstance("MD5");
@@ -948,14 +1118,14 @@ public final class CryptoUtils {
         }
     }
 
+    /**
+     * HMAC-SHA256 of the data, as Base64. The key is parsed once and cached, see
+     * {@link #newHMACContext(String)} to hold it yourself.
+     * 简体中文：数据的HMAC-SHA256，结果为Base64。密钥只解析一次并被缓存，自行持有请参见
+     * {@link #newHMACContext(String)}。
+     */
     public static String calcHMAC(String data, String secretKey) throws Exception {
-        Mac mac = Mac.getInstance("HmacSHA256");
-        SecretKeySpec keySpec = new SecretKeySpec(
-                secretKey.getBytes(StandardCharsets.UTF_8),
-                "HmacSHA256"
-        );
-        mac.init(keySpec);
-        byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        return Base64.encodeToString(hash, Base64.NO_WRAP);
+        return getCachedContext(HMAC_SHA256 + "\n" + secretKey,
+                () -> newHMACContext(secretKey)).signToBase64(data);
     }
 }
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The total size of the files under a folder, kept in a persisted index of the size of every
+ * folder, so only the folders whose modification time changed are listed again. The tree is
+ * walked level by level, with the folders of a level listed in parallel on
+ * {@link ThreadUtils#getIoPool()}. Adding, removing or renaming a file changes the modification
+ * time of its folder, a file that is rewritten in place doesn't, so its new size is only seen
+ * once its folder changes, or after {@link #invalidate()}.
+ * 简体中文：文件夹下所有文件的总大小，保存在记录每个文件夹大小的持久化索引中，因此只有修改时间发生变化的文件夹才会被
+ * 重新列出。目录树按层遍历，同一层的文件夹在{@link ThreadUtils#getIoPool()}上并行列出。添加、删除或重命名文件会改变
+ * 其所在文件夹的修改时间，原地重写的文件则不会，因此它的新大小要等到其文件夹发生变化，或调用{@link #invalidate()}
+ * 之后才能被发现。
+ */
+public final class DirectorySizeIndex {
+
+    private static final String MAGIC = "dora.DirectorySizeIndex";
+    private static final int VERSION = 1;
+    private static final int PARALLELISM = 4;
+    private static final int FOLDERS_PER_WORKER = 64;
+    /**
+     * A folder modified this close to the last scan may have changed again within the
+     * precision of its modification time after it was listed, so it's listed again.
+     * 简体中文：在上次扫描前后这段时间内修改过的文件夹，可能在被列出后、在修改时间的精度范围内再次发生了变化，因此会
+     * 被重新列出。
+     */
+    private static final long RACY_WINDOW_MILLIS = 2000;
+
+    private final File mRoot;
+    private final File mIndexFile;
+    /**
+     * The folders by their path relative to the root, the root is the empty path.
+     * 简体中文：按相对于根目录的路径索引的文件夹，根目录为空路径。
+     */
+    private Map<String, Folder> mFolders;
+    private long mScanTime;
+    private int mListedCount;
+
+    /**
+     * @param root The folder to be measured.简体中文：要计算大小的文件夹
+     * @param indexFile The file to persist the index to, outside of the root, null to keep it
+     *                  in memory only.简体中文：持久化索引的文件，应在根目录之外，为null时只保存在内存中
+     */
+    public DirectorySizeIndex(@NonNull File root, @Nullable File indexFile) {
+        this.mRoot = root;
+        this.mIndexFile = indexFile;
+    }
+
+    /**
+     * Bring the index up to date and get the total size of the files under the root.
+     * 简体中文：更新索引并获取根目录下所有文件的总大小。
+     */
+    @WorkerThread
+    public synchronized long getSize() {
+        ensureLoaded();
+        mListedCount = 0;
+        if (!mRoot.isDirectory()) {
+            if (!mFolders.isEmpty()) {
+                invalidate();
+            }
+            return 0;
+        }
+        long scanTime = System.currentTimeMillis();
+        Map<String, Folder> oldFolders = mFolders;
+        Map<String, Folder> folders = new ConcurrentHashMap<>();
+        List<String> order = new ArrayList<>();
+        List<String> level = new ArrayList<>();
+        level.add("");
+        AtomicInteger listedCount = new AtomicInteger();
+        while (!level.isEmpty()) {
+            order.addAll(level);
+            List<String> paths = level;
+            ConcurrentLinkedQueue<String> nextLevel = new ConcurrentLinkedQueue<>();
+            // A small level is cheaper to stat on the calling thread than to hand off.
+            // 简体中文：较小的一层在调用线程上获取状态，比交给其他线程更快
+            int parallelism = Math.min(PARALLELISM, paths.size() / FOLDERS_PER_WORKER + 1);
+            Exception e = ParallelLoop.run(ThreadUtils.getIoPool(), parallelism, paths.size(),
+                    () -> index -> {
+                        String path = paths.get((int) index);
+                        File dir = path.isEmpty() ? mRoot : new File(mRoot, path);
+                        long lastModified = dir.lastModified();
+                        Folder folder = oldFolders.get(path);
+                        if (folder == null || folder.mLastModified != lastModified
+                                || lastModified >= mScanTime - RACY_WINDOW_MILLIS) {
+                            folder = list(dir, lastModified);
+                            listedCount.incrementAndGet();
+                        }
+                        folders.put(path, folder);
+                        for (String name : folder.mChildren) {
+                            nextLevel.add(path.isEmpty() ? name : path + File.separator + name);
+                        }
+                    });
+            if (e != null) {
+                LogUtils.w("Can't index " + mRoot + ": " + e);
+                invalidate();
+                return IoUtils.getFolderTotalSize(mRoot);
+            }
+            level = new ArrayList<>(nextLevel);
+        }
+        // Add up from the deepest level, so the children are summed before their parent.
+        // 简体中文：从最深的一层开始累加，使子文件夹先于其父文件夹被汇总
+        Map<String, Long> totals = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            String path = order.get(i);
+            Folder folder = folders.get(path);
+            long total = folder.mFileBytes;
+            for (String name : folder.mChildren) {
+                Long child = totals.get(path.isEmpty() ? name : path + File.separator + name);
+                if (child != null) {
+                    total += child;
+                }
+            }
+            totals.put(path, total);
+        }
+        mListedCount = listedCount.get();
+        boolean changed = mListedCount > 0 || folders.size() != oldFolders.size();
+        mFolders = new HashMap<>(folders);
+        mScanTime = scanTime;
+        if (changed) {
+            save();
+        }
+        return totals.get("");
+    }
+
+    /**
+     * The number of folders listed by the last {@link #getSize()}, the others came from the
+     * index.
+     * 简体中文：上一次{@link #getSize()}列出的文件夹数，其余的来自索引。
+     */
+    public synchronized int getListedCount() {
+        return mListedCount;
+    }
+
+    /**
+     * Forget the index, the next {@link #getSize()} lists every folder.
+     * 简体中文：忘记索引，下一次{@link #getSize()}会列出所有文件夹。
+     */
+    public synchronized void invalidate() {
+        mFolders = new HashMap<>();
+        mScanTime = 0;
+        if (mIndexFile != null) {
+            mIndexFile.delete();
+        }
+    }
+
+    private static Folder list(File dir, long lastModified) {
+        long fileBytes = 0;
+        List<String> children = new ArrayList<>();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    children.add(file.getName());
+                } else {
+                    fileBytes += file.length();
+                }
+            }
+        }
+        return new Folder(lastModified, fileBytes, children.toArray(new String[0]));
+    }
+
+    private void ensureLoaded() {
+        if (mFolders != null) {
+            return;
+        }
+        mFolders = new HashMap<>();
+        if (mIndexFile == null || !mIndexFile.exists()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(mIndexFile)))) {
+            if (!MAGIC.equals(in.readUTF()) || in.readInt() != VERSION
+                    || !mRoot.getAbsolutePath().equals(in.readUTF())) {
+                return;
+            }
+            long scanTime = in.readLong();
+            int count = in.readInt();
+            Map<String, Folder> folders = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                long lastModified = in.readLong();
+                long fileBytes = in.readLong();
+                String[] children = new String[in.readInt()];
+                for (int j = 0; j < children.length; j++) {
+                    children[j] = in.readUTF();
+                }
+                folders.put(path, new Folder(lastModified, fileBytes, children));
+            }
+            mFolders = folders;
+            mScanTime = scanTime;
+        } catch (IOException e) {
+            LogUtils.w("Can't read the size index of " + mRoot + ": " + e.getMessage());
+        }
+    }
+
+    private void save() {
+        if (mIndexFile == null) {
+            return;
+        }
+        File tmpFile = new File(mIndexFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(tmpFile)))) {
+            out.writeUTF(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(mRoot.getAbsolutePath());
+            out.writeLong(mScanTime);
+            out.writeInt(mFolders.size());
+            for (Map.Entry<String, Folder> entry : mFolders.entrySet()) {
+                Folder folder = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeLong(folder.mLastModified);
+                out.writeLong(folder.mFileBytes);
+                out.writeInt(folder.mChildren.length);
+                for (String name : folder.mChildren) {
+                    out.writeUTF(name);
+                }
+            }
+        } catch (IOException e) {
+            LogUtils.w("Can't write the size index of " + mRoot + ": " + e.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(mIndexFile)) {
+            tmpFile.delete();
+        }
+    }
+
+    private static final class Folder {
+
+        final long mLastModified;
+        /**
+         * The total size of the files right in the folder, not in its children.
+         * 简体中文：直接位于该文件夹中的文件的总大小，不含子文件夹中的文件。
+         */
+        final long mFileBytes;
+        final String[] mChildren;
+
+        Folder(long lastModified, long fileBytes, String[] children) {
+            this.mLastModified = lastModified;
+            this.mFileBytes = fileBytes;
+            this.mChildren = children;
+        }
+    }
+}
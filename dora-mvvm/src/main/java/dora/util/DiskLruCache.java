@@ -0,0 +1,548 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A cache of files in a directory, bounded by a byte budget, the least recently accessed files
+ * are evicted first. A file is written by an {@link Editor} into a temporary file and published
+ * by {@link Editor#commit()} with a rename, so readers never see a partial file. Every change is
+ * appended to a journal, which is replayed when the cache is opened again: the edits interrupted
+ * by a crash are rolled back, and the files whose length doesn't match the journal are dropped.
+ * The journal is rewritten once most of its lines are redundant.
+ * 简体中文：目录中文件的缓存，受字节预算限制，最久未访问的文件最先被淘汰。文件由{@link Editor}写入临时文件，
+ * 并由{@link Editor#commit()}通过重命名发布，因此读取者永远不会看到不完整的文件。每次变更都会追加到日志中，
+ * 再次打开缓存时会重放日志：被崩溃打断的编辑会被回滚，长度与日志不符的文件会被丢弃。当日志的大部分行都已冗余时
+ * 会重写日志。
+ */
+public final class DiskLruCache implements Closeable {
+
+    static final String JOURNAL_FILE = "journal";
+    static final String JOURNAL_FILE_TEMP = "journal.tmp";
+    static final String MAGIC = "dora.DiskLruCache";
+    static final String VERSION = "1";
+
+    private static final String CLEAN = "CLEAN";
+    private static final String DIRTY = "DIRTY";
+    private static final String REMOVE = "REMOVE";
+    private static final String READ = "READ";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-z0-9_-]{1,120}");
+    private static final int REDUNDANT_OP_COMPACT_THRESHOLD = 2000;
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    private final File mDirectory;
+    private final File mJournalFile;
+    private final File mJournalFileTemp;
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(0, 0.75f, true);
+    private long mMaxSize;
+    private long mSize;
+    private int mRedundantOpCount;
+    private Writer mJournalWriter;
+    @Nullable
+    private volatile OnCommitListener mOnCommitListener;
+
+    private DiskLruCache(File directory, long maxSize) {
+        this.mDirectory = directory;
+        this.mJournalFile = new File(directory, JOURNAL_FILE);
+        this.mJournalFileTemp = new File(directory, JOURNAL_FILE_TEMP);
+        this.mMaxSize = maxSize;
+    }
+
+    /**
+     * Open the cache in the directory, created if it doesn't exist. A corrupt journal empties
+     * the cache. It should be opened on a worker thread, as the journal is replayed here.
+     * 简体中文：打开目录中的缓存，不存在则创建。日志损坏时会清空缓存。由于在此重放日志，应在工作线程中打开。
+     *
+     * @param maxSize The max number of bytes of the files.简体中文：文件的最大字节数
+     */
+    public static DiskLruCache open(File directory, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0: " + maxSize);
+        }
+        DiskLruCache cache = new DiskLruCache(directory, maxSize);
+        if (cache.mJournalFile.exists()) {
+            try {
+                cache.readJournal();
+                return cache;
+            } catch (IOException e) {
+                LogUtils.w("DiskLruCache " + directory + " is corrupt: " + e.getMessage()
+                        + ", removing");
+                cache.delete();
+                cache = new DiskLruCache(directory, maxSize);
+            }
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Can't create " + directory);
+        }
+        cache.rebuildJournal();
+        return cache;
+    }
+
+    /**
+     * The file of the key, null if there is none. Open it right away, it may be evicted later.
+     * 简体中文：该键的文件，不存在时为null。请立即打开它，之后它可能会被淘汰。
+     */
+    @Nullable
+    public synchronized File get(String key) throws IOException {
+        checkNotClosed();
+        validateKey(key);
+        Entry entry = mEntries.get(key);
+        if (entry == null || !entry.mReadable) {
+            return null;
+        }
+        File file = entry.getCleanFile();
+        if (!file.exists()) {
+            // Deleted behind our back.
+            // 简体中文：在缓存之外被删除了。
+            remove(key);
+            return null;
+        }
+        mRedundantOpCount++;
+        writeJournalLine(READ + ' ' + key);
+        compactIfNeeded();
+        return file;
+    }
+
+    /**
+     * Start writing the file of the key.
+     * 简体中文：开始写入该键的文件。
+     *
+     * @return null if the key is being edited by another editor.简体中文：该键正在被其他编辑器编辑时返回null
+     */
+    @Nullable
+    public synchronized Editor edit(String key) throws IOException {
+        checkNotClosed();
+        validateKey(key);
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            entry = new Entry(key);
+            mEntries.put(key, entry);
+        } else if (entry.mEditor != null) {
+            return null;
+        }
+        Editor editor = new Editor(entry);
+        entry.mEditor = editor;
+        // Flushed before the file is written, so a crash leaves a trace to clean up.
+        // 简体中文：在写入文件前刷新，这样崩溃时会留下待清理的记录。
+        writeJournalLine(DIRTY + ' ' + key);
+        return editor;
+    }
+
+    /**
+     * Remove the file of the key, unless it's being edited.
+     * 简体中文：移除该键的文件，除非它正在被编辑。
+     */
+    public synchronized boolean remove(String key) throws IOException {
+        checkNotClosed();
+        validateKey(key);
+        Entry entry = mEntries.get(key);
+        if (entry == null || entry.mEditor != null) {
+            return false;
+        }
+        removeEntry(entry);
+        compactIfNeeded();
+        return true;
+    }
+
+    public synchronized boolean contains(String key) {
+        Entry entry = mEntries.get(key);
+        return entry != null && entry.mReadable;
+    }
+
+    /**
+     * The keys from the least to the most recently accessed.
+     * 简体中文：从最久未访问到最近访问排列的键。
+     */
+    public synchronized List<String> getKeys() {
+        List<String> keys = new ArrayList<>(mEntries.size());
+        for (Entry entry : mEntries.values()) {
+            if (entry.mReadable) {
+                keys.add(entry.mKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * The number of bytes of the files.
+     * 简体中文：文件的字节数。
+     */
+    public synchronized long size() {
+        return mSize;
+    }
+
+    public synchronized long getMaxSize() {
+        return mMaxSize;
+    }
+
+    public synchronized void setMaxSize(long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0: " + maxSize);
+        }
+        this.mMaxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Evict the least recently accessed files until at most {@code size} bytes are left, the
+     * max size is unchanged.
+     * 简体中文：淘汰最久未访问的文件，直到最多剩下{@code size}字节，最大值不变。
+     */
+    public synchronized void trimToSize(long size) throws IOException {
+        checkNotClosed();
+        Iterator<Entry> iterator = new ArrayList<>(mEntries.values()).iterator();
+        while (mSize > size && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.mEditor == null) {
+                removeEntry(entry);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    public File getDirectory() {
+        return mDirectory;
+    }
+
+    /**
+     * Listen to the commits, for example to bound several caches together.
+     * 简体中文：监听提交，例如用于将多个缓存一起限制大小。
+     */
+    public void setOnCommitListener(@Nullable OnCommitListener listener) {
+        this.mOnCommitListener = listener;
+    }
+
+    public synchronized boolean isClosed() {
+        return mJournalWriter == null;
+    }
+
+    public synchronized void flush() throws IOException {
+        checkNotClosed();
+        mJournalWriter.flush();
+    }
+
+    /**
+     * Close the cache, the edits in progress are aborted.
+     * 简体中文：关闭缓存，进行中的编辑会被中止。
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (mJournalWriter == null) {
+            return;
+        }
+        for (Entry entry : new ArrayList<>(mEntries.values())) {
+            if (entry.mEditor != null) {
+                entry.mEditor.abort();
+            }
+        }
+        mJournalWriter.close();
+        mJournalWriter = null;
+    }
+
+    /**
+     * Close the cache and delete the directory with all the files.
+     * 简体中文：关闭缓存并删除目录及所有文件。
+     */
+    public void delete() throws IOException {
+        close();
+        IoUtils.delete(mDirectory);
+    }
+
+    private void readJournal() throws IOException {
+        String journal = new String(IoUtils.read(mJournalFile), US_ASCII);
+        String[] lines = journal.split("\n", -1);
+        if (lines.length < 4 || !MAGIC.equals(lines[0]) || !VERSION.equals(lines[1])
+                || !lines[2].isEmpty()) {
+            throw new IOException("unexpected journal header");
+        }
+        // The last element is what follows the last line break, a line torn by a crash.
+        // 简体中文：最后一个元素是最后一个换行符之后的内容，即被崩溃截断的行。
+        int lineCount = lines.length - 1;
+        for (int i = 3; i < lineCount; i++) {
+            readJournalLine(lines[i]);
+        }
+        boolean dirty = !lines[lineCount].isEmpty();
+        Iterator<Entry> iterator = mEntries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.mEditor != null) {
+                // Interrupted edit, the temporary file is dropped and the committed file kept.
+                // 简体中文：被打断的编辑，丢弃临时文件并保留已提交的文件。
+                entry.mEditor = null;
+                entry.getDirtyFile().delete();
+                dirty = true;
+            }
+            if (entry.mReadable && entry.getCleanFile().length() != entry.mLength) {
+                entry.getCleanFile().delete();
+                entry.mReadable = false;
+                dirty = true;
+            }
+            if (entry.mReadable) {
+                mSize += entry.mLength;
+            } else {
+                iterator.remove();
+            }
+        }
+        mRedundantOpCount = lineCount - 3 - mEntries.size();
+        if (dirty) {
+            rebuildJournal();
+        } else {
+            mJournalWriter = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(mJournalFile, true), US_ASCII));
+        }
+        if (mSize > mMaxSize) {
+            trimToSize(mMaxSize);
+        }
+    }
+
+    private void readJournalLine(String line) throws IOException {
+        String[] parts = line.split(" ");
+        if (parts.length < 2) {
+            throw new IOException("unexpected journal line: " + line);
+        }
+        String key = parts[1];
+        if (REMOVE.equals(parts[0]) && parts.length == 2) {
+            mEntries.remove(key);
+            return;
+        }
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            entry = new Entry(key);
+            mEntries.put(key, entry);
+        }
+        if (CLEAN.equals(parts[0]) && parts.length == 3) {
+            entry.mReadable = true;
+            entry.mEditor = null;
+            try {
+                entry.mLength = Long.parseLong(parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IOException("unexpected journal line: " + line);
+            }
+        } else if (DIRTY.equals(parts[0]) && parts.length == 2) {
+            entry.mEditor = new Editor(entry);
+        } else if (!READ.equals(parts[0]) || parts.length != 2) {
+            throw new IOException("unexpected journal line: " + line);
+        }
+    }
+
+    /**
+     * Write a journal of the current entries only, and replace the old one with it.
+     * 简体中文：写一份只包含当前条目的日志，并用它替换旧日志。
+     */
+    private void rebuildJournal() throws IOException {
+        if (mJournalWriter != null) {
+            mJournalWriter.close();
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(mJournalFileTemp), US_ASCII));
+        try {
+            writer.write(MAGIC + "\n" + VERSION + "\n\n");
+            for (Entry entry : mEntries.values()) {
+                if (entry.mEditor != null) {
+                    writer.write(DIRTY + ' ' + entry.mKey + '\n');
+                } else {
+                    writer.write(CLEAN + ' ' + entry.mKey + ' ' + entry.mLength + '\n');
+                }
+            }
+        } finally {
+            writer.close();
+        }
+        if (!mJournalFileTemp.renameTo(mJournalFile)) {
+            throw new IOException("Can't rename " + mJournalFileTemp + " to " + mJournalFile);
+        }
+        mJournalWriter = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(mJournalFile, true), US_ASCII));
+        mRedundantOpCount = 0;
+    }
+
+    private synchronized void completeEdit(Editor editor, boolean success) throws IOException {
+        if (mJournalWriter == null) {
+            // Closed, for example by CacheUtils#clearAllCaches, while the file was written.
+            // 简体中文：写入文件期间缓存被关闭，例如被CacheUtils#clearAllCaches关闭。
+            throw new IOException("The cache is closed");
+        }
+        Entry entry = editor.mEntry;
+        if (entry.mEditor != editor) {
+            throw new IllegalStateException("The edit of " + entry.mKey + " is completed");
+        }
+        entry.mEditor = null;
+        File dirty = entry.getDirtyFile();
+        if (success && dirty.exists()) {
+            File clean = entry.getCleanFile();
+            if (!dirty.renameTo(clean)) {
+                dirty.delete();
+                throw new IOException("Can't rename " + dirty + " to " + clean);
+            }
+            long length = clean.length();
+            mSize += length - (entry.mReadable ? entry.mLength : 0);
+            entry.mLength = length;
+            entry.mReadable = true;
+            writeJournalLine(CLEAN + ' ' + entry.mKey + ' ' + length);
+        } else {
+            dirty.delete();
+            if (!entry.mReadable) {
+                mEntries.remove(entry.mKey);
+                writeJournalLine(REMOVE + ' ' + entry.mKey);
+            }
+        }
+        mRedundantOpCount++;
+        if (mSize > mMaxSize) {
+            trimToSize(mMaxSize);
+        } else {
+            compactIfNeeded();
+        }
+    }
+
+    private void removeEntry(Entry entry) throws IOException {
+        File file = entry.getCleanFile();
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Can't delete " + file);
+        }
+        mSize -= entry.mLength;
+        mEntries.remove(entry.mKey);
+        mRedundantOpCount++;
+        writeJournalLine(REMOVE + ' ' + entry.mKey);
+    }
+
+    private void writeJournalLine(String line) throws IOException {
+        mJournalWriter.write(line);
+        mJournalWriter.write('\n');
+        mJournalWriter.flush();
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (mRedundantOpCount >= REDUNDANT_OP_COMPACT_THRESHOLD
+                && mRedundantOpCount >= mEntries.size()) {
+            rebuildJournal();
+        }
+    }
+
+    private void checkNotClosed() {
+        if (mJournalWriter == null) {
+            throw new IllegalStateException("The cache is closed");
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (!KEY_PATTERN.matcher(key).matches() || JOURNAL_FILE.equals(key)) {
+            throw new IllegalArgumentException("Keys must match [a-z0-9_-]{1,120} and not be "
+                    + JOURNAL_FILE + ": " + key);
+        }
+    }
+
+    /**
+     * Writes the file of a key, either {@link #commit()} or {@link #abort()} must be called.
+     * 简体中文：写入一个键的文件，必须调用{@link #commit()}或{@link #abort()}之一。
+     */
+    public final class Editor {
+
+        private final Entry mEntry;
+        private boolean mDone;
+
+        private Editor(Entry entry) {
+            this.mEntry = entry;
+        }
+
+        /**
+         * The temporary file to write, published by {@link #commit()}.
+         * 简体中文：要写入的临时文件，由{@link #commit()}发布。
+         */
+        public File getFile() {
+            return mEntry.getDirtyFile();
+        }
+
+        public OutputStream newOutputStream() throws IOException {
+            return new FileOutputStream(getFile());
+        }
+
+        public void commit() throws IOException {
+            mDone = true;
+            completeEdit(this, true);
+            // Outside the lock of the cache, so the listener may lock other caches.
+            // 简体中文：在缓存的锁之外调用，因此监听器可以锁定其他缓存。
+            OnCommitListener listener = mOnCommitListener;
+            if (listener != null) {
+                listener.onCommit(DiskLruCache.this);
+            }
+        }
+
+        public void abort() throws IOException {
+            mDone = true;
+            completeEdit(this, false);
+        }
+
+        /**
+         * Abort the edit unless it's done, for a finally block.
+         * 简体中文：编辑未完成时中止它，用于finally块。
+         */
+        public void abortUnlessCommitted() {
+            if (!mDone) {
+                try {
+                    abort();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public interface OnCommitListener {
+
+        /**
+         * Called on the committing thread after the file is published and the cache is trimmed
+         * to its max size.
+         * 简体中文：在文件发布且缓存被裁剪到其最大值之后，在提交的线程中调用。
+         */
+        void onCommit(DiskLruCache cache);
+    }
+
+    private final class Entry {
+
+        private final String mKey;
+        private long mLength;
+        private boolean mReadable;
+        private Editor mEditor;
+
+        private Entry(String key) {
+            this.mKey = key;
+        }
+
+        File getCleanFile() {
+            return new File(mDirectory, mKey);
+        }
+
+        File getDirtyFile() {
+            return new File(mDirectory, mKey + TEMP_SUFFIX);
+        }
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.text.TextUtils;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking file downloader. The downloads run on the IO pool of {@link ThreadUtils} with a
+ * bounded number of concurrent connections, the others wait in a queue. The data is streamed
+ * into a ".part" file next to the target through pooled buffers, and an interrupted download
+ * resumes from the ".part" file with an HTTP range request. The ETag or Last-Modified of the
+ * response is kept next to the ".part" file and sent as If-Range, so the download starts over
+ * when the remote file changed instead of appending its new bytes to the stale part. The
+ * callbacks are delivered on the main thread.
+ * 简体中文：非阻塞的文件下载器。下载任务在{@link ThreadUtils}的IO线程池中运行，并发连接数有上限，其余的任务在队列
+ * 中等待。数据通过池化的缓冲区流式写入目标文件旁的".part"文件，中断的下载会通过HTTP范围请求从".part"文件处续传。
+ * 响应的ETag或Last-Modified保存在".part"文件旁，并作为If-Range发送，因此远程文件发生变化时会重新下载，而不是把
+ * 新的字节追加到过期的部分之后。回调在主线程中投递。
+ */
+public final class Downloader {
+
+    static final String PART_SUFFIX = ".part";
+    /**
+     * The validator of the ".part" file, the ETag or the Last-Modified of the response it came
+     * from.
+     * 简体中文：".part"文件的校验值，即其来源响应的ETag或Last-Modified。
+     */
+    static final String VALIDATOR_SUFFIX = ".part.validator";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CONNECT_TIMEOUT_MILLIS = 15 * 1000;
+    private static final int READ_TIMEOUT_MILLIS = 30 * 1000;
+    private static final long PROGRESS_INTERVAL_MILLIS = 100;
+    private static final int DEFAULT_MAX_CONCURRENCY = 3;
+
+    private static volatile Downloader sDownloader;
+
+    private final int mMaxConcurrency;
+    private final ArrayDeque<Call> mReadyCalls = new ArrayDeque<>();
+    private final List<Call> mRunningCalls = new ArrayList<>();
+    private final BufferPool mBufferPool;
+
+    public Downloader(@IntRange(from = 1) int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency < 1: " + maxConcurrency);
+        }
+        mMaxConcurrency = maxConcurrency;
+        mBufferPool = new BufferPool(maxConcurrency);
+    }
+
+    public static Downloader getInstance() {
+        if (sDownloader == null) {
+            synchronized (Downloader.class) {
+                if (sDownloader == null) {
+                    sDownloader = new Downloader(DEFAULT_MAX_CONCURRENCY);
+                }
+            }
+        }
+        return sDownloader;
+    }
+
+    /**
+     * Download the file to the target path.
+     * 简体中文：将文件下载到目标路径。
+     *
+     * @param url      Downloaded file address.简体中文：下载的文件地址
+     * @param target   Saved file.简体中文：保存的文件
+     * @param callback Nullable.简体中文：可为空
+     * @return the handle to cancel the download.简体中文：用于取消下载的句柄
+     */
+    public Call download(@NonNull String url, @NonNull File target, Callback callback) {
+        Call call = new Call(url, target, callback);
+        enqueue(call);
+        return call;
+    }
+
+    /**
+     * Download the file to the folder, the file name is taken from the url.
+     * 简体中文：将文件下载到文件夹中，文件名取自url。
+     *
+     * @param url      Downloaded file address.简体中文：下载的文件地址
+     * @param folder   Destination folder to save.简体中文：保存到的文件夹
+     * @param callback Nullable.简体中文：可为空
+     * @return the handle to cancel the download.简体中文：用于取消下载的句柄
+     */
+    public Call downloadToFolder(@NonNull String url, @NonNull String folder, Callback callback) {
+        return download(url, new File(folder, IoUtils.getFileNameFromPath(url)), callback);
+    }
+
+    /**
+     * Download the files to the folder in parallel, the concurrency is still bounded by this
+     * downloader.
+     * 简体中文：并行地将文件下载到文件夹中，并发数仍受本下载器的限制。
+     *
+     * @param urls     URLs of all the files to be downloaded.简体中文：要下载的所有文件的url
+     * @param folder   Destination folder to save.简体中文：保存到的文件夹
+     * @param callback Nullable.简体中文：可为空
+     * @return the handles of the downloads in the order of the urls.简体中文：按url顺序排列的下载句柄
+     */
+    public List<Call> downloadAll(@NonNull List<String> urls, @NonNull String folder,
+                                  final BatchCallback callback) {
+        final int total = urls.size();
+        final AtomicInteger finished = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        List<Call> calls = new ArrayList<>(total);
+        for (final String url : urls) {
+            calls.add(downloadToFolder(url, folder, new SimpleCallback() {
+
+                @Override
+                public void onSuccess(File file) {
+                    if (callback != null) {
+                        callback.onFileSuccess(url, file);
+                    }
+                    onFinished();
+                }
+
+                @Override
+                public void onFail(Throwable t) {
+                    failed.incrementAndGet();
+                    if (callback != null) {
+                        callback.onFileFail(url, t);
+                    }
+                    onFinished();
+                }
+
+                @Override
+                public void onCancel() {
+                    failed.incrementAndGet();
+                    onFinished();
+                }
+
+                private void onFinished() {
+                    int count = finished.incrementAndGet();
+                    if (callback != null) {
+                        callback.onProgress(count, total);
+                        if (count == total) {
+                            callback.onComplete(total - failed.get(), failed.get());
+                        }
+                    }
+                }
+            }));
+        }
+        return Collections.unmodifiableList(calls);
+    }
+
+    /**
+     * Cancel all the queued and running downloads, the ".part" files are kept for resuming.
+     * 简体中文：取消所有排队中和运行中的下载，".part"文件会被保留用于续传。
+     */
+    public void cancelAll() {
+        List<Call> calls;
+        synchronized (this) {
+            calls = new ArrayList<>(mReadyCalls);
+            calls.addAll(mRunningCalls);
+        }
+        for (Call call : calls) {
+            call.cancel();
+        }
+    }
+
+    public synchronized int getQueuedCount() {
+        return mReadyCalls.size();
+    }
+
+    public synchronized int getRunningCount() {
+        return mRunningCalls.size();
+    }
+
+    private void enqueue(Call call) {
+        synchronized (this) {
+            mReadyCalls.add(call);
+        }
+        promoteAndExecute();
+    }
+
+    private void finished(Call call) {
+        synchronized (this) {
+            mRunningCalls.remove(call);
+            mReadyCalls.remove(call);
+        }
+        promoteAndExecute();
+    }
+
+    private void promoteAndExecute() {
+        List<Call> executableCalls = new ArrayList<>();
+        synchronized (this) {
+            while (mRunningCalls.size() < mMaxConcurrency && !mReadyCalls.isEmpty()) {
+                Call call = mReadyCalls.poll();
+                if (call.isCanceled()) {
+                    continue;
+                }
+                mRunningCalls.add(call);
+                executableCalls.add(call);
+            }
+        }
+        for (Call call : executableCalls) {
+            ThreadUtils.executeByIo(call);
+        }
+    }
+
+    /**
+     * Stream the response into the ".part" file, resuming from its current length.
+     * 简体中文：将响应流式写入".part"文件，从其当前长度处续传。
+     */
+    private File transfer(Call call) throws IOException {
+        File target = call.mTarget;
+        File parent = target.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs() && !parent.exists()) {
+            throw new IOException("Can't create the folder " + parent);
+        }
+        File partFile = new File(target.getPath() + PART_SUFFIX);
+        File validatorFile = new File(target.getPath() + VALIDATOR_SUFFIX);
+        long downloaded = partFile.exists() ? partFile.length() : 0;
+        String validator = downloaded > 0 && validatorFile.exists()
+                ? new String(IoUtils.read(validatorFile), StandardCharsets.UTF_8) : null;
+        if (downloaded > 0 && TextUtils.isEmpty(validator)) {
+            // Nothing tells whether the remote file is still the same, start over.
+            // 简体中文：无法判断远程文件是否仍然相同，重新开始下载。
+            downloaded = 0;
+        }
+        HttpURLConnection conn = (HttpURLConnection) new URL(call.mUrl).openConnection();
+        InputStream inputStream = null;
+        FileOutputStream outputStream = null;
+        byte[] buffer = null;
+        try {
+            conn.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            conn.setReadTimeout(READ_TIMEOUT_MILLIS);
+            if (downloaded > 0) {
+                conn.setRequestProperty("Range", "bytes=" + downloaded + "-");
+                // The server only honors the range if the file still matches the validator,
+                // otherwise it sends the whole new file.
+                // 简体中文：只有文件仍与校验值匹配时服务器才会按范围响应，否则会发送整个新文件。
+                conn.setRequestProperty("If-Range", validator);
+            }
+            int code = conn.getResponseCode();
+            long total;
+            if (code == HttpURLConnection.HTTP_PARTIAL && downloaded > 0
+                    && getRangeStart(conn) == downloaded) {
+                long length = conn.getContentLength();
+                total = length < 0 ? -1 : downloaded + length;
+            } else if (code == HttpURLConnection.HTTP_OK) {
+                // The server ignored the range or the file changed, start over.
+                // 简体中文：服务器忽略了范围请求或文件已变化，重新开始下载。
+                downloaded = 0;
+                total = conn.getContentLength();
+                saveValidator(conn, validatorFile);
+            } else if ((code == 416 || code == HttpURLConnection.HTTP_PARTIAL) && downloaded > 0) {
+                // The range is not satisfiable or not the one asked for, the ".part" file is
+                // stale or already complete, start over to be safe.
+                // 简体中文：请求范围无法满足或不是所请求的范围，".part"文件已过期或已完整，为安全起见重新开始
+                // 下载。
+                conn.disconnect();
+                if (!partFile.delete() || (validatorFile.exists() && !validatorFile.delete())) {
+                    throw new IOException("Can't delete " + partFile);
+                }
+                return transfer(call);
+            } else {
+                throw new IOException("Unexpected response " + code + " " + conn.getResponseMessage()
+                        + " for " + call.mUrl);
+            }
+            inputStream = conn.getInputStream();
+            outputStream = new FileOutputStream(partFile, downloaded > 0);
+            buffer = mBufferPool.acquire();
+            long lastProgressTime = 0;
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                if (call.isCanceled()) {
+                    throw new InterruptedIOException("Canceled.");
+                }
+                outputStream.write(buffer, 0, length);
+                downloaded += length;
+                long now = System.currentTimeMillis();
+                if (now - lastProgressTime >= PROGRESS_INTERVAL_MILLIS) {
+                    lastProgressTime = now;
+                    call.publishProgress(downloaded, total);
+                }
+            }
+            outputStream.getFD().sync();
+            call.publishProgress(downloaded, total);
+        } finally {
+            mBufferPool.release(buffer);
+            IoUtils.close(inputStream, outputStream);
+            conn.disconnect();
+        }
+        if (target.exists() && !target.delete()) {
+            throw new IOException("Can't delete " + target);
+        }
+        if (!partFile.renameTo(target)) {
+            throw new IOException("Can't rename " + partFile + " to " + target);
+        }
+        validatorFile.delete();
+        return target;
+    }
+
+    /**
+     * Keep the strong ETag, or else the Last-Modified of the response, to resume against. A weak
+     * ETag can't be used in If-Range, without a validator the next attempt starts over.
+     * 简体中文：保存响应的强ETag，没有时保存Last-Modified，用于续传。弱ETag不能用于If-Range，没有校验值时下一次
+     * 会重新开始下载。
+     */
+    private static void saveValidator(HttpURLConnection conn, File validatorFile)
+            throws IOException {
+        String validator = conn.getHeaderField("ETag");
+        if (validator == null || validator.startsWith("W/")) {
+            validator = conn.getHeaderField("Last-Modified");
+        }
+        if (validator == null) {
+            if (validatorFile.exists() && !validatorFile.delete()) {
+                throw new IOException("Can't delete " + validatorFile);
+            }
+            return;
+        }
+        IoUtils.write(validator.getBytes(StandardCharsets.UTF_8), validatorFile.getPath());
+    }
+
+    /**
+     * The first byte of a 206 response from its Content-Range "bytes start-end/total", or -1.
+     * 简体中文：从206响应的Content-Range "bytes start-end/total"中获取第一个字节的位置，没有时为-1。
+     */
+    private static long getRangeStart(HttpURLConnection conn) {
+        String range = conn.getHeaderField("Content-Range");
+        if (range == null || !range.startsWith("bytes ")) {
+            return -1;
+        }
+        int end = range.indexOf('-');
+        try {
+            return end < 0 ? -1 : Long.parseLong(range.substring(6, end).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The handle of a download.
+     * 简体中文：一个下载任务的句柄。
+     */
+    public final class Call extends ThreadUtils.Task<File> {
+
+        private final String mUrl;
+        private final File mTarget;
+        private final Callback mCallback;
+        private final AtomicBoolean mFinished = new AtomicBoolean();
+
+        private Call(String url, File target, Callback callback) {
+            mUrl = url;
+            mTarget = target;
+            mCallback = callback;
+        }
+
+        public String getUrl() {
+            return mUrl;
+        }
+
+        public File getTarget() {
+            return mTarget;
+        }
+
+        @Override
+        public File doInBackground() throws Throwable {
+            try {
+                return transfer(this);
+            } finally {
+                finish();
+            }
+        }
+
+        @Override
+        public void onSuccess(File result) {
+            if (mCallback != null) {
+                mCallback.onSuccess(result);
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            if (mCallback != null) {
+                mCallback.onCancel();
+            }
+        }
+
+        @Override
+        public void onFail(Throwable t) {
+            LogUtils.e("Download " + mUrl + " failed, " + t);
+            if (mCallback != null) {
+                mCallback.onFail(t);
+            }
+        }
+
+        @Override
+        protected void onDone() {
+            super.onDone();
+            // Canceled before running, release the slot here.
+            // 简体中文：在运行前被取消，在此释放并发名额。
+            finish();
+        }
+
+        private void finish() {
+            if (mFinished.compareAndSet(false, true)) {
+                finished(this);
+            }
+        }
+
+        private void publishProgress(final long downloaded, final long total) {
+            if (mCallback == null) {
+                return;
+            }
+            ThreadUtils.runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    if (!isCanceled()) {
+                        mCallback.onProgress(downloaded, total);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Reuses the transfer buffers, it keeps at most one buffer per connection.
+     * 简体中文：复用传输缓冲区，每个连接最多保留一个缓冲区。
+     */
+    private static final class BufferPool {
+
+        private final ArrayDeque<byte[]> mBuffers = new ArrayDeque<>();
+        private final int mMaxSize;
+
+        BufferPool(int maxSize) {
+            mMaxSize = maxSize;
+        }
+
+        synchronized byte[] acquire() {
+            byte[] buffer = mBuffers.poll();
+            return buffer != null ? buffer : new byte[BUFFER_SIZE];
+        }
+
+        synchronized void release(byte[] buffer) {
+            if (buffer != null && mBuffers.size() < mMaxSize) {
+                mBuffers.push(buffer);
+            }
+        }
+    }
+
+    public interface Callback {
+
+        /**
+         * @param downloaded The downloaded bytes, including the resumed part.
+         *                   简体中文：已下载的字节数，包括续传的部分
+         * @param total      The total bytes, or -1 if unknown.简体中文：总字节数，未知时为-1
+         */
+        void onProgress(long downloaded, long total);
+
+        void onSuccess(File file);
+
+        void onFail(Throwable t);
+
+        void onCancel();
+    }
+
+    public abstract static class SimpleCallback implements Callback {
+
+        @Override
+        public void onProgress(long downloaded, long total) {
+        }
+
+        @Override
+        public void onFail(Throwable t) {
+        }
+
+        @Override
+        public void onCancel() {
+        }
+    }
+
+    public interface BatchCallback {
+
+        void onFileSuccess(String url, File file);
+
+        void onFileFail(String url, Throwable t);
+
+        /**
+         * @param finished The number of the finished downloads, failed or not.
+         *                 简体中文：已结束的下载数量，无论是否失败
+         */
+        void onProgress(int finished, int total);
+
+        void onComplete(int succeeded, int failed);
+    }
+}
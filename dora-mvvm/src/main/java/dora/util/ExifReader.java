@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.media.ExifInterface;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the EXIF orientation from the header of a JPEG stream, without reading past the EXIF
+ * segment, so the stream can be reset and decoded right after. {@link ExifInterface} can only
+ * read a stream since API 24.
+ * 简体中文：从JPEG流的头部读取EXIF方向，不会读到EXIF段之后，因此随后可以重置流并解码。{@link ExifInterface}
+ * 从API 24起才能读取流。
+ */
+final class ExifReader {
+
+    private static final int MARKER_SOI = 0xD8;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TYPE_SHORT = 3;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    private ExifReader() {
+    }
+
+    /**
+     * Read the orientation of a JPEG stream.
+     * 简体中文：读取JPEG流的方向。
+     *
+     * @return One of the orientations of {@link ExifInterface},
+     * {@link ExifInterface#ORIENTATION_UNDEFINED} if it's not a JPEG stream.
+     * 简体中文：{@link ExifInterface}的方向之一，不是JPEG流时返回{@link ExifInterface#ORIENTATION_UNDEFINED}
+     */
+    static int readOrientation(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+        if (in.read() != 0xFF || in.read() != MARKER_SOI) {
+            return ExifInterface.ORIENTATION_UNDEFINED;
+        }
+        try {
+            while (true) {
+                if (in.readUnsignedByte() != 0xFF) {
+                    return ExifInterface.ORIENTATION_NORMAL;
+                }
+                int marker = in.readUnsignedByte();
+                while (marker == 0xFF) {
+                    marker = in.readUnsignedByte();
+                }
+                if (marker == MARKER_SOS || marker == MARKER_EOI) {
+                    return ExifInterface.ORIENTATION_NORMAL;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return ExifInterface.ORIENTATION_NORMAL;
+                }
+                if (marker == MARKER_APP1 && length > EXIF_HEADER.length) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    if (startsWith(segment, EXIF_HEADER)) {
+                        return parseOrientation(segment, EXIF_HEADER.length);
+                    }
+                } else {
+                    skipFully(in, length);
+                }
+            }
+        } catch (EOFException e) {
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+    }
+
+    /**
+     * Find the orientation in the first IFD of the TIFF structure at the offset.
+     * 简体中文：在偏移处TIFF结构的第一个IFD中查找方向。
+     */
+    private static int parseOrientation(byte[] data, int tiff) {
+        if (data.length < tiff + 8) {
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+        boolean littleEndian;
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (data[tiff] == 'M' && data[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+        long ifd = tiff + readInt(data, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > data.length) {
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+        int count = readShort(data, (int) ifd, littleEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > data.length) {
+                break;
+            }
+            if (readShort(data, entry, littleEndian) == TAG_ORIENTATION
+                    && readShort(data, entry + 2, littleEndian) == TYPE_SHORT) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= ExifInterface.ORIENTATION_NORMAL
+                        && orientation <= ExifInterface.ORIENTATION_ROTATE_270
+                        ? orientation : ExifInterface.ORIENTATION_NORMAL;
+            }
+        }
+        return ExifInterface.ORIENTATION_NORMAL;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? b1 << 8 | b0 : b0 << 8 | b1;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        long low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return high << 16 | low;
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        while (length > 0) {
+            int skipped = in.skipBytes(length);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            length -= skipped;
+        }
+    }
+}
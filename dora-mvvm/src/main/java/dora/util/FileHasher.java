@@ -0,0 +1,449 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Hashes files with several algorithms in one pass, through a large buffer read from a
+ * {@link FileChannel}, and hashes a batch of files concurrently on
+ * {@link ThreadUtils#getIoPool()}. The digests are kept in a persistent cache by path, size and
+ * modification time, so an unchanged file is never hashed again.
+ * 简体中文：一次读取即可用多种算法计算文件的哈希，通过从{@link FileChannel}读取的大缓冲区完成，并在
+ * {@link ThreadUtils#getIoPool()}上并发计算一批文件的哈希。摘要按路径、大小和修改时间保存在持久化缓存中，因此
+ * 未改变的文件不会被再次计算。
+ */
+public final class FileHasher {
+
+    private static final String CACHE_FILE = "dora_file_hashes";
+    private static final String MAGIC = "dora.FileHasher";
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 256 * 1024;
+    /**
+     * The cache file is compacted on load when it holds more stale records than this.
+     * 简体中文：加载时，如果缓存文件中的过期记录多于该值，就会被压缩。
+     */
+    private static final int COMPACT_THRESHOLD = 2000;
+
+    private static volatile FileHasher sInstance;
+
+    private final File mCacheFile;
+    private final Map<String, Entry> mEntries = new HashMap<>();
+    private DataOutputStream mCacheWriter;
+    private boolean mLoaded;
+
+    /**
+     * @param cacheFile The file to persist the digests to, null to not persist them.
+     *                  简体中文：持久化摘要的文件，为null时不持久化
+     */
+    public FileHasher(@Nullable File cacheFile) {
+        this.mCacheFile = cacheFile;
+    }
+
+    public static FileHasher getInstance() {
+        if (sInstance == null) {
+            synchronized (FileHasher.class) {
+                if (sInstance == null) {
+                    sInstance = new FileHasher(new File(GlobalContext.get().getCacheDir(),
+                            CACHE_FILE));
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * The shared instance if it's created, without creating it.
+     * 简体中文：共享实例，如果已创建的话，不会创建它。
+     */
+    @Nullable
+    static FileHasher peekInstance() {
+        return sInstance;
+    }
+
+    /**
+     * Hash a file with the algorithms in one pass, without the cache.
+     * 简体中文：一次读取用这些算法计算文件的哈希，不使用缓存。
+     *
+     * @return The lowercase hex digests.
+     * 简体中文：小写十六进制的摘要
+     */
+    @WorkerThread
+    @NonNull
+    public static Map<Algorithm, String> digest(@NonNull File file,
+                                                @NonNull Algorithm... algorithms)
+            throws IOException {
+        return digest(file, new byte[BUFFER_SIZE], algorithms);
+    }
+
+    /**
+     * Hash a file with the algorithms, the digests of an unchanged file come from the cache.
+     * 简体中文：用这些算法计算文件的哈希，未改变的文件的摘要来自缓存。
+     *
+     * @return The lowercase hex digests.
+     * 简体中文：小写十六进制的摘要
+     */
+    @WorkerThread
+    @NonNull
+    public Map<Algorithm, String> hash(@NonNull File file, @NonNull Algorithm... algorithms)
+            throws IOException {
+        Map<Algorithm, String> digests = hash(file, null, algorithms);
+        flushCache();
+        return digests;
+    }
+
+    /**
+     * Hash the files concurrently on the io pool, the calling thread hashes too.
+     * 简体中文：在IO线程池上并发计算这些文件的哈希，调用线程也会参与计算。
+     *
+     * @return The digests by file, a file that can't be read is absent.
+     * 简体中文：按文件分组的摘要，无法读取的文件不在其中
+     */
+    @WorkerThread
+    @NonNull
+    public Map<File, Map<Algorithm, String>> hashAll(@NonNull Collection<File> files,
+                                                     @NonNull Algorithm... algorithms) {
+        List<File> list = new ArrayList<>(files);
+        int count = list.size();
+        Map<File, Map<Algorithm, String>> results = new ConcurrentHashMap<>();
+        if (count == 0) {
+            return results;
+        }
+        ParallelLoop.run(ThreadUtils.getIoPool(), Runtime.getRuntime().availableProcessors() * 2,
+                count, () -> {
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    return index -> {
+                        File file = list.get((int) index);
+                        try {
+                            results.put(file, hash(file, buffer, algorithms));
+                        } catch (IOException | RuntimeException e) {
+                            LogUtils.w("Can't hash " + file + ": " + e.getMessage());
+                        }
+                    };
+                });
+        flushCache();
+        return results;
+    }
+
+    /**
+     * Forget the cached digests of a file.
+     * 简体中文：忘记某个文件缓存的摘要。
+     */
+    public synchronized void remove(@NonNull File file) {
+        ensureLoaded();
+        if (mEntries.remove(file.getAbsolutePath()) != null) {
+            appendRecord(file.getAbsolutePath(), null);
+            flushCache();
+        }
+    }
+
+    /**
+     * Forget all the cached digests, and delete the cache file.
+     * 简体中文：忘记所有缓存的摘要，并删除缓存文件。
+     */
+    public synchronized void clearCache() {
+        mEntries.clear();
+        mLoaded = true;
+        IoUtils.close(mCacheWriter);
+        mCacheWriter = null;
+        if (mCacheFile != null) {
+            mCacheFile.delete();
+        }
+    }
+
+    /**
+     * Hash a file, the digests that aren't cached are computed into the buffer, or a new one if
+     * it's null.
+     * 简体中文：计算文件的哈希，未缓存的摘要使用该缓冲区计算，为null时使用新的缓冲区。
+     */
+    private Map<Algorithm, String> hash(File file, @Nullable byte[] buffer, Algorithm[] algorithms)
+            throws IOException {
+        String path = file.getAbsolutePath();
+        long size = file.length();
+        long lastModified = file.lastModified();
+        Entry cached;
+        synchronized (this) {
+            ensureLoaded();
+            cached = mEntries.get(path);
+        }
+        EnumMap<Algorithm, String> digests = new EnumMap<>(Algorithm.class);
+        List<Algorithm> missing = new ArrayList<>();
+        boolean fresh = cached != null && cached.mSize == size
+                && cached.mLastModified == lastModified;
+        for (Algorithm algorithm : algorithms) {
+            String digest = fresh ? cached.mDigests.get(algorithm) : null;
+            if (digest != null) {
+                digests.put(algorithm, digest);
+            } else {
+                missing.add(algorithm);
+            }
+        }
+        if (missing.isEmpty()) {
+            return digests;
+        }
+        Map<Algorithm, String> computed = digest(file,
+                buffer != null ? buffer : new byte[BUFFER_SIZE], missing.toArray(new Algorithm[0]));
+        digests.putAll(computed);
+        synchronized (this) {
+            Entry entry = mEntries.get(path);
+            if (entry == null || entry.mSize != size || entry.mLastModified != lastModified) {
+                entry = new Entry(size, lastModified);
+                mEntries.put(path, entry);
+            }
+            entry.mDigests.putAll(computed);
+            appendRecord(path, entry);
+        }
+        return digests;
+    }
+
+    private static Map<Algorithm, String> digest(File file, byte[] buffer,
+                                                 Algorithm[] algorithms) throws IOException {
+        MessageDigest[] digests = new MessageDigest[algorithms.length];
+        CRC32 crc32 = null;
+        for (int i = 0; i < algorithms.length; i++) {
+            if (algorithms[i] == Algorithm.CRC32) {
+                crc32 = new CRC32();
+            } else {
+                try {
+                    digests[i] = MessageDigest.getInstance(algorithms[i].getName());
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        // CRC32 takes a ByteBuffer since API 26 only, so a heap buffer feeds all of them.
+        // 简体中文：CRC32从API 26起才支持ByteBuffer，因此使用堆缓冲区来供给所有算法
+        try (FileInputStream fis = new FileInputStream(file)) {
+            FileChannel channel = fis.getChannel();
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int length;
+            while ((length = channel.read(byteBuffer)) != -1) {
+                for (MessageDigest digest : digests) {
+                    if (digest != null) {
+                        digest.update(buffer, 0, length);
+                    }
+                }
+                if (crc32 != null) {
+                    crc32.update(buffer, 0, length);
+                }
+                byteBuffer.clear();
+            }
+        }
+        EnumMap<Algorithm, String> result = new EnumMap<>(Algorithm.class);
+        for (int i = 0; i < algorithms.length; i++) {
+            if (algorithms[i] == Algorithm.CRC32) {
+                result.put(Algorithm.CRC32, String.format("%08x", crc32.getValue()));
+            } else {
+                result.put(algorithms[i], MathUtils.bs2H(digests[i].digest()));
+            }
+        }
+        return result;
+    }
+
+    private void ensureLoaded() {
+        if (mLoaded) {
+            return;
+        }
+        mLoaded = true;
+        if (mCacheFile == null || !mCacheFile.exists()) {
+            return;
+        }
+        int records = 0;
+        boolean corrupted = false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(mCacheFile)))) {
+            if (!MAGIC.equals(in.readUTF()) || in.readInt() != VERSION) {
+                corrupted = true;
+            } else {
+                while (true) {
+                    String path;
+                    try {
+                        path = in.readUTF();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    records++;
+                    long size = in.readLong();
+                    if (size < 0) {
+                        mEntries.remove(path);
+                        continue;
+                    }
+                    Entry entry = new Entry(size, in.readLong());
+                    int count = in.readUnsignedByte();
+                    for (int i = 0; i < count; i++) {
+                        Algorithm[] values = Algorithm.values();
+                        int ordinal = in.readUnsignedByte();
+                        String digest = in.readUTF();
+                        if (ordinal < values.length) {
+                            entry.mDigests.put(values[ordinal], digest);
+                        }
+                    }
+                    mEntries.put(path, entry);
+                }
+            }
+        } catch (IOException e) {
+            // A record torn by a crash, keep the ones before it.
+            // 简体中文：记录因崩溃而不完整，保留它之前的记录
+            LogUtils.w("Truncated hash cache: " + e.getMessage());
+            corrupted = true;
+        }
+        if (corrupted || records - mEntries.size() > COMPACT_THRESHOLD) {
+            rewriteCache();
+        }
+    }
+
+    /**
+     * Write the live entries to a new cache file, replacing the old one.
+     * 简体中文：将有效条目写入新的缓存文件，替换旧文件。
+     */
+    private void rewriteCache() {
+        File tmpFile = new File(mCacheFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(tmpFile)))) {
+            writeHeader(out);
+            for (Map.Entry<String, Entry> entry : mEntries.entrySet()) {
+                writeRecord(out, entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            LogUtils.w("Can't rewrite the hash cache: " + e.getMessage());
+            tmpFile.delete();
+            mCacheFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(mCacheFile)) {
+            tmpFile.delete();
+            mCacheFile.delete();
+        }
+    }
+
+    /**
+     * Append a record of an entry, or a removal if the entry is null.
+     * 简体中文：追加一条条目记录，条目为null时为删除记录。
+     */
+    private void appendRecord(String path, Entry entry) {
+        if (mCacheFile == null) {
+            return;
+        }
+        try {
+            if (mCacheWriter == null) {
+                boolean exists = mCacheFile.exists() && mCacheFile.length() > 0;
+                mCacheWriter = new DataOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(mCacheFile, true)));
+                if (!exists) {
+                    writeHeader(mCacheWriter);
+                }
+            }
+            writeRecord(mCacheWriter, path, entry);
+        } catch (IOException e) {
+            LogUtils.w("Can't write the hash cache: " + e.getMessage());
+            IoUtils.close(mCacheWriter);
+            mCacheWriter = null;
+        }
+    }
+
+    private synchronized void flushCache() {
+        if (mCacheWriter != null) {
+            try {
+                mCacheWriter.flush();
+            } catch (IOException e) {
+                LogUtils.w("Can't flush the hash cache: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeUTF(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    private static void writeRecord(DataOutputStream out, String path, Entry entry)
+            throws IOException {
+        out.writeUTF(path);
+        if (entry == null) {
+            out.writeLong(-1);
+            return;
+        }
+        out.writeLong(entry.mSize);
+        out.writeLong(entry.mLastModified);
+        out.writeByte(entry.mDigests.size());
+        for (Map.Entry<Algorithm, String> digest : entry.mDigests.entrySet()) {
+            out.writeByte(digest.getKey().ordinal());
+            out.writeUTF(digest.getValue());
+        }
+    }
+
+    public enum Algorithm {
+
+        MD5("MD5"),
+        SHA1("SHA-1"),
+        SHA256("SHA-256"),
+        CRC32("CRC32");
+
+        private final String mName;
+
+        Algorithm(String name) {
+            this.mName = name;
+        }
+
+        /**
+         * The name of the {@link MessageDigest} algorithm.
+         * 简体中文：{@link MessageDigest}算法的名称。
+         */
+        @NonNull
+        public String getName() {
+            return mName;
+        }
+    }
+
+    private static final class Entry {
+
+        final long mSize;
+        final long mLastModified;
+        final Map<Algorithm, String> mDigests =
+                Collections.synchronizedMap(new EnumMap<>(Algorithm.class));
+
+        Entry(long size, long lastModified) {
+            this.mSize = size;
+            this.mLastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Processes a batch of images in parallel: each image is decoded on the io pool, transformed
+ * on the cpu pool, then encoded straight into its destination file on the io pool. At most
+ * {@code maxInFlight} images are in the pipeline at once, the next one is only decoded after
+ * one leaves, so the decoded bitmaps in memory are bounded however large the batch is. The
+ * time, items and bytes of each stage are counted for the throughput.
+ * 简体中文：并行处理一批图像：每张图像在IO线程池中解码，在CPU线程池中变换，然后在IO线程池中直接编码写入目标
+ * 文件。管道中同时最多有{@code maxInFlight}张图像，只有一张离开后才会解码下一张，因此无论批次多大，内存中
+ * 解码出的位图数量都是有界的。每个阶段的耗时、数量和字节数都会被统计，用于计算吞吐量。
+ */
+public final class ImageBatchPipeline {
+
+    private final int mMaxWidth;
+    private final int mMaxHeight;
+    private final Transform mTransform;
+    private final Bitmap.CompressFormat mFormat;
+    private final int mQuality;
+    private final int mMaxInFlight;
+
+    private ImageBatchPipeline(Builder builder) {
+        this.mMaxWidth = builder.mMaxWidth;
+        this.mMaxHeight = builder.mMaxHeight;
+        this.mTransform = builder.mTransform;
+        this.mFormat = builder.mFormat;
+        this.mQuality = builder.mQuality;
+        this.mMaxInFlight = builder.mMaxInFlight;
+    }
+
+    /**
+     * Start processing the jobs, the listener is called on the main thread.
+     * 简体中文：开始处理这些任务，监听器在主线程中调用。
+     */
+    public Batch execute(List<Job> jobs, @Nullable Listener listener) {
+        Batch batch = new Batch(new ArrayList<>(jobs), listener);
+        batch.start();
+        return batch;
+    }
+
+    public enum Stage {
+
+        /**
+         * Read and decode the source, upright and sampled down to the max size.
+         * 简体中文：读取并解码来源，摆正并采样缩小到最大尺寸。
+         */
+        DECODE,
+
+        TRANSFORM,
+
+        /**
+         * Encode into the destination file, the bytes are the written ones.
+         * 简体中文：编码写入目标文件，字节数为写入的字节数。
+         */
+        ENCODE
+    }
+
+    public final class Batch {
+
+        private final List<Job> mJobs;
+        private final Listener mListener;
+        private final Stats[] mStats = new Stats[Stage.values().length];
+        private final AtomicInteger mNextIndex = new AtomicInteger();
+        private final AtomicInteger mInFlightCount = new AtomicInteger();
+        private final AtomicInteger mCompletedCount = new AtomicInteger();
+        private final AtomicInteger mFailedCount = new AtomicInteger();
+        private final AtomicBoolean mDone = new AtomicBoolean();
+        private volatile boolean mCancelled;
+        private long mStartTime;
+        private volatile long mEndTime;
+
+        private Batch(List<Job> jobs, Listener listener) {
+            this.mJobs = jobs;
+            this.mListener = listener;
+            for (int i = 0; i < mStats.length; i++) {
+                mStats[i] = new Stats();
+            }
+        }
+
+        private void start() {
+            mStartTime = System.nanoTime();
+            mInFlightCount.incrementAndGet();
+            for (int i = 0; i < mMaxInFlight; i++) {
+                next();
+            }
+            leave();
+        }
+
+        /**
+         * Decode the next job, unless they're all started or the batch is cancelled.
+         * 简体中文：解码下一个任务，除非所有任务都已开始或批次已取消。
+         */
+        private void next() {
+            if (mCancelled) {
+                return;
+            }
+            final int index = mNextIndex.getAndIncrement();
+            if (index >= mJobs.size()) {
+                return;
+            }
+            mInFlightCount.incrementAndGet();
+            ThreadUtils.getIoPool().execute(() -> decode(mJobs.get(index)));
+        }
+
+        /**
+         * A job leaves the pipeline, the next one enters before the count drops, so it only
+         * drops to zero when no job is left.
+         * 简体中文：一个任务离开管道，下一个任务在计数减少前进入，因此只有没有剩余任务时计数才会降到零。
+         */
+        private void leave() {
+            next();
+            if (mInFlightCount.decrementAndGet() == 0 && mDone.compareAndSet(false, true)) {
+                mEndTime = System.nanoTime();
+                if (mListener != null) {
+                    ThreadUtils.runOnUiThread(() -> mListener.onComplete(this));
+                }
+            }
+        }
+
+        private void decode(Job job) {
+            OwnedBitmap owned = new OwnedBitmap();
+            try {
+                long start = System.nanoTime();
+                owned.mBitmap = ImageUtils.decodeSampledBitmap(job.mSourcePath, mMaxWidth,
+                        mMaxHeight);
+                if (owned.mBitmap == null) {
+                    throw new IOException("Can't decode " + job.mSourcePath);
+                }
+                mStats[Stage.DECODE.ordinal()].add(start, new File(job.mSourcePath).length());
+                runStage(ThreadUtils.getCpuPool(), job, owned, this::transform);
+            } catch (Throwable t) {
+                owned.recycle();
+                fail(job, t);
+            }
+        }
+
+        private void transform(Job job, OwnedBitmap owned) {
+            long start = System.nanoTime();
+            if (mTransform != null) {
+                Bitmap output = mTransform.apply(owned.mBitmap);
+                if (output != owned.mBitmap) {
+                    owned.recycle();
+                    owned.mBitmap = output;
+                }
+            }
+            mStats[Stage.TRANSFORM.ordinal()].add(start, owned.mBitmap.getAllocationByteCount());
+            runStage(ThreadUtils.getIoPool(), job, owned, this::encode);
+        }
+
+        private void encode(Job job, OwnedBitmap owned) throws IOException {
+            long start = System.nanoTime();
+            ImageUtils.save(owned.mBitmap, job.mDestination, mFormat, mQuality);
+            owned.recycle();
+            mStats[Stage.ENCODE.ordinal()].add(start, job.mDestination.length());
+            mCompletedCount.incrementAndGet();
+            notifyProgress();
+            leave();
+        }
+
+        /**
+         * Hand the bitmap of a stage over to the next one, the stage no longer owns it once
+         * the next one is scheduled, and the next one recycles it if it fails.
+         * 简体中文：将一个阶段的位图移交给下一个阶段，下一个阶段被调度后当前阶段就不再拥有它，下一个阶段
+         * 失败时会回收它。
+         */
+        private void runStage(ExecutorService pool, final Job job, OwnedBitmap owned,
+                              final StageTask task) {
+            final OwnedBitmap next = new OwnedBitmap();
+            next.mBitmap = owned.mBitmap;
+            pool.execute(() -> {
+                try {
+                    task.run(job, next);
+                } catch (Throwable t) {
+                    next.recycle();
+                    fail(job, t);
+                }
+            });
+            owned.mBitmap = null;
+        }
+
+        private void fail(final Job job, final Throwable t) {
+            LogUtils.e("Can't process " + job.mSourcePath + ": " + t);
+            mFailedCount.incrementAndGet();
+            if (mListener != null) {
+                ThreadUtils.runOnUiThread(() -> mListener.onFailed(job, t));
+            }
+            notifyProgress();
+            leave();
+        }
+
+        private void notifyProgress() {
+            if (mListener != null) {
+                final int completed = mCompletedCount.get();
+                final int failed = mFailedCount.get();
+                ThreadUtils.runOnUiThread(() -> mListener.onProgress(completed, failed,
+                        mJobs.size()));
+            }
+        }
+
+        /**
+         * Stop decoding more jobs, the ones in the pipeline still finish.
+         * 简体中文：停止解码更多任务，已在管道中的任务仍会完成。
+         */
+        public void cancel() {
+            mCancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        public boolean isDone() {
+            return mDone.get();
+        }
+
+        public int getCompletedCount() {
+            return mCompletedCount.get();
+        }
+
+        public int getFailedCount() {
+            return mFailedCount.get();
+        }
+
+        public Stats getStats(Stage stage) {
+            return mStats[stage.ordinal()];
+        }
+
+        /**
+         * The wall time of the batch so far, in milliseconds.
+         * 简体中文：到目前为止批次的实际耗时，单位毫秒。
+         */
+        public long getElapsedMillis() {
+            long end = mDone.get() ? mEndTime : System.nanoTime();
+            return (end - mStartTime) / 1000000;
+        }
+    }
+
+    /**
+     * The items, bytes and busy time of a stage, summed over the threads running it.
+     * 简体中文：一个阶段的项数、字节数和繁忙时间，为运行它的所有线程之和。
+     */
+    public static final class Stats {
+
+        private final AtomicInteger mCount = new AtomicInteger();
+        private final AtomicLong mBytes = new AtomicLong();
+        private final AtomicLong mTimeNanos = new AtomicLong();
+
+        private void add(long startNanos, long bytes) {
+            mTimeNanos.addAndGet(System.nanoTime() - startNanos);
+            mBytes.addAndGet(bytes);
+            mCount.incrementAndGet();
+        }
+
+        public int getCount() {
+            return mCount.get();
+        }
+
+        public long getBytes() {
+            return mBytes.get();
+        }
+
+        public long getTimeMillis() {
+            return mTimeNanos.get() / 1000000;
+        }
+
+        /**
+         * The items per second of a single thread.
+         * 简体中文：单个线程每秒处理的项数。
+         */
+        public double getItemsPerSecond() {
+            long nanos = mTimeNanos.get();
+            return nanos > 0 ? mCount.get() * 1e9 / nanos : 0;
+        }
+
+        /**
+         * The bytes per second of a single thread.
+         * 简体中文：单个线程每秒处理的字节数。
+         */
+        public double getBytesPerSecond() {
+            long nanos = mTimeNanos.get();
+            return nanos > 0 ? mBytes.get() * 1e9 / nanos : 0;
+        }
+
+        @Override
+        public String toString() {
+            return mCount.get() + " items, " + IoUtils.formatFileSize(mBytes.get()) + " in "
+                    + getTimeMillis() + "ms, " + String.format("%.1f", getItemsPerSecond())
+                    + " items/s, " + IoUtils.formatFileSize(getBytesPerSecond()) + "/s";
+        }
+    }
+
+    public static final class Job {
+
+        private final String mSourcePath;
+        private final File mDestination;
+
+        public Job(String sourcePath, File destination) {
+            this.mSourcePath = sourcePath;
+            this.mDestination = destination;
+        }
+
+        public String getSourcePath() {
+            return mSourcePath;
+        }
+
+        public File getDestination() {
+            return mDestination;
+        }
+    }
+
+    public interface Transform {
+
+        /**
+         * Transform the decoded bitmap, such as {@link ImageUtils#makeRoundBitmap(Bitmap)}.
+         * Return a new bitmap, the input is given back to the {@link BitmapPool}, or the input
+         * itself.
+         * 简体中文：变换解码出的位图，比如{@link ImageUtils#makeRoundBitmap(Bitmap)}。返回新的位图，输入的位图
+         * 会归还到{@link BitmapPool}，或者返回输入本身。
+         */
+        @WorkerThread
+        Bitmap apply(Bitmap bitmap);
+    }
+
+    public interface Listener {
+
+        @MainThread
+        void onProgress(int completed, int failed, int total);
+
+        @MainThread
+        void onFailed(Job job, Throwable t);
+
+        @MainThread
+        void onComplete(Batch batch);
+    }
+
+    private interface StageTask {
+
+        void run(Job job, OwnedBitmap owned) throws Throwable;
+    }
+
+    /**
+     * The bitmap a stage owns, null once it's recycled or handed over to the next stage, so a
+     * failing stage never recycles a bitmap that's already back in the {@link BitmapPool}.
+     * 简体中文：一个阶段拥有的位图，被回收或移交给下一个阶段后为null，因此失败的阶段不会回收已经归还到
+     * {@link BitmapPool}的位图。
+     */
+    private static final class OwnedBitmap {
+
+        private Bitmap mBitmap;
+
+        private void recycle() {
+            if (mBitmap != null) {
+                ImageUtils.recycle(mBitmap);
+                mBitmap = null;
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private int mMaxWidth = Integer.MAX_VALUE;
+        private int mMaxHeight = Integer.MAX_VALUE;
+        private Transform mTransform;
+        private Bitmap.CompressFormat mFormat = Bitmap.CompressFormat.JPEG;
+        private int mQuality = 90;
+        private int mMaxInFlight = Runtime.getRuntime().availableProcessors() + 1;
+
+        /**
+         * Sample the sources down to fit in the size while decoding.
+         * 简体中文：解码时将来源采样缩小到适应该尺寸。
+         */
+        public Builder maxSize(int maxWidth, int maxHeight) {
+            this.mMaxWidth = maxWidth;
+            this.mMaxHeight = maxHeight;
+            return this;
+        }
+
+        public Builder transform(Transform transform) {
+            this.mTransform = transform;
+            return this;
+        }
+
+        public Builder format(Bitmap.CompressFormat format, int quality) {
+            this.mFormat = format;
+            this.mQuality = quality;
+            return this;
+        }
+
+        /**
+         * The max number of images in the pipeline at once, which bounds the bitmaps in memory.
+         * 简体中文：管道中同时存在的最大图像数量，它限制了内存中的位图数量。
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight < 1: " + maxInFlight);
+            }
+            this.mMaxInFlight = maxInFlight;
+            return this;
+        }
+
+        public ImageBatchPipeline build() {
+            return new ImageBatchPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.content.ComponentCallbacks2;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A two-level cache of decoded images: a memory LRU bounded by the byte count of the bitmaps,
+ * backed by a {@link DiskLruCache} of the encoded results of transforms such as thumbnails.
+ * An image is identified by a {@link Key} combining its source and the chain of transforms
+ * applied to it. Loads of the same key in flight at the same time share one load on the io pool
+ * of {@link ThreadUtils}. The cached bitmaps are shared, don't recycle them or give them to the
+ * {@link BitmapPool}.
+ * 简体中文：解码后图像的二级缓存：按位图字节数限制大小的内存LRU，以及存放缩略图等变换结果编码的
+ * {@link DiskLruCache}。图像由组合了其来源和所应用变换链的{@link Key}标识。同一时间进行中的同一键的加载
+ * 共享{@link ThreadUtils}的IO线程池中的一次加载。缓存的位图是共享的，不要回收它们或将它们交给{@link BitmapPool}。
+ */
+public final class ImageCache {
+
+    private static final String DISK_CACHE_NAMESPACE = "images";
+    private static final long DISK_CACHE_SIZE = 64L * 1024 * 1024;
+    private static final int JPEG_QUALITY = 90;
+
+    private static volatile ImageCache sInstance;
+
+    private final LinkedHashMap<Key, Bitmap> mMemoryCache = new LinkedHashMap<>(0, 0.75f, true);
+    private long mMemoryMaxSize;
+    private long mMemorySize;
+    @Nullable
+    private final File mDiskDirectory;
+    /**
+     * The namespace of {@link CacheUtils} of the shared instance, instead of a directory.
+     * 简体中文：共享实例所用的{@link CacheUtils}命名空间，代替目录。
+     */
+    @Nullable
+    private final String mDiskNamespace;
+    private final long mDiskMaxSize;
+    private DiskLruCache mDiskCache;
+    /**
+     * The callbacks of the loads in flight, only touched on the main thread.
+     * 简体中文：进行中的加载的回调，只在主线程中访问。
+     */
+    private final Map<Key, List<Callback>> mInFlightLoads = new HashMap<>();
+
+    public ImageCache(long memoryMaxSize, File diskDirectory, long diskMaxSize) {
+        this(memoryMaxSize, diskDirectory, null, diskMaxSize);
+    }
+
+    private ImageCache(long memoryMaxSize, @Nullable File diskDirectory,
+                       @Nullable String diskNamespace, long diskMaxSize) {
+        this.mMemoryMaxSize = memoryMaxSize;
+        this.mDiskDirectory = diskDirectory;
+        this.mDiskNamespace = diskNamespace;
+        this.mDiskMaxSize = diskMaxSize;
+    }
+
+    public static ImageCache getInstance() {
+        if (sInstance == null) {
+            synchronized (ImageCache.class) {
+                if (sInstance == null) {
+                    sInstance = new ImageCache(Runtime.getRuntime().maxMemory() / 8, null,
+                            DISK_CACHE_NAMESPACE, DISK_CACHE_SIZE);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * Get the image from the memory, or load it on the io pool from the disk or the loader.
+     * The callback is called right away on a memory hit.
+     * 简体中文：从内存中获取图像，或在IO线程池中从磁盘或加载器加载。内存命中时立即调用回调。
+     */
+    @MainThread
+    public void load(final Key key, final Loader loader, Callback callback) {
+        Bitmap bitmap = getFromMemory(key);
+        if (bitmap != null) {
+            callback.onLoaded(key, bitmap);
+            return;
+        }
+        List<Callback> callbacks = mInFlightLoads.get(key);
+        if (callbacks != null) {
+            callbacks.add(callback);
+            return;
+        }
+        callbacks = new ArrayList<>();
+        callbacks.add(callback);
+        mInFlightLoads.put(key, callbacks);
+        ThreadUtils.executeByIo(new ThreadUtils.SimpleTask<Bitmap>() {
+            @Override
+            public Bitmap doInBackground() throws Throwable {
+                return loadFromDiskOrLoader(key, loader);
+            }
+
+            @Override
+            public void onSuccess(Bitmap result) {
+                if (result != null) {
+                    putToMemory(key, result);
+                }
+                for (Callback c : mInFlightLoads.remove(key)) {
+                    c.onLoaded(key, result);
+                }
+            }
+
+            /**
+             * Also called when the load is interrupted, the later loads of the key start over.
+             * 简体中文：加载被中断时也会调用，之后该键的加载会重新开始。
+             */
+            @Override
+            public void onCancel() {
+                super.onCancel();
+                notifyFailed(key, new CancellationException("The load of " + key
+                        + " was cancelled."));
+            }
+
+            @Override
+            public void onFail(Throwable t) {
+                super.onFail(t);
+                notifyFailed(key, t);
+            }
+        });
+    }
+
+    private void notifyFailed(Key key, Throwable t) {
+        List<Callback> callbacks = mInFlightLoads.remove(key);
+        if (callbacks != null) {
+            for (Callback c : callbacks) {
+                c.onFailed(key, t);
+            }
+        }
+    }
+
+    /**
+     * Get the image from the memory, the disk or the loader on the calling thread, the loads in
+     * flight aren't shared.
+     * 简体中文：在调用线程中从内存、磁盘或加载器获取图像，不共享进行中的加载。
+     */
+    @WorkerThread
+    @Nullable
+    public Bitmap get(Key key, Loader loader) throws Exception {
+        Bitmap bitmap = getFromMemory(key);
+        if (bitmap == null) {
+            bitmap = loadFromDiskOrLoader(key, loader);
+            if (bitmap != null) {
+                putToMemory(key, bitmap);
+            }
+        }
+        return bitmap;
+    }
+
+    @Nullable
+    public synchronized Bitmap getFromMemory(Key key) {
+        return mMemoryCache.get(key);
+    }
+
+    public synchronized void putToMemory(Key key, Bitmap bitmap) {
+        int size = bitmap.getAllocationByteCount();
+        if (size > mMemoryMaxSize) {
+            return;
+        }
+        Bitmap previous = mMemoryCache.put(key, bitmap);
+        if (previous != null) {
+            mMemorySize -= previous.getAllocationByteCount();
+        }
+        mMemorySize += size;
+        trimMemoryToSize(mMemoryMaxSize);
+    }
+
+    public synchronized void removeFromMemory(Key key) {
+        Bitmap bitmap = mMemoryCache.remove(key);
+        if (bitmap != null) {
+            mMemorySize -= bitmap.getAllocationByteCount();
+        }
+    }
+
+    /**
+     * Release the memory cache according to the level of
+     * {@link ComponentCallbacks2#onTrimMemory(int)}, the disk cache is kept.
+     * 简体中文：根据{@link ComponentCallbacks2#onTrimMemory(int)}的级别释放内存缓存，保留磁盘缓存。
+     */
+    public synchronized void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            trimMemoryToSize(0);
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            trimMemoryToSize(mMemoryMaxSize / 2);
+        }
+    }
+
+    public synchronized void setMemoryMaxSize(long maxSize) {
+        this.mMemoryMaxSize = maxSize;
+        trimMemoryToSize(maxSize);
+    }
+
+    public synchronized long getMemorySize() {
+        return mMemorySize;
+    }
+
+    /**
+     * Clear the memory and the disk cache.
+     * 简体中文：清除内存和磁盘缓存。
+     */
+    @WorkerThread
+    public void clear() throws IOException {
+        synchronized (this) {
+            trimMemoryToSize(0);
+        }
+        DiskLruCache diskCache = getDiskCache();
+        if (diskCache != null) {
+            diskCache.trimToSize(0);
+        }
+    }
+
+    private void trimMemoryToSize(long maxSize) {
+        Iterator<Bitmap> iterator = mMemoryCache.values().iterator();
+        while (mMemorySize > maxSize && iterator.hasNext()) {
+            // Not recycled, it may still be shown.
+            // 简体中文：不回收，它可能仍在显示。
+            mMemorySize -= iterator.next().getAllocationByteCount();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The images without transforms are decoded from their sources as fast as from the disk,
+     * only the transformed ones are written to the disk.
+     * 简体中文：没有变换的图像从来源解码与从磁盘解码一样快，只有变换后的图像才会写入磁盘。
+     */
+    private Bitmap loadFromDiskOrLoader(Key key, Loader loader) throws Exception {
+        DiskLruCache diskCache = key.hasTransforms() ? getDiskCache() : null;
+        if (diskCache != null) {
+            Bitmap bitmap = getFromDisk(diskCache, key);
+            if (bitmap != null) {
+                return bitmap;
+            }
+        }
+        Bitmap bitmap = loader.load();
+        if (bitmap != null && diskCache != null) {
+            putToDisk(diskCache, key, bitmap);
+        }
+        return bitmap;
+    }
+
+    private Bitmap getFromDisk(DiskLruCache diskCache, Key key) {
+        try {
+            final File file = diskCache.get(key.getDiskKey());
+            if (file == null) {
+                return null;
+            }
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(file.getPath(), options);
+            return BitmapPool.getInstance().decode(options,
+                    o -> BitmapFactory.decodeFile(file.getPath(), o));
+        } catch (IOException e) {
+            LogUtils.e("Can't read " + key + " from the disk cache: " + e);
+            return null;
+        }
+    }
+
+    private void putToDisk(DiskLruCache diskCache, Key key, Bitmap bitmap) {
+        DiskLruCache.Editor editor = null;
+        try {
+            editor = diskCache.edit(key.getDiskKey());
+            if (editor == null) {
+                return;
+            }
+            OutputStream os = new BufferedOutputStream(editor.newOutputStream());
+            try {
+                // The transforms of ImageUtils mark their outputs opaque when drawn from an
+                // opaque source, those are encoded as the smaller JPEG.
+                // 简体中文：ImageUtils的变换在从不透明的来源绘制时会将输出标记为不透明，它们会被编码为更小的JPEG。
+                if (bitmap.hasAlpha()) {
+                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, os);
+                } else {
+                    bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, os);
+                }
+            } finally {
+                os.close();
+            }
+            editor.commit();
+        } catch (IOException e) {
+            LogUtils.e("Can't write " + key + " to the disk cache: " + e);
+        } finally {
+            if (editor != null) {
+                editor.abortUnlessCommitted();
+            }
+        }
+    }
+
+    /**
+     * Opened on the first use, so it's never opened on the main thread. The namespace of the
+     * shared instance is bounded by the disk cache budget of {@link CacheUtils}, and reopened
+     * after {@link CacheUtils#clearAllCaches(android.content.Context)}.
+     * 简体中文：在首次使用时打开，这样就不会在主线程中打开。共享实例的命名空间受{@link CacheUtils}磁盘缓存预算
+     * 的限制，并会在{@link CacheUtils#clearAllCaches(android.content.Context)}之后重新打开。
+     */
+    private synchronized DiskLruCache getDiskCache() {
+        if (mDiskNamespace != null) {
+            try {
+                return CacheUtils.getDiskCache(mDiskNamespace, mDiskMaxSize);
+            } catch (IOException e) {
+                LogUtils.e("Can't open the disk cache " + mDiskNamespace + ": " + e);
+                return null;
+            }
+        }
+        if (mDiskCache == null || mDiskCache.isClosed()) {
+            try {
+                mDiskCache = DiskLruCache.open(mDiskDirectory, mDiskMaxSize);
+            } catch (IOException e) {
+                LogUtils.e("Can't open the disk cache " + mDiskDirectory + ": " + e);
+            }
+        }
+        return mDiskCache;
+    }
+
+    /**
+     * Identifies an image by its source and the transforms applied to it, in order. The keys
+     * are cheap to create and compare on the main thread, the work that touches the source,
+     * such as hashing the data or reading the file attributes, is deferred to the disk key,
+     * which is only used on the io pool.
+     * 简体中文：通过来源和按顺序应用于其上的变换来标识一张图像。键在主线程中创建和比较的开销很小，
+     * 涉及来源的工作，比如计算数据的摘要或读取文件属性，被推迟到只在IO线程池中使用的磁盘键中。
+     */
+    public static final class Key {
+
+        private final String mValue;
+        private final boolean mTransformed;
+        /**
+         * The encoded image data of {@link #ofData(String)}, compared by reference first.
+         * 简体中文：{@link #ofData(String)}的编码图像数据，先按引用比较。
+         */
+        @Nullable
+        private final String mData;
+        /**
+         * The file of {@link #ofFile(String)}, its attributes are only read for the disk key.
+         * 简体中文：{@link #ofFile(String)}的文件，只在计算磁盘键时读取其属性。
+         */
+        @Nullable
+        private final File mFile;
+        private String mDiskKey;
+
+        private Key(String value, boolean transformed, @Nullable String data,
+                    @Nullable File file) {
+            this.mValue = value;
+            this.mTransformed = transformed;
+            this.mData = data;
+            this.mFile = file;
+        }
+
+        /**
+         * A source identified by a string, such as a uri or an id.
+         * 简体中文：由字符串标识的来源，比如uri或者id。
+         */
+        public static Key of(String source) {
+            return new Key(source, false, null, null);
+        }
+
+        /**
+         * A file identified by its path. Its length and last modified time are part of the disk
+         * key, so a changed file misses the disk cache, remove the key from the memory with
+         * {@link ImageCache#removeFromMemory(Key)} after changing the file in place.
+         * 简体中文：由路径标识的文件。其长度和最后修改时间是磁盘键的一部分，因此文件改变后磁盘缓存不会命中，
+         * 原地修改文件后请通过{@link ImageCache#removeFromMemory(Key)}将该键从内存中移除。
+         */
+        public static Key ofFile(String path) {
+            return new Key("file:" + path, false, null, new File(path));
+        }
+
+        public static Key ofAsset(String assetPath) {
+            return new Key("asset:" + assetPath, false, null, null);
+        }
+
+        /**
+         * Encoded image data, identified by the data itself. The digest of the data is only
+         * computed for the disk key.
+         * 简体中文：编码的图像数据，由数据本身标识。只在计算磁盘键时计算数据的摘要。
+         */
+        public static Key ofData(String data) {
+            return new Key("data:" + data.length() + ':' + data.hashCode(), false, data, null);
+        }
+
+        /**
+         * The key of the image after applying a transform to this one.
+         * 简体中文：对当前图像应用一个变换之后的图像的键。
+         *
+         * @param name The name of the transform.简体中文：变换的名称
+         * @param args The arguments of the transform.简体中文：变换的参数
+         */
+        public Key transform(String name, Object... args) {
+            StringBuilder sb = new StringBuilder(mValue).append('|').append(name).append('(');
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(args[i]);
+            }
+            return new Key(sb.append(')').toString(), true, mData, mFile);
+        }
+
+        public boolean hasTransforms() {
+            return mTransformed;
+        }
+
+        @WorkerThread
+        String getDiskKey() {
+            if (mDiskKey == null) {
+                String value = mValue;
+                if (mData != null) {
+                    value += ':' + CryptoUtils.encryptMD5(mData);
+                }
+                if (mFile != null) {
+                    value += ":" + mFile.length() + ':' + mFile.lastModified();
+                }
+                mDiskKey = CryptoUtils.encryptMD5(value);
+            }
+            return mDiskKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return mValue.equals(key.mValue)
+                    && (mData == key.mData || mData != null && mData.equals(key.mData));
+        }
+
+        @Override
+        public int hashCode() {
+            return mValue.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return mValue;
+        }
+    }
+
+    public interface Loader {
+
+        /**
+         * Load the image on a worker thread when it's not cached.
+         * 简体中文：图像未缓存时在工作线程中加载。
+         */
+        @WorkerThread
+        @Nullable
+        Bitmap load() throws Exception;
+    }
+
+    public interface Callback {
+
+        /**
+         * Called on the main thread, don't recycle the bitmap.
+         * 简体中文：在主线程中调用，不要回收该位图。
+         *
+         * @param bitmap Null if the loader returned null.简体中文：加载器返回null时为null
+         */
+        void onLoaded(Key key, @Nullable Bitmap bitmap);
+
+        void onFailed(Key key, Throwable t);
+    }
+}
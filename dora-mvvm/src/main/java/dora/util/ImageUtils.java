@@ -39,7 +39,6 @@ import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.NinePatchDrawable;
 import android.media.ExifInterface;
-import android.media.ThumbnailUtils;
 import android.net.Uri;
 import android.provider.MediaStore;
 import android.util.DisplayMetrics;
@@ -49,12 +48,16 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.DrawableRes;
 import androidx.core.content.ContextCompat;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * Image processing related tools.
@@ -64,6 +67,12 @@ public final class ImageUtils {
 
     private static final float DEFAULT_TEXT_SIZE = 36f;
     private static final boolean DEFAULT_BOLD = false;
+    /**
+     * How far a stream can be reset to, only the EXIF and the bounds are read within it, so the
+     * buffer grows past its initial size only for unusually large headers.
+     * 简体中文：流可以重置回的范围，只有EXIF和尺寸在其中读取，因此只有头部异常大时缓冲区才会超过其初始大小。
+     */
+    private static final int HEADER_MARK_LIMIT = 1024 * 1024;
 
     private ImageUtils() {
     }
@@ -114,9 +123,13 @@ public final class ImageUtils {
         return BitmapFactory.decodeResource(context.getResources(), resId);
     }
 
-    public static Bitmap createBitmap(byte[] bytes) {
+    public static Bitmap createBitmap(final byte[] bytes) {
         if (bytes != null && bytes.length != 0) {
-            return BitmapFactory.decodeByteArray(bytes, 0, bytes.length);
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray(bytes, 0, bytes.length, options);
+            return BitmapPool.getInstance().decode(options,
+                    o -> BitmapFactory.decodeByteArray(bytes, 0, bytes.length, o));
         } else {
             return null;
         }
@@ -159,8 +172,16 @@ public final class ImageUtils {
         } else if (base64Img.contains("data:image/png;base64,")) {
             base64Img = base64Img.replace("data:image/png;base64,", "");
         }
-        byte[] imgBytes = CryptoUtils.base64Decode(base64Img);
-        return BitmapFactory.decodeByteArray(imgBytes, 0, imgBytes.length);
+        return createBitmap(CryptoUtils.base64Decode(base64Img));
+    }
+
+    /**
+     * Create the bitmap through the {@link ImageCache}, on the io pool unless it's cached.
+     * 简体中文：通过{@link ImageCache}创建位图，未缓存时在IO线程池中创建。
+     */
+    public static void createBitmap(final String base64Img, ImageCache.Callback callback) {
+        ImageCache.getInstance().load(ImageCache.Key.ofData(base64Img),
+                () -> createBitmap(base64Img), callback);
     }
 
     public static Bitmap createTextBitmap(String text, int width, int height, @ColorInt int bgColor) {
@@ -214,11 +235,15 @@ public final class ImageUtils {
         canvas.drawText(text, x, y, paint);
     }
 
+    /**
+     * Give a bitmap that is no longer used to the {@link BitmapPool}, so the next decode or
+     * transform can reuse it, or recycle it if it can't be pooled.
+     * 简体中文：将不再使用的位图交给{@link BitmapPool}，以便下一次解码或变换复用它，无法放入池中时则回收它。
+     */
     public static void recycle(Bitmap bitmap) {
-        if (bitmap != null && !bitmap.isRecycled()) {
+        if (bitmap != null && !bitmap.isRecycled() && !BitmapPool.getInstance().put(bitmap)) {
             bitmap.recycle();
         }
-        System.gc();
     }
 
     // </editor-folder>
@@ -302,6 +327,39 @@ public final class ImageUtils {
         saveAsPng(bitmap, path, 100);
     }
 
+    /**
+     * Encode the bitmap straight into the file through a buffer, without holding the encoded
+     * image in memory. It's written to a temporary file first and renamed, so the file is
+     * never left partially written.
+     * 简体中文：通过缓冲区将位图直接编码写入文件，不在内存中保存编码后的图像。先写入临时文件再重命名，因此文件
+     * 不会处于部分写入的状态。
+     */
+    public static void save(Bitmap bitmap, File file, Bitmap.CompressFormat format, int quality)
+            throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        OutputStream os = new BufferedOutputStream(new FileOutputStream(temp), 64 * 1024);
+        boolean saved = false;
+        try {
+            if (!bitmap.compress(format, quality, os)) {
+                throw new IOException("Can't encode " + file);
+            }
+            os.close();
+            if (!temp.renameTo(file)) {
+                throw new IOException("Can't rename " + temp + " to " + file);
+            }
+            saved = true;
+        } finally {
+            if (!saved) {
+                IoUtils.close(os);
+                temp.delete();
+            }
+        }
+    }
+
     /**
      * Load thumbnail.
      * 简体中文：加载缩略图。
@@ -311,22 +369,25 @@ public final class ImageUtils {
      * @param height Height to load
      */
     public static Bitmap loadImageThumbnail(String imagePath, int width, int height) {
-        BitmapFactory.Options options = new BitmapFactory.Options();
-        options.inJustDecodeBounds = true;
-        options.inJustDecodeBounds = false;
-        int outWidth = options.outWidth;
-        int outHeight = options.outHeight;
-        int w = outWidth / width;
-        int h = outHeight / height;
-        int inSampleSize = java.lang.Math.min(w, h);
-        if (inSampleSize <= 0) {
-            inSampleSize = 1;
-        }
-        options.inSampleSize = inSampleSize;
-        Bitmap bitmap = BitmapFactory.decodeFile(imagePath, options);
-        bitmap = ThumbnailUtils.extractThumbnail(bitmap, width, height,
-                ThumbnailUtils.OPTIONS_RECYCLE_INPUT);
-        return bitmap;
+        return decodeOrientedBitmap(imagePath, width, height, true);
+    }
+
+    /**
+     * Load the thumbnail through the {@link ImageCache}, on the io pool unless it's cached in
+     * the memory. The thumbnails are also cached on the disk.
+     * 简体中文：通过{@link ImageCache}加载缩略图，未缓存在内存中时在IO线程池中加载。缩略图也会缓存在磁盘上。
+     */
+    public static void loadImageThumbnail(final String imagePath, final int width,
+                                          final int height, ImageCache.Callback callback) {
+        ImageCache.getInstance().load(
+                ImageCache.Key.ofFile(imagePath).transform("thumbnail", width, height),
+                () -> loadImageThumbnail(imagePath, width, height), callback);
+    }
+
+    public static void loadAssetBitmap(final Context context, final String assetPath,
+                                       ImageCache.Callback callback) {
+        ImageCache.getInstance().load(ImageCache.Key.ofAsset(assetPath),
+                () -> loadAssetBitmap(context, assetPath), callback);
     }
 
     public static Bitmap loadAssetBitmap(String assetPath) {
@@ -361,8 +422,14 @@ public final class ImageUtils {
 
     // <editor-folder desc="Image processing or transformation">
 
+    /**
+     * The transforms below draw into a bitmap from the {@link BitmapPool}, give the input back
+     * by {@link #recycle(Bitmap)} once it's no longer used.
+     * 简体中文：以下变换绘制到来自{@link BitmapPool}的位图中，输入的位图不再使用时通过{@link #recycle(Bitmap)}
+     * 归还。
+     */
     public static Bitmap scaleBitmap(Bitmap bitmap, int requiredWidth, int requiredHeight) {
-        return Bitmap.createScaledBitmap(bitmap, requiredWidth, requiredHeight, true);
+        return zoomBitmap(bitmap, requiredWidth, requiredHeight);
     }
 
     public static Bitmap zoomBitmap(Bitmap bitmap, int requiredWidth, int requiredHeight) {
@@ -372,14 +439,24 @@ public final class ImageUtils {
         float scaleHeight = ((float) requiredHeight) / height;
         Matrix matrix = new Matrix();
         matrix.postScale(scaleWidth, scaleHeight);
-        return Bitmap.createBitmap(bitmap, 0, 0, width, height, matrix, true);
+        Bitmap outputBitmap = BitmapPool.getInstance().get(requiredWidth, requiredHeight,
+                bitmap.getConfig());
+        drawBitmap(outputBitmap, bitmap, matrix, true);
+        return outputBitmap;
     }
 
     public static Bitmap rotateBitmap(int angle, Bitmap bitmap) {
         Matrix matrix = new Matrix();
         matrix.postRotate(angle);
-        Bitmap outputBitmap = Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(),
-                bitmap.getHeight(), matrix, true);
+        RectF bounds = new RectF(0, 0, bitmap.getWidth(), bitmap.getHeight());
+        matrix.mapRect(bounds);
+        matrix.postTranslate(-bounds.left, -bounds.top);
+        // The corners out of a rotation other than right angles are transparent.
+        // 简体中文：非直角旋转后的角落是透明的。
+        Bitmap outputBitmap = BitmapPool.getInstance().get(java.lang.Math.round(bounds.width()),
+                java.lang.Math.round(bounds.height()),
+                angle % 90 == 0 ? bitmap.getConfig() : Bitmap.Config.ARGB_8888);
+        drawBitmap(outputBitmap, bitmap, matrix, angle % 90 == 0);
         return outputBitmap;
     }
 
@@ -391,17 +468,19 @@ public final class ImageUtils {
         int reflectionGap = 4;
         int width = bitmap.getWidth();
         int height = bitmap.getHeight();
+        // Flip the whole bitmap below the gap, the upper half of it falls outside and is clipped,
+        // instead of creating the flipped lower half as another bitmap.
+        // 简体中文：将整个位图翻转到间隔下方，其上半部分落在外面被裁掉，而不是另外创建一个翻转的下半部分位图。
         Matrix matrix = new Matrix();
         matrix.preScale(1, -1);
-        Bitmap reflectionImage = Bitmap.createBitmap(bitmap, 0, height / 2, width, height / 2, matrix,
-                false);
-        Bitmap bitmapWithReflection = Bitmap.createBitmap(width, (height + height / 2),
+        matrix.postTranslate(0, 2 * height + reflectionGap);
+        Bitmap bitmapWithReflection = BitmapPool.getInstance().get(width, (height + height / 2),
                 Bitmap.Config.ARGB_8888);
         Paint defaultPaint = new Paint();
         Canvas canvas = new Canvas(bitmapWithReflection);
         canvas.drawBitmap(bitmap, 0, 0, null);
         canvas.drawRect(0, height, width, height + reflectionGap, defaultPaint);
-        canvas.drawBitmap(reflectionImage, 0, height + reflectionGap, null);
+        canvas.drawBitmap(bitmap, matrix, null);
         Paint paint = new Paint();
         LinearGradient shader = new LinearGradient(0, bitmap.getHeight(), 0,
                 bitmapWithReflection.getHeight() + reflectionGap, 0x70FFFFFF, 0x00FFFFFF,
@@ -417,8 +496,8 @@ public final class ImageUtils {
      * 简体中文：制作黑白位图。
      */
     public static Bitmap makeBlackBitmap(Bitmap bitmap) {
-        Bitmap outputBitmap = Bitmap.createBitmap(bitmap.getWidth(), bitmap.getHeight(),
-                Bitmap.Config.RGB_565);
+        Bitmap outputBitmap = BitmapPool.getInstance().getDirty(bitmap.getWidth(),
+                bitmap.getHeight(), Bitmap.Config.RGB_565);
         Canvas canvas = new Canvas(outputBitmap);
         Paint paint = new Paint();
         ColorMatrix matrix = new ColorMatrix();
@@ -455,7 +534,7 @@ public final class ImageUtils {
             dstRight = height;
             dstBottom = height;
         }
-        Bitmap outputBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Bitmap outputBitmap = BitmapPool.getInstance().get(width, height, Bitmap.Config.ARGB_8888);
         Canvas canvas = new Canvas(outputBitmap);
         Paint paint = new Paint();
         Rect src = new Rect((int) left, (int) top, (int) right, (int) bottom);
@@ -474,7 +553,7 @@ public final class ImageUtils {
      * 简体中文：将位图裁剪成圆角矩形。
      */
     public static Bitmap makeRoundCornerBitmap(Bitmap bitmap, int pixels, int bgColor) {
-        Bitmap outputBitmap = Bitmap.createBitmap(bitmap.getWidth(),
+        Bitmap outputBitmap = BitmapPool.getInstance().get(bitmap.getWidth(),
                 bitmap.getHeight(), Bitmap.Config.ARGB_8888);
         Canvas canvas = new Canvas(outputBitmap);
         Paint paint = new Paint();
@@ -490,30 +569,236 @@ public final class ImageUtils {
         return outputBitmap;
     }
 
+    /**
+     * Turn a decoded bitmap upright and scale it to the required size with one draw into a
+     * pooled bitmap, the decoded bitmap is given back to the pool.
+     * 简体中文：通过一次绘制到池中位图的操作，将解码出的位图摆正并缩放到所需尺寸，解码出的位图会归还到池中。
+     *
+     * @param crop Scale to cover the size and crop the center, or scale to fit in the size.
+     *             简体中文：缩放至铺满该尺寸并裁剪中间部分，或者缩放至适应该尺寸
+     */
+    private static Bitmap orientBitmap(Bitmap bitmap, int orientation, int requiredWidth,
+                                       int requiredHeight, boolean crop) {
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        boolean transposed = orientation >= ExifInterface.ORIENTATION_TRANSPOSE;
+        int orientedWidth = transposed ? height : width;
+        int orientedHeight = transposed ? width : height;
+        float scale = getTargetScale(orientedWidth, orientedHeight, requiredWidth,
+                requiredHeight, crop);
+        int outputWidth = crop && requiredWidth > 0 ? requiredWidth
+                : java.lang.Math.max(1, java.lang.Math.round(orientedWidth * scale));
+        int outputHeight = crop && requiredHeight > 0 ? requiredHeight
+                : java.lang.Math.max(1, java.lang.Math.round(orientedHeight * scale));
+        if (orientation <= ExifInterface.ORIENTATION_NORMAL && outputWidth == width
+                && outputHeight == height) {
+            return bitmap;
+        }
+        Matrix matrix = new Matrix();
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+                matrix.setScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                matrix.setRotate(180);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                matrix.setScale(1, -1);
+                break;
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                matrix.setRotate(90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                matrix.setRotate(90);
+                break;
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                matrix.setRotate(-90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                matrix.setRotate(-90);
+                break;
+        }
+        RectF bounds = new RectF(0, 0, width, height);
+        matrix.mapRect(bounds);
+        matrix.postTranslate(-bounds.left, -bounds.top);
+        matrix.postScale(scale, scale);
+        if (crop) {
+            matrix.postTranslate((requiredWidth - orientedWidth * scale) / 2,
+                    (requiredHeight - orientedHeight * scale) / 2);
+        }
+        Bitmap outputBitmap = BitmapPool.getInstance().get(outputWidth, outputHeight,
+                bitmap.getConfig());
+        drawBitmap(outputBitmap, bitmap, matrix, true);
+        recycle(bitmap);
+        return outputBitmap;
+    }
+
+    /**
+     * Draw the bitmap into the output, which is opaque when the bitmap is opaque and covers it,
+     * so it's encoded as a JPEG rather than a PNG. The pooled outputs are marked as having
+     * alpha when obtained.
+     * 简体中文：将位图绘制到输出位图中，当位图不透明且覆盖了整个输出时，输出也是不透明的，因此会被编码为JPEG而不是
+     * PNG。池中取出的输出位图在获取时会被标记为有透明度。
+     *
+     * @param covers Whether the drawn bitmap covers the whole output.简体中文：绘制的位图是否覆盖了整个输出
+     */
+    private static void drawBitmap(Bitmap outputBitmap, Bitmap bitmap, Matrix matrix,
+                                   boolean covers) {
+        Canvas canvas = new Canvas(outputBitmap);
+        canvas.drawBitmap(bitmap, matrix,
+                new Paint(Paint.FILTER_BITMAP_FLAG | Paint.ANTI_ALIAS_FLAG));
+        canvas.setBitmap(null);
+        if (covers && !bitmap.hasAlpha()) {
+            outputBitmap.setHasAlpha(false);
+        }
+    }
+
     // </editor-folder>
 
     private static int calculateInSampleSize(BitmapFactory.Options options, int requiredWidth,
                                              int requiredHeight) {
         int width = options.outWidth;
         int height = options.outHeight;
-        int inSampleSize = 1;
-        if (height > requiredHeight || width > requiredWidth) {
-            int widthRatio = java.lang.Math.round((float) width / (float) requiredWidth);
-            int heightRatio = java.lang.Math.round((float) height / (float) requiredHeight);
-            inSampleSize = heightRatio < widthRatio ? heightRatio : widthRatio;
-        }
-        return inSampleSize;
-    }
-
-    public static Bitmap decodeSampledBitmap(Resources res, int resId, int requiredWidth,
-                                             int requiredHeight) {
+        // A required size of 0 or less leaves that dimension unbounded.
+        // 简体中文：所需尺寸为0或更小时，该维度不受限制。
+        int widthRatio = requiredWidth > 0
+                ? java.lang.Math.round((float) width / (float) requiredWidth) : 0;
+        int heightRatio = requiredHeight > 0
+                ? java.lang.Math.round((float) height / (float) requiredHeight) : 0;
+        int inSampleSize = requiredWidth > 0 && requiredHeight > 0
+                ? java.lang.Math.min(widthRatio, heightRatio)
+                : java.lang.Math.max(widthRatio, heightRatio);
+        return java.lang.Math.max(1, inSampleSize);
+    }
+
+    public static Bitmap decodeSampledBitmap(final Resources res, final int resId,
+                                             int requiredWidth, int requiredHeight) {
         BitmapFactory.Options options = new BitmapFactory.Options();
         options.inJustDecodeBounds = true;
         BitmapFactory.decodeResource(res, resId, options);
         options.inSampleSize = calculateInSampleSize(options, requiredWidth,
                 requiredHeight);
-        options.inJustDecodeBounds = false;
-        return BitmapFactory.decodeResource(res, resId, options);
+        return BitmapPool.getInstance().decode(options,
+                o -> BitmapFactory.decodeResource(res, resId, o));
+    }
+
+    /**
+     * Decode an image file to fit in the required size, turned upright by its EXIF orientation.
+     * The orientation and the bounds are read from the header in the same buffered pass, the
+     * image is decoded once with a power-of-two {@code inSampleSize}, then rotated and scaled
+     * with a single draw into a pooled bitmap. A required size of 0 or less leaves that
+     * dimension unbounded.
+     * 简体中文：解码图像文件以适应所需尺寸，并根据其EXIF方向摆正。方向和尺寸在同一次缓冲读取中从头部读取，
+     * 图像以2的幂的{@code inSampleSize}只解码一次，然后通过一次绘制到池中位图的操作完成旋转和缩放。
+     * 所需尺寸为0或更小时，该维度不受限制。
+     */
+    public static Bitmap decodeSampledBitmap(String path, int requiredWidth, int requiredHeight) {
+        return decodeOrientedBitmap(path, requiredWidth, requiredHeight, false);
+    }
+
+    /**
+     * Same as {@link #decodeSampledBitmap(String, int, int)} for a stream, which is not closed.
+     * As a stream can't be read twice, it's decoded into a new bitmap rather than a pooled one.
+     * 简体中文：与{@link #decodeSampledBitmap(String, int, int)}相同，用于流，流不会被关闭。由于流无法读取两次，
+     * 它会被解码到新的位图而不是池中的位图。
+     */
+    public static Bitmap decodeSampledBitmap(InputStream is, int requiredWidth,
+                                             int requiredHeight) {
+        try {
+            return decodeOrientedBitmap(is, null, requiredWidth, requiredHeight, false);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static Bitmap decodeOrientedBitmap(String path, int requiredWidth,
+                                               int requiredHeight, boolean crop) {
+        InputStream is = null;
+        try {
+            is = new FileInputStream(path);
+            return decodeOrientedBitmap(is, path, requiredWidth, requiredHeight, crop);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            IoUtils.close(is);
+        }
+    }
+
+    private static Bitmap decodeOrientedBitmap(InputStream source, String path,
+                                               int requiredWidth, int requiredHeight,
+                                               boolean crop) throws IOException {
+        final BufferedInputStream is = new BufferedInputStream(source, 64 * 1024);
+        is.mark(HEADER_MARK_LIMIT);
+        int orientation = ExifReader.readOrientation(is);
+        is.reset();
+        if (orientation == ExifInterface.ORIENTATION_UNDEFINED && path != null) {
+            // Not a JPEG, such as a HEIF, which only ExifInterface can read.
+            // 简体中文：不是JPEG，比如HEIF，只有ExifInterface能读取。
+            orientation = new ExifInterface(path).getAttributeInt(ExifInterface.TAG_ORIENTATION,
+                    ExifInterface.ORIENTATION_NORMAL);
+        }
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeStream(is, null, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+        boolean transposed = orientation >= ExifInterface.ORIENTATION_TRANSPOSE;
+        float scale = getTargetScale(transposed ? options.outHeight : options.outWidth,
+                transposed ? options.outWidth : options.outHeight, requiredWidth,
+                requiredHeight, crop);
+        // Never sample below one pixel, which also bounds the loop.
+        // 简体中文：采样结果不小于一个像素，这同时也限定了循环的次数。
+        int maxInSampleSize = java.lang.Math.max(options.outWidth, options.outHeight);
+        int inSampleSize = 1;
+        while (inSampleSize * 2 <= maxInSampleSize && scale * inSampleSize * 2 <= 1) {
+            inSampleSize *= 2;
+        }
+        options.inSampleSize = inSampleSize;
+        Bitmap bitmap;
+        if (path != null) {
+            // The file is reopened for the decode and its retry, rather than buffering all of it.
+            // 简体中文：解码及其重试时重新打开文件，而不是缓冲整个文件。
+            bitmap = BitmapPool.getInstance().decode(options,
+                    o -> BitmapFactory.decodeFile(path, o));
+        } else {
+            // A stream can't be read again past the header, so it's decoded once, without a
+            // pooled bitmap that may fail to be reused.
+            // 简体中文：流在头部之后无法再次读取，因此只解码一次，不使用可能无法复用的池中位图。
+            is.reset();
+            options.inJustDecodeBounds = false;
+            bitmap = BitmapFactory.decodeStream(is, null, options);
+        }
+        if (bitmap == null) {
+            return null;
+        }
+        return orientBitmap(bitmap, orientation, requiredWidth, requiredHeight, crop);
+    }
+
+    /**
+     * A required size of 0 or less leaves that dimension unbounded.
+     * 简体中文：所需尺寸为0或更小时，该维度不受限制。
+     */
+    private static float getTargetScale(int width, int height, int requiredWidth,
+                                        int requiredHeight, boolean crop) {
+        float scale;
+        if (requiredWidth <= 0 && requiredHeight <= 0) {
+            return 1;
+        } else if (requiredWidth <= 0) {
+            scale = (float) requiredHeight / height;
+        } else if (requiredHeight <= 0) {
+            scale = (float) requiredWidth / width;
+        } else {
+            float widthScale = (float) requiredWidth / width;
+            float heightScale = (float) requiredHeight / height;
+            scale = crop ? java.lang.Math.max(widthScale, heightScale)
+                    : java.lang.Math.min(widthScale, heightScale);
+        }
+        return crop ? scale : java.lang.Math.min(1, scale);
     }
 
     /**
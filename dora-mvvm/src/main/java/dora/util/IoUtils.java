@@ -24,6 +24,7 @@ import android.database.Cursor;
 import android.net.Uri;
 import android.os.Environment;
 import android.os.StatFs;
+import android.os.SystemClock;
 import android.provider.DocumentsContract;
 import android.provider.MediaStore;
 import android.provider.OpenableColumns;
@@ -32,7 +33,6 @@ import android.text.format.Formatter;
 import androidx.annotation.NonNull;
 import androidx.annotation.WorkerThread;
 
-import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
@@ -49,12 +49,14 @@ import java.math.BigDecimal;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.channels.FileChannel;
-import java.security.MessageDigest;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 
 import javax.net.ssl.HttpsURLConnection;
 
@@ -64,6 +66,20 @@ import javax.net.ssl.HttpsURLConnection;
  */
 public final class IoUtils {
 
+    /**
+     * The bytes handed to a single {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+     * so the progress of a large file is reported along the way.
+     * 简体中文：单次{@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}传输的字节数，
+     * 以便在传输大文件的过程中报告进度。
+     */
+    private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+    /**
+     * The files copied at the same time by a folder copy, more only contend for the disk.
+     * 简体中文：文件夹复制时同时复制的文件数，更多只会争抢磁盘。
+     */
+    private static final int COPY_PARALLELISM = 4;
+    private static final long PROGRESS_INTERVAL_MILLIS = 100;
+
     private IoUtils() {
     }
 
@@ -123,17 +139,7 @@ public final class IoUtils {
             return false;
         }
         try {
-            InputStream inStream = new FileInputStream(file);
-            OutputStream outStream = new BufferedOutputStream(
-                    new FileOutputStream(new File(targetFile, file.getName())));
-            int len;
-            byte[] buf = new byte[1024];
-            while ((len = inStream.read(buf)) != -1) {
-                outStream.write(buf, 0, len);
-            }
-            outStream.flush();
-            close(outStream);
-            close(inStream);
+            transfer(file, new File(targetFile, file.getName()), null);
         } catch (IOException e) {
             e.printStackTrace();
             return false;
@@ -142,23 +148,122 @@ public final class IoUtils {
     }
 
     private static boolean copyFolder(File file, String target) {
+        return copyFolder(file, target, null);
+    }
+
+    /**
+     * Copy a folder into the target folder. The tree is walked once, then the files are copied
+     * in parallel on the io pool, the calling thread copies too. The target folder may be inside
+     * the folder, the copy isn't copied into itself then.
+     * 简体中文：将文件夹复制到目标文件夹中。目录树只遍历一次，然后在IO线程池上并行复制各文件，调用线程也会参与复制。
+     * 目标文件夹可以位于该文件夹之内，此时副本不会被复制到其自身中。
+     *
+     * @param file The folder to be copied.简体中文：要复制的文件夹
+     * @param target The target folder.简体中文：目标文件夹
+     * @param listener Receives the progress, can be null.简体中文：接收进度，可以为null
+     * @return false if any file fails, the rest of the files are skipped then.简体中文：任何文件失败时返回
+     * false，此时会跳过其余的文件
+     */
+    @WorkerThread
+    public static boolean copyFolder(File file, String target, CopyListener listener) {
         File targetFile = new File(target);
         if (!targetFile.exists() || !file.isDirectory() || !targetFile.isDirectory()) {
             return false;
         }
-        if (file.list() != null) {
-            String[] children = file.list();
-            for (int i = 0; i < children.length; i++) {
-                File newDirFile = new File(target + File.separator + file.getName());
-                if (!newDirFile.exists()) {
-                    newDirFile.mkdir();
+        File copy = new File(targetFile, file.getName());
+        if (isSameFile(file, copy)) {
+            LogUtils.e("Can't copy folder " + file + " onto itself");
+            return false;
+        }
+        boolean copyInsideSource = isInFolder(copy, file);
+        List<File> sources = new ArrayList<>();
+        List<File> targets = new ArrayList<>();
+        long totalBytes = 0;
+        ArrayDeque<File[]> folders = new ArrayDeque<>();
+        folders.push(new File[]{file, copy});
+        while (!folders.isEmpty()) {
+            File[] folder = folders.pop();
+            if (!folder[1].isDirectory() && !folder[1].mkdirs()) {
+                LogUtils.e("Can't create folder " + folder[1]);
+                return false;
+            }
+            File[] children = folder[0].listFiles();
+            if (children == null) {
+                continue;
+            }
+            for (File child : children) {
+                File childTarget = new File(folder[1], child.getName());
+                if (child.isDirectory()) {
+                    // Copying into its own subtree, don't copy the copy.
+                    // 简体中文：复制到其自身的子目录中时，不要复制副本。
+                    if (copyInsideSource && isSameFile(child, copy)) {
+                        continue;
+                    }
+                    folders.push(new File[]{child, childTarget});
+                } else {
+                    sources.add(child);
+                    targets.add(childTarget);
+                    totalBytes += child.length();
                 }
-                copy(new File(file, children[i]), target + File.separator + file.getName());
             }
         }
+        CopyProgress progress = new CopyProgress(totalBytes, listener);
+        Exception e = ParallelLoop.run(ThreadUtils.getIoPool(), COPY_PARALLELISM, sources.size(),
+                () -> index -> transfer(sources.get((int) index), targets.get((int) index),
+                        progress));
+        progress.finish();
+        if (e != null) {
+            e.printStackTrace();
+            return false;
+        }
         return true;
     }
 
+    private static boolean isSameFile(File file, File other) {
+        try {
+            return file.getCanonicalFile().equals(other.getCanonicalFile());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isInFolder(File file, File folder) {
+        try {
+            return file.getCanonicalPath().startsWith(folder.getCanonicalPath() + File.separator);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copy a file with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+     * which lets the kernel copy the bytes without passing them through the Java heap.
+     * 简体中文：使用{@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}复制文件，
+     * 由内核复制字节，而不经过Java堆。
+     */
+    private static void transfer(File file, File targetFile, CopyProgress progress)
+            throws IOException {
+        try (FileInputStream fis = new FileInputStream(file);
+             FileOutputStream fos = new FileOutputStream(targetFile)) {
+            FileChannel in = fis.getChannel();
+            FileChannel out = fos.getChannel();
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long count = in.transferTo(position, Math.min(TRANSFER_SIZE, size - position),
+                        out);
+                if (count <= 0) {
+                    throw new IOException("Copied " + position + " of " + size + " bytes of "
+                            + file);
+                }
+                position += count;
+                if (progress != null) {
+                    progress.add(count);
+                }
+            }
+        }
+    }
+
     public static boolean copy(File file, String target) {
         File targetFile = new File(target);
         if (!targetFile.exists() || !targetFile.isDirectory()) {
@@ -205,9 +310,10 @@ public final class IoUtils {
         if (!file.isFile() || !targetFile.exists() || !targetFile.isDirectory()) {
             return false;
         } else {
-            copyFile(file, target);
-            deleteFile(file);
-            return true;
+            // A rename on the same volume moves it without copying anything.
+            // 简体中文：同一卷上重命名即可移动，无需复制任何内容
+            return file.renameTo(new File(targetFile, file.getName()))
+                    || copyFile(file, target) && deleteFile(file);
         }
     }
 
@@ -225,7 +331,70 @@ public final class IoUtils {
         if (file.isFile()) {
             return moveFile(file, target);
         } else {
-            return copyFolder(file, target) && delete(file);
+            // A folder can't be moved into its own subtree, and copying it there first would
+            // delete the copy with the folder.
+            // 简体中文：文件夹不能移动到其自身的子目录中，先复制到那里会导致副本随文件夹一起被删除
+            if (isSameFile(targetFile, file) || isInFolder(targetFile, file)) {
+                return false;
+            }
+            // A rename on the same volume moves the whole tree at once, it fails across volumes
+            // or onto a folder that isn't empty, which is merged by copying.
+            // 简体中文：同一卷上重命名可一次移动整个目录树，跨卷或目标是非空文件夹时会失败，此时通过复制合并
+            return file.renameTo(new File(targetFile, file.getName()))
+                    || copyFolder(file, target) && delete(file);
+        }
+    }
+
+    /**
+     * Receives the progress of a folder copy, on the copying threads, one call at a time.
+     * 简体中文：接收文件夹复制的进度，在执行复制的线程上回调，每次只有一个回调。
+     */
+    public interface CopyListener {
+
+        /**
+         * @param copiedBytes The bytes copied so far.简体中文：目前已复制的字节数
+         * @param totalBytes The bytes of all the files.简体中文：所有文件的字节数
+         * @param bytesPerSecond The throughput since the start.简体中文：从开始以来的吞吐量
+         */
+        void onProgress(long copiedBytes, long totalBytes, long bytesPerSecond);
+    }
+
+    /**
+     * Adds up the bytes copied by the threads of a folder copy, and reports them at most every
+     * {@link #PROGRESS_INTERVAL_MILLIS}.
+     * 简体中文：累加文件夹复制各线程复制的字节数，最多每{@link #PROGRESS_INTERVAL_MILLIS}报告一次。
+     */
+    private static final class CopyProgress {
+
+        private final long mTotalBytes;
+        private final CopyListener mListener;
+        private final long mStartTime = SystemClock.elapsedRealtime();
+        private long mCopiedBytes;
+        private long mLastReportTime;
+
+        CopyProgress(long totalBytes, CopyListener listener) {
+            this.mTotalBytes = totalBytes;
+            this.mListener = listener;
+        }
+
+        synchronized void add(long bytes) {
+            mCopiedBytes += bytes;
+            long now = SystemClock.elapsedRealtime();
+            if (now - mLastReportTime >= PROGRESS_INTERVAL_MILLIS) {
+                mLastReportTime = now;
+                report(now);
+            }
+        }
+
+        synchronized void finish() {
+            report(SystemClock.elapsedRealtime());
+        }
+
+        private void report(long now) {
+            if (mListener != null) {
+                long elapsed = Math.max(1, now - mStartTime);
+                mListener.onProgress(mCopiedBytes, mTotalBytes, mCopiedBytes * 1000 / elapsed);
+            }
         }
     }
 
@@ -598,10 +767,18 @@ public final class IoUtils {
      * @param url      Downloaded file address.简体中文：下载的文件地址
      * @param savePath Saved file path.简体中文：保存的文件路径
      * @return Return the path of the saved file.简体中文：返回保存后的文件路径
+     * @deprecated It blocks the caller, use {@link Downloader} instead.
+     * 简体中文：它会阻塞调用者，请使用{@link Downloader}代替。
      */
+    @Deprecated
     public static File download(String url, String savePath) {
+        // A thread of its own, the caller may be a thread of the shared io pool, which would
+        // wait for a task queued behind itself.
+        // 简体中文：使用独立的线程，调用者可能就是共享IO线程池的线程，它会等待排在自己之后的任务。
+        FutureTask<File> task = new FutureTask<>(() -> downloadInBackground(url, savePath));
+        new Thread(task, "dora-download").start();
         try {
-            return Executors.newSingleThreadExecutor().submit(() -> downloadInBackground(url, savePath)).get();
+            return task.get();
         } catch (ExecutionException | InterruptedException e) {
             e.printStackTrace();
         }
@@ -631,15 +808,15 @@ public final class IoUtils {
      * @param url    Downloaded file address.简体中文：下载的文件地址
      * @param folder Destination folder to save.简体中文：保存到的文件夹
      * @return Return the path of the saved file.简体中文：返回保存后的文件路径
+     * @deprecated It blocks the caller, use {@link Downloader} instead.
+     * 简体中文：它会阻塞调用者，请使用{@link Downloader}代替。
      */
+    @Deprecated
     @WorkerThread
     public static File downloadFileToFolder(String url, String folder) {
-        try {
-            return Executors.newSingleThreadExecutor().submit(() -> downloadFileToFolderInBackground(url, folder)).get();
-        } catch (ExecutionException | InterruptedException e) {
-            e.printStackTrace();
-        }
-        return null;
+        // Already on a worker thread.
+        // 简体中文：已经在工作线程中。
+        return downloadFileToFolderInBackground(url, folder);
     }
 
     /**
@@ -670,18 +847,15 @@ public final class IoUtils {
     }
 
     /**
-     * Batch downloading files.
-     * 简体中文：批量下载文件。
+     * Batch downloading files in parallel, see {@link Downloader#downloadAll(List, String,
+     * Downloader.BatchCallback)}.
+     * 简体中文：并行地批量下载文件，参见{@link Downloader#downloadAll(List, String, Downloader.BatchCallback)}。
      *
      * @param urls   URLs of all the files to be downloaded.简体中文：要下载的所有文件的url
      * @param folder Destination folder to save.简体中文：保存到的文件夹
      */
     public static void batchDownloadFileToFolder(List<String> urls, String folder) {
-        Executors.newCachedThreadPool().submit(() -> {
-            for (String url : urls) {
-                downloadFileToFolder(url, folder);
-            }
-        });
+        Downloader.getInstance().downloadAll(urls, folder, null);
     }
 
     // </editor-folder>
@@ -797,25 +971,48 @@ public final class IoUtils {
      * @return MD5 value of the file.简体中文：文件的MD5值
      */
     public static String getMD5(File file) {
-        FileInputStream fis = null;
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            fis = new FileInputStream(file);
-            byte[] buffer = new byte[2048];
-            int length;
-            while ((length = fis.read(buffer)) != -1) {
-                md.update(buffer, 0, length);
-            }
-            byte[] bytes = md.digest();
-            return MathUtils.bs2H(bytes);
+            return FileHasher.digest(file, FileHasher.Algorithm.MD5).get(FileHasher.Algorithm.MD5);
         } catch (Exception e) {
             e.printStackTrace();
             return null;
-        } finally {
-            close(fis);
         }
     }
 
+    /**
+     * Hash a file with several algorithms in one pass, the digests of an unchanged file come
+     * from the cache of {@link FileHasher#getInstance()}.
+     * 简体中文：一次读取用多种算法计算文件的哈希，未改变的文件的摘要来自{@link FileHasher#getInstance()}的缓存。
+     *
+     * @param file The file object to be read.简体中文：要读取的文件对象
+     * @return The lowercase hex digests, null if the file can't be read.简体中文：小写十六进制的摘要，
+     * 文件无法读取时返回null
+     */
+    @WorkerThread
+    public static Map<FileHasher.Algorithm, String> hash(File file,
+                                                         FileHasher.Algorithm... algorithms) {
+        try {
+            return FileHasher.getInstance().hash(file, algorithms);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Hash many files concurrently on the io pool, such as to check the integrity of a folder.
+     * 简体中文：在IO线程池上并发计算多个文件的哈希，比如用于校验文件夹的完整性。
+     *
+     * @param files The files to be read.简体中文：要读取的文件
+     * @return The digests by file, a file that can't be read is absent.简体中文：按文件分组的摘要，
+     * 无法读取的文件不在其中
+     */
+    @WorkerThread
+    public static Map<File, Map<FileHasher.Algorithm, String>> hashAll(Collection<File> files,
+                                                                       FileHasher.Algorithm... algorithms) {
+        return FileHasher.getInstance().hashAll(files, algorithms);
+    }
+
     /**
      * Close the stream, automatically ignoring exception handling.
      * 简体中文：关闭流，自动忽略异常处理。
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import androidx.annotation.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * A MAC key parsed once and reused for every call, with a {@link Mac} per thread that is
+ * initialized once, for paths that sign every request. Create it by
+ * {@link CryptoUtils#newHMACContext(String)}. It's thread-safe.
+ * 简体中文：只解析一次并在每次调用中复用的MAC密钥，每个线程有一个只初始化一次的{@link Mac}，适用于每个请求都要
+ * 签名的场景。通过{@link CryptoUtils#newHMACContext(String)}创建。它是线程安全的。
+ */
+public final class MacContext {
+
+    private final String mAlgorithm;
+    private final SecretKey mKey;
+    private final ThreadLocal<Mac> mMacs = new ThreadLocal<>();
+
+    MacContext(@NonNull String algorithm, @NonNull SecretKey key) throws GeneralSecurityException {
+        this.mAlgorithm = algorithm;
+        this.mKey = key;
+        // Fail fast on an invalid key or algorithm.
+        // 简体中文：密钥或算法无效时尽早失败
+        getMac();
+    }
+
+    @NonNull
+    public String getAlgorithm() {
+        return mAlgorithm;
+    }
+
+    @NonNull
+    public byte[] sign(@NonNull byte[] data) throws GeneralSecurityException {
+        return getMac().doFinal(data);
+    }
+
+    /**
+     * Sign the remaining bytes of the data.
+     * 简体中文：对数据剩余的字节签名。
+     */
+    @NonNull
+    public byte[] sign(@NonNull ByteBuffer data) throws GeneralSecurityException {
+        Mac mac = getMac();
+        mac.update(data);
+        return mac.doFinal();
+    }
+
+    /**
+     * Sign the UTF-8 bytes of the text, as Base64.
+     * 简体中文：对文本的UTF-8字节签名，结果为Base64。
+     */
+    @NonNull
+    public String signToBase64(@NonNull String text) throws GeneralSecurityException {
+        return CryptoUtils.base64Encode(sign(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Check a signature in constant time.
+     * 简体中文：以恒定时间校验签名。
+     */
+    public boolean verify(@NonNull byte[] data, @NonNull byte[] signature)
+            throws GeneralSecurityException {
+        return MessageDigest.isEqual(sign(data), signature);
+    }
+
+    /**
+     * The mac of the thread, a mac is reset to its initialized state after
+     * {@link Mac#doFinal()}, so it's only initialized once.
+     * 简体中文：当前线程的Mac，Mac在{@link Mac#doFinal()}之后会重置为初始化后的状态，因此只需初始化一次。
+     */
+    private Mac getMac() throws GeneralSecurityException {
+        Mac mac = mMacs.get();
+        if (mac == null) {
+            mac = Mac.getInstance(mAlgorithm);
+            mac.init(mKey);
+            mMacs.set(mac);
+        }
+        return mac;
+    }
+}
@@ -0,0 +1,655 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import android.content.SharedPreferences;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link SharedPreferences} backed by a memory-mapped append-only log. Every commit appends
+ * one CRC'd record holding all the changes of the edit to the mapped file instead of rewriting
+ * the whole file, so an edit is replayed either completely or not at all, and
+ * {@link Editor#apply()} never blocks on IO, and {@link Editor#commit()} only forces the
+ * mapped pages. When the file is full, the live entries are compacted into a new file which
+ * atomically replaces the old one. A record torn by a crash fails its CRC check and is
+ * dropped on the next load, together with everything behind it. Only one process may open
+ * a file at a time.
+ * 简体中文：基于内存映射追加日志的{@link SharedPreferences}。每次提交都是往映射文件追加一条带CRC校验、包含
+ * 该次编辑所有修改的记录，而不是重写整个文件，所以一次编辑要么被完整回放，要么完全不回放，并且{@link Editor#apply()}不会阻塞在IO上，{@link Editor#commit()}也只是将映射的页刷盘。
+ * 文件写满时，存活的条目会被压缩到一个新文件中，并原子地替换掉旧文件。崩溃导致写了一半的记录在下次加载时
+ * 无法通过CRC校验，会连同其后的所有记录一起丢弃。同一时间只允许一个进程打开同一个文件。
+ */
+public class MmapPreferences implements SharedPreferences {
+
+    private static final int MAGIC = 0x444B5601;    // "DKV" 1
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MIN_CAPACITY = 16 * 1024;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_FLOAT = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_STRING_SET = 6;
+    private static final byte TYPE_REMOVE = 7;
+    private static final byte TYPE_CLEAR = 8;
+    /**
+     * The changes of one edit, replayed together.
+     * 简体中文：一次编辑的所有修改，会被一起回放。
+     */
+    private static final byte TYPE_BATCH = 9;
+
+    private static final Object PRESENT = new Object();
+
+    private final File mFile;
+    private final Map<String, Object> mMap = new HashMap<>();
+    private final WeakHashMap<OnSharedPreferenceChangeListener, Object> mListeners =
+            new WeakHashMap<>();
+    private final CRC32 mCrc = new CRC32();
+    private MappedByteBuffer mBuffer;
+    private int mPosition;
+
+    /**
+     * Open or create the file, the existing records are replayed into memory.
+     * 简体中文：打开或创建文件，已有的记录会回放到内存中。
+     */
+    public MmapPreferences(File file) throws IOException {
+        this.mFile = file;
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        load();
+    }
+
+    public File getFile() {
+        return mFile;
+    }
+
+    /**
+     * Copy all entries of the other preferences into this one, used to migrate from the
+     * XML-based preferences.
+     * 简体中文：将另一个SharedPreferences的所有条目复制过来，用于从基于XML的SharedPreferences迁移。
+     *
+     * @return the number of entries copied.
+     */
+    @SuppressWarnings("unchecked")
+    public int migrateFrom(SharedPreferences preferences) {
+        Map<String, ?> all = preferences.getAll();
+        Editor editor = edit();
+        for (Map.Entry<String, ?> entry : all.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                editor.putString(key, (String) value);
+            } else if (value instanceof Integer) {
+                editor.putInt(key, (Integer) value);
+            } else if (value instanceof Long) {
+                editor.putLong(key, (Long) value);
+            } else if (value instanceof Float) {
+                editor.putFloat(key, (Float) value);
+            } else if (value instanceof Boolean) {
+                editor.putBoolean(key, (Boolean) value);
+            } else if (value instanceof Set) {
+                editor.putStringSet(key, (Set<String>) value);
+            }
+        }
+        editor.commit();
+        return all.size();
+    }
+
+    /**
+     * Compact the log right away, normally it's done when the file is full.
+     * 简体中文：立即压缩日志，通常在文件写满时才会进行。
+     */
+    public synchronized void compact() {
+        try {
+            rewrite(0);
+        } catch (IOException e) {
+            LogUtils.e(e.toString());
+        }
+    }
+
+    @Override
+    public synchronized Map<String, ?> getAll() {
+        Map<String, Object> all = new HashMap<>(mMap);
+        for (Map.Entry<String, Object> entry : all.entrySet()) {
+            if (entry.getValue() instanceof Set) {
+                entry.setValue(new HashSet<>((Set<?>) entry.getValue()));
+            }
+        }
+        return all;
+    }
+
+    @Nullable
+    @Override
+    public synchronized String getString(String key, @Nullable String defValue) {
+        String value = (String) mMap.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized Set<String> getStringSet(String key, @Nullable Set<String> defValues) {
+        Set<String> values = (Set<String>) mMap.get(key);
+        return values != null ? new HashSet<>(values) : defValues;
+    }
+
+    @Override
+    public synchronized int getInt(String key, int defValue) {
+        Integer value = (Integer) mMap.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public synchronized long getLong(String key, long defValue) {
+        Long value = (Long) mMap.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public synchronized float getFloat(String key, float defValue) {
+        Float value = (Float) mMap.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public synchronized boolean getBoolean(String key, boolean defValue) {
+        Boolean value = (Boolean) mMap.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public synchronized boolean contains(String key) {
+        return mMap.containsKey(key);
+    }
+
+    @Override
+    public Editor edit() {
+        return new EditorImpl();
+    }
+
+    @Override
+    public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        synchronized (mListeners) {
+            mListeners.put(listener, PRESENT);
+        }
+    }
+
+    @Override
+    public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener) {
+        synchronized (mListeners) {
+            mListeners.remove(listener);
+        }
+    }
+
+    private void load() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(mFile, "rw");
+        try {
+            FileChannel channel = raf.getChannel();
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                mBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, MIN_CAPACITY);
+                mBuffer.putInt(0, MAGIC);
+                mPosition = HEADER_SIZE;
+                return;
+            }
+            mBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        } finally {
+            IoUtils.close(raf);
+        }
+        if (mBuffer.getInt(0) != MAGIC) {
+            LogUtils.e("Bad magic of " + mFile + ", discarding it");
+            mMap.clear();
+            rewrite(0);
+            return;
+        }
+        int position = HEADER_SIZE;
+        int capacity = mBuffer.capacity();
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int length = mBuffer.getInt(position);
+            if (length <= 0 || length > capacity - position - RECORD_HEADER_SIZE) {
+                break;
+            }
+            int crc = mBuffer.getInt(position + 4);
+            byte[] body = new byte[length];
+            ByteBuffer slice = mBuffer.duplicate();
+            slice.position(position + RECORD_HEADER_SIZE);
+            slice.get(body);
+            mCrc.reset();
+            mCrc.update(body, 0, length);
+            if ((int) mCrc.getValue() != crc) {
+                LogUtils.w("Corrupted record at " + position + " of " + mFile + ", truncating");
+                break;
+            }
+            replay(ByteBuffer.wrap(body));
+            position += RECORD_HEADER_SIZE + length;
+        }
+        mPosition = position;
+        // Wipe everything behind the last valid record, so a torn tail can't be mistaken for
+        // records after the next appends. The length of a record is written last, so a torn
+        // record may start with zeros and still have bytes behind them.
+        // 简体中文：擦除最后一条有效记录之后的所有内容，避免写坏的尾部在后续追加后被误认为有效记录。记录的长度
+        // 最后写入，所以写坏的记录可能以0开头，其后仍有内容。
+        for (int i = position; i < capacity; i++) {
+            if (mBuffer.get(i) != 0) {
+                mBuffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private void replay(ByteBuffer body) {
+        byte type = body.get();
+        if (type == TYPE_BATCH) {
+            int count = body.getInt();
+            for (int i = 0; i < count; i++) {
+                int length = body.getInt();
+                ByteBuffer op = body.slice();
+                op.limit(length);
+                replay(op);
+                body.position(body.position() + length);
+            }
+            return;
+        }
+        if (type == TYPE_CLEAR) {
+            mMap.clear();
+            return;
+        }
+        byte[] keyBytes = new byte[body.getShort() & 0xFFFF];
+        body.get(keyBytes);
+        String key = new String(keyBytes, StandardCharsets.UTF_8);
+        switch (type) {
+            case TYPE_STRING:
+                mMap.put(key, readString(body));
+                break;
+            case TYPE_INT:
+                mMap.put(key, body.getInt());
+                break;
+            case TYPE_LONG:
+                mMap.put(key, body.getLong());
+                break;
+            case TYPE_FLOAT:
+                mMap.put(key, body.getFloat());
+                break;
+            case TYPE_BOOLEAN:
+                mMap.put(key, body.get() != 0);
+                break;
+            case TYPE_STRING_SET:
+                int size = body.getInt();
+                Set<String> values = new HashSet<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readString(body));
+                }
+                mMap.put(key, values);
+                break;
+            case TYPE_REMOVE:
+                mMap.remove(key);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[body.getInt()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encode a record body: type, key and value.
+     * 简体中文：编码记录体：类型、键和值。
+     */
+    private static byte[] encode(byte type, @Nullable String key, @Nullable Object value) {
+        if (type == TYPE_CLEAR) {
+            return new byte[]{TYPE_CLEAR};
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Key is too long: " + key);
+        }
+        int size = 1 + 2 + keyBytes.length;
+        byte[][] strings = null;
+        switch (type) {
+            case TYPE_STRING:
+                strings = new byte[][]{((String) value).getBytes(StandardCharsets.UTF_8)};
+                size += 4 + strings[0].length;
+                break;
+            case TYPE_INT:
+            case TYPE_FLOAT:
+                size += 4;
+                break;
+            case TYPE_LONG:
+                size += 8;
+                break;
+            case TYPE_BOOLEAN:
+                size += 1;
+                break;
+            case TYPE_STRING_SET:
+                Set<?> values = (Set<?>) value;
+                strings = new byte[values.size()][];
+                int i = 0;
+                size += 4;
+                for (Object v : values) {
+                    strings[i] = String.valueOf(v).getBytes(StandardCharsets.UTF_8);
+                    size += 4 + strings[i++].length;
+                }
+                break;
+            default:
+                break;
+        }
+        ByteBuffer body = ByteBuffer.allocate(size);
+        body.put(type).putShort((short) keyBytes.length).put(keyBytes);
+        switch (type) {
+            case TYPE_STRING:
+                body.putInt(strings[0].length).put(strings[0]);
+                break;
+            case TYPE_INT:
+                body.putInt((Integer) value);
+                break;
+            case TYPE_FLOAT:
+                body.putFloat((Float) value);
+                break;
+            case TYPE_LONG:
+                body.putLong((Long) value);
+                break;
+            case TYPE_BOOLEAN:
+                body.put((byte) ((Boolean) value ? 1 : 0));
+                break;
+            case TYPE_STRING_SET:
+                body.putInt(strings.length);
+                for (byte[] s : strings) {
+                    body.putInt(s.length).put(s);
+                }
+                break;
+            default:
+                break;
+        }
+        return body.array();
+    }
+
+    /**
+     * Encode the records of an edit into one batch record: type, count and the length-prefixed
+     * records.
+     * 简体中文：将一次编辑的记录编码为一条批量记录：类型、数量和带长度前缀的各条记录。
+     */
+    private static byte[] encodeBatch(List<byte[]> bodies) {
+        int size = 1 + 4;
+        for (byte[] body : bodies) {
+            size += 4 + body.length;
+        }
+        ByteBuffer batch = ByteBuffer.allocate(size);
+        batch.put(TYPE_BATCH).putInt(bodies.size());
+        for (byte[] body : bodies) {
+            batch.putInt(body.length).put(body);
+        }
+        return batch.array();
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof String) {
+            return TYPE_STRING;
+        } else if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        } else {
+            return TYPE_STRING_SET;
+        }
+    }
+
+    private void append(byte[] body) throws IOException {
+        int required = RECORD_HEADER_SIZE + body.length;
+        if (mPosition + required > mBuffer.capacity()) {
+            rewrite(required);
+        }
+        mCrc.reset();
+        mCrc.update(body, 0, body.length);
+        ByteBuffer buffer = mBuffer.duplicate();
+        buffer.position(mPosition + 4);
+        buffer.putInt((int) mCrc.getValue());
+        buffer.put(body);
+        // The length is written last, an unfinished record is seen as the end of the log.
+        // 简体中文：长度最后写入，未写完的记录会被视为日志的结尾。
+        mBuffer.putInt(mPosition, body.length);
+        mPosition += required;
+    }
+
+    /**
+     * Write the live entries into a new file and swap it in, the capacity grows so that at
+     * least half of it stays free after compaction.
+     * 简体中文：将存活的条目写入新文件并替换旧文件，容量会增长到压缩后至少有一半空闲。
+     */
+    private void rewrite(int reserved) throws IOException {
+        List<byte[]> bodies = new ArrayList<>(mMap.size());
+        long size = HEADER_SIZE;
+        for (Map.Entry<String, Object> entry : mMap.entrySet()) {
+            byte[] body = encode(typeOf(entry.getValue()), entry.getKey(), entry.getValue());
+            bodies.add(body);
+            size += RECORD_HEADER_SIZE + body.length;
+        }
+        long capacity = MIN_CAPACITY;
+        while (capacity < (size + reserved) * 2) {
+            capacity <<= 1;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Too much data in " + mFile);
+        }
+        ByteBuffer image = ByteBuffer.allocate((int) size);
+        image.putInt(MAGIC).putInt(0);
+        for (byte[] body : bodies) {
+            mCrc.reset();
+            mCrc.update(body, 0, body.length);
+            image.putInt(body.length).putInt((int) mCrc.getValue()).put(body);
+        }
+        image.flip();
+        File temp = new File(mFile.getPath() + ".tmp");
+        RandomAccessFile raf = new RandomAccessFile(temp, "rw");
+        try {
+            FileChannel channel = raf.getChannel();
+            channel.truncate(0);
+            while (image.hasRemaining()) {
+                channel.write(image);
+            }
+            raf.setLength(capacity);
+            channel.force(true);
+        } finally {
+            IoUtils.close(raf);
+        }
+        if (!temp.renameTo(mFile)) {
+            temp.delete();
+            throw new IOException("Can't rename " + temp + " to " + mFile);
+        }
+        raf = new RandomAccessFile(mFile, "rw");
+        try {
+            mBuffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } finally {
+            IoUtils.close(raf);
+        }
+        mPosition = (int) size;
+    }
+
+    private void notifyListeners(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        final List<OnSharedPreferenceChangeListener> listeners;
+        synchronized (mListeners) {
+            if (mListeners.isEmpty()) {
+                return;
+            }
+            listeners = new ArrayList<>(mListeners.keySet());
+        }
+        ThreadUtils.runOnUiThread(() -> {
+            for (int i = keys.size() - 1; i >= 0; i--) {
+                for (OnSharedPreferenceChangeListener listener : listeners) {
+                    listener.onSharedPreferenceChanged(MmapPreferences.this, keys.get(i));
+                }
+            }
+        });
+    }
+
+    private final class EditorImpl implements Editor {
+
+        private final Map<String, Object> mModified = new HashMap<>();
+        private boolean mClear;
+
+        @Override
+        public Editor putString(String key, @Nullable String value) {
+            return put(key, value);
+        }
+
+        @Override
+        public Editor putStringSet(String key, @Nullable Set<String> values) {
+            return put(key, values == null ? null : new HashSet<>(values));
+        }
+
+        @Override
+        public Editor putInt(String key, int value) {
+            return put(key, value);
+        }
+
+        @Override
+        public Editor putLong(String key, long value) {
+            return put(key, value);
+        }
+
+        @Override
+        public Editor putFloat(String key, float value) {
+            return put(key, value);
+        }
+
+        @Override
+        public Editor putBoolean(String key, boolean value) {
+            return put(key, value);
+        }
+
+        @Override
+        public Editor remove(String key) {
+            return put(key, null);
+        }
+
+        @Override
+        public synchronized Editor clear() {
+            mClear = true;
+            return this;
+        }
+
+        private synchronized Editor put(String key, @Nullable Object value) {
+            // A null value means removal, the same as SharedPreferences.
+            // 简体中文：null值表示移除，与SharedPreferences一致。
+            mModified.put(key, value == null ? this : value);
+            return this;
+        }
+
+        @Override
+        public boolean commit() {
+            return write(true);
+        }
+
+        @Override
+        public void apply() {
+            write(false);
+        }
+
+        private boolean write(boolean force) {
+            List<String> changedKeys = new ArrayList<>();
+            boolean success = true;
+            synchronized (this) {
+                synchronized (MmapPreferences.this) {
+                    try {
+                        // Encode the whole edit before touching the log or the map, the edit is
+                        // appended as one record so it's replayed completely or not at all.
+                        // 简体中文：在改动日志或内存之前先编码整个编辑，整个编辑作为一条记录追加，因此要么被
+                        // 完整回放，要么完全不回放。
+                        boolean clear = mClear && !mMap.isEmpty();
+                        Map<String, Object> base = clear ? Collections.emptyMap() : mMap;
+                        List<byte[]> bodies = new ArrayList<>();
+                        if (clear) {
+                            bodies.add(encode(TYPE_CLEAR, null, null));
+                        }
+                        for (Map.Entry<String, Object> entry : mModified.entrySet()) {
+                            String key = entry.getKey();
+                            Object value = entry.getValue();
+                            if (value == this) {
+                                if (!base.containsKey(key)) {
+                                    continue;
+                                }
+                                bodies.add(encode(TYPE_REMOVE, key, null));
+                            } else {
+                                if (value.equals(base.get(key))) {
+                                    continue;
+                                }
+                                bodies.add(encode(typeOf(value), key, value));
+                            }
+                            changedKeys.add(key);
+                        }
+                        if (!bodies.isEmpty()) {
+                            append(bodies.size() == 1 ? bodies.get(0) : encodeBatch(bodies));
+                        }
+                        if (clear) {
+                            mMap.clear();
+                        }
+                        for (String key : changedKeys) {
+                            Object value = mModified.get(key);
+                            if (value == this) {
+                                mMap.remove(key);
+                            } else {
+                                mMap.put(key, value);
+                            }
+                        }
+                        if (force) {
+                            mBuffer.force();
+                        }
+                    } catch (IOException e) {
+                        LogUtils.e(e.toString());
+                        changedKeys.clear();
+                        success = false;
+                    }
+                }
+                mClear = false;
+                mModified.clear();
+            }
+            notifyListeners(changedKeys);
+            return success;
+        }
+    }
+}
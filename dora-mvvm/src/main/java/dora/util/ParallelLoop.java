@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Processes the indices of a loop by workers on a pool and on the calling thread. The calling
+ * thread works through the indices too, so the loop always completes even when the pool is
+ * busy or its queue is full, and only a bounded number of workers is submitted, whatever the
+ * number of indices.
+ * 简体中文：由线程池上的工作者和调用线程一起处理循环的各个下标。调用线程同样会处理下标，因此即使线程池繁忙或其队列
+ * 已满，循环也总能完成，并且无论下标有多少，只会提交有限数量的工作者。
+ */
+final class ParallelLoop {
+
+    private ParallelLoop() {
+    }
+
+    /**
+     * Run the loop. Once a worker throws, the remaining indices are skipped.
+     * 简体中文：运行循环。一旦某个工作者抛出异常，剩余的下标会被跳过。
+     *
+     * @param parallelism The maximum number of workers, including the calling thread.
+     *                    简体中文：工作者的最大数量，包括调用线程
+     * @return The first failure, null if all the indices are processed.
+     * 简体中文：第一个失败，所有下标都处理完成时返回null
+     */
+    static Exception run(ExecutorService pool, int parallelism, long count,
+                         WorkerFactory factory) {
+        AtomicLong next = new AtomicLong();
+        AtomicLong finished = new AtomicLong();
+        AtomicReference<Exception> error = new AtomicReference<>();
+        Runnable worker = () -> {
+            Worker processor = null;
+            long index;
+            while ((index = next.getAndIncrement()) < count) {
+                try {
+                    if (error.get() == null) {
+                        if (processor == null) {
+                            processor = factory.create();
+                        }
+                        processor.process(index);
+                    }
+                } catch (Exception e) {
+                    error.compareAndSet(null, e);
+                } finally {
+                    if (finished.incrementAndGet() == count) {
+                        synchronized (finished) {
+                            finished.notifyAll();
+                        }
+                    }
+                }
+            }
+        };
+        long helpers = Math.min(parallelism, count) - 1;
+        try {
+            for (int i = 0; i < helpers; i++) {
+                pool.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            LogUtils.w("Can't add workers: " + e.getMessage());
+        }
+        worker.run();
+        // All the indices are taken now, only wait for the ones still being processed.
+        // 简体中文：此时所有下标都已被领取，只需等待仍在处理中的下标
+        boolean interrupted = false;
+        synchronized (finished) {
+            while (finished.get() < count) {
+                try {
+                    finished.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    error.compareAndSet(null, e);
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return error.get();
+    }
+
+    interface WorkerFactory {
+
+        /**
+         * Create the state of a worker, such as its buffers, once per worker.
+         * 简体中文：创建一个工作者的状态，比如它的缓冲区，每个工作者一次。
+         */
+        Worker create() throws Exception;
+    }
+
+    interface Worker {
+
+        void process(long index) throws Exception;
+    }
+}
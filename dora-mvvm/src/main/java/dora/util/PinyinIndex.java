@@ -0,0 +1,510 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An incremental search index of texts by pinyin, built on {@link PinyinUtils}. A text is split
+ * into tokens, every Chinese character and every run of letters and digits being one token, and
+ * it can be found by a prefix of the full pinyin ("zhangs" for 张三), of the initials ("zs"), of
+ * the text itself ("张三"), or of a mix of Chinese characters and pinyin ("张san"), starting
+ * at any token. The keys are offsets into a shared char buffer, kept in sorted arrays, so a
+ * query is a few binary searches for the prefix ranges.
+ * 简体中文：基于{@link PinyinUtils}的拼音增量搜索索引。文本被切分为词元，每个汉字以及每段连续的字母数字
+ * 各为一个词元，可以从任意词元开始，通过全拼前缀（"zhangs"匹配张三）、首字母前缀（"zs"）、文本本身的
+ * 前缀（"张三"）或汉字与拼音混合的前缀（"张san"）找到它。键是共享字符缓冲区中的偏移量，保存在有序数组中，
+ * 所以一次查询只需几次二分查找来确定前缀范围。
+ */
+public class PinyinIndex {
+
+    private static final char END = '\0';
+    private static final char OTHER_SECTION = '#';
+
+    private static final int FIELD_FULL = 0;
+    private static final int FIELD_INITIALS = 1;
+    private static final int FIELD_TEXT = 2;
+
+    private char[] mBuffer = new char[1024];
+    private int mBufferSize;
+
+    /**
+     * The sorted keys of every field, packed as {@code offset << 32 | slot}.
+     * 简体中文：每个字段的有序键，打包为{@code offset << 32 | slot}。
+     */
+    private final long[][] mKeys = new long[3][];
+    private final int[] mKeyCounts = new int[3];
+
+    private long[] mIds = new long[64];
+    private String[] mTexts = new String[64];
+    private int[] mFullStarts = new int[64];
+    private int mSlotCount;
+    private int mRemovedCount;
+    private final Map<Long, Integer> mSlots = new HashMap<>();
+
+    private final StringBuilder mScratch = new StringBuilder();
+
+    public PinyinIndex() {
+        for (int i = 0; i < mKeys.length; i++) {
+            mKeys[i] = new long[64];
+        }
+    }
+
+    /**
+     * Add an item, an existing item with the same id is replaced.
+     * 简体中文：添加一项，已存在的同id项会被替换。
+     */
+    public synchronized void add(long id, CharSequence text) {
+        remove(id);
+        int[] before = mKeyCounts.clone();
+        append(id, text);
+        // Insert the new keys into the sorted keys one by one.
+        // 简体中文：将新的键逐个插入到有序的键中。
+        for (int field = 0; field < mKeys.length; field++) {
+            long[] keys = mKeys[field];
+            for (int i = before[field]; i < mKeyCounts[field]; i++) {
+                long key = keys[i];
+                int position = insertionPoint(keys, i, key);
+                System.arraycopy(keys, position, keys, position + 1, i - position);
+                keys[position] = key;
+            }
+        }
+    }
+
+    /**
+     * Add many items and sort the keys once, much faster than adding them one by one.
+     * 简体中文：批量添加并只排序一次，比逐个添加快得多。
+     */
+    public synchronized void addAll(Map<Long, ? extends CharSequence> items) {
+        for (Map.Entry<Long, ? extends CharSequence> item : items.entrySet()) {
+            remove(item.getKey());
+            append(item.getKey(), item.getValue());
+        }
+        for (int field = 0; field < mKeys.length; field++) {
+            sort(mKeys[field], mKeyCounts[field]);
+        }
+    }
+
+    public synchronized boolean remove(long id) {
+        Integer slot = mSlots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        mTexts[slot] = null;
+        mRemovedCount++;
+        if (mRemovedCount > 1024 && mRemovedCount > mSlotCount / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(long id) {
+        return mSlots.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return mSlots.size();
+    }
+
+    public synchronized void clear() {
+        mSlots.clear();
+        mBufferSize = 0;
+        Arrays.fill(mKeyCounts, 0);
+        Arrays.fill(mTexts, 0, mSlotCount, null);
+        mSlotCount = 0;
+        mRemovedCount = 0;
+    }
+
+    /**
+     * Search the items by a prefix of the full pinyin, the initials, the text, or a mix of
+     * Chinese characters and pinyin, case and whitespace are ignored.
+     * 简体中文：通过全拼、首字母、文本或汉字与拼音混合的前缀搜索，忽略大小写和空白。
+     *
+     * @return the ids of the matching items, in the order they were added.
+     */
+    public synchronized List<Long> search(String query) {
+        mScratch.setLength(0);
+        boolean hasChinese = false;
+        boolean hasLatin = false;
+        for (int i = 0; i < query.length(); ) {
+            int codePoint = query.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (PinyinUtils.isChinese(codePoint)) {
+                hasChinese = true;
+                mScratch.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                hasLatin = true;
+                mScratch.appendCodePoint(Character.toLowerCase(codePoint));
+            }
+        }
+        List<Long> result = new ArrayList<>();
+        if (mScratch.length() == 0) {
+            return result;
+        }
+        String normalized = mScratch.toString();
+        BitSet matched = new BitSet(mSlotCount);
+        if (!hasChinese) {
+            collect(FIELD_FULL, normalized, matched);
+            collect(FIELD_INITIALS, normalized, matched);
+        } else if (!hasLatin) {
+            collect(FIELD_TEXT, normalized, matched);
+        } else {
+            // Search the full pinyin of the query, then check the Chinese characters.
+            // 简体中文：先按查询的全拼搜索，再检查其中的汉字。
+            String pinyin = PinyinUtils.appendPinyin(normalized, new StringBuilder()).toString();
+            BitSet candidates = new BitSet(mSlotCount);
+            collect(FIELD_FULL, pinyin, candidates);
+            for (int slot = candidates.nextSetBit(0); slot >= 0;
+                 slot = candidates.nextSetBit(slot + 1)) {
+                if (matchesMixed(mTexts[slot], normalized)) {
+                    matched.set(slot);
+                }
+            }
+        }
+        for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+            result.add(mIds[slot]);
+        }
+        return result;
+    }
+
+    /**
+     * Group the items by the first letter of their pinyin, for an A-Z sidebar. The sections are
+     * in alphabetical order, items in a section are sorted by pinyin, and the items not
+     * starting with a letter are put into the last section "#".
+     * 简体中文：按拼音首字母对所有项分组，用于A-Z侧边栏。分组按字母顺序排列，组内按拼音排序，不以字母开头的项
+     * 放在最后的"#"分组中。
+     */
+    public synchronized List<Section> getSections() {
+        List<Section> sections = new ArrayList<>();
+        Section other = new Section(OTHER_SECTION);
+        Section current = null;
+        BitSet seen = new BitSet(mSlotCount);
+        long[] keys = mKeys[FIELD_FULL];
+        for (int i = 0; i < mKeyCounts[FIELD_FULL]; i++) {
+            int offset = (int) (keys[i] >>> 32);
+            int slot = (int) keys[i];
+            if (mTexts[slot] == null || mFullStarts[slot] != offset) {
+                continue;
+            }
+            seen.set(slot);
+            char letter = Character.toUpperCase(mBuffer[offset]);
+            if (letter < 'A' || letter > 'Z') {
+                other.mIds.add(mIds[slot]);
+                continue;
+            }
+            if (current == null || current.mLetter != letter) {
+                current = new Section(letter);
+                sections.add(current);
+            }
+            current.mIds.add(mIds[slot]);
+        }
+        // The items without any token.
+        // 简体中文：没有任何词元的项。
+        for (int slot = 0; slot < mSlotCount; slot++) {
+            if (mTexts[slot] != null && !seen.get(slot)) {
+                other.mIds.add(mIds[slot]);
+            }
+        }
+        if (!other.mIds.isEmpty()) {
+            sections.add(other);
+        }
+        return sections;
+    }
+
+    private void append(long id, CharSequence text) {
+        if (mSlotCount == mIds.length) {
+            int capacity = mSlotCount * 2;
+            mIds = Arrays.copyOf(mIds, capacity);
+            mTexts = Arrays.copyOf(mTexts, capacity);
+            mFullStarts = Arrays.copyOf(mFullStarts, capacity);
+        }
+        int slot = mSlotCount++;
+        mIds[slot] = id;
+        mTexts[slot] = text.toString();
+        mSlots.put(id, slot);
+        // Full pinyin, initials and text, each ended by END. The keys of every field start at
+        // the tokens.
+        // 简体中文：全拼、首字母和文本，各以END结尾。每个字段的键都从词元开始。
+        int length = text.length();
+        ensureBuffer(length * 9 + 3);
+        mFullStarts[slot] = mBufferSize;
+        for (int field = FIELD_FULL; field <= FIELD_TEXT; field++) {
+            boolean inWord = false;
+            for (int i = 0; i < length; ) {
+                int codePoint = Character.codePointAt(text, i);
+                i += Character.charCount(codePoint);
+                String pinyin = PinyinUtils.getPinyin(codePoint);
+                if (pinyin != null) {
+                    addKey(field, slot);
+                    if (field == FIELD_FULL) {
+                        pinyin.getChars(0, pinyin.length(), mBuffer, mBufferSize);
+                        mBufferSize += pinyin.length();
+                    } else if (field == FIELD_INITIALS) {
+                        mBuffer[mBufferSize++] = pinyin.charAt(0);
+                    } else {
+                        mBufferSize += Character.toChars(codePoint, mBuffer, mBufferSize);
+                    }
+                    inWord = false;
+                } else if (Character.isLetterOrDigit(codePoint)) {
+                    if (!inWord) {
+                        addKey(field, slot);
+                    }
+                    if (!inWord || field != FIELD_INITIALS) {
+                        mBufferSize += Character.toChars(Character.toLowerCase(codePoint),
+                                mBuffer, mBufferSize);
+                    }
+                    inWord = true;
+                } else {
+                    inWord = false;
+                }
+            }
+            mBuffer[mBufferSize++] = END;
+        }
+    }
+
+    private void addKey(int field, int slot) {
+        long[] keys = mKeys[field];
+        if (mKeyCounts[field] == keys.length) {
+            keys = mKeys[field] = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[mKeyCounts[field]++] = (long) mBufferSize << 32 | slot;
+    }
+
+    private void ensureBuffer(int extra) {
+        if (mBufferSize + extra > mBuffer.length) {
+            mBuffer = Arrays.copyOf(mBuffer, Math.max(mBuffer.length * 2, mBufferSize + extra));
+        }
+    }
+
+    /**
+     * Rebuild the index without the removed items.
+     * 简体中文：去掉已移除的项，重建索引。
+     */
+    private void compact() {
+        long[] ids = Arrays.copyOf(mIds, mSlotCount);
+        String[] texts = Arrays.copyOf(mTexts, mSlotCount);
+        int count = mSlotCount;
+        clear();
+        for (int slot = 0; slot < count; slot++) {
+            if (texts[slot] != null) {
+                append(ids[slot], texts[slot]);
+            }
+        }
+        for (int field = 0; field < mKeys.length; field++) {
+            sort(mKeys[field], mKeyCounts[field]);
+        }
+    }
+
+    private void collect(int field, String prefix, BitSet out) {
+        long[] keys = mKeys[field];
+        int count = mKeyCounts[field];
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(keys[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < count && comparePrefix(keys[i], prefix) == 0; i++) {
+            int slot = (int) keys[i];
+            if (mTexts[slot] != null) {
+                out.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Compare the key with the prefix, 0 if the key starts with it.
+     * 简体中文：比较键和前缀，键以该前缀开头时返回0。
+     */
+    private int comparePrefix(long key, String prefix) {
+        int offset = (int) (key >>> 32);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = mBuffer[offset + i];
+            char p = prefix.charAt(i);
+            if (c != p) {
+                return c < p ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    private int compareKeys(long a, long b) {
+        int i = (int) (a >>> 32);
+        int j = (int) (b >>> 32);
+        while (true) {
+            char c = mBuffer[i++];
+            char d = mBuffer[j++];
+            if (c != d) {
+                return c < d ? -1 : 1;
+            }
+            if (c == END) {
+                return Integer.compare((int) a, (int) b);
+            }
+        }
+    }
+
+    private int insertionPoint(long[] keys, int count, long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKeys(keys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void sort(long[] keys, int count) {
+        long[] temp = new long[count];
+        for (int width = 1; width < count; width <<= 1) {
+            for (int left = 0; left < count - width; left += width << 1) {
+                int mid = left + width;
+                int right = Math.min(left + (width << 1), count);
+                if (compareKeys(keys[mid - 1], keys[mid]) <= 0) {
+                    continue;
+                }
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    temp[k++] = compareKeys(keys[i], keys[j]) <= 0 ? keys[i++] : keys[j++];
+                }
+                while (i < mid) {
+                    temp[k++] = keys[i++];
+                }
+                while (j < right) {
+                    temp[k++] = keys[j++];
+                }
+                System.arraycopy(temp, left, keys, left, right - left);
+            }
+        }
+    }
+
+    /**
+     * Whether the text has a run of tokens matching the query, a Chinese character of the query
+     * must match itself, and the letters must match the pinyin, the last token may be matched
+     * by a prefix.
+     * 简体中文：文本中是否有一段词元与查询匹配，查询中的汉字必须匹配自身，字母须匹配拼音，最后一个词元可以只匹配前缀。
+     */
+    private static boolean matchesMixed(String text, String query) {
+        boolean inWord = false;
+        for (int start = 0; start < text.length(); ) {
+            int codePoint = text.codePointAt(start);
+            if (PinyinUtils.isChinese(codePoint)) {
+                if (matchesFrom(text, start, query)) {
+                    return true;
+                }
+                inWord = false;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (!inWord && matchesFrom(text, start, query)) {
+                    return true;
+                }
+                inWord = true;
+            } else {
+                inWord = false;
+            }
+            start += Character.charCount(codePoint);
+        }
+        return false;
+    }
+
+    private static boolean matchesFrom(String text, int start, String query) {
+        int i = start;
+        int j = 0;
+        while (j < query.length()) {
+            if (i >= text.length()) {
+                return false;
+            }
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            String pinyin = PinyinUtils.getPinyin(codePoint);
+            if (pinyin != null) {
+                if (query.codePointAt(j) == codePoint) {
+                    j += Character.charCount(codePoint);
+                    continue;
+                }
+                int matched = matchLatin(pinyin, query, j);
+                if (matched < 0) {
+                    return false;
+                }
+                j += matched;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int end = i;
+                while (end < text.length() && !PinyinUtils.isChinese(text.codePointAt(end))
+                        && Character.isLetterOrDigit(text.codePointAt(end))) {
+                    end += Character.charCount(text.codePointAt(end));
+                }
+                int matched = matchLatin(text.substring(i - Character.charCount(codePoint), end)
+                        .toLowerCase(), query, j);
+                if (matched < 0) {
+                    return false;
+                }
+                j += matched;
+                i = end;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of query chars matched by the token, -1 if it doesn't match.
+     */
+    private static int matchLatin(String token, String query, int from) {
+        int n = Math.min(token.length(), query.length() - from);
+        for (int k = 0; k < n; k++) {
+            if (token.charAt(k) != query.charAt(from + k)) {
+                return -1;
+            }
+        }
+        // The whole token must be matched, unless the query ends inside it.
+        // 简体中文：必须匹配整个词元，除非查询在其中结束。
+        return n == token.length() || from + n == query.length() ? n : -1;
+    }
+
+    public static class Section {
+
+        private final char mLetter;
+        private final List<Long> mIds = new ArrayList<>();
+
+        Section(char letter) {
+            this.mLetter = letter;
+        }
+
+        /**
+         * 'A' to 'Z', or '#'.
+         */
+        public char getLetter() {
+            return mLetter;
+        }
+
+        public List<Long> getIds() {
+            return mIds;
+        }
+    }
+}
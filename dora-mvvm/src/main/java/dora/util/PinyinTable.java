@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+/**
+ * The pinyin of the CJK Unified Ideographs from U+4E00 to U+9FA5, generated from the pinyin4j
+ * database, with the most common reading of every character and without tones. The character
+ * at offset {@code codePoint - FIRST} of {@link #DATA} minus {@link #BASE} is the index of its
+ * syllable in {@link #SYLLABLES}, 0 means no pinyin. The ü is spelled "v" alone and "u" before
+ * "e", such as "lv" and "lue", the same as the former GB2312 table.
+ * 简体中文：从U+4E00到U+9FA5的中日韩统一表意文字的拼音，由pinyin4j的数据库生成，取每个字最常用的读音，不带声调。
+ * {@link #DATA}中偏移量为{@code codePoint - FIRST}的字符减去{@link #BASE}，即为其音节在{@link #SYLLABLES}
+ * 中的索引，0表示没有拼音。ü单独出现时写作"v"，在"e"之前写作"u"，比如"lv"和"lue"，与原先的GB2312表一致。
+ */
+final class PinyinTable {
+
+    private PinyinTable() {
+    }
+
+    static final int FIRST = 0x4E00;
+    static final int LAST = 0x9FA5;
+    static final char BASE = '\u0100';
+
+    static final String[] SYLLABLES = new String[]{null,
+            "a", "ai", "an", "ang", "ao", "ba", "bai", "ban", "bang", "bao",
+            "bei", "ben", "beng", "bi", "bian", "biao", "bie", "bin", "bing", "bo",
+            "bu", "ca", "cai", "can", "cang", "cao", "ce", "cen", "ceng", "cha",
+            "chai", "chan", "chang", "chao", "che", "chen", "cheng", "chi", "chong", "chou",
+            "chu", "chuai", "chuan", "chuang", "chui", "chun", "chuo", "ci", "cong", "cou",
+            "cu", "cuan", "cui", "cun", "cuo", "da", "dai", "dan", "dang", "dao",
+            "de", "deng", "di", "dia", "dian", "diao", "die", "ding", "diu", "dong",
+            "dou", "du", "duan", "dui", "dun", "duo", "e", "ei", "en", "er",
+            "fa", "fan", "fang", "fei", "fen", "feng", "fo", "fou", "fu", "ga",
+            "gai", "gan", "gang", "gao", "ge", "gei", "gen", "geng", "gong", "gou",
+            "gu", "gua", "guai", "guan", "guang", "gui", "gun", "guo", "ha", "hai",
+            "han", "hang", "hao", "he", "hei", "hen", "heng", "hong", "hou", "hu",
+            "hua", "huai", "huan", "huang", "hui", "hun", "huo", "ji", "jia", "jian",
+            "jiang", "jiao", "jie", "jin", "jing", "jiong", "jiu", "ju", "juan", "jue",
+            "jun", "ka", "kai", "kan", "kang", "kao", "ke", "ken", "keng", "kong",
+            "kou", "ku", "kua", "kuai", "kuan", "kuang", "kui", "kun", "kuo", "la",
+            "lai", "lan", "lang", "lao", "le", "lei", "leng", "li", "lia", "lian",
+            "liang", "liao", "lie", "lin", "ling", "liu", "long", "lou", "lu", "luan",
+            "lun", "luo", "lv", "lue", "m", "ma", "mai", "man", "mang", "mao",
+            "me", "mei", "men", "meng", "mi", "mian", "miao", "mie", "min", "ming",
+            "miu", "mo", "mou", "mu", "na", "nai", "nan", "nang", "nao", "ne",
+            "nei", "nen", "neng", "ng", "ni", "nian", "niang", "niao", "nie", "nin",
+            "ning", "niu", "nong", "nou", "nu", "nuan", "nuo", "nv", "nue", "o",
+            "ou", "pa", "pai", "pan", "pang", "pao", "pei", "pen", "peng", "pi",
+            "pian", "piao", "pie", "pin", "ping", "po", "pou", "pu", "qi", "qia",
+            "qian", "qiang", "qiao", "qie", "qin", "qing", "qiong", "qiu", "qu", "quan",
+            "que", "qun", "ran", "rang", "rao", "re", "ren", "reng", "ri", "rong",
+            "rou", "ru", "ruan", "rui", "run", "ruo", "sa", "sai", "san", "sang",
+            "sao", "se", "sen", "seng", "sha", "shai", "shan", "shang", "shao", "she",
+            "shei", "shen", "sheng", "shi", "shou", "shu", "shua", "shuai", "shuan", "shuang",
+            "shui", "shun", "shuo", "si", "song", "sou", "su", "suan", "sui", "sun",
+            "suo", "ta", "tai", "tan", "tang", "tao", "te", "teng", "ti", "tian",
+            "tiao", "tie", "ting", "tong", "tou", "tu", "tuan", "tui", "tun", "tuo",
+            "wa", "wai", "wan", "wang", "wei", "wen", "weng", "wo", "wu", "xi",
+            "xia", "xian", "xiang", "xiao", "xie", "xin", "xing", "xiong", "xiu", "xu",
+            "xuan", "xue", "xun", "ya", "yan", "yang", "yao", "ye", "yi", "yiao",
+            "yin", "ying", "yo", "yong", "you", "yu", "yuan", "yue", "yun", "za",
+            "zai", "zan", "zang", "zao", "ze", "zei", "zen", "zeng", "zha", "zhai",
+            "zhan", "zhang", "zhao", "zhe", "zhen", "zheng", "zhi", "zhong", "zhou", "zhu",
+            "zhua", "zhuai", "zhuan", "zhuang", "zhui", "zhun", "zhuo", "zi", "zong", "zou",
+            "zu", "zuan", "zui", "zun", "zuo"
+    };
+
+    static final String DATA =
+            "ɧńƒǹȠɕĀɍɾȗȠɕƀĕɮǄśĨĨʉǾǰȦȦȂēɦıņȰĥŅȂƫŅɭƫɣēȘȨƉşɢǼʄƀƅŖŨīĠƮʍʆĀɍĺɏʆƇƨƊǳřɧɧǎĀƉƉɊƿɧĀʃɓɻŸőƥʄǵǫǽŸŧĥĥɧɩĀǆƉǹɦ"
+            + "ɔɗśŅĀĀȨĀȦƀǐƁĀȦĀĀƻƴĀȐɔɣřȝǍŜĀĀĀĀǻʃŪŜƴƮɧƌƥĀɮʂȦȦŐĩɮƝɮɱŸǹɓƇȰȵššɢəɢǹɢƀɅɎƑȸƄŮɧĠŵǌĀɗƇɃƫŵƇɦǿĔɭəĺƪŌɏȋȋƀĀɎɧ"
+            + "ȤȋƥńɷƆǸĨĆɾƆƅēȌıŗȗƵĀęʎȦȸɾřɖɖĞŶɄȋǻŜşĿĹƯɧĢġȕȠɧǌǁȋƁĢɤǻʄǰɍɓƂƁɥŖęȋɎŕĿœʄǹǭɮłŋɐɧɚƑɧƀĂɓƀřőɝƆċĤřȻʄɭſŽɮĵɱȗɏ"
+            + "īģɢɖȠġƵęɡɚɏʆĦɟǑĔťǗǗəĈɞƯʅȤȃȰčȰƁǰɧȰĂʂŁůƻĺʆĕȃĎȡİɏĿʆʕɭɤȿɽŲĎɊȢɮɧŗʕŤǝɄǗɟƊɬɋǻĀƎĀǭźŲƤɗşɤćőǈƁǎēƀŵſŪȄɁƄİɧȦ"
+            + "ɛȤɊƐʃśơɧĦƙũƨɩȦǃʆɞɭăƳǋŐƵņĞĦɡţʅɧȐƂɕƁɳƷĀƄʁěǽƚğǝǟƆɓŷƈĥʁķĨǿƷƊȨɃȤɊĔǏűďɈɮɔĳōȂɞƜƘɓƍɧřƣʑǽƨɬžƇɖȗǩȳřɔƨǄǵĊɮȰ"
+            + "ɕɚɝɮȿģĨĀɣƫƨơȰƂɝřŲƊɘǩƂĐȿŔŖɢăċɮɚĎĦġʃēɴɥĵƩɍơęʏşŨċɀȨȨǁļȺƌĭɛǯȻŷɧǹȿŜƇƅɞġƅœʃƖƋʏƊǻǗƵʍɒƶȱƧžņʎČɓƊǎėƂɼɦʃȝȀĀ"
+            + "ɪĥǻɣǢʄĮƁƅɏɮēȔȿɏǱɣŖȻɒōəģȥƐĿʕĞɃċɦżɥɽȂɣɭƂɞɻğřĎʃʏǄƀɧəɡȰŉěʁǧɅɅċɲƲƅɏŕġƝȲĦȳɕřɯȎƨȐɱŤƺĉŁȻűƅɔȟǻƌęĩȗċɘɬɥȸȷɎ"
+            + "őēƁĹɳȻĀĒĩǣɴƦĵɬɶʏǯȱąīɮɼʑȠǼǼĦȝůɾȀɣĿɔƲċǲƆƪƳƼǻɖȂɪņʉɗȟǽƈɈʔǸɔƤġũƬǹľĠɏɾŒŽīɂĺƄƉȜŕɖƌōƄƂɄƮĔťɖȳɖƃǇɦƆƁǽǰŖʅĂȖ"
+            + "ɧƍǟȟɧĻƇɟƚƂĩĺƄȝɳĀĒăȐȹĨğƢǗƆǻǂɓǕȁǗġƭƦƷƜĊňĐɴʃȰɭűǿĤƨȾɏƱĩĠȈȨŽƨƶɴǣȻɣƦǐŐɓɱɴɯɜħɿɜɖũŊƓŊǄɆġŐŊŐƆɆȰɣɣȦȦĻǻŇŕƾɚ"
+            + "ŇćƇƨƜȐɎǓȄƫɮĆţưɔĀƢţɀŨɛēǹƊŁʎĀɤƂȧƀɧƀĠƈƾȇǓɯƾŝȇěƈěɳŦƈƾʅƾŤɞǄǃȎɩəƐƍǟɧǃȦŨǂʄʓɯǈƗĀřəǃēņȹŝŖēŸħƌŸƜɦƧǪřǇņɖƭɕƂ"
+            + "ƇȨǀȠǹťʌȱƇƫȀłƯņŜƂɩĲĂƨęǈʌĵȰŌƆƮƮǝɔňƀŒŒŒŖƊĩĀŖĀĀřŖǵŖƏżƏŜľǵȃɜƚɆąĩƀĻůůɶļłļȋȋĬŕǾɧƀƐǻĶĩɐƀĺɛŹɍƌƨɰƭưɷŝĬřĩȃƊ"
+            + "ȟǇƯʄǪđƅƅĊƨȟđĠƇŦšļĬƝƘŌŐʃȩȄĞİƓƅŪİŪƏŌƀȿƇƲƶɷɯķɠƓƠǻĞīŦƂķƨȿŔǷĠǹĬʎŝɍĔƀŌȀɣʍƂƀĔɣƊſȥƂŌŉɓŦřȥƂşɻƏĬƋĠɇƳƨŘȟǲƗƄ"
+            + "ŦǽƌŹɻʍƪƊǰưŪƄŪƂƂȻſƀƂɧƂʃĠĴǊƨʆƨɢȄĈţƁɓƻƭƇƕəʃņʆǡƅȃȡɧʆǊƨƇƤƤƋƗɤɋɘǋƜƅƭŲȦƓƇűĔǇĦƣɬɬǄƓɡƋȀƳĕǂơƥƏǄņɞɞƐɓɧɡɑȥƤǌ"
+            + "ƳǲȦƀǿǼƄȄɗɧǽŒƋɄƊĺəƻɡɡƷƨģȈȄĊȡɱƉĊŤɓɱĀĀśśĊıĀɜǯƊȼşǸăǬřţĸƉȁĎŹċǑĦœƉɧɲƃƑƃƜŸɕȃŒŪǾęƜŔŸɮŪƝŽĺƝƪƪȴňƉȃɔǰȃɧăɣďǗ"
+            + "ȃȦɚǻǘȕʑȥɓŽĈȦɔɍŹəɍċʑʍəĺƻǏĺƀĔȪĕƜďĕɽƎƳɭƳɔŦɒəƅƅɏĄȁʃƾɩɏȡƀȅƴȦƋəɞƆȅɓƀōȀɔĀġůōɃƨʀăƨɢɢɣȢʃɻǫĀƓɢʃěǫȿƨȢŷɃʓķŔɯ"
+            + "ěɯɗɣƨƌȝŁĩƉǿąŪɣȰƨġƢƨɣɣɯȰȰƮȂȃȃĀƦňɖʉȗĘĘȗĘĂĹɭĞƀɭȬŒȧŧĆőȔȦȨʋȃȧďɞƁǪȲƀɮȲŃȒıƗťƊƯŦȼƗʃƄɿĆńƓȹĦȦɭȂǶɦűȰȺĦƥłƀĀŶ"
+            + "ǆɮƽĦşɟɥʎŲƀłĶɄǈŷƨɆɗɻŲɦƷāƺǧɠɧƍĨƮɉɩŔĎǿǿƅǷŘĆŋŕōůɃŰȮǹŸʃɩɓɓĢǍįɔĭŇɐŷǧɓŞɢƍƷōşǀĹǹĥɓŞřƄŶĦȥǍɉƹɧĹǧƨċɯŬĀǼɓōȦȄ"
+            + "ǮɐǗǋƯȇɭĿʅȦʅɽƯɧǹǵʎŦİɏɞŲǑɕǭɧɘȤŸǈĸȃƊŜɲɊŌǷǬđřĎŲɲŲŮƉɬřĸʅɋƎťƎʕĕƱņǝɻȰɖſǹŐōũɻɔɧƭʎǆǃʃɥƀʅşȪɴɘƓŽƙźȼɖōɟɝŬɣƤɧ"
+            + "ĂǴȤɄŶɜŌɋŭɳɭĿǩɗĂšƜɢĸɘĎŽĀŹĀƚŌĀƀǟǋɫűɯƱǷƽşōĦȡƨǍʑŲƘɘɖƤċʀɻƫĆǃƥȵŘĕůŵŢȯşɭɣťťćůȷĮɧĂƁɆɖŨƨɔȻʕǉģɓɶɢŇǹĿǿƺĀţŇĀ"
+            + "ƤƫȷɶŻĀŤƀʕɒŖɩŸǹȧɏȩġŐƨǼăƅɫǘɮɀơȝɔɊŸĂʅǠƔʍʍȠĿŵƮāɘɗɉɓɐĵƅŸǹǹȼĺĺɍʎĎĵįŲɢǹʀŔƫɖǰȝƠɷȀŦǨʀȚʉǛŬƶɣĿȄȺĔńƣɘĀȻĦȿăƉĺ"
+            + "ƎɬɏǏȟɮʀƠƅŷůŃʅğƚȊɮɩɴɥɒǄŸɱīŽŻŻɔŲƀƝʄɏȝɞżňǛɟƫɮȘĦǽɣĺǮȦƨɫɻɏǅɪǮĀƝɔɮƅƲƘĚſȿɥŲāɝǼȚɬȳŶəĂȷƺĞŮƓĸȘĤȐȲţƀǫɓǻȦşʎƅ"
+            + "ƶɑɋȰĦűȷƁŮȷǿǛŲĀȖǖşǍŀĂĀɄĎąąƪĵʀǊȲȲȺĿǹƄħƄƏȺȗĚƁĀɘǲƲŚťɘŸŽŬǧɖɷġɞǶĽƺƺŸƦňŚȻɦčɪĀƄǃɘŹƻȇʕǯƤɘƀʆĢƝʓɘȰűřƬǽɔɞĠĺų"
+            + "ɡɓʔǪĦƝĘɴĳĺɮɉĥƄɦɔǹűƪɞľŽɩǸƌǿɡǛƳȰɣɪĸɽǦʅƆǟŽŽǹōɶɧȦƄɯĂɬɠƚɮǮļŚɚŋĻĀȖǰǰɩʓǝĿůȸſȐűɕɣŌǰĨƀƆűȿġĀĀĖȿƳŽĊɭǛɩŸǊżʀƨ"
+            + "ưĀǐɘǊɣƨƳƱǊĺĤǴǰɗſǊɔŌƘɣĠɪȈŁƠȸɘƄįŻſʉǛɘĖƨĠğƨɧƶǐɴȳɔĀƂɲʆƢǛǐĀĀɏŽɩȂȰǜƂŽɚɩǏɇɇŋƑɯƈǱɱıŸŽɯōŬƞıɏɆɏƵŬƍȍƯťŬȹŬɆɭ"
+            + "ŬɩžǸɮůɯƵȄɮȀŬĭɏɯȄƘǸɯɯōɆɆɆɇƸŽɧɯƴƴɆɢɆɃȥɣƳĀɢɳɏşɮɓŪǰɧĿǻǻʁʍĻǺĀĀƜġǹǛǊƀƁʃʃĈɡɅǿŕƍƕŋœŕČȺƐźʕƕĎɛĿƇƀƚĿƇƂȺƨĆɓŕ"
+            + "ʋǶǪȻƞȃȺʃɊŜǵŁɋǗȹǰƈɤŗąưȂǌƓŤɠĆĦģƯʆřŸʃĭƠƱƱƳąĀǬĀɛɄƀƓƳİĦƦśɩŷŊɿřũɥŌŌŪĞɤɩőŤɯŃəƔȠȧōĀŁŶɢƙĸĀĻƏĀǑăɛɖŻĉǭĆɧɩůɞ"
+            + "ĭĜŢĂǯœȅɬƍƁĿƻƣɟĥȟƆʀƭƭǸĥĀĕȦɡŬƈɦǘĿɮĕɓƋȵǰĥɍƊƵʂƖʄņĹȺăėȨčƐʃŌɧʃɧǭƀʌǹșƊǗƘƓȻƞǗƂŊƆŝɮōǯťɆƧĀɢǻĀăĤŌǑɆĥɩžĎƪŬŃʉ"
+            + "ŷĊĊɮĿƾƅȑōŢƐʏɮżōɥɣĊƀǀġňɊăŖʄƅʁŵŝīƂĀƦŝżƧŉɍɟƀƀƚɪȸĥɬƏȳȳȦǃȸɑĥɆȻǽʄƨǯĉȖɵŊɀɓĥɡşʁĂţɣƐɀɯɐəưĀƣġǯčĤƳƳǧǻǀǊʉȬȨƲ"
+            + "ĦƼĐƇěȨĿɾƐɬŁĤʃƀŬǼƆĿȠǌĵɣȸɺǹǼƫĀʋǽɺɞȟȟĆǸƚņŒȅǊŋŋʔʓȥŌŌȺľǌŕżȺĸɦĩĀąǼƀǽƔɧǰĎŁƃɦɬɠȺƢƊźĻȈǻɟƢǃŲƏɢļűȑĀƦƜƳɣȺɏźƱ"
+            + "ƱȒƨƮȈĠɡɣƦĆĀȦȋĀʊʊȥɧƻǽʆʊŸŸƞɧŸɞƞȧƽʔȧɧʃťĩɗŖċĀďȵȆƯřʕɕɜĀǑɕƝɔɌɯƾȳŌŌɦȀĀŤŤǹǂǂɩſĤĸɷɀȹřŧɥɤŰŞȦČȹɅɣĎɧƙƁŌĀƜɱƁĆ"
+            + "ŏƪŻĿɣǬƋǹǎŖəŕŁĀƝʐŻǹƏȢČɧƃȼʊČɔżŔłȵčŁąȢɑǪąɓąƃƪŌɱƃȦŕſċƪģǤǡńǎǻƂȸƉǏĞűɖŒƀȯȐŔɎŶʊřƺĺȋřƇɣəɐʄǨňƀƕʄɥƆɱǅǭĦɰʊǞɣ"
+            + "ǍɚŕĎɮɊŖɯœɓɮŪňĆǗʅʅɿĸǎɯɅɟʃōǀǊǹĎȤǾōŲɞőʂǗĈǌřƯʎʎȦȇȟɤǻƅťȰɛɏʎƊȟǴȋɥɄƃȨƀśȠƟƋƄŤƤƂƂɧǘʃƀƀɖŵũƍƙɣǈƭǭɣɭɣĞɖɩĦŪȄʎ"
+            + "ȱɏŶɋƲɢȉƄƴǵɖȡƨĥəƽĀȷǌɏƓơįńǙƕǏɮǍǭȵƋȤʃůĿʊōǴɈɖǄɓɣɓɔɣɮȰɮɋƨɖƊȃĭǹɖʋņġƳĂōōƲǄıǷƊǶėƯɍĐɘȨǹŽřɒȒȺŔĀƅɀǗȄƇžƇǻŁɛŸ"
+            + "ɍơĎɩĨįřƇƵɣƢƞɩɢĀƨŁɖĀŹɪĠȤɃɤɥɓǏįƁɅɞɮɏȿȏǀĺȑǿĀɓǻĮƾřƅŉɔʄǀżǄăɪɟĀɏǀɯʁȂȿəɊƪƾȇȰǱɏɋƉŸąĀĊɞɅŪʐɥǰɔɯɪȎȐĦưǀǪąƺŤƝ"
+            + "ǿƁșʁɯĞɬǈɪƀȳǚɖȼǫƣǚĊĂǰǴɧǲɮƦɟƼɧɾƑɬǗƨĿŪɣƆʉġěůǔƤǊʀŸŸąǔǼĀĎťɓǽɊɽƾɖɖǊƬƪŹŪľʃɞĀŹɔŽȉɔɣĠƄǀŒŒɖɧɏĠŒȦĎȟȵǼƪŻĀǚņɧ"
+            + "ĘĂǙǝƺɁĨƆİɮǴĀɞǎɣȹɪĘǚĀɪǄĀƺȤɛǗňưɯƢɣȬƯƄǙƢɖɪȬȪȄǃƨƴɣʆƢʎƅƌƌƖɱʎʎĶȶřċʎɘɚǂȰȹĊƀťǡɠĀĠŮƴȶǑǆıƂȨĠɢʎǗřʎƨɠĔȐǎǛǛɪƴ"
+            + "ǄǝȎȸŪɼȁɮȧăɆȱɍȏɥŶɧƇʌǃŧĻŶʏŨʅńɍɧĊȦȦħȤƓɟȦɭŻɧɁȦɖţĥȆţɘɳɻĊŮɣɘƁȤĤȎżǃƗƛĒȳėɴƀɯƀɩǃƗȀŲʁƂřǝēŻǀǿůɮȦǝƆǝʃɮĊƛǝǿǊĞ"
+            + "ƊŦǿŸɓƬȦǝɼȤɏəƛŽƬƍŻɧɧĊǿħĊŖĶŊȰɡļƷŊȧǶŖʉřȢƓƃƃʉɏʔɡȨŊļɘƀȡŐŐŐŚƂȨĤȠȠɯŚġƬɖɖĀɎɎɭƬƬɥƽɎɎɎŚɥŌƝʄƉŜťŜŜŜŜȦɩĦƒǗƆɏǚ"
+            + "ƊǰĝɔĎƊƅɀȃȿƅɓłȦȦǵƀəĤɔǗɽɔĀƼōƲǵȿŔȨəɆƷƷɔĝƷƊəƊƌƬƌȨɔģɉǗȟɋɖƨōĀĀƱɧǹȋɓůȤɮĩȵǹĀɰĈɥĄɢɓƅōƀǻŕɍǹĜǻǹĞƅȃŝɖąƢļĆɼʕɤ"
+            + "ƊŝƓŤɠĔƨɁȃɣřɝƁƯɊǭɭĹƜɰȃŸǶǇăɁƯĦĀņĀƝɝƾɄɠɧĀŲƓƶōřɡŃƳƣŐśȄɄɧǌȦăɏŸʃǃƨƀɄƝɭĀɕƨɥƄʂƴƄōōɮɦĕǽȆŖŖǑƨɭɖŶļȤĥɆŢƍűɕɩɓ"
+            + "ƣƐƤơɖȅƖħħȸĀŹƊơǹǇƞƞʑťĵɢɢŝƵƵƧƌŌĥŬɩņůʂɏɥǰɣȱƅčʑƌņɽťɩʎɷżɮɏɤŖȂŋȿɧʃȦɳɥōʆƐƷɣǀŜƀƀŻɃȥǀǻɓɮʏƢƅɣɣɏʏĞȵȎƓǿɮǹƲɆŊ"
+            + "ɔɑęĻȎƅĂưɓȱǽʎɏčŁķǻɬǛķƀĀĀȱʏƃƬĀĠĿĜńɆƲɾɽɽąĚȃǼʓʓļļɔɮĔƱɗĝĔǿƄɣƤɽƮƬƬƆľŌʔƄŪɥǽɥƌɽɧɠǑɦɦɧōɖƀəƓȵĿąʓĀɧȎļƯɲɮɰɩĀ"
+            + "ƅƨȵƱƱŁɪɔƊĠɪƝɣɏǑȄĢĴƴŁŁǛɣɣɣǑɣīŪīʅżƇɡĢĢƭţʕǽƊţĀɓĀĀĞȂȂƀɧȰĆʃɿɗɧƆɡƋĀɡƆřɲĎȦĕńȪŒǛȦŕǨʃɔŸĺɏɾȻĹƺǭǨɂřƪʃʅĔʃĿǊɧ"
+            + "ɧǵǺƋȐȪĹʁȭǽʁȦȆɔĉĹŪĨǵɾȝɍĹɏġȝǹɷŬƾňŷʁɞǃɏɒřɧĉǵĀţǪżļǃƁȾŽʄțƼǌĐŬɷǌĉɾƈĠřʃŸŒĬĎĎĀǃǽĺŕǂĉĨǆĩƅɖƢŜǵǘƂēēɛŜɥŻɭɭƀũ"
+            + "ǰɃɷũʊǊȀĎǿŋĬŪɢćƅɞƳɓĀƘɪĿǬŁɢǅŢİřɄǫŔɗɧʃɁʃɝňʕɘɆŪƘǫɃɭĕēĥơĎƀăȨƑɬɊȱȨȀɮɮǅȲěɗŔƉŲŽưȝƪƣȲƂǷȀƉƉǿąƟƲɩƬĹƳɧĩĠɆȰɚǅ"
+            + "ġɓŔũĀŧĎǼəƮƮƬƳĀɪɖɃɬƨɃɩɡɣɃĿǶƂŽǎŽţǘƏďɧǹǟŕƊɣɧɵĎɧɧŐȗȦŐȦȦţłɩŸřŶɓɈĦǼĆȤĿɾƌȼřĿǃɖŸĢǡƇʁɧǃȄɍȡȔɟƇłɾƃǼčĺǼĎĎȢĺƂ"
+            + "ŤĀőĎƗĀđɘĺƜǼŶǃƟɍƌƀƀŪĻƳƳɇŽʃŽŽɧɧɧɧſſȟɛɾɄɣɣɮĦėĐłĒǯɬǲɾɪĦĦʍɊƀǫʄɧɎģĎĿƯřɎʂĳɎƇĹɔɡŴɤźƷŷɎĥʃɞƇɆıĀơıĽǩɔĀǹġʃıʅ"
+            + "ơɮəƅƂĦƁďżřɡɏǫɥɏɔʂǲĦĽʂʃđĽħģƄɏƄŽǀƱɗĊȃɚɚĎɧƥȋļńśƀȋȋĠȺȽȽŜǹĹĶʃɎƽɔŒɪɀǇǇʄħɓƀɓɔɦɭɍʏʄƚɮďʃĦĵĤȹɉǻǘžɜǞɎɖɚƑŸƏŕ"
+            + "źȹȱɓǧġĬƊɧĊĢǇǰʕɹɤƗĈǡǑʂǨĕɂŸŸƊĸƪȰʅĿĹɧɆɭřƀǯɛɯǗŧřɔĎɭǾɟʏēżɞĩǰɔɔȺĀʏŊĀĀɧĦǔɡȦɔƤŵƜǋʃəƪɁżŃűƖŪŵɔɘȨȖŸȂɤŽŽĦƁɧɜ"
+            + "ŧƮŽʎɞĦɗǤŴŏƓņɀţȄɔǺɰǯƔĽŽōĀɄɣƏěǑɱƽɬɬƋƽƞǽɰɮɮƅɔʀƮȿůűǾȿĕɧǻŽɔċƼɧŵȱȄĥƝɓɓɭƨƫŻıɧɰƨǜǑōȅɟǻɓǇıŔċĽĵġǁƨƀŨŨɛļǹƖɀ"
+            + "ƵɔƐƞǗȀĨŋŬĠƇɍɯƆƀƮɮſŲȄɣȿȿǛɎįŸžɔġɚɏŽōȒʏƂɬŁƊĘĥĽċǾĘĺŨŌǑɱɗʋŃżĮȁȊɛěďžʏȿǽĨċɟɏşǻɏɮɮĎɟŻǇĎɧǄɬƏĻɩōĤǋǺƓɮĂǾɣǣŜ"
+            + "ɱʏȖƧŕĀƝƝȅţɱȳȳǹɥȱżĀťƊĬȸəƏʂɬĚȶȤĔƏɯəžɬɤƨșȼɩİɞǻȹżɱȤǈĀȢıǲǊǌŬĦĘĘĘĵǇǗɾɄąȬƼŨȅɶƉŽƏƪǧȱƆɩƷȠɏɇƼǻʀɬȀƑĿʃƷƋǹǹɮǵ"
+            + "ƬʏɭĬʃɄĥǹȃǯċđĮƄɺĦƪǵƝŽǽĥɩɩɔɔĺȺŌŊŊȳƌěɘŒŕƤƤħůǹɖǇƇƬɓĘƌĨɖȺȥǰɧĩɖǑĺȺƇȱůƄɏŻņǿǿȃĚƔəɪąƾɧƮȚƍźǁƢĂƮɣŦɕĦɮɩĹǂĂǂŊ"
+            + "ǹǊƢǁĨʃǣǣɣɤĔʃɛƜɭřưǆĥĀĠǂƢźɟȈĠƀƊŻȢɧƪǏǃȻƌŝŝʊşɰɓƂɞȨȎɔĥɒƅşƂǼſǼɽņǹƁŃėƁƀȦƐƀƝśľɽĬşƂƅɮƂɣƳɔɽɔɔįĹȃŸŸŸōȦƨƾŸƨœ"
+            + "ȷďŁƈȠɧɧȟŸŔɣȧȧėɻȂƥǸĆĸȌřĀɳɊɾłƑɮƘůȤĞĦťƗɓɊǻʃĞƟǁșɤǞĈģȉɔǻĈƁɮřąɔǰʃʎōŋɿĥƀɣƜďĢƊɐŸɰƌĆǿʁʂɱɍǍɧȨʇǷɅŇƑʀǷřǬĆąɷɇ"
+            + "ƗƵǼĀŸĊēʃǯȺǸǰȹɥʁɻɤĊŲǗɧĿĦǰɲǊǊĤɢĨȃǇĩƁřɻʆĺğǌǘƠřǬĈǩƮǍŧǻƊɊĆɊɊąƊʍǪɿććĿǗƊƟƱƂǺɬƢǝĔɷǻŴƟȦƅʂǜţţȄȫɉɴƒĦəěŽǴʈȦǍ"
+            + "ĔĦŦʃƟŌŌʃǾăǟʁşƄƙņȐɁƭɻƷŃɋƌĀƊʃƴɢɒȸəǑĻƄʂƀŽɖĀĂɊǣķĔŢȿʁĥȷȷƕǀƱƊǯƂɧɃȟǣɍəĞŖƄɓƍƉɄƞſɆʍǷƷĆůȡǛƋȢȨɦƌĕŻĕƍɧɼƷȲɊƤȶ"
+            + "ĉƂŻļĀɍǿǯȢƭǇǁřćƊļɒĂƋɰʏĤĭƅɆČǍǘǣʑɒɔɖĥŁșƵȀŝŌȧłǷĿɾūƀȼǺǹǩȨǻƯɦɢƌʂƫŦɧſȟńƸėȺģēƅȿƖɈɣķʐƊɀǻƔćȧƅƳŧĀĀʃĺĀĠșŨǯɯǣ"
+            + "ƂʂƉƂɮɣƝǏŶȏǰɏȖʐɟǅȿǛĞȦʏʁɧȮŵďɤŻɣɴăɞɢɒƓĪƀȿƠƠĥƏƉƉɆƅŽŢħȯȢəɯǻɦĞɻċɥĀĀƢɐǿĠşƲʏŢƄŤǿɬȅĨĪɽȶȶĔĩȎĉķșƓɥļʃǡəƂȲȂŞɖ"
+            + "ȯȘƆǆōĭǣȟȸƅȻǪĈĸƨȼŸʃɋɕǻɐǼĤʁōəǣȄĞɻşɓŏȢţȢȨćɥĒȲȺȝĠȷƬħĬŬēŖȪĿǹĀɼƪĥĦŨƳƶƲʏśŸɻĬȻŹĵǎǊƃŪɪʃąʃĦƼȟƗȨȷɇɿǊǊʀĠƕĐƃɩ"
+            + "ŤǻƬƀɪƌǳǳƤŋɖȑƝɴɧɖĥĥȕǑŵȰůżĸʔǘƮʂŽʊƄƀĚĺĺģĔģƌɘƬČřǽĔķʍʉɊǸǿŋǘĀəƳƄĴȸůǽʇƂŜɬƦƟƳȟʍɷǸįƀĻȚĚȀƇŻƅǿƚĺəşǰĔąƊɦĀĀȲǃ"
+            + "ƀȹʍļɛƢĖƊɦȐɦɦǗſƀĒǝşʃƅƟǊƂəƭȺćȲƳƸȉʃǪɤƦȕȨɴǘɖƍſƸƠůɪƳƱǻǻɴǻƢȗɪǀȈĠĀĴəȢƶƍǃƨɴƴȺʒƨŁɋĻƄƌƢƨǐʃŪŪǹɚǶǶȧƒɭśśţŜĈœʂ"
+            + "ĔŁƗǇɓťşěɘǃĩşĿɞƄǇĤƉȤŌɮĦąćɞƄŌƪǛĎġŁŌɧŜȗƓɣŋǹŇɘŌƄƇɤɕžȨĂǽĂʂĿʁřȨƬȃɜɔƄĀǽʍɧƪĎƨɠɘɐɠǹǹɼĒƌɼƣŔĈĈƢɮƢɏŇȥƬƁŸəƁɮʁ"
+            + "ƄɒɁŇƆĦɩřǼɽȃʍɽŉʍȰɚʍʍǿƮʍĩŉʆœəŰɓȦǭɭĀǫǹɽƾƷǭǰưřœɟƇƇǗʑɿɧưȡƂĀɧǹʃŒǲŒɽŧȵɮɓƀƀƀſȍĺƉʃɶəɁɡɞŚƠŜůȹĿɞĠȦƜɤȦɎǇǇɉĮɓ"
+            + "ɱċĄɷĈƅƞȥŸœűŪġɟǈžŕǿŸɧɔɚɣɷœȺȤƊɤɴēɛɪɟǭʁƯĮűǀʕǊďɞžɿʏȦȦɮŔŃƾǗġɐņĂēĄʅƱɖƜɁĢȦżżɟƝɞƄƆʃƆȠɄŶɣśɗȞɘɦɱŽůůƍɍɖƞʅɔȥ"
+            + "ȥĕʀʀɓůŽűĤɍɀʍʓʅǸƇɔȟɧɔȀǹƇŪʁɧʃăɍƮƫġɎɘɴĀɟŢɧɕɱŽřǇƝŲɪňɏȨȀƾǏƂǢăɤĮɥȷǸǈƄƏŞɑġǹűɣƨĂƀŪǁɴəűǌǊıǗɾŽĊůɟīƬɖĺƇǳƮɉɔ"
+            + "ɧƀƜĹɦɦƨȺɄɘŔǿɿűɧɗɛțƄĊƇĀĂɦȐȨǂɡɥǸƨĤƜŃĀɣſƳɔȎƱǐƶƴȞȻɣĩɰɰȃɦŢʈŸŲȨĚĚȥƼĝĝȿʓĘɞŽɩǾŕǰɰɭȑǯĈřƯŔȃĀǤɁȯʁƣƣƋǈżɎɉĢƀǹ"
+            + "ɪʏɎɄƣĀǂƱǌľɏǊČɻʆȨĀʆȋĆǶŌŌļƨȂƀƉĎɝɃİȝĀɲȄǻɮŜɓĞȟɡŒɓʎƨɛėĶȋȡʀĿɾƽĦɧťţňɧǹȨŝɁĀĀĀơȟƽɤƺǅȰɯŰŔċƅņŞɥɖĩĮǨȨŹɚĨʆĨȱĈ"
+            + "ȱƀɰɱŤƀƾǰĎɎĄœŕɧřǏɔŸɢŇɡʁɥƮȒōǀɿŬʃʏɱĀŇȨɶĀƨƳƂĥȱǼŖǏɘɖƘǵȹɔʃŧɘƁƁŤĊǊɧɦȘȦǛĎɊɧƯēǗƠŲĈŒʄĹİɤřĔǋŜǹȇȏƾɿȱʀɕɭȤƊɊʕǏ"
+            + "ǝɬĿʃɻĞĺťĀƉąřƂĔŌƓǎʆĎưğɻȰʆǭȦŧĞɥĥƉȦʃưǀĀȎɻĀĐɽʃƱņƳĀƨƢɬȨɡȫǹʁǹƨĦɗʁƨȳŦƐēȋɘĔȋēʎĨɧİɞʆƂʓŐŐɮőţƒƤɽƨĀɤŲšʃĦşɳƴő"
+            + "ƅŵŪȼũɏƜȐăăƋɧʍƘʃȁɄȘȘŻƅƉɠŌʋɮɴĀɪĀĀɽɢȉʁĻǹǽŹŪƃʊɡȷȷʁċɃƟƇĔČřȒɄƌɔƣưŖǹɐƍŜĳƫȂɃɭǀĉƱǯʊĿɟɆɶąťĎĿůʎʃȋċŢƂŻɍǣƁɁƀɘ"
+            + "ƷƛȡĜŕȱǂɓƨƨŇĜɪȷƊȿəƞʍȨĠŒɏƇƨēĀĀȼʃơƪƂʍƯƨǹēƵıǻǄǹǹėūĠĽŔǩĉǷžʏĥɶƀƨǯɮɮťžņȻŝɎĿɔŒĥɽǹɯɣɮȄɧțȋĭƧǹʍřƓơʐʐɿŨŕŕĤȁǛ"
+            + "ɍŬƳűƅɧĨƊƊĥʕƫǼʃʋɢƊċƄʍʎĒǯńĩȟĀĀƂŪɔňǻĀƝĀƶʃĀĀĀĀǯȟĀɊțŌɦřɏɏŉƁʏƂɧȤɔɣɣīɽĮɮŲɻɒďĎɥſɞȔɤƠɣČžƝƅƝȰŖəɊƀƂǌƾĩŸŸƪƧɃ"
+            + "ǏɮɭǀȱɟɟɪʁǱŃƀƅɦĩȮɮĲɏǀĿƀƅƏȂɪȏŵƲƥĀŪǴĀśȺƢɱɮĤƷƊĀĀĀəƁɧɽřǣǃƣȎťƂƊȸɥʁĉȝɯʎǈȳƁɥƅżŜŔɻǻƺȶɯəȎȦʃĵɱɃưȎȻȅɼȰȥȸƓɔťǹ"
+            + "ƒŞȶǪȼşɡŁǠƀȯŤĭǼĞǻźǀɞŝŞʍɊǽɤŁƁƂʓĀƱĒʆĀɔǹƪŽɬǻŬśśɇŹǹțĵčɭŸƃŸŻƝɧɧŞƑŪŪĚƼƆĿʊƥƣĤıƨɝȀȬŒɄŨƀȷƦƳƫǃƲĢȳƓĩȻĐƳƉȨɻȨɾ"
+            + "ǁǊǚɤɁǯʆȝɔȄŵƂıĀĀǼĀɪŐɚʃǽʓıǸȨŹƝʁʔɰɽɔɡŁőŜǊɓǽȉƮưǽɖȓŒɽɊƤɱȮɈĥȻǂƊĥȳƌƌȺŽƀǣɗɊǝȒʆɄɺŕȁȇŵĜťưƤŞĩĀĀĀĀƀŇĀƳĀĀɯȸȨƃ"
+            + "ȺƮǟɩɔȵȟʓɟĥŜƊʓɧǿǸɣƦŖŽĻƀȵĔĎńĩʇŪƀƁƁȀʀƂǼļɧĐȱȢƮƨĞǂɩȼȹǄǹĀĒſƀǻǃǝɧŞƂɩŐȀɣǹǃɿŪĮƀƝǶľĩĀǄɭʃũǻƦƦȕƳĀĴƷǆŽǧƷʃŞňɯƨ"
+            + "ŔʆȲƪĀĩĀʆƳɣƨʆĤƅōȳźǛɮƱơĀɖĀƊɘƯɪƂɩɭɪɗǟĔĠƢƊȬȢɏıȄȃĀĀɮƶƨɴƴĻƌĀƢƢʆƦƨĆǐɮƯĀǻİŻɚɮɮǻǧɞĢĩǹƏɧƌɔɞɕɮƚƣƛȯɔōɧǹŸĦǿƛƐ"
+            + "ƛƐīȝĀɩɚəɮǻɘɧşɓȺƆǧŸȿŻɞǮɔɘŸȢĀƪĩɧƐɮįŻʃʂİĕɓǹĕĕɌƊǻĦȚĦȚʄȵȵƨķɮƨŪĹĹȰƂʀǊǊɥǊĳɤɀȥĹȠɞɡȨĘƌǲǺȂȳȀɱƪɧŘʃɦĘžĺƀɦĀɱɐ"
+            + "ĨĒȿƆȠɩłĳŽĴɧĺňƃƪĒňƂƂȨǧŉʆɩȀɧȝƓƓɥɡŁŽŽťȅƀɧǧŽŉɧɘɓŨǌǀǀĂʕňɮĎĎĎǰǰĎĠƾĀĀǰĀƁɽȖǌɊɡŐȎɖƊǌűȂŇĀȺǭƊŌĵĎȗĀƾȵȨɮɊŲƂȸȗ"
+            + "ƷǌƨɄȎġǸƳɽșɽǂƳȃŃȦĿǇƌƽǹǳǎǹļɖīŕȍǓĀřȤņȀǹɩɔŮɤăɢƓȀɢņĺƷȀɤɱɱȭȭʂēɬĻȭƥǗɉŒŪɃʃȂĒɷǄĴŽłůĞʍīɍŒĹɔɊƽȂǹȟǩůǻɓɓɡȰȐţƃ"
+            + "ĦɓĀĀȻʃĦǻǃťɎȀƇȒƍŶȹȄƀďďŜɐʄœɜƌŸĀǹŕɞɞǿɧɒɱɯŰɣȤĤĺɭŋŸſǹǌȏǀȸǄɓħɀĎȝʃǭǪʋɲŤưǀɷŖǧƨƵęŖɏŸǊǀȨƊɴɊɊŌŲƨǃɧřŔɭɀʃɿťɽɣ"
+            + "ȰƜƈƊəȂɧƁʄȄĔŽǃČʍĩƥɭťŶŜőƾȰŸǵİŒʃȳǝĥƯǬĔǹȰǗƊɰʆȥƦɟɠřǪǇȹɤƀɬŨčɠƱƳĺƶəǶɷƇɩʅƅɧŽŽʓĥɩɏŷƂɤƭȰƀŐɛřȕʎʃɩɓɔƒʆƃƶĀăņɧ"
+            + "ǋƦɧǃȄƆǶɏɘəŶɞȳƜȼǾƊŐʅȐǵɡɜʃũŻǈſɋǺǩɓȃưɧƁƇǻƃƄʁȦʍěĀŽƀưĠžŸǟɡƆƭȂɏʀƍůĉƽʍɭɔĔŇŻŶɧǸɪƢűƣůƨŢřɓƨĮŖɧɮɄƤŮƆƁħɑǀȵĥǭ"
+            + "ɖȤɆƞǴǛůƇɘȢǘɆɬɘɖɃōȳɉƋĜȿƨȭȰƦȭȼňƤơƪɏɒɱŻĿĀȓƂɾȚřŨɛȧȫɢįɾɦƖɍůɊņŲɒƊŜƫžȸʍŁǾĽƋʎɔɘǹťŬůƮȻʅǯűġȨǹœĦƳǑƊȼıƦʃǯŔȱɀ"
+            + "ǰĺɮǗɮƳŜǃƇƯƵɩĵȃźɮǘȤǲĮŸɯơžȀɣǻɀǅʃɩǃČɯɐȊŔȀɯƓƀȢɯȚƳʎňĀƂǄǰɔɮɯȤȤȏŻʆƂǢɮȂɃȃňŖɻĔɒɒĿɏɐȐəěɏşŝɣŶɟǃƓƾɪɣɭŶǅɛǀɳžǎ"
+            + "ƝȦōǩǀƪǹǹǀɀĲɏĘɇǄɞǊɞƀǮƂƂŸŖɗɧɩɽȦƅʁżȺɮĎǇȦɆȥɬƊʄĀȂƄĀɩȻƱſɯǏĈɭȄĭƫĠɣĮǛʎɍȦƼɪƠƝĀƂɞƲŪśĀĀǶƆŪȻɯȷɯƪɥǂʌȥƓȹȸɋưŤșǈ"
+            + "ɻȦɧƵƺǸɏƨėɓɔɐǼěȦȳɧʁȲɱɝɩȎžȳȳǗȸȦȐɏǪĩĩǫɑęǆŲŁűżɔʎĿʃɪřƅŹşʎȼȾȵĎƄŽūɩŞƱʃɣȢƼɪĮƷƢƴɘĒȺɮɝŸĎĐʃƃƗȤȠĿǃąƳŸŸɭĠŒɬūƼ"
+            + "ȀɮǲƀɢƄǹɔƀƳƷƱƆŬıƲʃśǼƨɣĚƄıĮɇǧȾɦɔǃȻǊȠůƪƢɋƨǻŖɟɧƼʎƽƑƶǯȨɾɾħɞŻƟƂɣĬƬĵȿɤƃıɪŶɝȨŨɪɘĀĀɞƪʃɏǰɮƄǶɗŽƅɓǨƀǪɏɘǻǻɔƳɔ"
+            + "ȶŋżǇȓȳƬʁʄɧĿɍĺȺĢɡƝĀȡɆʆȕųĎȟĠĠȨɄǸƮɏȚȚĥƈĥŹƄƤģŜĶŵȰȨǯůɱưŶřűŲɖƂȟɔąƳƢĀɮƮǇɶĻŻɷəɮƨȦɠƯƼʎɬƚĘƪŁɦąŻƪĠƼĺĺɧȵǰƊȸǿ"
+            + "ƀʍƪǟŬƆŕȚƀȵŽĩȸȱńȚʆơĒƪǃȦȨǃǝɪɪǂƆǹĎƀűȐʓɒȼɩɩŊİſƇƢƍĂǸʍɏĒťǻɛĒƟŔĀĒƂŊƶƶƷƨɭɤƳȰƅɪňɎŽəǪȤĐĠǆưƂǸȚĥťĒſɖƳǿůɪȎƨƇɘ"
+            + "ɪȵɏəźűʆƱơŊŒŸơĀĀɪǃƀƪƂɪŕƮɧƂɰĠĹȈƂƢŒȬɯʍŖȢƦƢıȃɬǻőŨȅɣűĀȕɴƴɣƨǃĺȺĻƄĠĀűĆʆƢƢǐɍƴȄɖɣŜɣɮſĐǆũľŽɘɘĀŶƯɶʉƉɻəĦʍɳɳĘ"
+            + "ɤǹʄŕǞŪɐǶɧƳĭǰƏǪɣƏǫǌĢƬŪƑŋũɚʃũɚɏǼďĸɕʂʆƓɿřĆŌŌƯʍɟƊȺǬƈǬȹȹēɤɄůʆɻŁɏȦƪĦǵĀŸȯƢɃƄɞɛȄƭŻɤɘɝɖɩɓʅɥȦɏɄɄɳƏŶƶɕʆɟʂǶɣ"
+            + "ŽũʀŽƒĀŒȡɦŽĀȻƆȊĀɔřƈģǸƇʍɃɍŮǯƣȟŸŖĦȎŸĀȨƣɡɡƌɘɔɣůʊȃĿəǹɓĀĀůɣŻǁƊļċŕƮƞžĮɔĵɓŶƊřɰƄıŖǵȁĵɔȁɚʍɣɣɧƌɮŝȇǰɣĀȥġȡĀĀĀ"
+            + "ĀĤŲƝʄŉɢŽŖƪɟɛżƄƂĎɪʆɏɇɀɔǢǢĠɣƈƈɮǀȝɓɦɚȁȏǀŻɞɿɏŒȂȵɤƭʆĀŞŦĊŸɱɕĀĀďɏɈȻĢȟɱĔżəɔɓɔɱŲŲɔɱɜǎƒĀɥɡǈƪɪɐȎĀĀǼưɔĎĐıƳƂȨ"
+            + "ɧƲŖȵɧȾƌʏɱŸɧʃąɏƬůǧȊƈƼĀȠĴɺƂɔɔɔɧɘĦżĠɦǻȇɣɖǽʔľŋȤƄŕȰƬɮƮɄȡŕŒɣɡƢǀȻɧƇǁĀĀɪɮɧɠƢȹɶĘȵɔȅıƪŽʆəƯɏɧəɿŽĀĀƢȐɖƒɡƆĨļɥ"
+            + "ŲƢĐȎƨǊĊȔĿƷąɡƜȯĀƨƳƌƬɣɔəƱɣĀȈɰƢıƌɄŨĀģǃȻƢʆƢƯĴɮʇƢǨʂǬɿɯĂɏĀƌƌřɦĆŃɦɥʑȬŐǪīƓɵɵǼŃǼǱĈǪȡƂǩňɬɅɅďŃĉĔĉɭĀňɢĥǞĥǴƉǋ"
+            + "ȸǌƤȋƽœƾǌȋɓɣőċȰƂťɭťȥǌĿǻȄȄʎȽɔƽƕǻɓťɔƨƨǷƀŝʃČȄȓňƊƁƂŖǱƓƊƒĩɔċƶƅƺȗɏƨŋɄȚƃɔƨňƭǰǲĊɔĨɏƝĨȄȄĆŒȂĔğįăƅʊũƺɭƑĔŷɢůŻ"
+            + "ʊɱƜǞĿȀʄɱċǰƊǗȥǬɕɊŸƯŔǰǗȥɭŤɰƊĺĔťɖǝŻŴƄŲɿƀŻȟȸȎȧɄƤňɕȦƚʂɮȶɮĎƽɔƋƨɕɩȴƣċʃɣȝƨʃɖƇůŔɥĆǹǗĐɩƨƭƂǼƞɣŬʏǃġɧʃʂɢǂėĳȢƭ"
+            + "ĀƶŸʏŸɏŖɒɯɛʆƾɏɯɖɇɢǑəƁŷďɭɭǀĞɥȶĔǈŹɯȲƺɯĹɮȦűĀɧʁĬűƼƇƃǊɾĠąąűĵČƌĎĎżĕƮɮɄɥƬȯɘȧĀɔşƋňŽƚɖəȸɖɡǝďſǠǂƭǑũȧƳȸɖǃȈŻǑ"
+            + "ƶɖǹȃɟǅʎƷƳɮȳɎȂŚńƥĆƀŶĿīŜƉɮǹɮɤƺŶɓřǇƅɢĒďčɰƌɱƌɍƂǀĺǰɏŻɖǼƯĹɧăǵŁřɟɔĔİŤƁȡǶİƓȇȥȤɧʑƁǇȟưĎʁʁƌőƱƆƄƂƨũɖʅţɣɝɤɞƶȳ"
+            + "ʆǿƔɡĊŐɗɥɕŵŪħɞĈǭĀĻɪžɐōĥȿɓɓĥƍǀċɃɖįůɟɣȂȄƣƨɝřưɢɔƯƨƆƪȷȷĀɍŁēɽĵǇɮƊĤơɐȥɏŁĩʍǭĥŸǹōƞġǹčɍƳıŨɣłċƮǿǰǨǼʍǿőĀȁňƅž"
+            + "ɮƾǀĮɟȿɛĹȏǇʁɏȑŻəīƂʉɤƪȄɕŉɯɦǑŸɪɮżȒȚưĀȎȷɥɐɓƆƆɪƺȼưȻƨƣŪɀǼķƌɿɥĂĒɆġƞʉıƆɧĵıǹƨɪȷȂɟąƪƼɾɩĀɪɏƳɓľĀɺɡȃĻƮƬȁȳżŪǸƇ"
+            + "ŒƆưƀĀƇĂĎĘȃɶĻƄūȺŽŻȚȵɀĀɮƆřĒȨɐʓƢɔƀɟȑſśƦňƨʃȏƨɴȁʀŪȵƠƱƳƨɴƢɪǃɗɔŨļɴŻŦĊŃǬŸʃǲĈȈƨɋĀƃǻĈǮœĺɑǧĀĀĀŸƯɧǵİĀƋġĦĀĻǂĕ"
+            + "ĭǵďʅʁĀİɪǹɖƲĿǧǂʉčƮɺɓǰĺɑɪɣŜĹȤɀɀůġȥȀȤĠĠȒȥȳȤɬȪƳřɬčĀǝɀɭƁȤɻŁřǏŁǵńŹɃȄɳǂĎǹưɡưġǌɱŒřŢɀƅƅȄɏřɀǌĀǪƃɋĸǏưČʁĩǌǌě"
+            + "ĀśĎĸʃƸǹƸǪĀŒŹɮɮǌƍɧưȢŃĨŹĻįƀɍƃĥġɉƦƀĞưŃɇƮƃƃĨĔŃŃǰǛĺȨȨʃɧĬǎńĎƅƬţşƉʅɕȟɞǥƨɤĤɭĆƅƌɔɕĵĎɧƨʏĬŖʆǬǰŜƓİəǹĺʁőʃȾƊƀŔ"
+            + "ƊŁƁɟɻēǛʂɬƇȄħɄɧƅɏŽŌɤĦʃŴɢǀŇƇɘɄɆƽǰɘȴǸƨʃķŌɓȝƤȧŻɖɧǯɾŨȺŔƺƮĦƀɀăĦĎĎǇťŊōɏɮĵɢʆɔĺȤʄƀɮŷŖƠɤȤɆɮŦɐŻƘƁɩɧƲșƌĦɔŨɧɐ"
+            + "ƀĬĈƦưğȧǥŁĸđȺɾĐȤĳƶɧʏĨɾɼȲȷȅłƲƲǊƆɩɪżřƬƱǽưƤɖŔĺɩŲĂĈɖŨŧǟɮɏɧɬǰƦƨȨĺƮŁƮơđƀĦɤɟƅʂĀƨſơƀŁɖɪɩȃɬȺŁƶƴƴĔĀŪǶőľőććǾ"
+            + "ĎɶɶƾĽǨƅżŪİƯŞǊƀƄǯŞĂōűůĎɍĨǻɔĂƈűżűɷĵűɘɦǶűƄĂɛżƨǲŲƄǰŜǬʅƍȂĶȅɻťƍƍʅɻťɽňǇǹɪɮċɿʄǮŲɪŲɧĔɍŲĄɽɣƂŲɮƝŒśļǪřȂȥļƳɽǂ"
+            + "ƳƆɞƂǪŨăƳɞʅĻăťƨǌńŜɞƽƽʃǹɍɀɗŋɚɔǪŖŋǇǈȥȦɱǄǪœǅĺǀƾƐɖƗȦɤʂɥȤſĸʁƜƊȤɧȥǀǊʆʁʁǄĿɯŃɧʎʎĢɻɟēǃƱȵɄǃŃɧŐǈɟĦƜƋǋʁɁɤɣǊʄƻ"
+            + "ʀʂǀȷȡůŻĿĥķƋōɍɖɔƞơƂȟɀžɍƯȦȁƭɢƇʂƨơȵƋȭȵňǰǰǌžǗƳŞƅėʅɮžƺɕɛŽūĀĮƂǀňŷɟȿƝŞȒƾɞőɐǅĨƝǃɑƗĻĤƓȲɕȁƾǈƼȭɷɾɧłƗǊȮıƲĦƼǲ"
+            + "ĥƀǂŻȓǳɔǽǸʆľȤȮƬģɖƐɦɞɄɓƮƝƂɦĂŽɽƂťɿƊɏĨƀǝɡɥſǂǄĒǄƨũƌɟǄſƳǂƱŨƼɔĩȻƐʆƾƆƮɮȯěƌȦɧȤʃŷȤɪƊʅƄķŉĂƄɺſćȦńǹƀʎŜɓɊƘǼɔŒƜ"
+            + "ĻƺȝĺƌƨřǇǣŹƑʃǹƐƅŕōɢǰʀɣȵʉģŋǪɣĀŖőǊɻȃɮƓɊɊĿɼʁōřǌʆƠďǡǵǯƯǬƥǶĔǶȤɲĂƨƱɄĀƨƜĩƕȄʆƜŪōǑƁƳɏĂƶƔɛɣņǯɔĀŶȯɕǽĀɏǽĀƕɘȅĠ"
+            + "ƣŶɮɘɕƽƱĀģģɒưɪƽȅɣķƞɮĀĀƳĤƂĀȱʍƕǯɣʋƖĝǹʏȀƮƍĔńǇłƂŲưĂȵȅƯċɩŊɓǹƵɍŁŝċǹĤȑɣŃńʅɊƅɪďƓĎɏȯʁŉɕĻȿǑǯƂĿȺĞĀǹĀŖɟȅȅƺţǘȳ"
+            + "ōİưȰȻĉŹǰɏȘƦķɀɕɔƪǪɏɱŊʀƓƠĀȀūʉĠǹąǯƳƳƐǼĤɩƦĐǹǊǹĵʏȀįĀƀȟƤȃɺľƂɔƮńŁżǪɲǽĿƨƂƄɔɾǽŋƂɮʋŲſɼƦƓĩƀȅĻɒƃǰǰɮǴǹĂƓƂɮȑǂǬ"
+            + "ʎĔĀǆĖɖƜƦƦʃƨƨŒȅǬɪƨƱƱǊĔȬŨƢɴɣȦȦƨȌȢɰȰǹȸƺəɥɖʃǹʃčȨħĀɧȦɭʃɁřřǃʑʃȴǀʕȃŸʆȤȵİğǃƷɮɗɓɁǲʆŪɕʃƀŞʁŞȭƆʁśƞĿļſȼǹťŨʓƯƳ"
+            + "ēƆļʃƳȟċʀŽɭɔɩʎſʁřɯɓɖɤȿɧǀȰĿĀʍʁɬƀŞȻĦƺȸĀɟǹɮɔƀȰĠɟŽȵƨǟǗļƨȈɰȿɴƦȏɮɮƨəǿŲɆɝȰȋɆʎĞŜɧɖēǘȂȂʄŕűɱƓǅʃƇĎʃɮǃƘĈǰǗƨɭʑ"
+            + "ǰĆƯǊĥǘǿɤʕʃʃȨƊʎȹƀĥɄʃſŲɩʎʃƅȋňɧʆŽǟřɔƒƣřɷȭƷƞŜƇȿĥɆȡȭɢƵƳťʕȋʌĉćƀʃʃƞƧǯƓēĨʓɮȳĀĀɧɔďƀřĎǣƅʄʏɞĥļɐƪʎɮƀɞʁʃļƁƀŞŞ"
+            + "ťȎȵĀƀƑǌȟǁʃƀƳȳƀɪɐȂȚĀɧżǾƀȵɘǸƄʍɄĀƷȵǟȚŽȈǣɮĀƀɈɐĥſţƷĐĀȈƌƨɴɠɋƉȁɔȁƖɮțƇɥīʌɆƤǾɼɥďĊɥēɮʆƄǽłɓŪɥʃīɥɁƄĬƈɘĥƗĴɒĺƘ"
+            + "ƓʋɞȳĀƝŇĀɩɒɋɢɮƊȁɥɥɁƬɮɀłƊƬɔɓƝĬƊĀƛƱĥĵǲɶĴǽȁŇɶɶǾƨĩȦřǻĩŶǹǻţȦȨǅƊɽʆƯƱēƇƇɾɧȰƍŶɄȱƇłɧȨƇȃƅǵŉȡʉĝľĶźƇƐƇʆʆƥǯɮĦŜ"
+            + "ƽʆĀňƀɘĆȴƀʁɿȶɢʋɯŸŝɘĜǰĎƂɧņȟȥɕĿʆǍĦťƨǾǇĊɁȰřěČőĸʎĿƯɷǡřŤŒƁşŒȦƾǶĀƂȁƱĀďƶŪȃĦɩɥɖĎȁŦľƄƆȄȶȐőƜʆɄƀĸŰěʄƗơĎȞĻʂěř"
+            + "ɱɆǨƨƣƊŨƂůɄɕʃĥȴȦʆʕɘȡɃƁɣŞƚŜĨƜŝɱĀǻɘƂǸơʐĎĎĎşĦŧɮƂɿťĦʂȀȝʅƳĔƀƮȴƍřɻťƖǻǻƍĭŨɯěƊĔɷǾɊƶĺɘȔƂĀďȶɗɖǵʁȥŸȦʆɰĮřɓņȯƀ"
+            + "ƅżɛǀŒīʉǱŖʆŶǾŷȂǅǻĀƝĀƲɱŲȻɰĨŞŔȔʂŤǛǻɘĴţǫňƨĎʍĩȞĦʆǼƱƢƂĕƨŽĎĿıɣǯțĴǩǲŇɮǆʉɷɔŬɧŸĠƗĳǵɶƀŪȳƲɻƳǘȷĴĀȷƥŉƫɘĔǃȞĻƬĺŁ"
+            + "řƂǇƝĹǽľżȶƤɴɘƳȦɴĀǩǹǩŜƊňƳɣĔĻȖƓŤǻƪĕʅơĀƢƝɮɰűʁȹȿǃĨƀĀǹȾʉʅŒȲʅǻƟȾƳƳƂɊɪɮơƱĀƪƢǻɰʄȃƪďŉʒƨȞƶɪɰʍɞǃĿŒȤʀȤǤəƦɖʎǗĶ"
+            + "ɾǻĀĎĈɓȝƑȏŕĎĵɩƨĦȹĀĆƨŜƊǶǊĳɽʅƨȳɁƨɔȳŶɄʎěɰʅƮʊćĀŕǄȃĀƫɖřƫĘƇƨɰƳƊǹĵćġƮʏƇŬĀȗȗȻďȏǄŷɞʏŸƂɴİƨəřǣċťɝŞȻȂĀĚʊȻǃȗŕɶ"
+            + "ƑƃǊȗȗǣĦƫƃƚĔŻȨʏƂǣɇǛƨʕĿǛɁƢǃǃƉɔţʂƉɭƀĞʅɡɰŶɮŲɍȋɐɐȂǍʎɅǞŘƅȨĮǰɩȝŶʃƀŕɱȋĺƆȳœȷĵƉɻĆƆřʃǹʎĨŶɻƦɔřəȤċʆȃƯʆȡŜɤřɊʁĹ"
+            + "ĩȦʄɖʑƈĈƊǨȨʓƜƇȋŵəƅʆĨŦćƌƜŸİŢŢȼəƘƄȄśƶɟčɖřŠɄȎɁɩƦəȄɞŮŃɄȰƃɗŽƌʃƂƋĦǄʁƷĥȂȨĉɄɘɍǿŢɝȿɝəŶɔřɃȵŊƞřƇŸʃɣƈŖƀɞĀʏƮŌƨ"
+            + "ƷƫĨȄȡǹǹʌǹɍǻɖȧɏǹȼɍŝɎčʋėŬĵƵưǹɽċįƯǄǹƅȺʏūʐɧʎɛƫƆŔȒǇɮʏŒƷɞĀȠĀɞɗƂƓɖȑǄƀŉʄĿǇǅɯəĊȰȂďŻŢʏǄɏřɏɮŤǅƅƪʏďɱɩȿŦʃɱĥĠĹ"
+            + "ƁɯʏɞȥĀŢĀɪƆɧʋǗĉťǪʅƂķȄȬɱɕȪɔȎȼřɱʁŞȐŸɳȾɖȳʁʏȼżėĎŖĳƨȷɩɔʏƦʉǻƼʃƷǊǲƪǃɟʏƀȟȵŒȪčɧșǋʅǼžɖɔĀɝȇɟŽǽɺʕʃȟȗƮɮŒƬįʔƂȉĠ"
+            + "ȒɝŽŹʒɔǼĀĸȥŽɔȚƂƃŻǽıƅƄĔĠɧǑȵɧȞɞƀĒǻƂǸɡʒǹǯƨǊƦəʒƜɭɞƦɖĠĀƳĠɪėɗɖʓʒƶɔļƢƦƪǃƉɮŶʅɖŲɰƀɍƜƀȋɏɱŶĮǰȝŝǍȋʏƵŕʃɐœʆʁǞȨɖ"
+            + "ŜəřƪʑȤɔʃʄʅĈřĩȡɧƇĹĉȎƅƘȉŃŰŽƀɟƃƶƌƄɄŢɘƋɝɔȵȼƀȿƀɞƯɩɞǹŔįȠūȥɏǄȧčĨȼưȄʏɽɍƷʋʎƓɗƂǄƢȿǅƀɱŽȰŌŉďɖŤʋŻĿƷďǇɯƆřȐʁŖĵŞ"
+            + "ĠƨɧƂĒǲƼƦɪȷǋșəƬȟɺƃǻǽŻƄʒŘəŝŘȅŘȅĔǵŷĀŝɪɪȀɕŨʔȺĀȀɑɪƦȺƳŨɎŝɎɎůĀƶřǃőťʆƊƾťǇŝĆŦȿƋřƮɣɿʓŦʍɮʃăőƢȨȰǰƺưĆőƨĢɏĎƀɺɄ"
+            + "ưƀƋǃɿƶǰƀƀƴɤǆǼȸǀɤɭɭŕĆŞɤťǼɵŞƯɧʆĿɝǼɧɖȎȆȆǻŻȷɖɧɤǼɖɮŢƅȻɯɔŒȟŕȟƪƦŢǠǼĠɮţɧħɑŕŶĦĦĵřɕǮɧƠɧǰƯưʃȃɔəɗɔɔǹǽŽŽȨȚŶƃɼ"
+            + "ĵŔȼȝĦʆƂɟȦǱʏɍŽŷŲŲůąǲɧƪȃĀƮǮǽąŒɧŽɟļɥƤĀƒƾʀǹŤŤŤŃŃŐȩȑŐǎʉƦɃʎŢĢűɱǨǰĦȰȃƁƊſĩƤƵƀȻǧƲǠƃǫɷƲƀƤſɭǊźŐʀńɦĸȱǿɱĦĺĺŶŢ"
+            + "ʃĀǛĺʁģƯʂɭɋƬƱʃǝɁŐɢŃŬĀƪűȥƭǴƇƊĎĿŬɐɞǵıĀĀɃɮıƝƪƝıƪɑƝƪƪıąȥȱɃƝǛʃĺǝĀƀɃɃƱɮɮɿȰȳɧȳȰɿɿȏɧƦƀȂƔĚşĿŻżɧȋɘȐʅɯňŝȎŜĞɒ"
+            + "ġťʃǿřŔĈǭǫƂœʌɭǍĄƔȇţɮɐɥƆǰǻɔɔŔƔƇȹȤʄɾəȤɏʅŃĺŔĆĔȃɀċŦȹʎƘʃǗǵʎřǫʁɖʕǭƁȥʃĊǌȃŸƓɧɩɞɤƱņƎƳƇǡɣǫƙɧũŮşņʃƄɜɜŐăɛǱǕʎĀ"
+            + "ĥɁʃĵǀəĵəǊƻƀəĀƚȕɵǹǑǃǟƴɍĔɐɍȂƄƇɭŵķƭȟɃǀĮȤəĀƋĳɝɚɊǬĥǓřŇɊǚǑǰťƶƨƪɾĵƅƫȭǰĐƵǱŬƋĭĺɀǓƇƅƠɦāȋȤįřřƊŔǼɍņǰŬʏńɓǀȑʉʃ"
+            + "ĲŦǧĿăɛǑȨȫǏɱʄȏōȖɆɥƂɏƄɮƁŉĎġřɖǗǄɋȾɈĉǻƷɋȧȻȳʋşɧĔƬƀǰəŞƷĒĀġƳŬǫĪĐƃřȻǊɔʉƷƄɪƷʃɠĮƮɄǯǗĪƬĵŪɘȾŒʃƄȟŸĵȓɚȵŕɪȟŦĺƚǟ"
+            + "ɉƪċɬƌĩɧƋƠƪșɉťǹĵĒɡǑſɵɖĐɛƛƠɣƳŸɲƶȃɵƴǗɲĤǻɒũɵƮũʎƄǛĨƀŞĨǄǛʃʃşƂŃʃɝȹʁƉɖɮĞɥɮħɔɔƉɮɮɛƊƉɚȢȢȢƉȦȺȨȦɀĺǸǸŨŹɀīȮɕɓʅ"
+            + "ļīȟɧĀǨȹŒĈīŰœĈĎƳʄƂęƯʆɷŌĔɖşīƁƳŶǫɔĀřɶŖƨȡɮƣɃĀɏĔǂǘƊżȧʏďƾŃĀĉĞɧȲęĚƲĹĀɥħĀĻǼƳɧƅƂſǂǹƳƳĠȬšƫƂƂȚɣřǵɣɣĚĚɧƥɃƄĂǎ"
+            + "ɁƄƅǯɍɧğǄǃŜǻɮɮȡɜňɕǹƽʎŽȵʃɗĎřɉɏɓʃǹȟɐǻȋŘƗƅƳʆƀǿǹɣŕĆȒɚƀŹŹœɓƌŤʃɱǿąĩƾɢŔȌŰıɩɭďɧĀɏƨǰōɖġęʆȳɧɯȇƯȹɁĿǅȀƨȉƓǌǭĊŤ"
+            + "ǇɧɧƊǳȔƘʆǗĔēȟȂɥɖČŶɪɻņƊŃǛŜŸǵǀřȥťĎɏřʍƾŒǾƾƾĆʎǊʎĿĦŤƇƱĀǚĀɠɪȁşǈƨȎɩšǻğĤɮɝʎƭɓŌƝěƂİŤũƽĞƄƄřɮʆʎƃŽɩĞőȎȐħƽɄʄĀʆ"
+            + "ɡŻƙȄśĸƇɛīĚƇŐăȧĦȋƂȿżǵƨƆƤȎʊĸƁȉĎěǽŽƀĻĀȎžɪƶɪǻƆȶɩƻŶʅɥňɏĩŇřȋɩŲĎĕɱĿɆȵȵĥĤɓđɔŢƨǸʆǊƨʊƀŌȂȝȷĤŖƊǀǂɛƇģɚƍɣɃɭķŨů"
+            + "ɭķƁɎɭǞȡɖƣřōǊɐƅǏǌƐơƪȦɒɆɖſɭɪɪĀĮƽƽİɮƇĿȃņƂʐťƠƳƊɏƍǛƞŲǸɳŞŬřƵġĨȱĭɽǁėĆƨɆĔůĊǿƋɔǿĿƅǸĻƆɿȹŢŹťƯŔƆăɎčʅɣʑƂƮȺȨɀļ"
+            + "ŸƀŲĵȼĮċġŻŔơǹǂǵɏĺȝŻɣɧɁǹɍěǎĀɊƉɂƶĀĀǂĀĀńɪɪɪɘȕȂƓɗɍɮɮřƪɟɟǏɷɒĮɘɮǱƾăōƶɪſŦƃɍʕʕƊĊȏɔəăȃƂřƷƷǮŖŶŶŷɣɆʆʎɗȤşǺƇǃż"
+            + "ȤǸşņʅǻɏĔɏǨƀŸɵƁŉɥƍıȄɏɖƝɃžɔȦǹƢʏɥɯǀɱȨĿʉŨĀȁĠƏƝĀƃƲɏǩĀȲɩȦĮȦɱʁƣǡǂŲȅȴɯƨƊɔĉĩɞɆưſʁǻʑǶķɯĩɮƚǪǸǸǍȯɔŕɱʂƂƀȔęŏǃű"
+            + "ȶʁǈĀɞưɔťƣȎɑśķȦȻƶȐȷɖċɥŪĎʏūĀɝěĀƢĀƀƨĘƣɮĀɪǊłɝɓɄʆǯăƪıɔǵȂƆĮƅɏɈĚɮɧƀƬĎƳɞĕɾƶǼƼɣƧƀĐūůĿȳƳȢȠĿǆɡƼĔĿķʀțɟɮŸąǃƲĳ"
+            + "ʄėǶƃǃıǚŽƍɩƂǘȨɩƝĤŸȝƗǻƺęɷǼŇƪƮƗĂĎƨɏƀǻȥŒǂǧĠŁɡƄȒȒƦɮǽĩŹƂƻɱĊɭȃƳȉŽōȿŔƌʓőȐŕƝȮȒɢɞřƌĻɓɄȰɘɔɬɐȡǹƂɱȶƯɮɕɑƀŶȰľƦɟ"
+            + "ɱɮɔűĔűĂɏŽɏƀİɗƴǆɧƧƃĘȤǼƪƓɯĸȿȻɠĎɽȶƪŒńɘťəȨƂƒŶȕɚɡɥćȲȨɡŊǴɏǕĨƻȐǲȹǹɶĤʁŐǗɪŞıɘǹőƂɞƝƅďĿǃƢƆɵǅȁǾɖĀǧɖȳƷɧɞəƨɧƠƦ"
+            + "ƄĿʃǰȾɥǊŻĐŒȲȺɈȁǽɏưŽȨŞɱĀƨʆʆĂƮɶɟĤơſɊɓȒȒǹŵƳȳɈƽɱǴɮɡƀƈɟǊĀȳƈĀǛĔȈɧɖɮƊƪƪɩǼɪƱɅɏɰƯȃɥŒǃƢƝƢƀĻĀƦƦɄŖʃɏƝɽźƨƀǃƦźƶ"
+            + "ƀǑƳƂĀĀƦȄɘɧƴǁđŸŸƳǥƷʃɘǻĩŸɞķřɞɞƳŸɮűƄƊŬĊɣɽɽƝĈɔȨħȂłƀȂńȦĀĿʀȢɮŜʎŶŽǂşȵɕğȦɧƺɗœōǨĦǻɐɐȒĉǰɰɰƍǹȇɩǹĘɯƌŽǻǹʄɢűǌɎ"
+            + "ŕŕŰţɶřȇƅřĦŇĊɖǗȽȂɭɻǵĦɭŲůƊƨřȇɻŤǰĔɖʆłđēťȇȃȢɂƯťĺťɪƨĥȃǋşİŽŽƽřɤɋƭʆɧɖƟƄƨɧǵƀŭȢɧɎǊȁǾŪţʃƼĀʀƁǑȰǹɛƭȂȡɬƁɈģćōů"
+            + "ȨɟŖȤʁřɖʀɓřƨƣĎĩɯɭƅĺɣɃŁɈŽɒʃȱŔƊǃǹǹɮƍƠǂǼȰɔƵƨŃɁȼƞŜůɮĉŔǰɏŋɧɯȳȄǻȒǗȀɏƫŬɍņōĈʍɎĘɤɪŬĠĀƠƓƀəɃƻɞǄɮƅȦɟżɣďȏɏřɯǀɏ"
+            + "řȑəɭɭƾɕɪȦħȻʆʏȿřɯƝǂƠňŸȂŃƨŦɱƊǏƲĮȎɪƃɉƣǫȰɔɔɔɯɑƪȲĈȎȎƀɓɝůǿɧĎŹȻɧňǎŲŸɔƺǈɧɐɪȾɮęĀĀƼĀȠȦĚĦĿąƳɏʃȻĤǲȃǰɮƂƶƲǿʄɩƃ"
+            + "ȪɐƄɍʀʀƺƺŬƬƾɔıƨƼɘĀɾƽɗǊʎȰȂȽʃǯǯƄȃđƬǪŪɔƀʉżŔƤƌƌŽɩĠƄȟȉɘɓħɡȰĀĥĻƨəȟɧƇĸĠǹʎɗȢƶǿɪğƨɷɟƪʆɷəƽəǹȎƂǂűȐſʍƅĒŲǆŒƦƅƠ"
+            + "ǃƨĮƨȂǛƳňɘʆƱƨƱŖɦǰȈťƋɪĀɔĘȃȄňĘƼȃƅʆɻɠżǤǭǤɚʄǊŐǆǆȦɛɣƐɯĀƯɟȨɖɄƱƅɖɢŸɏļħɏļʌŵȃɧɧĕŜɮĐĞɧȟĤřūŕȪƅǍʄĺȍʄʄəǹəȇʃȋǿƆ"
+            + "ƍɯǀğąǚŽȇƁɊƯĹĊǬɥʕĎȡȺƊŲɠɝʁɧǨĔĿɋřūʃʃȇǪɧƾĀǍƗɟĠȃċɮɔĀĔĀřɧĦƘȋƃƁĶǊƅŐşȐʆŪɩėƭĀĀʊĻĀƞƔǚȨƁƞĥƨƋȤǷşɧɮĤưȂȆƀɧĕʊȭȝ"
+            + "ȆƨƪƪƘƂŘȺĎūȼɯƯĦġĨŌĐƫȠǭǭŔɯƶŬɣňȿʃƊǹƀʃŦƔĀȿȦřħəďŃƞŉɝɝŲɯĊĊřɮɇɣŽċĩƷĀĀɱȸŤĸźȎɯȐǎƈȷĈɉĦȘǚɪƅǻźƘƪƢƨʀȦƷɧŃəɖɏĐĚ"
+            + "ƀǼțĊɗĀǸƂʉƂʓƀĺɲŒĔɗɚđȉƼƢąŌŽĚȵǟĠƪĎƆĻȨȺĎƢǸȐʃĀȨɋȦćəĔĤơƱɔɖƢʀĹĀɴȦƂǪɧĀɢɔɔɥŖȺĀĀřĆŲƀƀƂŨďɣŪƌǱƾǃǃǆȦȰɽƶƌǊɁƪɥʃ"
+            + "ƍɔȟɏɔɀɮƢōňǿǫƀǈǵŤȃɽƆŨľƂƶȃƂɏƌȃƶƢȤĿŨƂŨɣŪǃȦĠƢƌƀɔĿɀɮŤƆȃƄƉƆĳƌʃĢƀťĺʓĿȠŹȄşʃƅŪţĩƅŻȂɛȳǗƀƳʃʆĎɛŸȠţʃɠĩɔɧƨƌɔɣɔ"
+            + "ɣɣńřȂȂƄŶƀŒɡłŶĞȼɞƅɧȋɡɩȟǹɊƀɡɩōŕɢɥȱȤɩɚƌɘǒĤɭʃɜœɚĢȢɖȕʌɞɧɧȳĦŲȤŲɞʁʆʂŤʎʎɽťřƂŃƯĿɤƨǑǪʅŜȦƊąɻɊɧȃɿǵĎɜĩĆĸʑȼʆİʀ"
+            + "ɬɞɡɧżŲȦĞƄȦŴĞŤŪȄŽƅŹśɗŽȤĨɄǃɽǈōŽɣɜŦŐčɁĦƦʆƜƙɓɮȾƀʃȋȳƣōƜōȦɃĺċĠɭŵǽǿȩăɮɘĥƅɖɓɓŞȱǸŽƇȯʁȯňĀġȭƅƓȃıɘȵɎɟŔĦȸɧǍɩł"
+            + "ǰįĠĤʌƀǹȺĭɏƊȀƂʂɷʐǻʍƫƂʆűƵȤĐźǱɮŃɞǱȦɟȦžŹōʄĿəřǸɃƂǹɮʎīɔŽɩăɖǏĤŖʆɤɣŵɟşǣǹǋɦɏĀȾʐȟƂĔĀżſşɪǃɘǃɔǼĤǥȰȳĉĦǻȦƃɯəɠȼ"
+            + "ɥɥŸɮĐıȀƨǊǊȠʀǉƂɷɻƪƲĘǧŨɔʍąąƆʀɧŸƃƼĢůŹĠɞɺȚɔȢŊʂǑƢōɪƌƀʔƄĔŽʉɓƂɻȦǽȺɹǸȥɟɶɽĻȵǻƀƄƇƪǠɧĂɽǰŽŹɧɧȟȈǠǻʋȸŸʅűǗɪƂɮƂŽ"
+            + "ňʀɟɴƦȤɏĠƨɧďʀɣōĨɏĨɥĠȈɩƢĤſʀŻɴɧĻɽɣňɣƀńřȋƀƅŶȼȈȟǹɊɡɧɡƀȋƃŽǧƊɢǒɞōƵɜȱŖȢœƌʂťŲǵʑȦɜɻȳʁĿʅİȃɿĎɧɧƜƦȦŦȦƅŽĥʆȤŹĺŤ"
+            + "ȄŪɡɧʂśɗĞžɞʅƅɓɮǽɓŞɭŽƜȯȱŎȀʆʐǣňʍŔƓɏɮȣȤłĠƫʌȵȺȤɧǋĤŃżƂəɠɦɏōɮɟĠʎăɣĿǃǱɞǊĻȳəɥĉȦǻǃƆƼʀƂǉȺƂǽƢǸƌɣǻɽĤťǻŶɢƌŶůŶǹ"
+            + "ɔſƬůňƱŇƃǹĦŖľɍĎȨɖŖʃʃɣɣȦĩŽɉɧɉɧƂĆŷōĳɗŻƂƔśȃřɔĒűɮʆƁŕɔŸɐŻĒĿʏŕɧʃĊğůǰǍǰŤŌɭłǊȰɝŻƞŲŲǊăƾƨǗĎɮƁɇƾǰɔōƊǊĩȺŻȃċʁɯ"
+            + "řėţȽɧŰɍǴſŒȺŨɷʃŐʆȦĎʎŐŪǱďƻĹȥƜŔɂɧĦƾŲĎƳƮŽśǱʎƁɞɸƄśɵƂɪɡʁȢĒĒȂȢīɵʅơɴȰĤȠɀǭŢɖƻƂȵřĺııʃƀɾňƆɜȮɱĊɳơŖęƀȥĂʉřŤȖɷƬ"
+            + "ɏćĤʉʃʋĐɱɺȺɴɣĀȟɍɪƆŜɖɵĎňȨɣĀɟƱŜɵċʁřɯţėɷɖćɾſʃŒȺǴďŤʆŨŐƂĎȦɂŪƜĹƾŔŲɧɸʃƁŽʎƮƳɵʎśƆȂʁơȢřňƀȨȠİĎʅŢǭĺơŖʋřʉȖɷɣɴɱ"
+            + "ɺȟɪŜĦɔȢǏɜɔĥŲĥʀɕȻʐʐƨƉřɿŜǹȟȁǿɖİƌǿĦİĤĤŃƊĢĿȚɽʆɰȃƅĦĩŦɠʎɁŌƭŜȷĳɔɿȳɩƊƂȅȻįĵƳȃĻȂʎȿȃĦżǽǽɥɶɰĀɴɴʑǨĊƘŲŋƌřĤƂœʃȸ"
+            + "ɰǨǹɰǼɊȹɧǘƯǀĆŃƘɊƁİǬǺʆƊŃʃřǪƊȟĔǗƊƨšɧƀĹɖƄŌĩȄƙʈŪȁƝɗĦƳčʃƁɁėƂĸǽĎɖŌƀƊƀȨɆĩɛǛɘĔɠȆǋȨƫɬƄĨɘĀȸƂǹɒɏįƅƀǛƊƊƵƳƧźƊĦ"
+            + "ɍȄȿĔʑǾǹĳʏėʏǪʃʂŁʃɮŌŋĮɬʄĿɻĤĪƂŦȻƊřʑŃǱȏǣȿĞɈƂļķɔȸǼɽŁȿƀǛǪưɽĎħƳƬĳȻĹȳɔƝƀʃǼĿƼʏƪčɶǘđɈƊľĝɖŒĩʄŋĔĳʑƌƌƮȸǽǽǸƬŋĴ"
+            + "ƜɶȸĎĎʆƊĩǽŋĨƀɓɰǘƮƭʃƨʃĠĩŉɏƱƮɖɏʒƢəȈəǛȸȃƅĴʒɔƝƌƮȤţĺĀȃȿŌŌţƣĀƶĂƀƊȻĀĀɣĀƑȃƲƤŌʃĀȿļĀɮģɢŪƍɏɰɚĿɟŒȋȟǼȨɉĤĹōǍǹƾȑ"
+            + "ȋǻʉŶŸȃżĿƯĹąʁŒƜĄǯċťťǬʆȎōĆʅʃɥƓɧȀȦǵŐȁƊƄũƳƏȄʅɳʃƊƫɮȡɭŻɱʀɍřȀʅǗƯʀɽƫʎŽɎįŬƐɧǯǻūǘǵŨċƵǩƫȑȏƀɤɖīĲĮşɭŶȨřʎřɐČɽɮ"
+            + "ɐȼťʁɕɯƳƉĢʉɏžĀģƄɽǸƤŕŒƮşȚƐŻɧƀŊŐɮɖŶƦǭƨƨƳƮģɢŪɟĹȋʉōƵȑŶťƓƳʅʃɧŸʁƨɥȀȦɳʃƄʅȄƳƄʀřƫǘċŽūɎƫįʎĲřƀɐȨǭɯɕɽƳʀƮɚťİİǰ"
+            + "ʓďƠƠİɠĈďďďĀďĈİďďĤȐǟǟʁįįĀȌďďĀĀƬĸĠŜǻɮɮǹɡɧŬƻǹɲɎĀʌɪȿɱƆŰɢŒɓȸōŮʀĀƆɯɏƪĦģǗɁʃɧƈƁĤĹŐĿǶɎŃɷȼȨɊĀƇŽɄɭǃčƀǎɧƅʋƭɡ"
+            + "ɈȱȦȼǫŷǗŋƈɟɡĕɭɘȂɅʆȂĿĿɆƇȿŇɧʀɄũɓȦĥȳɶȆŖƪȷŽƨĀʓČķƌčŻĹƳɭʅƆɮįƝɏȿɧĸɯƶĎǣɮĻȵŋȵɣīĦȿɮȦʁɭɱōďŬōɕżȂļĸɏĀɧŤɥĩưɡȸĿĦ"
+            + "ɯȳȸǻĀɥŨɾąȦěȳȳɶʀŋʃƲĦķƮʔȉǻɟɮɧɓƬƊȦĎɥƻəȵŻɽľŐǅďďƠƨɯɭƶƨɧɃľǹɬȟůɮƽȐȁĀƜřƑĒœɛǓĀȤĉɯĶſəĉɓƊɭůȹȂĎǰēȡċɋĿʐɦƮƜŪʆȦ"
+            + "ƘɮśŲǾʃƀɡŷɛƄɔŪǣƣƁƚʂƣɱɣĥŇɔƷřɓřŞűƣƁŢƍɪĔɔċƨɱĕɘǹǰȀŬĀȺʐǵơǗĤɭĕɗĺƊɬǽɧŇɣǀȔċōɮƋɮɱŷƝɗɗȲȻǈɔȐĩʎʐƊɓɗɱűɬĎƾĢřƬɩʉ"
+            + "ŸǽɣɾŒɓɞľĎɚĎĝɏʂƾȟƮǶĺǂɦĚƚŖǂʐƜƪɴĠɭǹɣĠķƯŻɔŖɴƨɭńȂʍǭʅɧŜɮƉɣʓƾĺɞɅʁŕĀĀɱȹɀǺɊʕůťȳőĨĹǈƤįĨɭɄʃɖƃĥɩɆƄǀƘȴƦǸʓŮɣȦǙ"
+            + "ɏƳƢɣȼǭɽĮȺʓįĳƞȿɖňŸɞɛȺȂĮɱőƓȲǃȄĨķɱɬĄɻŮȻƃǲƤɮƨɶƤɧƃĕƄɔȺőǟɧƨƊɣɧǙȐɡĨɣƯǃǃǙɚƄȦǃɣďėȦɭȦȦƨʄɦƫƨƆƆŚɧƬļɿńƨȂŲřʁʃĆ"
+            + "ƴřǎłȟǽƗīʎŒɮŹůţǹƽƂĿȰɔɧğȸɆɔǤǻĀƂǰɦɩĆœĤƂɅɰɣřĕǍɚōƌŋŤɩǻĈƀȋĢǞŕɱɧǿǰŬŶɩƍȦɧʄǛśȍſȹƑĀƳĀĀŌʎǗɆȦǇťƓƯēɧťĆǰɮȰʕĕɭŁ"
+            + "ƁʁȦȦɂƊɽȸȢɟɿĊŲĎȥĩȦĔʆĦɲǶɄǻřɼưǻřƨɰǰɤĈĔƅŤȨʂǌǗɔĿƁǌȺȤɧȰƜƎċƂɄɛŶƄĦŐşēȦǋƁɩƍʅħȠɄǊƦƀɮɞȋĶʃȁȟĦɖɛȄǰɧʆŷǈƙɥɖɖɝƍĞ"
+            + "ƤƀɬȐǃɧɩũăŅɭȚƒǻƴĀĂłůȒȦƕȂɘʀɝɵȿķŦţʄŇƷǀƣɍɚɱċɓȳɮĠɃĔůƁŶĴŖĠɍʃȰɟɓɓɁţʍƸɛǿȤůĀɦĩɺƊɖōƽǸƨȦȒĥŞƨȽĀʆĀɆưʓƊġɯƂŝłȼġ"
+            + "ƵŬƯċƳƨȀǭƋǇʓǯăǰɖɢʋƦāƖȸƞňɏĭʎʂČǛıĮȺńǹǻʍǹɮƆŨƾġŁɔƪȼťķȨʁƳǂƳŹĐŚơƔʋĀǎɍɴĀĽɖĀſƫĀǁƏɪĿƪŬɖňɆɏıřȏƀōȏĤȿɻŶɤŉɕɮƕɛ"
+            + "żɏřɿĞǾȢŶƝǣǋǽǽŷʁſŻɦǇƂŉƂȰƝŸɟɵƅʁďʄʎɝɦǀǩĂƅĀǀĞȸĉɕƪȷɔưʑɦǠɑȎȻȷǼşȯĭĔǪȸĎȘŝʎɓɪżɁưƏȶȝȲɍűʁʁƶɧɯȻǛɔƁşƺƋȎĀȷĀĀĀǍ"
+            + "ƳȷƗʑɇɝŨɟƪȧąƼǊƶĎɏưĿǽſɩƳąƕǼĵǹġȻƼɬĠŖƇĐȨƲɝıƱɴƂĚƨɕɔƑĀčĀĀʂƳŹƀǸŽǼǶƮȷɝȗĥƝȗưǑżǳȵŒǽīɤȻɗƌƄʔƬƅƤŊȺɴƀƂʄľƲɪŊƌǠȿ"
+            + "ǸɂĀĀńȟƏƂŔȵƳƋŽɮƪʍǽǻʍƦĎɂŻɦŌŬĻƊŕĸċɧĂĻɡłʆŵʋƀǛȸſȀĒɪƝǝɞƂƂǼĞʃǆƨƦƀʒƜȠǯƠňȯįƷĐĊƳĀĀƱōƳɚƂƢĔƂɥĠɗƂɔŨęǛƦĴȃǪƶʒƴɶ"
+            + "ǛƌȻȨƢƆŚɧʁńɿǶƬɆǻīȟȕŒłǁǤɤğɛśĕȹƊŋĢʄǍċŝĈǻɥǿƍɓŤƑœſɅǞĆɮǻʂǻťĔƓǶĕĔɰʒǌȺƁŁɭɂĔƯȯǻƾĊȦɟɊĎǗǰŌɛƒƤŐƽɢɭĥƁɦǑʃĻɄƷłɩ"
+            + "ƏɻʆɖɃŅɖŹȄȝŭɥşǈʂȚƄɧĠħȻăɩȐʆƤǸɓơȽƪƕɘȷƨɺĩŬŞōɝķƸŖɚưƏƂȒȿƣǿƊāȀʀǣķƾČǹĽƓƞġɔťƶĭʋƆʃɖƋſǭȺńƂƊǂʎǾɪƏǼȰōĞǽʄŉȲżŻĂ"
+            + "ňǀƲʎŔǀǊʁĔşǛȻƋǛǍưűĉɧƁĒȎĐȻƼƶčɬƇĿʑɟưĠƌƬǸƳŋƢǸĴǼľſƦŻʍƪɧĞĐƠĠɗġġƉąŃȃƬǃɾǁƺȫȟſǁɣĎůĎĀƏƑčŶȓȗɖɖƂǇɕǇŇɻǑĀǯƓƯďĎ"
+            + "ȓŲŨşŲőĩŶŪǇĀƞƣƷɃȝɣɰɰĠȃƮġȞƞɣǇɣōžɮɐɗĀɗȃɥɐĈăɏɩƟȅƢňĀĀɀǛĸƏŲȅĬŨŇǹƝȻŨǲƐɔŽĠǰĻŻȸɐĀǁȫȟɣůĎɐĬȓɏɖŶƂǇƑǁɻǑŪɐȸǇƷƏ"
+            + "őşŲƞƉɰƣňɮɣġɔɐžɣɣĠƢȃŽƟȅŲɀĸȅƐŻřřƥŊɚǻɓɧɊɩɤŇōȥĈǭƕɱȑʃǰƇœɤɩʁƅĥōȃĿʑʕŁƯāɊɊǶēřƀƳƱĤɛŌƲǊƃȨŌɖŐŪɓśȟƍǽɛĮřĎȟȟȥʃ"
+            + "ǸŇɯʁĩɖʃǛɱɖǭǭʐɧŊƵɩƊĭĤǰƯȼɖƳĀɖɩʆɤȌȟħɣɩɮȿɮƱɏɏǛŊȵăżƅȵɩśɣŽşɱɓɏĂɔȻƀɾļąɔɩȕȉƮɈľǰȵȵɮɖŕǗŐƀļɔɩʃŽƱɔƨƨƨʋŲʃȶƋǏɧ"
+            + "ȅɣǿɢɜɢƀťŻʃŤƍİɬƊĩŸɲƶɮĨłȵůſȬŨĩɲɬƀȵĨưƨǏɠɲƀƀɮɮɠǍŘȚǌɐŕǫɱƨƨɤƯƦăĊǂŁĻŰɓɿɞƀǌĤɘɻɃʁǭǀƯǹĨſȝŔɑɽɪǗĨɉƮĀņɪɓƯȬƯɕŶ"
+            + "ɩƻǊɱưǂĒɓɏƟɩɔɧĂĺľɖɮƳƱĹƀǫɤĆǰɏĀɔƀƻǂǂƦƨſĂŔĹƱƯĂŖƨĊĀŲŲēȀȀƇǹʁƇĥȀƇƇŁƇɀŔŔƒǃǄǄǬɦɀŽɦşńȋƂȋĿňɓȋǿƆɠǞĆɩȕȋǊʑĸĈɧɥ"
+            + "ȼċƁŶǬɤǊɩƁȼƀəăăŴţţĸǽɃƼɪȵɁǽɟƖčȸɾēƟƊƠəȏĉɧȂȂŲɘǌƊƂďĿƂĀȼŤȸċəǪşĎƟȻƲŪǽɠƀƂƃĠĸſɖǻňɋƂƢɏȋřǀƋşɏǽůġĀȏɡȢɏşċȼŤɱŞ"
+            + "ĎɏŽȨɋňɏȋřůɏɱȼƉƉɖəɖƀɩɲɱȡƶǯżɪɱǯɩɩɗŸɦńȀǪɗȮůɞɧɞťȱƝǹŰɮɍĈŋĿĺǪǶƯĥƇƦŲǽōōɏƅŦȤɧɧƓŊǱǵƦřƁɅŽƝƁƥɃĥɪƍŸůƇɈɈǴơɈʎʎ"
+            + "ĭńơɣůǻƓĵƈǿɧȖȿōōɣžƐɬʉɣɖɚɧɯȘŁŁƃƘƦƬǲɧƼǹɥűǽťɡǻŽɽȐŶĒɖǴƳƢǛȄɦńȀůɗȮɞɞɍťŋǹĈȱŰɮƳƯǶƇƅƁɃŲɪƈƓɧǴŽɈůɪɪƓȿɬōʉɣōǛƼ"
+            + "ŁȘűƦɽȐǴȄŖĐĀřɕɽĐȕőȹƭŦɟȡƊĐȰɏɤɥȲƏșŒưɔƬǲǲưĐĐĐƬĀȚŖĐŖɤɽĐȕƊȰȲɥưǲĐĐŔŒŔŔȦȦĘƀńȰɊƂȶɗɉȋɮƋĦɩŒŒȶɩʆɧɼĎƅȼưİɂȰĊȦŌ"
+            + "ŮȋɀƄƁēɥɄİɗɤɤŐɣƥɧĘĔǓōĕƍŇȳɮȦɥžŬȦƂʋēɖĕɦȺŔɾɏŨōǢžŸżɂŽƂŷŲɛŕɏťĞȱȻĔŞɔƝưȲȼɦɱǊȻƼĎɮɝƆȗƝʉȟĦĺɧƀȉĥɬȼŽɗɽŕŮǂɣǊĠɗ"
+            + "ƶʒǐȦńƀɊɛɉɔȋɮĦŒɩƂȦĊȰŌɧŐȉɗŲƥƄɔēĔŇōɮǓƍŬžɖŨĞƝťȲĠɦǊĔưɝƆƼȗʉǐȧƝŬɗŕĆǗĎĔɆůŔƂɣĂřɖɐɚŕĒɛƺɮŖůĿɊɊĦɡʆʃǭɚȍȕɩɐʃĺƷ"
+            + "ɭĔĊƚɊɧȃɐȃƈĔɿɯǯʅƊʆǡƊǰɵƁƯʁȹřɤȦĎɊɊȰưƺǱȼʃȎȾņɡȄȤƈŐŮĔĀɩƶĀĺəưƊȱǿƽƫůɆɟɈƍōĥɛĂƳʋʅȢǱƞȼơʏƓǹǹɣŔșɣƅɥɓǱıǱǻŔżƂſɮ"
+            + "ȿȄɕʏƝȏȰŦɊƝȲǻĥʃưǫȾɔĚňɣɯʐșȟƨʃȬƳɔƶɾǊąĘǲıȃĎʃɮɞŹĔȳɘƮɽŋưɊɺȺƄɂɣƶɽƇɧɦɊĒʐɣǯƷȾɗƀȬƊɔŻƨĐƺɮɊɡĦȃȍĔƷɵȦȰřƊʐʆɊǡƁɧ"
+            + "ȹɘƺɩƄŹƶŮǱĐƨĥɣɛǿƍǹǹƓʋʏȳĘǱʃƝșɓąưǻȟǲƶıɽʅƀȬɗťɏɏɏɮŜɧĄɅƅĔĎİȿĿƘŮǽŷƙşɈŢǱĎƓǺɮȵƲĔɘĉĔķƛĒǊƬƲǑňɵȵȿĒƛƳŞŞǽƒǽƤɶĐ"
+            + "ƞƞȿœɝȇƾĺƞĒőɁǰʎőȇȿǬǰƾřŐȎȃĀɝŦƀǯʇȡȝȿƨĒʏȿǯȱʂȄʏȮƂŌŸƠƉǹƪʁĒǯǊȗƼƼȜɞƭǻǻǟŻƚǝĒƭȈŇŇǑŶɔŇƐŇŇƉġɮɮƨƋřǻŪʏưŪȠɮŪǀƀǹ"
+            + "ƅƝžĆǶǀɞɣɘƫɮɈǹɎƫɏƂĦǲĎǊƀɞĨɣɽɮļȋƀĆŶɊłƀɮōȅȝŰɉǊśȤŒɯǰƳɐŸƳɲœŕǍɭĀĀŲɕȃůǰƯɊĆȂǵřĎƀɏƊłĆɭūǰǘɛȹĊřɻƊťĀĀĀȸƅȩŷɗŐă"
+            + "ɏɁʆɩƭƶɄɧǹēɏƄǸŪɖşŽĀĀƒĀŌƍȿǄȡɲȷǿɮǓʀūŢĀɓȂɃřŻĨƨȝȝŞǂĀĀĀĀɬǗʎǹȀɗǓĮƀłǾťʅņơŔǗɧƞƳƉġƇƵƯʐƨǂʏʃǘĀĀĀȦșžȿŷɛƊƠʏƀďď"
+            + "ŻȄƀɏɏɮĮȏŃżƪɣȂȂƂĎōɤřȖƂŭɊŸĀȔĀɐƂűɓǫșưƺȦȦŨʎȾȸɥşȎǻǹɐȔĀƪąƥŽǇƀɁȃƂșƼɔȂĐƀƀʆƃȂʉɬɾƑɠđƌȃɗĔƄɡȳżʔȟȟŒŪƮɡǅɔĀɗŕŨŷ"
+            + "ƚɸșɽŜŪȥƨġĀĀĂȐƀɞſĀƨƭƨǆʁɗōƳŨƨɖɮļƀɭɉƳœĆƓĆǵǘƳɭɻřĆĊŷǰȹŪƅƒɏŐɄɸŷƚƀƄɖɻɗɡŢƨƪƂƨȦɁūȝŻƍƀɬȀƯǹʐŔƞġťǗǘłƇȤȦʎŕŃĎġ"
+            + "ȿɐɏȖōȂřżȄƃďșąǹȸŨɥǫƂƥĐɠđƼǇɬɏɔŪȟƮʔŸŜƨȟŨǚɧřƨƉĕɣřłƀŖĀŜȦŖǈĊɯʃŸǻřŕɐƂȦɮŘɨƊƌǰŻʁĊɣɢʂœŖɐǧȽƁǡƯǆřɊɐƨďʃşɯʎȃɘĦ"
+            + "ĺƊɭťʄɮɤȎɢʃɮĀɪʋɓŐŦĂʃɣŵƄƀƭʆȋȿŶƶȐǋşȋƄɝʅĦƶĀĀĀƴƁƀɮŻɊĕɓƋɮĔɡɡĎɔƍƊɆƇȿōōƜŸɓȤƠĀĀƳēȨřăɿǯǿǻċłƳȅƂƊɆɢɯǹƨɦʋƖŌƞȥ"
+            + "ǹƇǗōƇʎơņǹĮŢƊȃĀĀƀȨĀĦǅȏřȂȿŸȿōƅƾřĮɆɣŲɯǱɱǀŸɪŋǌƊĀęœşɪɯɟɑȦŲĩȻɕȔưƀťƂʌůʎİɧɥɣƀƨɀƗȿȿǗɆƺƄưʁĤƨʉʀąɥɧǧĦʃƬȎƲĎȬʍ"
+            + "ɮɓƌɩȺȰƄɧŹĎɪȳżŒƄƬɣƒƉɖɖɆƻʔɮɪƳɇɖɠɧǰȨƶǹɧƀʀɮɽɦɤǰǝŸǃɪǂĿɰɮƦĔƳŲƱȬɰɪŨȃƨƴǚƉƀɯǈȦǧɢęĊʁťņƳɢɘɤƯĦȃɯɠɊȰʃŐŦɝŵʅşƴŶ"
+            + "ɓĔƨƋŸōɮɖȿɓȅǅăƞċǯǻĮŢɯȳŸŲōťȂİǀɓɧɥɑưƀɧƂŲɧɪʀưƬƄƉɮƳŻɽɪŸǂŨȬƳƆƯƂɖķƂƂɣķƳɭĳƀĐĳǬʆƍʆƂǃǃɓưĤƍƮǗǹƳƉƍƇƨɗɣƁǃƨȢɾƮ"
+            + "ƇǹƯɣĳƻƻşĢřǄǄřǬȃȃǋřɖơȃǄĦŖřȃǄƺƺǊŽĀʐǔŕżżƆũɀɅŶɔƜŶȨƨǘĦųųɧǻʁɔɇǊǊǻĹĩɭŁɧɕɣȃǀɣȀɮƨĻňĘɩăɣȺăʁĹĘɧǀĺɣňƳʃŕřřǇǇɯ"
+            + "ĳȃĢɋʆʃƽąđɊĎɯĢɊńǃǎńʎťťņŕȼɯǰġŞǹɯȻȾȨȨŕŔɐĆłɊɄȃȥȦɭȦɃɓǘƇžƊɣɆȰɔɖɣƦĎɥɣůŽɓŷɔşɻɝɑɻǟǐǹɼƀʎƀƀǹƀĦĤĤŲɢƔəĊɷȦʎĦǘƊ"
+            + "ɁƯƯĩȄəɩǛƉǛįƞɮĩɧǗķįȃǘɖɮōɒɧĦʐŁĩƆɢĦĤŲɩƊƯĊɁʎɩɮįȃɒƱǫţǫɣƱƱţƐȸƯȸƱţƐŪȂđŪɰĭŲƌəɰ";
+}
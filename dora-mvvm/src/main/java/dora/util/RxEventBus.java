@@ -0,0 +1,399 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.Scheduler;
+
+/**
+ * An event bus that indexes the subscribers by event type and code, so posting an event only
+ * touches the subscribers of its types, instead of filtering it through every subscriber like
+ * {@link RxBus}. An event is delivered to the subscribers of its class, superclasses and
+ * interfaces. Each subscription has a bounded buffer with an overflow strategy, and can be
+ * delivered on a chosen {@link Scheduler}.
+ * 简体中文：按事件类型和事件码索引订阅者的事件总线，发送事件时只会触及其类型的订阅者，而不是像{@link RxBus}那样
+ * 让每个订阅者过滤一遍。事件会分发给其类、父类和接口的订阅者。每个订阅都有一个带溢出策略的有界缓冲区，
+ * 并可以在指定的{@link Scheduler}上分发。
+ */
+public final class RxEventBus {
+
+    private static final int NO_CODE = Integer.MIN_VALUE;
+
+    private static volatile RxEventBus sInstance;
+
+    private final ConcurrentHashMap<Key, Entry> mEntries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Class<?>[]> mTypes = new ConcurrentHashMap<>();
+    /**
+     * The entries of all types of an event class without a code, resolved on the first post,
+     * so a post without a code costs a single lookup.
+     * 简体中文：事件类所有类型的无事件码条目，在首次发送时解析，这样不带事件码的发送只需一次查找。
+     */
+    private final Map<Class<?>, Entry[]> mDispatchEntries = new ConcurrentHashMap<>();
+    private final AtomicLong mDroppedCount = new AtomicLong();
+
+    public static RxEventBus getInstance() {
+        if (sInstance == null) {
+            synchronized (RxEventBus.class) {
+                if (sInstance == null) {
+                    sInstance = new RxEventBus();
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    public void post(Object event) {
+        dispatch(NO_CODE, event, false);
+    }
+
+    public void post(int code, Object event) {
+        dispatch(code, event, false);
+    }
+
+    /**
+     * Post an event and keep it, subscribers with {@link Options.Builder#sticky(boolean)}
+     * receive the latest sticky event of their type right after subscribing.
+     * 简体中文：发送一个事件并保留它，开启了{@link Options.Builder#sticky(boolean)}的订阅者在订阅后会立即
+     * 收到其类型最近的粘性事件。
+     */
+    public void postSticky(Object event) {
+        dispatch(NO_CODE, event, true);
+    }
+
+    public void postSticky(int code, Object event) {
+        dispatch(code, event, true);
+    }
+
+    public <T> T getSticky(Class<T> cls) {
+        return getSticky(NO_CODE, cls);
+    }
+
+    public <T> T getSticky(int code, Class<T> cls) {
+        Entry entry = mEntries.get(new Key(cls, code));
+        return entry != null ? cls.cast(entry.mSticky) : null;
+    }
+
+    /**
+     * Remove the sticky event of the type, the same event kept for its other types is removed
+     * as well.
+     * 简体中文：移除该类型的粘性事件，同一事件在其他类型下保留的也会一并移除。
+     */
+    public <T> T removeSticky(Class<T> cls) {
+        return removeSticky(NO_CODE, cls);
+    }
+
+    public <T> T removeSticky(int code, Class<T> cls) {
+        Entry entry = mEntries.get(new Key(cls, code));
+        if (entry == null) {
+            return null;
+        }
+        Object event;
+        synchronized (entry) {
+            event = entry.mSticky;
+            entry.mSticky = null;
+        }
+        if (event != null) {
+            for (Class<?> type : typesOf(event.getClass())) {
+                Entry other = mEntries.get(new Key(type, code));
+                if (other != null) {
+                    synchronized (other) {
+                        if (other.mSticky == event) {
+                            other.mSticky = null;
+                        }
+                    }
+                }
+            }
+        }
+        return cls.cast(event);
+    }
+
+    public void removeAllSticky() {
+        for (Entry entry : mEntries.values()) {
+            synchronized (entry) {
+                entry.mSticky = null;
+            }
+        }
+    }
+
+    public boolean hasSubscribers(Class<?> cls) {
+        return hasSubscribers(NO_CODE, cls);
+    }
+
+    public boolean hasSubscribers(int code, Class<?> cls) {
+        Entry entry = mEntries.get(new Key(cls, code));
+        return entry != null && !entry.mEmitters.isEmpty();
+    }
+
+    /**
+     * The number of events dropped by the bounded buffers so far.
+     * 简体中文：到目前为止被有界缓冲区丢弃的事件数量。
+     */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    public <T> Flowable<T> toFlowable(Class<T> cls) {
+        return toFlowable(NO_CODE, cls, Options.DEFAULT);
+    }
+
+    public <T> Flowable<T> toFlowable(Class<T> cls, Options options) {
+        return toFlowable(NO_CODE, cls, options);
+    }
+
+    public <T> Flowable<T> toFlowable(int code, Class<T> cls) {
+        return toFlowable(code, cls, Options.DEFAULT);
+    }
+
+    public <T> Flowable<T> toFlowable(int code, Class<T> cls, Options options) {
+        final Key key = new Key(cls, code);
+        Flowable<Object> flowable = Flowable.create(emitter -> {
+            Entry entry = getEntry(key);
+            FlowableEmitter<Object> serialized = emitter.serialize();
+            serialized.setCancellable(() -> entry.mEmitters.remove(serialized));
+            synchronized (entry) {
+                // Under the lock, so no sticky event gets in between.
+                // 简体中文：在锁内进行，避免有粘性事件插入其中。
+                if (options.mSticky && entry.mSticky != null) {
+                    serialized.onNext(entry.mSticky);
+                }
+                entry.mEmitters.add(serialized);
+            }
+        }, BackpressureStrategy.MISSING);
+        switch (options.mOverflow) {
+            case LATEST:
+                flowable = flowable.onBackpressureLatest();
+                break;
+            case DROP_LATEST:
+                flowable = flowable.onBackpressureBuffer(options.mCapacity,
+                        mDroppedCount::incrementAndGet, BackpressureOverflowStrategy.DROP_LATEST);
+                break;
+            case DROP_OLDEST:
+            default:
+                flowable = flowable.onBackpressureBuffer(options.mCapacity,
+                        mDroppedCount::incrementAndGet, BackpressureOverflowStrategy.DROP_OLDEST);
+                break;
+        }
+        if (options.mScheduler != null) {
+            flowable = flowable.observeOn(options.mScheduler, false,
+                    Math.min(options.mCapacity, Flowable.bufferSize()));
+        }
+        return flowable.cast(cls);
+    }
+
+    private Entry getEntry(Key key) {
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = mEntries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry;
+    }
+
+    private void dispatch(int code, Object event, boolean sticky) {
+        Entry[] entries;
+        if (code == NO_CODE) {
+            entries = mDispatchEntries.get(event.getClass());
+            if (entries == null) {
+                entries = resolveEntries(code, event.getClass());
+                mDispatchEntries.put(event.getClass(), entries);
+            }
+        } else {
+            entries = resolveEntries(code, event.getClass());
+        }
+        for (Entry entry : entries) {
+            if (sticky) {
+                synchronized (entry) {
+                    entry.mSticky = event;
+                    for (FlowableEmitter<Object> emitter : entry.mEmitters) {
+                        emitter.onNext(event);
+                    }
+                }
+            } else {
+                for (FlowableEmitter<Object> emitter : entry.mEmitters) {
+                    emitter.onNext(event);
+                }
+            }
+        }
+    }
+
+    private Entry[] resolveEntries(int code, Class<?> cls) {
+        Class<?>[] types = typesOf(cls);
+        Entry[] entries = new Entry[types.length];
+        for (int i = 0; i < types.length; i++) {
+            entries[i] = getEntry(new Key(types[i], code));
+        }
+        return entries;
+    }
+
+    /**
+     * The class, superclasses and interfaces of an event class, cached.
+     * 简体中文：事件类的类、父类和接口，带缓存。
+     */
+    private Class<?>[] typesOf(Class<?> cls) {
+        Class<?>[] types = mTypes.get(cls);
+        if (types == null) {
+            Set<Class<?>> set = new LinkedHashSet<>();
+            List<Class<?>> pending = new ArrayList<>();
+            pending.add(cls);
+            while (!pending.isEmpty()) {
+                Class<?> type = pending.remove(0);
+                if (set.add(type)) {
+                    if (type.getSuperclass() != null) {
+                        pending.add(type.getSuperclass());
+                    }
+                    for (Class<?> i : type.getInterfaces()) {
+                        pending.add(i);
+                    }
+                }
+            }
+            types = set.toArray(new Class<?>[0]);
+            mTypes.put(cls, types);
+        }
+        return types;
+    }
+
+    private static final class Key {
+
+        private final Class<?> mType;
+        private final int mCode;
+
+        Key(Class<?> type, int code) {
+            this.mType = type;
+            this.mCode = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return mCode == key.mCode && mType == key.mType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * mType.hashCode() + mCode;
+        }
+    }
+
+    private static final class Entry {
+
+        private final List<FlowableEmitter<Object>> mEmitters = new CopyOnWriteArrayList<>();
+        private Object mSticky;
+    }
+
+    /**
+     * What to do when a subscriber can't keep up and its buffer is full.
+     * 简体中文：订阅者处理不过来且缓冲区已满时的处理方式。
+     */
+    public enum Overflow {
+
+        /**
+         * Drop the oldest buffered event.
+         * 简体中文：丢弃缓冲区中最旧的事件。
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drop the newly posted event.
+         * 简体中文：丢弃新发送的事件。
+         */
+        DROP_LATEST,
+
+        /**
+         * Keep only the latest event, the buffer capacity is ignored.
+         * 简体中文：只保留最新的事件，忽略缓冲区容量。
+         */
+        LATEST
+    }
+
+    public static final class Options {
+
+        static final Options DEFAULT = new Builder().build();
+
+        private final boolean mSticky;
+        private final int mCapacity;
+        private final Overflow mOverflow;
+        private final Scheduler mScheduler;
+
+        private Options(Builder builder) {
+            this.mSticky = builder.mSticky;
+            this.mCapacity = builder.mCapacity;
+            this.mOverflow = builder.mOverflow;
+            this.mScheduler = builder.mScheduler;
+        }
+
+        public static final class Builder {
+
+            private boolean mSticky;
+            private int mCapacity = Flowable.bufferSize();
+            private Overflow mOverflow = Overflow.DROP_OLDEST;
+            private Scheduler mScheduler;
+
+            public Builder sticky(boolean sticky) {
+                this.mSticky = sticky;
+                return this;
+            }
+
+            public Builder capacity(int capacity) {
+                if (capacity < 1) {
+                    throw new IllegalArgumentException("capacity < 1: " + capacity);
+                }
+                this.mCapacity = capacity;
+                return this;
+            }
+
+            public Builder overflow(Overflow overflow) {
+                this.mOverflow = overflow;
+                return this;
+            }
+
+            /**
+             * The scheduler to deliver the events on, by default they are delivered on the
+             * posting thread.
+             * 简体中文：分发事件所在的调度器，默认在发送事件的线程上分发。
+             */
+            public Builder scheduler(Scheduler scheduler) {
+                this.mScheduler = scheduler;
+                return this;
+            }
+
+            public Options build() {
+                return new Options(this);
+            }
+        }
+    }
+}
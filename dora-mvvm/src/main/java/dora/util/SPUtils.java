@@ -23,8 +23,16 @@ import android.util.Base64;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SharedPreferences storage and retrieval related utility.
@@ -35,19 +43,69 @@ public final class SPUtils {
     private SPUtils() {
     }
 
+    private static final String MMAP_FILE_NAME = "dora_preferences.kv";
+
     private static SharedPreferences sPreferences;
+    /**
+     * The preferences given out by {@link #getPreferences()}, whose editors write through to the
+     * read cache.
+     * 简体中文：由{@link #getPreferences()}提供的SharedPreferences，其编辑器会同步写入读缓存。
+     */
+    private static SharedPreferences sCachedPreferences;
     private static SPUtils sInstance;
 
+    /**
+     * Read cache in front of the SharedPreferences, it's written through by the editors of
+     * SPUtils and of {@link #getPreferences()}, and invalidated by the changes made elsewhere,
+     * which are only seen once the change listener is called on the main thread.
+     * 简体中文：SharedPreferences前面的读缓存，SPUtils和{@link #getPreferences()}的编辑器会同步写入它，其他地方
+     * 做的修改会使它失效，但只有在主线程中调用变更监听器之后才能看到这些修改。
+     */
+    private static final Map<String, Object> sCache = new ConcurrentHashMap<>();
+    private static volatile int sCacheVersion;
+    private static final Object REMOVED = new Object();
+    private static final SharedPreferences.OnSharedPreferenceChangeListener sInvalidator =
+            (preferences, key) -> {
+                synchronized (sCache) {
+                    sCacheVersion++;
+                    if (key == null) {
+                        sCache.clear();
+                    } else {
+                        sCache.remove(key);
+                    }
+                }
+            };
+
     private SharedPreferences.Editor getEditor() {
-        return sPreferences.edit();
+        return new CachedEditor(sPreferences.edit());
     }
 
+    /**
+     * The preferences behind SPUtils, edit them through the returned instance rather than
+     * {@link PreferenceManager#getDefaultSharedPreferences(Context)}, so the reads of SPUtils
+     * see the writes right away.
+     * 简体中文：SPUtils背后的SharedPreferences，请通过返回的实例而不是
+     * {@link PreferenceManager#getDefaultSharedPreferences(Context)}编辑，这样SPUtils的读取能立即看到写入。
+     */
     public static SharedPreferences getPreferences() {
-        return sPreferences;
+        return sCachedPreferences;
     }
 
     private SPUtils(Context context) {
-        sPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        setPreferences(PreferenceManager.getDefaultSharedPreferences(context));
+    }
+
+    private static void setPreferences(SharedPreferences preferences) {
+        if (sPreferences != null) {
+            sPreferences.unregisterOnSharedPreferenceChangeListener(sInvalidator);
+        }
+        sPreferences = preferences;
+        sCachedPreferences = new CachedPreferences(preferences);
+        preferences.registerOnSharedPreferenceChangeListener(sInvalidator);
+        synchronized (sCache) {
+            sCacheVersion++;
+            sCache.clear();
+        }
     }
 
     private static SPUtils getInstance(Context context) {
@@ -59,6 +117,113 @@ public final class SPUtils {
         return sInstance;
     }
 
+    /**
+     * Switch the storage to {@link MmapPreferences}, an append-only log in a memory-mapped file,
+     * so writes no longer rewrite the whole XML file. The entries of the default
+     * SharedPreferences are migrated once and then cleared. Call it in
+     * {@link android.app.Application#onCreate()} before any other access.
+     * 简体中文：将存储切换为{@link MmapPreferences}，即内存映射文件中的追加日志，写入不再重写整个XML文件。
+     * 默认SharedPreferences中的条目会被迁移一次，然后清空。请在{@link android.app.Application#onCreate()}
+     * 中先于其他访问调用。
+     *
+     * @return false if the file can't be opened, the default SharedPreferences are kept.
+     */
+    public static boolean useMmapBackend(Context context) {
+        synchronized (SPUtils.class) {
+            if (sPreferences instanceof MmapPreferences) {
+                return true;
+            }
+            MmapPreferences preferences;
+            try {
+                preferences = new MmapPreferences(new File(context.getFilesDir(), MMAP_FILE_NAME));
+            } catch (IOException e) {
+                LogUtils.e(e.toString());
+                return false;
+            }
+            SharedPreferences legacy = PreferenceManager.getDefaultSharedPreferences(context);
+            if (!legacy.getAll().isEmpty()) {
+                preferences.migrateFrom(legacy);
+                legacy.edit().clear().commit();
+            }
+            setPreferences(preferences);
+            if (sInstance == null) {
+                sInstance = new SPUtils();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A batch of writes, see {@link #edit(Context, Transaction)}.
+     * 简体中文：一批写操作，参见{@link #edit(Context, Transaction)}。
+     */
+    public interface Transaction {
+        void run(SharedPreferences.Editor editor);
+    }
+
+    /**
+     * Apply all writes of the transaction in a single persistence pass, instead of one pass per
+     * {@code writeXxx()} call.
+     * 简体中文：在一次持久化中提交事务中的所有写操作，而不是每次调用{@code writeXxx()}都持久化一次。
+     */
+    public static void edit(Context context, Transaction transaction) {
+        SharedPreferences.Editor editor = getInstance(context).getEditor();
+        transaction.run(editor);
+        editor.apply();
+    }
+
+    /**
+     * The same as {@link #edit(Context, Transaction)}, but waits for the data to be persisted.
+     * 简体中文：同{@link #edit(Context, Transaction)}，但会等待数据持久化完成。
+     *
+     * @return true if the new values were successfully written to persistent storage.
+     */
+    public static boolean editSync(Context context, Transaction transaction) {
+        SharedPreferences.Editor editor = getInstance(context).getEditor();
+        transaction.run(editor);
+        return editor.commit();
+    }
+
+    /**
+     * Read a value through the cache, null if the key is absent.
+     * 简体中文：通过缓存读取值，键不存在时返回null。
+     */
+    private static Object readValue(String key, Class<?> type) {
+        Object value = sCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        int version = sCacheVersion;
+        SharedPreferences preferences = getPreferences();
+        if (!preferences.contains(key)) {
+            return null;
+        }
+        if (type == String.class) {
+            value = preferences.getString(key, null);
+        } else if (type == Integer.class) {
+            value = preferences.getInt(key, 0);
+        } else if (type == Long.class) {
+            value = preferences.getLong(key, 0L);
+        } else if (type == Float.class) {
+            value = preferences.getFloat(key, 0f);
+        } else if (type == Boolean.class) {
+            value = preferences.getBoolean(key, false);
+        } else {
+            Set<String> values = preferences.getStringSet(key, null);
+            value = values == null ? null : Collections.unmodifiableSet(new HashSet<>(values));
+        }
+        if (value != null) {
+            synchronized (sCache) {
+                // Don't cache a value that a concurrent write has already replaced.
+                // 简体中文：不缓存已被并发写入替换掉的值。
+                if (version == sCacheVersion) {
+                    sCache.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
     public static boolean hasKey(Context context, String key) {
         getInstance(context);
         return getPreferences().contains(key);
@@ -74,7 +239,8 @@ public final class SPUtils {
 
     public static String readString(Context context, String key, String defValue) {
         getInstance(context);
-        return getPreferences().getString(key, defValue);
+        Object value = readValue(key, String.class);
+        return value != null ? (String) value : defValue;
     }
 
     public static String readString(Context context, String key) {
@@ -91,7 +257,8 @@ public final class SPUtils {
 
     public static int readInteger(Context context, String key, int defValue) {
         getInstance(context);
-        return getPreferences().getInt(key, defValue);
+        Object value = readValue(key, Integer.class);
+        return value != null ? (Integer) value : defValue;
     }
 
     public static int readInteger(Context context, String key) {
@@ -108,13 +275,73 @@ public final class SPUtils {
 
     public static boolean readBoolean(Context context, String key, boolean defValue) {
         getInstance(context);
-        return getPreferences().getBoolean(key, defValue);
+        Object value = readValue(key, Boolean.class);
+        return value != null ? (Boolean) value : defValue;
     }
 
     public static boolean readBoolean(Context context, String key) {
         return readBoolean(context, key, false);
     }
 
+    public static void writeLong(Context context, String key, long value) {
+        getInstance(context).getEditor().putLong(key, value).apply();
+    }
+
+    public static void writeLongSync(Context context, String key, long value) {
+        getInstance(context).getEditor().putLong(key, value).commit();
+    }
+
+    public static long readLong(Context context, String key, long defValue) {
+        getInstance(context);
+        Object value = readValue(key, Long.class);
+        return value != null ? (Long) value : defValue;
+    }
+
+    public static long readLong(Context context, String key) {
+        return readLong(context, key, 0L);
+    }
+
+    public static void writeFloat(Context context, String key, float value) {
+        getInstance(context).getEditor().putFloat(key, value).apply();
+    }
+
+    public static void writeFloatSync(Context context, String key, float value) {
+        getInstance(context).getEditor().putFloat(key, value).commit();
+    }
+
+    public static float readFloat(Context context, String key, float defValue) {
+        getInstance(context);
+        Object value = readValue(key, Float.class);
+        return value != null ? (Float) value : defValue;
+    }
+
+    public static float readFloat(Context context, String key) {
+        return readFloat(context, key, 0f);
+    }
+
+    public static void writeStringSet(Context context, String key, Set<String> values) {
+        getInstance(context).getEditor().putStringSet(key, values).apply();
+    }
+
+    public static void writeStringSetSync(Context context, String key, Set<String> values) {
+        getInstance(context).getEditor().putStringSet(key, values).commit();
+    }
+
+    /**
+     * The returned set is read-only.
+     * 简体中文：返回的集合是只读的。
+     */
+    @SuppressWarnings("unchecked")
+    public static Set<String> readStringSet(Context context, String key, Set<String> defValues) {
+        getInstance(context);
+        Object value = readValue(key, Set.class);
+        return value != null ? (Set<String>) value : defValues;
+    }
+
+    public static Set<String> readStringSet(Context context, String key) {
+        return readStringSet(context, key, null);
+    }
+
     public <T> boolean writeObject(Context context, String key, T value) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         ObjectOutputStream oos = null;
@@ -190,4 +417,175 @@ public final class SPUtils {
     public static void clearSync(Context context) {
         getInstance(context).getEditor().clear().commit();
     }
+
+    /**
+     * Writes the committed changes through to the read cache.
+     * 简体中文：将提交的修改同步写入读缓存。
+     */
+    /**
+     * Reads straight from the preferences, and edits through a {@link CachedEditor}.
+     * 简体中文：直接从SharedPreferences读取，并通过{@link CachedEditor}编辑。
+     */
+    private static final class CachedPreferences implements SharedPreferences {
+
+        private final SharedPreferences mPreferences;
+
+        CachedPreferences(SharedPreferences preferences) {
+            this.mPreferences = preferences;
+        }
+
+        @Override
+        public Map<String, ?> getAll() {
+            return mPreferences.getAll();
+        }
+
+        @Override
+        public String getString(String key, String defValue) {
+            return mPreferences.getString(key, defValue);
+        }
+
+        @Override
+        public Set<String> getStringSet(String key, Set<String> defValues) {
+            return mPreferences.getStringSet(key, defValues);
+        }
+
+        @Override
+        public int getInt(String key, int defValue) {
+            return mPreferences.getInt(key, defValue);
+        }
+
+        @Override
+        public long getLong(String key, long defValue) {
+            return mPreferences.getLong(key, defValue);
+        }
+
+        @Override
+        public float getFloat(String key, float defValue) {
+            return mPreferences.getFloat(key, defValue);
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defValue) {
+            return mPreferences.getBoolean(key, defValue);
+        }
+
+        @Override
+        public boolean contains(String key) {
+            return mPreferences.contains(key);
+        }
+
+        @Override
+        public Editor edit() {
+            return new CachedEditor(mPreferences.edit());
+        }
+
+        @Override
+        public void registerOnSharedPreferenceChangeListener(
+                OnSharedPreferenceChangeListener listener) {
+            mPreferences.registerOnSharedPreferenceChangeListener(listener);
+        }
+
+        @Override
+        public void unregisterOnSharedPreferenceChangeListener(
+                OnSharedPreferenceChangeListener listener) {
+            mPreferences.unregisterOnSharedPreferenceChangeListener(listener);
+        }
+    }
+
+    private static final class CachedEditor implements SharedPreferences.Editor {
+
+        private final SharedPreferences.Editor mEditor;
+        private final Map<String, Object> mModified = new HashMap<>();
+        private boolean mClear;
+
+        CachedEditor(SharedPreferences.Editor editor) {
+            this.mEditor = editor;
+        }
+
+        private SharedPreferences.Editor modify(String key, Object value) {
+            mModified.put(key, value == null ? REMOVED : value);
+            return this;
+        }
+
+        @Override
+        public SharedPreferences.Editor putString(String key, String value) {
+            mEditor.putString(key, value);
+            return modify(key, value);
+        }
+
+        @Override
+        public SharedPreferences.Editor putStringSet(String key, Set<String> values) {
+            mEditor.putStringSet(key, values);
+            return modify(key, values == null ? null
+                    : Collections.unmodifiableSet(new HashSet<>(values)));
+        }
+
+        @Override
+        public SharedPreferences.Editor putInt(String key, int value) {
+            mEditor.putInt(key, value);
+            return modify(key, value);
+        }
+
+        @Override
+        public SharedPreferences.Editor putLong(String key, long value) {
+            mEditor.putLong(key, value);
+            return modify(key, value);
+        }
+
+        @Override
+        public SharedPreferences.Editor putFloat(String key, float value) {
+            mEditor.putFloat(key, value);
+            return modify(key, value);
+        }
+
+        @Override
+        public SharedPreferences.Editor putBoolean(String key, boolean value) {
+            mEditor.putBoolean(key, value);
+            return modify(key, value);
+        }
+
+        @Override
+        public SharedPreferences.Editor remove(String key) {
+            mEditor.remove(key);
+            return modify(key, null);
+        }
+
+        @Override
+        public SharedPreferences.Editor clear() {
+            mEditor.clear();
+            mClear = true;
+            return this;
+        }
+
+        @Override
+        public boolean commit() {
+            boolean result = mEditor.commit();
+            publish();
+            return result;
+        }
+
+        @Override
+        public void apply() {
+            mEditor.apply();
+            publish();
+        }
+
+        private void publish() {
+            synchronized (sCache) {
+                sCacheVersion++;
+                if (mClear) {
+                    sCache.clear();
+                }
+                for (Map.Entry<String, Object> entry : mModified.entrySet()) {
+                    if (entry.getValue() == REMOVED) {
+                        sCache.remove(entry.getKey());
+                    } else {
+                        sCache.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            mModified.clear();
+            mClear = false;
+        }
+    }
 }
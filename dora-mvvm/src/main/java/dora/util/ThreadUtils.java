@@ -24,16 +24,27 @@ import androidx.annotation.CallSuper;
 import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -41,6 +52,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Thread-related Tools.
@@ -61,6 +73,9 @@ public final class ThreadUtils {
     private static final byte TYPE_CACHED = -2;
     private static final byte TYPE_IO     = -4;
     private static final byte TYPE_CPU    = -8;
+    private static final byte TYPE_WORK_STEALING = -16;
+
+    private static ThreadPoolExecutor4Util sCpuPool;
 
     private static Executor sDeliver;
 
@@ -206,8 +221,12 @@ public final class ThreadUtils {
      * Return a thread pool that creates (CPU_COUNT + 1) threads
      * operating off a queue which size is 128 and the maximum
      * number of threads equals (2 * CPU_COUNT + 1).
+     * The cpu pools of all the priorities share the same threads
+     * and a priority-ordered queue, so the queued tasks with higher
+     * priority run first.
      * 简体中文：返回一个线程池，它创建 (CPU_COUNT + 1) 个线程，并且这些线程在大小为 128 的队列上运行。同时，线程
-     * 池的最大线程数为 (2 * CPU_COUNT + 1)。其中，CPU_COUNT 表示计算机的 CPU 核心数量。
+     * 池的最大线程数为 (2 * CPU_COUNT + 1)。其中，CPU_COUNT 表示计算机的 CPU 核心数量。所有优先级的CPU线程池共享
+     * 同一组线程和一个按优先级排序的队列，所以排队中优先级更高的任务会先执行。
      *
      * @param priority The priority of thread in the poll.
      * @return a cpu thread pool for
@@ -216,6 +235,33 @@ public final class ThreadUtils {
         return getPoolByTypeAndPriority(TYPE_CPU, priority);
     }
 
+    /**
+     * Return a work-stealing thread pool whose parallelism equals
+     * CPU_COUNT. Every thread has its own deque and steals from the
+     * others when idle, it suits bursts of short cpu-bound tasks.
+     * 简体中文：返回一个工作窃取线程池，其并行度等于 CPU_COUNT。每个线程拥有自己的双端队列，空闲时从其他线程窃取任
+     * 务，适合大量短小的CPU密集型任务。
+     *
+     * @return a work-stealing thread pool
+     */
+    public static ExecutorService getWorkStealingPool() {
+        return getPoolByTypeAndPriority(TYPE_WORK_STEALING);
+    }
+
+    /**
+     * Return a work-stealing thread pool whose parallelism equals
+     * CPU_COUNT. Every thread has its own deque and steals from the
+     * others when idle, it suits bursts of short cpu-bound tasks.
+     * 简体中文：返回一个工作窃取线程池，其并行度等于 CPU_COUNT。每个线程拥有自己的双端队列，空闲时从其他线程窃取任
+     * 务，适合大量短小的CPU密集型任务。
+     *
+     * @param priority The priority of thread in the poll.
+     * @return a work-stealing thread pool
+     */
+    public static ExecutorService getWorkStealingPool(@IntRange(from = 1, to = 10) final int priority) {
+        return getPoolByTypeAndPriority(TYPE_WORK_STEALING, priority);
+    }
+
     /**
      * Executes the given task in a fixed thread pool.
      * 简体中文：在一个固定大小的线程池中执行给定的任务。
@@ -859,6 +905,138 @@ public final class ThreadUtils {
         );
     }
 
+    /**
+     * Executes the given task in a work-stealing thread pool.
+     * 简体中文：在一个工作窃取线程池中执行给定的任务。
+     *
+     * @param task The task to execute.
+     * @param <T>  The type of the task's result.
+     */
+    public static <T> void executeByWorkStealing(final Task<T> task) {
+        execute(getPoolByTypeAndPriority(TYPE_WORK_STEALING), task);
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool.
+     * 简体中文：在一个工作窃取线程池中执行给定的任务。
+     *
+     * @param task     The task to execute.
+     * @param priority The priority of thread in the poll.
+     * @param <T>      The type of the task's result.
+     */
+    public static <T> void executeByWorkStealing(final Task<T> task,
+                                                 @IntRange(from = 1, to = 10) final int priority) {
+        execute(getPoolByTypeAndPriority(TYPE_WORK_STEALING, priority), task);
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool after the given delay.
+     * 简体中文：在给定的延迟之后，将给定的任务在一个工作窃取线程池中执行。
+     *
+     * @param task  The task to execute.
+     * @param delay The time from now to delay execution.
+     * @param unit  The time unit of the delay parameter.
+     * @param <T>   The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingWithDelay(final Task<T> task,
+                                                          final long delay,
+                                                          final TimeUnit unit) {
+        executeWithDelay(getPoolByTypeAndPriority(TYPE_WORK_STEALING), task, delay, unit);
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool after the given delay.
+     * 简体中文：在给定的延迟之后，将给定的任务在一个工作窃取线程池中执行。
+     *
+     * @param task     The task to execute.
+     * @param delay    The time from now to delay execution.
+     * @param unit     The time unit of the delay parameter.
+     * @param priority The priority of thread in the poll.
+     * @param <T>      The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingWithDelay(final Task<T> task,
+                                                          final long delay,
+                                                          final TimeUnit unit,
+                                                          @IntRange(from = 1, to = 10) final int priority) {
+        executeWithDelay(
+                getPoolByTypeAndPriority(TYPE_WORK_STEALING, priority), task, delay, unit
+        );
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool at fix rate.
+     * 简体中文：在一个工作窃取线程池中以固定的频率执行给定的任务。
+     *
+     * @param task   The task to execute.
+     * @param period The period between successive executions.
+     * @param unit   The time unit of the period parameter.
+     * @param <T>    The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingAtFixRate(final Task<T> task,
+                                                          final long period,
+                                                          final TimeUnit unit) {
+        executeAtFixedRate(getPoolByTypeAndPriority(TYPE_WORK_STEALING), task, 0, period, unit);
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool at fix rate.
+     * 简体中文：在一个工作窃取线程池中以固定的频率执行给定的任务。
+     *
+     * @param task     The task to execute.
+     * @param period   The period between successive executions.
+     * @param unit     The time unit of the period parameter.
+     * @param priority The priority of thread in the poll.
+     * @param <T>      The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingAtFixRate(final Task<T> task,
+                                                          final long period,
+                                                          final TimeUnit unit,
+                                                          @IntRange(from = 1, to = 10) final int priority) {
+        executeAtFixedRate(
+                getPoolByTypeAndPriority(TYPE_WORK_STEALING, priority), task, 0, period, unit
+        );
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool at fix rate.
+     * 简体中文：在一个工作窃取线程池中以固定的频率执行给定的任务。
+     *
+     * @param task         The task to execute.
+     * @param initialDelay The time to delay first execution.
+     * @param period       The period between successive executions.
+     * @param unit         The time unit of the initialDelay and period parameters.
+     * @param <T>          The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingAtFixRate(final Task<T> task,
+                                                          long initialDelay,
+                                                          final long period,
+                                                          final TimeUnit unit) {
+        executeAtFixedRate(
+                getPoolByTypeAndPriority(TYPE_WORK_STEALING), task, initialDelay, period, unit
+        );
+    }
+
+    /**
+     * Executes the given task in a work-stealing thread pool at fix rate.
+     * 简体中文：在一个工作窃取线程池中以固定的频率执行给定的任务。
+     *
+     * @param task         The task to execute.
+     * @param initialDelay The time to delay first execution.
+     * @param period       The period between successive executions.
+     * @param unit         The time unit of the initialDelay and period parameters.
+     * @param priority     The priority of thread in the poll.
+     * @param <T>          The type of the task's result.
+     */
+    public static <T> void executeByWorkStealingAtFixRate(final Task<T> task,
+                                                          long initialDelay,
+                                                          final long period,
+                                                          final TimeUnit unit,
+                                                          @IntRange(from = 1, to = 10) final int priority) {
+        executeAtFixedRate(
+                getPoolByTypeAndPriority(TYPE_WORK_STEALING, priority), task, initialDelay, period, unit
+        );
+    }
+
     /**
      * Executes the given task in a custom thread pool.
      * 简体中文：在一个自定义线程池中执行给定的任务。
@@ -970,7 +1148,9 @@ public final class ThreadUtils {
      * @param executorService The pool.
      */
     public static void cancel(ExecutorService executorService) {
-        if (executorService instanceof ThreadPoolExecutor4Util) {
+        if (executorService instanceof ThreadPoolExecutor4Util
+                || executorService instanceof PriorityPool4Util
+                || executorService instanceof ForkJoinPool4Util) {
             for (Map.Entry<Task, ExecutorService> taskTaskInfoEntry : TASK_POOL_MAP.entrySet()) {
                 if (taskTaskInfoEntry.getValue() == executorService) {
                     cancel(taskTaskInfoEntry.getKey());
@@ -991,6 +1171,62 @@ public final class ThreadUtils {
         sDeliver = deliver;
     }
 
+    /**
+     * Take a snapshot of the runtime statistics of every pool created by ThreadUtils. The
+     * cpu pools of all the priorities share one pool, so it appears only once.
+     * 简体中文：获取ThreadUtils创建的每个线程池的运行时统计快照。所有优先级的CPU线程池共享同一个线程池，所以只会出
+     * 现一次。
+     *
+     * @return the statistics of the pools.
+     */
+    public static List<PoolStats> getPoolStats() {
+        Map<ExecutorService, Boolean> pools = new IdentityHashMap<>();
+        synchronized (TYPE_PRIORITY_POOLS) {
+            for (Map<Integer, ExecutorService> priorityPools : TYPE_PRIORITY_POOLS.values()) {
+                for (ExecutorService pool : priorityPools.values()) {
+                    if (pool instanceof PriorityPool4Util) {
+                        pool = ((PriorityPool4Util) pool).mPool;
+                    }
+                    pools.put(pool, Boolean.TRUE);
+                }
+            }
+        }
+        List<PoolStats> stats = new ArrayList<>();
+        for (ExecutorService pool : pools.keySet()) {
+            PoolStats poolStats = getPoolStats(pool);
+            if (poolStats != null) {
+                stats.add(poolStats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Take a snapshot of the runtime statistics of the given pool.
+     * 简体中文：获取给定线程池的运行时统计快照。
+     *
+     * @param pool The pool created by ThreadUtils.
+     * @return the statistics of the pool, or null if the pool isn't ThreadUtils's pool.
+     */
+    public static PoolStats getPoolStats(ExecutorService pool) {
+        if (pool instanceof PriorityPool4Util) {
+            pool = ((PriorityPool4Util) pool).mPool;
+        }
+        if (pool instanceof ThreadPoolExecutor4Util) {
+            ThreadPoolExecutor4Util executor = (ThreadPoolExecutor4Util) pool;
+            return executor.mMetrics.snapshot(executor.getPoolSize(), executor.getActiveCount(),
+                    executor.getLargestPoolSize(), executor.getQueue().size());
+        }
+        if (pool instanceof ForkJoinPool4Util) {
+            ForkJoinPool4Util executor = (ForkJoinPool4Util) pool;
+            return executor.mMetrics.snapshot(executor.getPoolSize(), executor.getActiveThreadCount(),
+                    executor.getParallelism(), (int) executor.getQueuedSubmissionCount()
+                            + (int) executor.getQueuedTaskCount());
+        }
+        LogUtils.e("The executorService is not ThreadUtils's pool.");
+        return null;
+    }
+
     private static <T> void execute(final ExecutorService pool, final Task<T> task) {
         execute(pool, task, 0, 0, null);
     }
@@ -1090,11 +1326,16 @@ public final class ThreadUtils {
                             new UtilsThreadFactory("io", priority)
                     );
                 case TYPE_CPU:
-                    return new ThreadPoolExecutor4Util(CPU_COUNT + 1, 2 * CPU_COUNT + 1,
-                            30, TimeUnit.SECONDS,
-                            new LinkedBlockingQueue4Util(true),
-                            new UtilsThreadFactory("cpu", priority)
-                    );
+                    if (sCpuPool == null) {
+                        sCpuPool = new ThreadPoolExecutor4Util(CPU_COUNT + 1, 2 * CPU_COUNT + 1,
+                                30, TimeUnit.SECONDS,
+                                new PriorityBlockingQueue4Util(true),
+                                new UtilsThreadFactory("cpu", Thread.NORM_PRIORITY)
+                        );
+                    }
+                    return new PriorityPool4Util(sCpuPool, priority);
+                case TYPE_WORK_STEALING:
+                    return new ForkJoinPool4Util(CPU_COUNT, priority);
                 default:
                     return new ThreadPoolExecutor4Util(type, type,
                             0L, TimeUnit.MILLISECONDS,
@@ -1106,7 +1347,13 @@ public final class ThreadUtils {
 
         private final AtomicInteger mSubmittedCount = new AtomicInteger();
 
-        private LinkedBlockingQueue4Util mWorkQueue;
+        private final AtomicLong mSequence = new AtomicLong();
+
+        private final PoolMetrics4Util mMetrics;
+
+        private final BlockingQueue<Runnable> mWorkQueue;
+
+        private final boolean mPriorityOrdered;
 
         ThreadPoolExecutor4Util(int corePoolSize, int maximumPoolSize,
                                 long keepAliveTime, TimeUnit unit,
@@ -1119,27 +1366,86 @@ public final class ThreadUtils {
             );
             workQueue.mPool = this;
             mWorkQueue = workQueue;
+            mPriorityOrdered = false;
+            mMetrics = new PoolMetrics4Util(getPoolName(threadFactory));
+        }
+
+        ThreadPoolExecutor4Util(int corePoolSize, int maximumPoolSize,
+                                long keepAliveTime, TimeUnit unit,
+                                PriorityBlockingQueue4Util workQueue,
+                                ThreadFactory threadFactory) {
+            super(corePoolSize, maximumPoolSize,
+                    keepAliveTime, unit,
+                    workQueue,
+                    threadFactory
+            );
+            workQueue.mPool = this;
+            mWorkQueue = workQueue;
+            mPriorityOrdered = true;
+            mMetrics = new PoolMetrics4Util(getPoolName(threadFactory));
+        }
+
+        private static String getPoolName(ThreadFactory threadFactory) {
+            if (threadFactory instanceof UtilsThreadFactory) {
+                return ((UtilsThreadFactory) threadFactory).poolName;
+            }
+            return threadFactory.toString();
         }
 
         private int getSubmittedCount() {
             return mSubmittedCount.get();
         }
 
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            if (r instanceof QueuedRunnable) {
+                QueuedRunnable queued = (QueuedRunnable) r;
+                queued.mStartTime = System.nanoTime();
+                mMetrics.recordQueueWait(queued.mStartTime - queued.mSubmitTime);
+                if (mPriorityOrdered) {
+                    // The threads are shared by all the priorities, so apply the priority per task.
+                    // 简体中文：线程由所有优先级共享，所以按任务设置线程优先级。
+                    t.setPriority(queued.mPriority);
+                }
+            }
+            super.beforeExecute(t, r);
+        }
+
         @Override
         protected void afterExecute(Runnable r, Throwable t) {
             mSubmittedCount.decrementAndGet();
+            if (r instanceof QueuedRunnable) {
+                mMetrics.recordExecution(System.nanoTime() - ((QueuedRunnable) r).mStartTime);
+            }
             super.afterExecute(r, t);
         }
 
         @Override
         public void execute(@NonNull Runnable command) {
-            if (this.isShutdown()) return;
+            execute(command, Thread.NORM_PRIORITY);
+        }
+
+        void execute(@NonNull Runnable command, int priority) {
+            if (this.isShutdown()) {
+                mMetrics.recordRejected();
+                return;
+            }
+            if (!(command instanceof QueuedRunnable)) {
+                command = new QueuedRunnable(command, priority, mSequence.getAndIncrement());
+            }
             mSubmittedCount.incrementAndGet();
             try {
                 super.execute(command);
-            } catch (RejectedExecutionException ignore) {
-                LogUtils.e("This will not happen!");
-                mWorkQueue.offer(command);
+            } catch (RejectedExecutionException e) {
+                // The pool reached its maximum size after the queue refused the task to add a
+                // thread, so queue it now, or reject it for real if the queue is full too.
+                // 简体中文：队列为了添加线程拒绝了任务后线程池达到了最大大小，所以现在将其入队，
+                // 如果队列也满了则真正拒绝它。
+                if (this.isShutdown() || !mWorkQueue.offer(command)) {
+                    mSubmittedCount.decrementAndGet();
+                    mMetrics.recordRejected();
+                    throw e;
+                }
             } catch (Throwable t) {
                 mSubmittedCount.decrementAndGet();
             }
@@ -1180,97 +1486,928 @@ public final class ThreadUtils {
         }
     }
 
-    static final class UtilsThreadFactory extends AtomicLong
-            implements ThreadFactory {
-        private static final AtomicInteger POOL_NUMBER      = new AtomicInteger(1);
-        private static final long          serialVersionUID = -9209200509960368598L;
-        private final        String        namePrefix;
-        private final        int           priority;
-        private final        boolean       isDaemon;
+    private static final class PriorityBlockingQueue4Util extends PriorityBlockingQueue<Runnable> {
 
-        UtilsThreadFactory(String prefix, int priority) {
-            this(prefix, priority, false);
+        private volatile ThreadPoolExecutor4Util mPool;
+
+        private int mCapacity = Integer.MAX_VALUE;
+
+        PriorityBlockingQueue4Util() {
+            super();
         }
 
-        UtilsThreadFactory(String prefix, int priority, boolean isDaemon) {
-            namePrefix = prefix + "-pool-" +
-                    POOL_NUMBER.getAndIncrement() +
-                    "-thread-";
-            this.priority = priority;
-            this.isDaemon = isDaemon;
+        PriorityBlockingQueue4Util(boolean isAddSubThreadFirstThenAddQueue) {
+            super();
+            if (isAddSubThreadFirstThenAddQueue) {
+                mCapacity = 0;
+            }
         }
 
         @Override
-        public Thread newThread(@NonNull Runnable r) {
-            Thread t = new Thread(r, namePrefix + getAndIncrement()) {
-                @Override
-                public void run() {
-                    try {
-                        super.run();
-                    } catch (Throwable t) {
-                        LogUtils.e("Request threw uncaught throwable, "+ t);
-                    }
-                }
-            };
-            t.setDaemon(isDaemon);
-            t.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
-                @Override
-                public void uncaughtException(Thread t, Throwable e) {
-                    System.out.println(e);
-                }
-            });
-            t.setPriority(priority);
-            return t;
+        public boolean offer(@NonNull Runnable runnable) {
+            if (mCapacity <= size() &&
+                    mPool != null && mPool.getPoolSize() < mPool.getMaximumPoolSize()) {
+                // create a non-core thread
+                // 简体中文：创建一个非核心线程。
+                return false;
+            }
+            return super.offer(runnable);
         }
     }
 
-    public abstract static class SimpleTask<T> extends Task<T> {
+    /**
+     * Wraps a submitted task with the time of submission for the metrics. In a priority-ordered
+     * queue, it orders the tasks by priority first, and then by the order of submission.
+     * 简体中文：包装提交的任务并记录提交时间以供统计。在按优先级排序的队列中，任务先按优先级排序，再按提交顺序排序。
+     */
+    private static final class QueuedRunnable implements Runnable, Comparable<QueuedRunnable> {
+
+        private final Runnable mRunnable;
+        private final int      mPriority;
+        private final long     mSequence;
+        private final long     mSubmitTime;
+        private       long     mStartTime;
+
+        QueuedRunnable(Runnable runnable, int priority, long sequence) {
+            mRunnable = runnable;
+            mPriority = priority;
+            mSequence = sequence;
+            mSubmitTime = System.nanoTime();
+        }
 
         @Override
-        public void onCancel() {
-            LogUtils.e("onCancel: " + Thread.currentThread());
+        public void run() {
+            mRunnable.run();
         }
 
         @Override
-        public void onFail(Throwable t) {
-            LogUtils.e("onFail: " + t);
+        public int compareTo(@NonNull QueuedRunnable other) {
+            if (mPriority != other.mPriority) {
+                return mPriority > other.mPriority ? -1 : 1;
+            }
+            return Long.compare(mSequence, other.mSequence);
         }
-
     }
 
-    public abstract static class Task<T> implements Runnable {
-
-        private static final int NEW         = 0;
-        private static final int RUNNING     = 1;
-        private static final int EXCEPTIONAL = 2;
-        private static final int COMPLETING  = 3;
-        private static final int CANCELLED   = 4;
-        private static final int INTERRUPTED = 5;
-        private static final int TIMEOUT     = 6;
-
-        private final AtomicInteger state = new AtomicInteger(NEW);
+    /**
+     * A view of the shared cpu pool which submits the tasks with the given priority. Shutting
+     * it down only affects the tasks submitted through it, the shared pool keeps running for
+     * the other priorities.
+     * 简体中文：共享CPU线程池的一个视图，以给定的优先级提交任务。关闭它只影响通过它提交的任务，共享的线程池会继续
+     * 为其他优先级运行。
+     */
+    static final class PriorityPool4Util extends AbstractExecutorService {
 
-        private volatile boolean isSchedule;
-        private volatile Thread  runner;
+        private final ThreadPoolExecutor4Util mPool;
+        private final int                     mPriority;
+        /**
+         * The tasks of this view that haven't started yet.
+         * 简体中文：该视图中尚未开始的任务。
+         */
+        private final Map<ViewTask, Boolean>  mPending = new ConcurrentHashMap<>();
+        /**
+         * The tasks of this view that are running.
+         * 简体中文：该视图中正在运行的任务。
+         */
+        private final Map<ViewTask, Thread>   mRunning = new ConcurrentHashMap<>();
+        private final Object                  mTerminationLock = new Object();
+        private volatile boolean              mShutdown;
 
-        private Timer             mTimer;
-        private long              mTimeoutMillis;
-        private OnTimeoutListener mTimeoutListener;
+        PriorityPool4Util(ThreadPoolExecutor4Util pool, int priority) {
+            mPool = pool;
+            mPriority = priority;
+        }
 
-        private Executor deliver;
+        @Override
+        public void execute(@NonNull Runnable command) {
+            if (mShutdown) {
+                throw new RejectedExecutionException("The cpu pool of priority " + mPriority
+                        + " has been shut down.");
+            }
+            ViewTask task = new ViewTask(command);
+            mPending.put(task, Boolean.TRUE);
+            mPool.execute(task, mPriority);
+        }
 
-        public abstract T doInBackground() throws Throwable;
+        @Override
+        public void shutdown() {
+            mShutdown = true;
+            signalIfTerminated();
+        }
 
-        public abstract void onSuccess(T result);
+        @NonNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            mShutdown = true;
+            List<Runnable> commands = new ArrayList<>();
+            for (ViewTask task : mPending.keySet()) {
+                // A task removed here is skipped when the shared pool gets to it.
+                // 简体中文：在此移除的任务，在共享线程池执行到它时会被跳过。
+                if (mPending.remove(task) != null) {
+                    commands.add(task.mCommand);
+                }
+            }
+            for (Map.Entry<ViewTask, Thread> entry : mRunning.entrySet()) {
+                ViewTask task = entry.getKey();
+                synchronized (task) {
+                    // The thread is shared, only interrupt it while it still runs this task.
+                    // 简体中文：线程是共享的，只在它仍在运行该任务时中断它。
+                    if (mRunning.get(task) == entry.getValue()) {
+                        entry.getValue().interrupt();
+                    }
+                }
+            }
+            signalIfTerminated();
+            return commands;
+        }
 
-        public abstract void onCancel();
+        @Override
+        public boolean isShutdown() {
+            return mShutdown;
+        }
 
-        public abstract void onFail(Throwable t);
+        @Override
+        public boolean isTerminated() {
+            return mShutdown && mPending.isEmpty() && mRunning.isEmpty();
+        }
 
         @Override
-        public void run() {
-            if (isSchedule) {
-                if (runner == null) {
+        public boolean awaitTermination(long timeout, @NonNull TimeUnit unit)
+                throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (mTerminationLock) {
+                while (!isTerminated()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(mTerminationLock, remaining);
+                }
+                return true;
+            }
+        }
+
+        private void signalIfTerminated() {
+            if (isTerminated()) {
+                synchronized (mTerminationLock) {
+                    mTerminationLock.notifyAll();
+                }
+            }
+        }
+
+        private final class ViewTask implements Runnable {
+
+            private final Runnable mCommand;
+
+            ViewTask(Runnable command) {
+                mCommand = command;
+            }
+
+            @Override
+            public void run() {
+                if (mPending.remove(this) == null) {
+                    return;
+                }
+                mRunning.put(this, Thread.currentThread());
+                try {
+                    mCommand.run();
+                } finally {
+                    synchronized (this) {
+                        mRunning.remove(this);
+                        // Don't leak an interrupt of shutdownNow() to the next task of the thread.
+                        // 简体中文：不要将shutdownNow()的中断泄漏给该线程的下一个任务。
+                        Thread.interrupted();
+                    }
+                    signalIfTerminated();
+                }
+            }
+        }
+    }
+
+    static final class ForkJoinPool4Util extends ForkJoinPool {
+
+        private final PoolMetrics4Util mMetrics;
+
+        ForkJoinPool4Util(int parallelism, int priority) {
+            // asyncMode is true, the forked tasks are never joined, so FIFO suits them better.
+            // 简体中文：asyncMode为true，提交的任务从不被join，所以先进先出更合适。
+            this(parallelism, new ForkJoinThreadFactory("work-stealing", priority));
+        }
+
+        private ForkJoinPool4Util(int parallelism, ForkJoinThreadFactory threadFactory) {
+            super(parallelism, threadFactory, null, true);
+            mMetrics = new PoolMetrics4Util(threadFactory.poolName);
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable task) {
+            if (this.isShutdown()) {
+                mMetrics.recordRejected();
+                return;
+            }
+            // ForkJoinPool has no execution hooks, so measure inside the task.
+            // 简体中文：ForkJoinPool没有执行钩子，所以在任务内部计时。
+            final long submitTime = System.nanoTime();
+            try {
+                super.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        long startTime = System.nanoTime();
+                        mMetrics.recordQueueWait(startTime - submitTime);
+                        try {
+                            task.run();
+                        } finally {
+                            mMetrics.recordExecution(System.nanoTime() - startTime);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                mMetrics.recordRejected();
+                throw e;
+            }
+        }
+    }
+
+    private static final class ForkJoinThreadFactory extends AtomicLong
+            implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private static final long   serialVersionUID = 2190410574186423937L;
+        private final        String poolName;
+        private final        String namePrefix;
+        private final        int    priority;
+
+        ForkJoinThreadFactory(String prefix, int priority) {
+            poolName = prefix + "-pool-" + UtilsThreadFactory.POOL_NUMBER.getAndIncrement();
+            namePrefix = poolName + "-thread-";
+            this.priority = priority;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = new ForkJoinWorkerThread(pool) {
+            };
+            t.setName(namePrefix + getAndIncrement());
+            t.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+                @Override
+                public void uncaughtException(Thread t, Throwable e) {
+                    System.out.println(e);
+                }
+            });
+            t.setPriority(priority);
+            return t;
+        }
+    }
+
+    /**
+     * Collects the counters and the histograms of a pool, recording is lock-free.
+     * 简体中文：收集线程池的计数器和直方图，记录过程是无锁的。
+     */
+    private static final class PoolMetrics4Util {
+
+        private final String     mName;
+        private final AtomicLong mCompletedCount = new AtomicLong();
+        private final AtomicLong mRejectedCount  = new AtomicLong();
+        private final Histogram4Util mQueueWait  = new Histogram4Util();
+        private final Histogram4Util mExecution  = new Histogram4Util();
+
+        PoolMetrics4Util(String name) {
+            mName = name;
+        }
+
+        void recordQueueWait(long nanos) {
+            mQueueWait.record(nanos);
+        }
+
+        void recordExecution(long nanos) {
+            mCompletedCount.incrementAndGet();
+            mExecution.record(nanos);
+        }
+
+        void recordRejected() {
+            mRejectedCount.incrementAndGet();
+        }
+
+        PoolStats snapshot(int poolSize, int activeCount, int largestPoolSize, int queueSize) {
+            return new PoolStats(mName, poolSize, activeCount, largestPoolSize, queueSize,
+                    mCompletedCount.get(), mRejectedCount.get(),
+                    mQueueWait.snapshot(), mExecution.snapshot());
+        }
+    }
+
+    /**
+     * A histogram with power-of-two millisecond buckets, the bucket 0 counts the values less
+     * than 1ms, and the bucket i counts the values in [2^(i-1), 2^i) ms, the last bucket
+     * counts all the larger values.
+     * 简体中文：以2的幂毫秒为桶的直方图，第0个桶统计小于1ms的值，第i个桶统计[2^(i-1), 2^i) ms的值，最后一个桶统计
+     * 所有更大的值。
+     */
+    private static final class Histogram4Util {
+
+        private static final int BUCKET_COUNT = 16;
+
+        private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong      mSumNanos = new AtomicLong();
+        private final AtomicLong      mMaxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            if (nanos < 0) {
+                nanos = 0;
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int index = millis == 0 ? 0 : 64 - Long.numberOfLeadingZeros(millis);
+            mCounts.incrementAndGet(Math.min(index, BUCKET_COUNT - 1));
+            mSumNanos.addAndGet(nanos);
+            long max;
+            do {
+                max = mMaxNanos.get();
+            } while (nanos > max && !mMaxNanos.compareAndSet(max, nanos));
+        }
+
+        Histogram snapshot() {
+            long[] counts = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = mCounts.get(i);
+            }
+            return new Histogram(counts, mSumNanos.get(), mMaxNanos.get());
+        }
+    }
+
+    /**
+     * The snapshot of a histogram, see {@link #getPoolStats()}.
+     * 简体中文：直方图的快照，参见{@link #getPoolStats()}。
+     */
+    public static final class Histogram {
+
+        private final long[] mCounts;
+        private final long   mTotalCount;
+        private final long   mSumNanos;
+        private final long   mMaxNanos;
+
+        Histogram(long[] counts, long sumNanos, long maxNanos) {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            mCounts = counts;
+            mTotalCount = total;
+            mSumNanos = sumNanos;
+            mMaxNanos = maxNanos;
+        }
+
+        /**
+         * The counts of the buckets, the bucket 0 counts the values less than 1ms, and the
+         * bucket i counts the values in [2^(i-1), 2^i) ms, the last bucket is unbounded.
+         * 简体中文：各个桶的计数，第0个桶统计小于1ms的值，第i个桶统计[2^(i-1), 2^i) ms的值，最后一个桶没有上界。
+         */
+        public long[] getCounts() {
+            return mCounts.clone();
+        }
+
+        /**
+         * The exclusive upper bound of the bucket in milliseconds, or {@link Long#MAX_VALUE}
+         * for the last bucket.
+         * 简体中文：桶的上界（不包含），单位毫秒，最后一个桶返回{@link Long#MAX_VALUE}。
+         */
+        public long getUpperBoundMillis(int bucket) {
+            if (bucket >= mCounts.length - 1) {
+                return Long.MAX_VALUE;
+            }
+            return 1L << bucket;
+        }
+
+        public long getTotalCount() {
+            return mTotalCount;
+        }
+
+        public double getMeanMillis() {
+            if (mTotalCount == 0) {
+                return 0;
+            }
+            return mSumNanos / 1000000.0 / mTotalCount;
+        }
+
+        public double getMaxMillis() {
+            return mMaxNanos / 1000000.0;
+        }
+
+        /**
+         * The upper bound of the bucket where the percentile falls, in milliseconds.
+         * 简体中文：百分位所在的桶的上界，单位毫秒。
+         *
+         * @param percentile In the range (0, 100].
+         */
+        public long getPercentileMillis(double percentile) {
+            long target = (long) Math.ceil(mTotalCount * percentile / 100);
+            long count = 0;
+            for (int i = 0; i < mCounts.length; i++) {
+                count += mCounts[i];
+                if (count >= target && count > 0) {
+                    return getUpperBoundMillis(i);
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram{count=" + mTotalCount +
+                    ", mean=" + getMeanMillis() + "ms" +
+                    ", p50<" + getPercentileMillis(50) + "ms" +
+                    ", p99<" + getPercentileMillis(99) + "ms" +
+                    ", max=" + getMaxMillis() + "ms}";
+        }
+    }
+
+    /**
+     * The runtime statistics of a pool, see {@link #getPoolStats()}.
+     * 简体中文：线程池的运行时统计，参见{@link #getPoolStats()}。
+     */
+    public static final class PoolStats {
+
+        private final String    mName;
+        private final int       mPoolSize;
+        private final int       mActiveCount;
+        private final int       mLargestPoolSize;
+        private final int       mQueueSize;
+        private final long      mCompletedCount;
+        private final long      mRejectedCount;
+        private final Histogram mQueueWait;
+        private final Histogram mExecution;
+
+        PoolStats(String name, int poolSize, int activeCount, int largestPoolSize, int queueSize,
+                  long completedCount, long rejectedCount, Histogram queueWait, Histogram execution) {
+            mName = name;
+            mPoolSize = poolSize;
+            mActiveCount = activeCount;
+            mLargestPoolSize = largestPoolSize;
+            mQueueSize = queueSize;
+            mCompletedCount = completedCount;
+            mRejectedCount = rejectedCount;
+            mQueueWait = queueWait;
+            mExecution = execution;
+        }
+
+        /**
+         * The name of the pool, the same as the prefix of its threads' names.
+         * 简体中文：线程池的名称，与其线程名的前缀相同。
+         */
+        public String getName() {
+            return mName;
+        }
+
+        public int getPoolSize() {
+            return mPoolSize;
+        }
+
+        public int getActiveCount() {
+            return mActiveCount;
+        }
+
+        /**
+         * The largest number of threads that have ever simultaneously been in the pool, it's
+         * the parallelism for the work-stealing pool.
+         * 简体中文：线程池中曾经同时存在的最大线程数，对于工作窃取线程池则为其并行度。
+         */
+        public int getLargestPoolSize() {
+            return mLargestPoolSize;
+        }
+
+        public int getQueueSize() {
+            return mQueueSize;
+        }
+
+        public long getCompletedCount() {
+            return mCompletedCount;
+        }
+
+        public long getRejectedCount() {
+            return mRejectedCount;
+        }
+
+        /**
+         * The histogram of the time from submission to the start of execution.
+         * 简体中文：从提交到开始执行的时间直方图。
+         */
+        public Histogram getQueueWait() {
+            return mQueueWait;
+        }
+
+        /**
+         * The histogram of the execution time.
+         * 简体中文：执行时间的直方图。
+         */
+        public Histogram getExecution() {
+            return mExecution;
+        }
+
+        @Override
+        public String toString() {
+            return "PoolStats{name=" + mName +
+                    ", poolSize=" + mPoolSize +
+                    ", activeCount=" + mActiveCount +
+                    ", largestPoolSize=" + mLargestPoolSize +
+                    ", queueSize=" + mQueueSize +
+                    ", completedCount=" + mCompletedCount +
+                    ", rejectedCount=" + mRejectedCount +
+                    ", queueWait=" + mQueueWait +
+                    ", execution=" + mExecution + "}";
+        }
+    }
+
+    static final class UtilsThreadFactory extends AtomicLong
+            implements ThreadFactory {
+        private static final AtomicInteger POOL_NUMBER      = new AtomicInteger(1);
+        private static final long          serialVersionUID = -9209200509960368598L;
+        private final        String        poolName;
+        private final        String        namePrefix;
+        private final        int           priority;
+        private final        boolean       isDaemon;
+
+        UtilsThreadFactory(String prefix, int priority) {
+            this(prefix, priority, false);
+        }
+
+        UtilsThreadFactory(String prefix, int priority, boolean isDaemon) {
+            poolName = prefix + "-pool-" + POOL_NUMBER.getAndIncrement();
+            namePrefix = poolName + "-thread-";
+            this.priority = priority;
+            this.isDaemon = isDaemon;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable r) {
+            Thread t = new Thread(r, namePrefix + getAndIncrement()) {
+                @Override
+                public void run() {
+                    try {
+                        super.run();
+                    } catch (Throwable t) {
+                        LogUtils.e("Request threw uncaught throwable, "+ t);
+                    }
+                }
+            };
+            t.setDaemon(isDaemon);
+            t.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+                @Override
+                public void uncaughtException(Thread t, Throwable e) {
+                    System.out.println(e);
+                }
+            });
+            t.setPriority(priority);
+            return t;
+        }
+    }
+
+    /**
+     * A hashed wheel timer shared by the timeouts of all the tasks. A timeout is hashed into
+     * a bucket by its deadline, so both registering and cancelling cost O(1), and a single
+     * daemon thread serves any number of in-flight timed tasks. The precision is one tick.
+     * 简体中文：所有任务的超时共享的哈希时间轮定时器。超时按截止时间散列到桶中，所以注册和取消都是O(1)的，
+     * 并且只用一个守护线程服务任意数量的进行中的定时任务。精度为一个刻度。
+     */
+    static final class HashedWheelTimer4Util {
+
+        private static final long TICK_DURATION_MILLIS = 10;
+        private static final int  WHEEL_SIZE           = 512;
+
+        /**
+         * Limit the number of timeouts transferred to buckets per tick, so that a burst of
+         * registrations can't starve the expiration of the current bucket.
+         * 简体中文：限制每个刻度转移到桶中的超时数量，避免大量注册导致当前桶的超时迟迟无法触发。
+         */
+        private static final int  MAX_TRANSFERS_PER_TICK = 100000;
+
+        private final long                  mTickDuration;
+        private final long                  mStartTime;
+        private final Bucket[]              mWheel;
+        private final int                   mMask;
+        private final Queue<Timeout>        mTimeouts          = new ConcurrentLinkedQueue<>();
+        private final Queue<Timeout>        mCancelledTimeouts = new ConcurrentLinkedQueue<>();
+        private final AtomicLong            mPendingTimeouts   = new AtomicLong();
+        private final AtomicBoolean         mStarted           = new AtomicBoolean();
+        private final Object                mIdleLock          = new Object();
+        private final Thread                mWorkerThread;
+        private       long                  mTick;
+
+        private static final class Holder {
+            private static final HashedWheelTimer4Util INSTANCE =
+                    new HashedWheelTimer4Util(TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, WHEEL_SIZE);
+        }
+
+        static HashedWheelTimer4Util getInstance() {
+            return Holder.INSTANCE;
+        }
+
+        HashedWheelTimer4Util(long tickDuration, TimeUnit unit, int wheelSize) {
+            if (tickDuration <= 0) {
+                throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+            }
+            if (wheelSize <= 0 || (wheelSize & (wheelSize - 1)) != 0) {
+                throw new IllegalArgumentException("wheelSize must be a power of 2: " + wheelSize);
+            }
+            mTickDuration = unit.toNanos(tickDuration);
+            mWheel = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                mWheel[i] = new Bucket();
+            }
+            mMask = wheelSize - 1;
+            mStartTime = System.nanoTime();
+            mWorkerThread = new UtilsThreadFactory("timer", Thread.MAX_PRIORITY, true)
+                    .newThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            work();
+                        }
+                    });
+        }
+
+        /**
+         * Schedule the task to run once after the given delay on the timer thread. The task
+         * should be short, otherwise it delays the other timeouts.
+         * 简体中文：在给定延迟后于定时器线程上执行一次任务。任务应当简短，否则会推迟其他超时的触发。
+         */
+        Timeout newTimeout(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+            if (mStarted.compareAndSet(false, true)) {
+                mWorkerThread.start();
+            }
+            long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - mStartTime;
+            Timeout timeout = new Timeout(this, task, deadline);
+            if (mPendingTimeouts.getAndIncrement() == 0) {
+                synchronized (mIdleLock) {
+                    mTimeouts.add(timeout);
+                    mIdleLock.notifyAll();
+                }
+            } else {
+                mTimeouts.add(timeout);
+            }
+            return timeout;
+        }
+
+        /**
+         * The number of the timeouts which are neither expired nor removed after cancellation.
+         * 简体中文：尚未触发且尚未在取消后移除的超时数量。
+         */
+        long getPendingTimeouts() {
+            return mPendingTimeouts.get();
+        }
+
+        private void work() {
+            while (true) {
+                if (mPendingTimeouts.get() == 0) {
+                    synchronized (mIdleLock) {
+                        while (mPendingTimeouts.get() == 0) {
+                            try {
+                                mIdleLock.wait();
+                            } catch (InterruptedException ignore) {
+                            }
+                        }
+                    }
+                    // All the buckets are empty, skip the ticks passed while idle.
+                    // 简体中文：所有的桶都是空的，跳过空闲期间经过的刻度。
+                    mTick = (System.nanoTime() - mStartTime) / mTickDuration;
+                }
+                long deadline = waitForNextTick();
+                Bucket bucket = mWheel[(int) (mTick & mMask)];
+                processCancelledTimeouts();
+                transferTimeoutsToBuckets();
+                bucket.expireTimeouts(deadline);
+                mTick++;
+            }
+        }
+
+        private long waitForNextTick() {
+            long deadline = mTickDuration * (mTick + 1);
+            while (true) {
+                long currentTime = System.nanoTime() - mStartTime;
+                long sleepTimeMillis = (deadline - currentTime + 999999) / 1000000;
+                if (sleepTimeMillis <= 0) {
+                    return currentTime;
+                }
+                try {
+                    Thread.sleep(sleepTimeMillis);
+                } catch (InterruptedException ignore) {
+                }
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                Timeout timeout = mTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.isCancelled()) {
+                    // It will be removed by processCancelledTimeouts().
+                    // 简体中文：它会在processCancelledTimeouts()中被移除。
+                    continue;
+                }
+                long calculated = timeout.mDeadline / mTickDuration;
+                timeout.mRemainingRounds = (calculated - mTick) / mWheel.length;
+                // Ensure we don't schedule for past.
+                // 简体中文：确保不会被安排到过去的刻度。
+                long ticks = Math.max(calculated, mTick);
+                mWheel[(int) (ticks & mMask)].addTimeout(timeout);
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            while (true) {
+                Timeout timeout = mCancelledTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                timeout.remove();
+            }
+        }
+
+        private static final class Bucket {
+
+            private Timeout mHead;
+            private Timeout mTail;
+
+            void addTimeout(Timeout timeout) {
+                timeout.mBucket = this;
+                if (mHead == null) {
+                    mHead = mTail = timeout;
+                } else {
+                    mTail.mNext = timeout;
+                    timeout.mPrev = mTail;
+                    mTail = timeout;
+                }
+            }
+
+            void expireTimeouts(long deadline) {
+                Timeout timeout = mHead;
+                while (timeout != null) {
+                    Timeout next = timeout.mNext;
+                    if (timeout.mRemainingRounds <= 0) {
+                        next = remove(timeout);
+                        if (timeout.mDeadline <= deadline) {
+                            timeout.expire();
+                        } else {
+                            LogUtils.e("The timeout was placed into a wrong bucket.");
+                        }
+                    } else if (timeout.isCancelled()) {
+                        next = remove(timeout);
+                    } else {
+                        timeout.mRemainingRounds--;
+                    }
+                    timeout = next;
+                }
+            }
+
+            Timeout remove(Timeout timeout) {
+                Timeout next = timeout.mNext;
+                if (timeout.mPrev != null) {
+                    timeout.mPrev.mNext = next;
+                }
+                if (timeout.mNext != null) {
+                    timeout.mNext.mPrev = timeout.mPrev;
+                }
+                if (timeout == mHead) {
+                    if (timeout == mTail) {
+                        mTail = null;
+                        mHead = null;
+                    } else {
+                        mHead = next;
+                    }
+                } else if (timeout == mTail) {
+                    mTail = timeout.mPrev;
+                }
+                timeout.mPrev = null;
+                timeout.mNext = null;
+                timeout.mBucket = null;
+                timeout.mRemoved = true;
+                timeout.mTimer.mPendingTimeouts.decrementAndGet();
+                return next;
+            }
+        }
+    }
+
+    /**
+     * The handle of a task registered with {@link HashedWheelTimer4Util}.
+     * 简体中文：注册到时间轮定时器中的任务的句柄。
+     */
+    static final class Timeout {
+
+        private static final int ST_INIT      = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED   = 2;
+
+        private final AtomicInteger         mState = new AtomicInteger(ST_INIT);
+        private final HashedWheelTimer4Util mTimer;
+        private final Runnable              mTask;
+        private final long                  mDeadline;
+
+        // Only accessed by the timer thread.
+        // 简体中文：仅由定时器线程访问。
+        private long                              mRemainingRounds;
+        private Timeout                           mNext;
+        private Timeout                           mPrev;
+        private HashedWheelTimer4Util.Bucket      mBucket;
+        private boolean                           mRemoved;
+
+        Timeout(HashedWheelTimer4Util timer, Runnable task, long deadline) {
+            mTimer = timer;
+            mTask = task;
+            mDeadline = deadline;
+        }
+
+        /**
+         * Cancel the timeout, the task will not run if it hasn't expired yet.
+         * 简体中文：取消超时，如果尚未触发，则任务不会再执行。
+         *
+         * @return false if it has been cancelled or expired.
+         */
+        boolean cancel() {
+            if (!mState.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            mTimer.mCancelledTimeouts.add(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return mState.get() == ST_CANCELLED;
+        }
+
+        boolean isExpired() {
+            return mState.get() == ST_EXPIRED;
+        }
+
+        private void remove() {
+            if (mRemoved) {
+                return;
+            }
+            HashedWheelTimer4Util.Bucket bucket = mBucket;
+            if (bucket != null) {
+                bucket.remove(this);
+            } else {
+                // Still in the queue of timeouts to be transferred.
+                // 简体中文：仍在等待转移到桶中的队列里。
+                mRemoved = true;
+                mTimer.mPendingTimeouts.decrementAndGet();
+            }
+        }
+
+        private void expire() {
+            if (!mState.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                mTask.run();
+            } catch (Throwable t) {
+                LogUtils.e("The timeout task threw an exception, " + t);
+            }
+        }
+    }
+
+    public abstract static class SimpleTask<T> extends Task<T> {
+
+        @Override
+        public void onCancel() {
+            LogUtils.e("onCancel: " + Thread.currentThread());
+        }
+
+        @Override
+        public void onFail(Throwable t) {
+            LogUtils.e("onFail: " + t);
+        }
+
+    }
+
+    public abstract static class Task<T> implements Runnable {
+
+        private static final int NEW         = 0;
+        private static final int RUNNING     = 1;
+        private static final int EXCEPTIONAL = 2;
+        private static final int COMPLETING  = 3;
+        private static final int CANCELLED   = 4;
+        private static final int INTERRUPTED = 5;
+        private static final int TIMEOUT     = 6;
+
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        private volatile boolean isSchedule;
+        private volatile Thread  runner;
+
+        private volatile Timeout  mTimeout;
+        private long              mTimeoutMillis;
+        private OnTimeoutListener mTimeoutListener;
+
+        private Executor deliver;
+
+        public abstract T doInBackground() throws Throwable;
+
+        public abstract void onSuccess(T result);
+
+        public abstract void onCancel();
+
+        public abstract void onFail(Throwable t);
+
+        @Override
+        public void run() {
+            if (isSchedule) {
+                if (runner == null) {
                     if (!state.compareAndSet(NEW, RUNNING)) return;
                     runner = Thread.currentThread();
                     if (mTimeoutListener != null) {
@@ -1282,18 +2419,27 @@ public final class ThreadUtils {
             } else {
                 if (!state.compareAndSet(NEW, RUNNING)) return;
                 runner = Thread.currentThread();
-                if (mTimeoutListener != null) {
-                    mTimer = new Timer();
-                    mTimer.schedule(new TimerTask() {
+                final OnTimeoutListener timeoutListener = mTimeoutListener;
+                if (timeoutListener != null) {
+                    mTimeout = HashedWheelTimer4Util.getInstance().newTimeout(new Runnable() {
                         @Override
                         public void run() {
-                            if (!isDone() && mTimeoutListener != null) {
-                                timeout();
-                                mTimeoutListener.onTimeout();
-                                onDone();
+                            // Only the state changes on the tick, the listener is delivered like
+                            // the other callbacks, so a slow one can't delay the other timeouts
+                            // sharing the timer thread.
+                            // 简体中文：在刻度中只改变状态，监听器像其他回调一样被分发，因此较慢的监听器不会
+                            // 推迟共享计时线程的其他超时。
+                            if (timeout()) {
+                                getDeliver().execute(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        timeoutListener.onTimeout();
+                                        onDone();
+                                    }
+                                });
                             }
                         }
-                    }, mTimeoutMillis);
+                    }, mTimeoutMillis, TimeUnit.MILLISECONDS);
                 }
             }
             try {
@@ -1317,7 +2463,19 @@ public final class ThreadUtils {
                     });
                 }
             } catch (InterruptedException ignore) {
-                state.compareAndSet(CANCELLED, INTERRUPTED);
+                if (!isSchedule && state.compareAndSet(RUNNING, INTERRUPTED)) {
+                    // Interrupted without being cancelled, e.g. by shutting down the pool.
+                    // 简体中文：未被取消而被中断，例如关闭了线程池。
+                    getDeliver().execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            onCancel();
+                            onDone();
+                        }
+                    });
+                } else {
+                    state.compareAndSet(CANCELLED, INTERRUPTED);
+                }
             } catch (final Throwable throwable) {
                 if (!state.compareAndSet(RUNNING, EXCEPTIONAL)) return;
                 getDeliver().execute(new Runnable() {
@@ -1354,14 +2512,15 @@ public final class ThreadUtils {
             });
         }
 
-        private void timeout() {
+        private boolean timeout() {
             synchronized (state) {
-                if (state.get() > RUNNING) return;
+                if (state.get() > RUNNING) return false;
                 state.set(TIMEOUT);
             }
             if (runner != null) {
                 runner.interrupt();
             }
+            return true;
         }
 
 
@@ -1379,8 +2538,9 @@ public final class ThreadUtils {
         }
 
         /**
-         * Scheduled task doesn't support timeout.
-         * 简体中文：计划任务不支持超时。
+         * Scheduled task doesn't support timeout. The listener is called on the deliver, like
+         * {@link #onCancel()}.
+         * 简体中文：计划任务不支持超时。监听器与{@link #onCancel()}一样在分发器上调用。
          */
         public Task<T> setTimeout(final long timeoutMillis, final OnTimeoutListener listener) {
             mTimeoutMillis = timeoutMillis;
@@ -1402,9 +2562,10 @@ public final class ThreadUtils {
         @CallSuper
         protected void onDone() {
             TASK_POOL_MAP.remove(this);
-            if (mTimer != null) {
-                mTimer.cancel();
-                mTimer = null;
+            Timeout timeout = mTimeout;
+            if (timeout != null) {
+                timeout.cancel();
+                mTimeout = null;
                 mTimeoutListener = null;
             }
         }
@@ -1483,6 +2644,390 @@ public final class ThreadUtils {
         }
     }
 
+    public interface Function<T, R> {
+        R apply(T t) throws Throwable;
+    }
+
+    public interface BiFunction<T, U, R> {
+        R apply(T t, U u) throws Throwable;
+    }
+
+    /**
+     * A stage of a task graph. Every stage runs as a {@link Task} on a ThreadUtils pool, and the
+     * dependent stages are triggered on the worker threads directly, so only the final result
+     * is posted through the deliver. Cancelling a stage cancels its unfinished upstream stages,
+     * and a failed or cancelled stage fails or cancels its downstream stages without running
+     * them. The stages of a graph are owned by the final stage, don't share a stage between
+     * graphs which may be cancelled separately.
+     * 简体中文：任务图中的一个阶段。每个阶段作为一个{@link Task}在ThreadUtils的线程池中运行，下游阶段直接在工作线程
+     * 上被触发，所以只有最终结果会通过投递者投递。取消一个阶段会取消其未完成的上游阶段，失败或被取消的阶段会使其下游
+     * 阶段直接失败或被取消而不再运行。任务图中的阶段归最终阶段所有，不要在可能被分别取消的任务图之间共享阶段。
+     *
+     * <pre>
+     * Stage&lt;byte[]&gt; bytes = Stage.supply(ThreadUtils.getIoPool(), () -&gt; download(url));
+     * bytes.then(ThreadUtils.getCpuPool(), data -&gt; decode(data))
+     *         .deliver(callback);
+     * </pre>
+     */
+    public static final class Stage<T> {
+
+        private static final int PENDING   = 0;
+        private static final int SUCCEEDED = 1;
+        private static final int FAILED    = 2;
+        private static final int CANCELLED = 3;
+
+        private static final Executor DIRECT_DELIVER = new Executor() {
+            @Override
+            public void execute(@NonNull Runnable command) {
+                command.run();
+            }
+        };
+
+        private final ExecutorService mPool;
+        private final Stage<?>[]      mParents;
+        private       int             mState = PENDING;
+        private       T               mResult;
+        private       Throwable       mThrowable;
+        private       List<Runnable>  mListeners = new ArrayList<>();
+        private volatile Task<T>      mTask;
+
+        private Stage(ExecutorService pool, Stage<?>... parents) {
+            mPool = pool;
+            mParents = parents;
+        }
+
+        /**
+         * Run the callable in the pool as the first stage of a graph.
+         * 简体中文：在线程池中运行callable，作为任务图的第一个阶段。
+         */
+        public static <T> Stage<T> supply(@NonNull ExecutorService pool,
+                                          @NonNull final Callable<T> callable) {
+            Stage<T> stage = new Stage<>(pool);
+            stage.run(callable);
+            return stage;
+        }
+
+        /**
+         * Apply the function to the result of this stage in the pool of this stage.
+         * 简体中文：在本阶段的线程池中将函数应用于本阶段的结果。
+         */
+        public <R> Stage<R> then(@NonNull Function<? super T, ? extends R> function) {
+            return then(mPool, function);
+        }
+
+        /**
+         * Apply the function to the result of this stage in the given pool.
+         * 简体中文：在给定的线程池中将函数应用于本阶段的结果。
+         */
+        public <R> Stage<R> then(@NonNull ExecutorService pool,
+                                 @NonNull final Function<? super T, ? extends R> function) {
+            final Stage<R> next = new Stage<>(pool, this);
+            addListener(new Runnable() {
+                @Override
+                public void run() {
+                    if (next.propagate(Stage.this)) {
+                        return;
+                    }
+                    final T result = mResult;
+                    next.run(new Callable<R>() {
+                        @Override
+                        public R call() throws Exception {
+                            return Stage.apply(function, result);
+                        }
+                    });
+                }
+            });
+            return next;
+        }
+
+        /**
+         * Combine the results of the two stages in the pool of the first stage. If either
+         * fails, the other is cancelled.
+         * 简体中文：在第一个阶段的线程池中合并两个阶段的结果。任何一个失败时，另一个会被取消。
+         */
+        public static <A, B, R> Stage<R> zip(@NonNull final Stage<A> first,
+                                             @NonNull final Stage<B> second,
+                                             @NonNull final BiFunction<? super A, ? super B, ? extends R> function) {
+            final Stage<R> next = new Stage<>(first.mPool, first, second);
+            final AtomicInteger remaining = new AtomicInteger(2);
+            Runnable listener = new Runnable() {
+                @Override
+                public void run() {
+                    if (next.propagate(first) || next.propagate(second)) {
+                        first.cancel();
+                        second.cancel();
+                        return;
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        final A a = first.mResult;
+                        final B b = second.mResult;
+                        next.run(new Callable<R>() {
+                            @Override
+                            public R call() throws Exception {
+                                try {
+                                    return function.apply(a, b);
+                                } catch (Exception | Error e) {
+                                    throw e;
+                                } catch (Throwable t) {
+                                    throw new ExecutionException(t);
+                                }
+                            }
+                        });
+                    }
+                }
+            };
+            first.addListener(listener);
+            second.addListener(listener);
+            return next;
+        }
+
+        /**
+         * Collect the results of all the stages in order. If any fails, the others are
+         * cancelled.
+         * 简体中文：按顺序收集所有阶段的结果。任何一个失败时，其他阶段会被取消。
+         */
+        public static <T> Stage<List<T>> allOf(@NonNull final List<Stage<T>> stages) {
+            if (stages.isEmpty()) {
+                throw new IllegalArgumentException("stages is empty.");
+            }
+            final Stage<List<T>> next = new Stage<>(stages.get(0).mPool,
+                    stages.toArray(new Stage<?>[0]));
+            final AtomicInteger remaining = new AtomicInteger(stages.size());
+            for (final Stage<T> stage : stages) {
+                stage.addListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (next.propagate(stage)) {
+                            for (Stage<T> other : stages) {
+                                other.cancel();
+                            }
+                            return;
+                        }
+                        if (remaining.decrementAndGet() == 0) {
+                            List<T> results = new ArrayList<>(stages.size());
+                            for (Stage<T> s : stages) {
+                                results.add(s.mResult);
+                            }
+                            next.complete(SUCCEEDED, results, null);
+                        }
+                    }
+                });
+            }
+            return next;
+        }
+
+        /**
+         * Take the result of the first stage which succeeds, and cancel the others. It fails
+         * with the last failure only if all the stages fail.
+         * 简体中文：取第一个成功的阶段的结果，并取消其他阶段。只有所有阶段都失败时，才以最后一个失败结束。
+         */
+        public static <T> Stage<T> anyOf(@NonNull final List<Stage<T>> stages) {
+            if (stages.isEmpty()) {
+                throw new IllegalArgumentException("stages is empty.");
+            }
+            final Stage<T> next = new Stage<>(stages.get(0).mPool,
+                    stages.toArray(new Stage<?>[0]));
+            final AtomicInteger remaining = new AtomicInteger(stages.size());
+            for (final Stage<T> stage : stages) {
+                stage.addListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (stage.mState == SUCCEEDED) {
+                            if (next.complete(SUCCEEDED, stage.mResult, null)) {
+                                for (Stage<T> other : stages) {
+                                    other.cancel();
+                                }
+                            }
+                        } else if (remaining.decrementAndGet() == 0) {
+                            next.propagate(stage);
+                        }
+                    }
+                });
+            }
+            return next;
+        }
+
+        /**
+         * Deliver the final result of the graph through the global deliver.
+         * 简体中文：通过全局投递者投递任务图的最终结果。
+         */
+        public void deliver(@NonNull Callback<? super T> callback) {
+            deliver(getGlobalDeliver(), callback);
+        }
+
+        /**
+         * Deliver the final result of the graph through the given deliver.
+         * 简体中文：通过给定的投递者投递任务图的最终结果。
+         */
+        public void deliver(@NonNull final Executor deliver,
+                            @NonNull final Callback<? super T> callback) {
+            addListener(new Runnable() {
+                @Override
+                public void run() {
+                    deliver.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            switch (mState) {
+                                case SUCCEEDED:
+                                    callback.onSuccess(mResult);
+                                    break;
+                                case FAILED:
+                                    callback.onFail(mThrowable);
+                                    break;
+                                default:
+                                    callback.onCancel();
+                                    break;
+                            }
+                        }
+                    });
+                }
+            });
+        }
+
+        /**
+         * Cancel this stage and its unfinished upstream stages.
+         * 简体中文：取消本阶段及其未完成的上游阶段。
+         *
+         * @return false if this stage has finished.
+         */
+        public boolean cancel() {
+            if (!complete(CANCELLED, null, null)) {
+                return false;
+            }
+            Task<T> task = mTask;
+            if (task != null) {
+                task.cancel();
+            }
+            for (Stage<?> parent : mParents) {
+                parent.cancel();
+            }
+            return true;
+        }
+
+        public boolean isDone() {
+            synchronized (this) {
+                return mState != PENDING;
+            }
+        }
+
+        public boolean isCancelled() {
+            synchronized (this) {
+                return mState == CANCELLED;
+            }
+        }
+
+        private void run(final Callable<T> callable) {
+            Task<T> task = new Task<T>() {
+                @Override
+                public T doInBackground() throws Throwable {
+                    return callable.call();
+                }
+
+                @Override
+                public void onSuccess(T result) {
+                    complete(SUCCEEDED, result, null);
+                }
+
+                @Override
+                public void onCancel() {
+                    Stage.this.cancel();
+                }
+
+                @Override
+                public void onFail(Throwable t) {
+                    complete(FAILED, null, t);
+                }
+            };
+            task.setDeliver(DIRECT_DELIVER);
+            mTask = task;
+            if (isCancelled()) {
+                return;
+            }
+            execute(mPool, task);
+        }
+
+        /**
+         * Finish this stage the same way as the upstream stage if it hasn't succeeded.
+         * 简体中文：如果上游阶段没有成功，则以相同的方式结束本阶段。
+         *
+         * @return true if the upstream stage has failed or been cancelled.
+         */
+        private boolean propagate(Stage<?> upstream) {
+            int state;
+            Throwable throwable;
+            synchronized (upstream) {
+                state = upstream.mState;
+                throwable = upstream.mThrowable;
+            }
+            switch (state) {
+                case FAILED:
+                    complete(FAILED, null, throwable);
+                    return true;
+                case CANCELLED:
+                    cancel();
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean complete(int state, T result, Throwable throwable) {
+            List<Runnable> listeners;
+            synchronized (this) {
+                if (mState != PENDING) {
+                    return false;
+                }
+                mResult = result;
+                mThrowable = throwable;
+                mState = state;
+                listeners = mListeners;
+                mListeners = null;
+            }
+            for (Runnable listener : listeners) {
+                notifyListener(listener);
+            }
+            return true;
+        }
+
+        private void addListener(Runnable listener) {
+            synchronized (this) {
+                if (mState == PENDING) {
+                    mListeners.add(listener);
+                    return;
+                }
+            }
+            notifyListener(listener);
+        }
+
+        private static void notifyListener(Runnable listener) {
+            try {
+                listener.run();
+            } catch (Throwable t) {
+                LogUtils.e("The stage listener threw an exception, " + t);
+            }
+        }
+
+        private static <T, R> R apply(Function<? super T, ? extends R> function, T t)
+                throws Exception {
+            try {
+                return function.apply(t);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new ExecutionException(throwable);
+            }
+        }
+
+        public interface Callback<T> {
+
+            void onSuccess(T result);
+
+            void onFail(Throwable t);
+
+            void onCancel();
+        }
+    }
+
     /**
      * Check if the current code environment is the main thread.
      * 简体中文：检测当前代码环境是否是主线程。
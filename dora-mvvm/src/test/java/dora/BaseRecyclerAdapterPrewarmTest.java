@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.os.Looper;
+import android.util.SparseIntArray;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the first frame of a list with and without {@link BaseRecyclerAdapter#prewarm}. The
+ * number of view holders created during the first layout is the deterministic measure, the
+ * time of the first layout is printed as the benchmark.
+ * 简体中文：比较使用与不使用{@link BaseRecyclerAdapter#prewarm}时列表的首帧。首次布局期间创建的ViewHolder
+ * 数量是确定性的衡量标准，首次布局的耗时作为基准测试结果输出。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class BaseRecyclerAdapterPrewarmTest {
+
+    private static final int ITEM_COUNT = 100;
+    private static final int OTHER_TYPE = 1;
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 1600;
+    private static final long TIMEOUT_MILLIS = 10 * 1000;
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+    }
+
+    @Test
+    public void prewarmedListCreatesNoViewHolderInTheFirstFrame() throws InterruptedException {
+        RecyclerView coldList = newRecyclerView();
+        TestAdapter coldAdapter = new TestAdapter(mContext);
+        coldList.setAdapter(coldAdapter);
+        long coldNanos = layout(coldList);
+
+        RecyclerView warmList = newRecyclerView();
+        TestAdapter warmAdapter = new TestAdapter(mContext);
+        warmList.setAdapter(warmAdapter);
+        int itemViews = coldAdapter.mCreatedCount[BaseRecyclerAdapter.ITEM_TYPE];
+        int otherViews = coldAdapter.mCreatedCount[OTHER_TYPE];
+        SparseIntArray viewTypeCounts = new SparseIntArray();
+        viewTypeCounts.put(BaseRecyclerAdapter.ITEM_TYPE, itemViews);
+        viewTypeCounts.put(OTHER_TYPE, otherViews);
+        warmAdapter.prewarm(warmList, viewTypeCounts);
+        RecyclerView.RecycledViewPool pool = warmList.getRecycledViewPool();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (pool.getRecycledViewCount(BaseRecyclerAdapter.ITEM_TYPE) < itemViews
+                || pool.getRecycledViewCount(OTHER_TYPE) < otherViews) {
+            assertTrue("The prewarm didn't finish in time.",
+                    System.currentTimeMillis() < deadline);
+            idleMainLooper();
+        }
+        warmAdapter.mCreatedCount[BaseRecyclerAdapter.ITEM_TYPE] = 0;
+        warmAdapter.mCreatedCount[OTHER_TYPE] = 0;
+        long warmNanos = layout(warmList);
+
+        System.out.println("First frame of " + itemViews + " + " + otherViews + " views: cold "
+                + TimeUnit.NANOSECONDS.toMicros(coldNanos) + " us, prewarmed "
+                + TimeUnit.NANOSECONDS.toMicros(warmNanos) + " us");
+        assertTrue(itemViews > 0 && otherViews > 0);
+        assertEquals(0, warmAdapter.mCreatedCount[BaseRecyclerAdapter.ITEM_TYPE]);
+        assertEquals(0, warmAdapter.mCreatedCount[OTHER_TYPE]);
+    }
+
+    @Test
+    public void headerAndFooterLayoutsAreInflatedInTheBackground() throws InterruptedException {
+        RecyclerView list = newRecyclerView();
+        TestAdapter adapter = new TestAdapter(mContext);
+        list.setAdapter(adapter);
+        adapter.addHeaderView(list, android.R.layout.simple_list_item_1);
+        adapter.addFooterView(list, android.R.layout.simple_list_item_2);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (adapter.getHeadersCount() < 1 || adapter.getFootersCount() < 1) {
+            assertTrue("The header and footer weren't added in time.",
+                    System.currentTimeMillis() < deadline);
+            idleMainLooper();
+        }
+        assertEquals(ITEM_COUNT + 2, adapter.getItemCount());
+        assertEquals(BaseRecyclerAdapter.BASE_HEADER_TYPE, adapter.getItemViewType(0));
+        assertEquals(BaseRecyclerAdapter.BASE_FOOTER_TYPE,
+                adapter.getItemViewType(ITEM_COUNT + 1));
+    }
+
+    private RecyclerView newRecyclerView() {
+        RecyclerView recyclerView = new RecyclerView(mContext);
+        recyclerView.setLayoutManager(new LinearLayoutManager(mContext));
+        return recyclerView;
+    }
+
+    /**
+     * Measure and lay out the list, the first frame.
+     * 简体中文：测量并布局列表，即首帧。
+     */
+    private static long layout(RecyclerView recyclerView) {
+        long start = System.nanoTime();
+        recyclerView.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, WIDTH, HEIGHT);
+        return System.nanoTime() - start;
+    }
+
+    private static void idleMainLooper() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(10);
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    /**
+     * Every fifth item uses another layout, and the created view holders are counted by type.
+     * 简体中文：每五项中有一项使用另一个布局，并按类型统计创建的ViewHolder数量。
+     */
+    private static class TestAdapter extends BaseRecyclerAdapter<String, RecyclerView.ViewHolder> {
+
+        final int[] mCreatedCount = new int[2];
+
+        TestAdapter(Context context) {
+            super(context, android.R.layout.simple_list_item_1);
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                dataSource.add("Item " + i);
+            }
+        }
+
+        @Override
+        protected int getType(int position) {
+            return (position - headers.size()) % 5 == 4 ? OTHER_TYPE : ITEM_TYPE;
+        }
+
+        @Override
+        protected int getLayoutId(int viewType) {
+            return viewType == OTHER_TYPE ? android.R.layout.simple_list_item_2 : resId;
+        }
+
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            if (viewType == ITEM_TYPE || viewType == OTHER_TYPE) {
+                mCreatedCount[viewType]++;
+            }
+            return super.onCreateViewHolder(parent, viewType);
+        }
+
+        @Override
+        protected RecyclerView.ViewHolder createItemViewHolder(View view, int viewType) {
+            return new RecyclerView.ViewHolder(view) {
+            };
+        }
+
+        @Override
+        protected void bindData(RecyclerView.ViewHolder h, String obj, int position) {
+        }
+    }
+}
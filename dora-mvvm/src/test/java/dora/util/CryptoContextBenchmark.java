@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Microbenchmark of {@link CipherContext} and {@link MacContext} against the per-call path the
+ * static methods of {@link CryptoUtils} used before them, which is copied here as the baseline.
+ * Each case checks that both paths give the same result, then prints the time per call after a
+ * warm-up. Run it with {@code ./gradlew :dora-mvvm:testDebugUnitTest --tests
+ * dora.util.CryptoContextBenchmark -i} to see the numbers.
+ * 简体中文：{@link CipherContext}和{@link MacContext}的微基准测试，对照的是{@link CryptoUtils}的静态方法
+ * 在此之前每次调用所走的路径，该路径作为基准被复制到这里。每个用例先检查两条路径的结果相同，然后输出预热后
+ * 每次调用的耗时。通过{@code ./gradlew :dora-mvvm:testDebugUnitTest --tests
+ * dora.util.CryptoContextBenchmark -i}运行以查看数据。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class CryptoContextBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 2;
+    private static final long ROUND_NANOS = 500_000_000L;
+    private static final String SECRET_KEY = "0123456789abcdef";
+    private static final String DATA = "{\"id\":10086,\"name\":\"dora\",\"tags\":[\"mvvm\",\"util\"]}";
+
+    @Test
+    public void calcHMAC() throws Exception {
+        MacContext context = CryptoUtils.newHMACContext(SECRET_KEY);
+        byte[] data = DATA.getBytes(StandardCharsets.UTF_8);
+        assertEquals(oldCalcHMAC(DATA, SECRET_KEY), CryptoUtils.calcHMAC(DATA, SECRET_KEY));
+        assertEquals(oldCalcHMAC(DATA, SECRET_KEY), CryptoUtils.base64Encode(context.sign(data)));
+
+        report("calcHMAC",
+                measure(() -> oldCalcHMAC(DATA, SECRET_KEY)),
+                measure(() -> CryptoUtils.calcHMAC(DATA, SECRET_KEY)),
+                "MacContext.sign(byte[])", measure(() -> context.sign(data)));
+    }
+
+    @Test
+    public void encryptAES() throws Exception {
+        CipherContext context = CryptoUtils.newAESContext(SECRET_KEY);
+        byte[] data = DATA.getBytes(StandardCharsets.UTF_8);
+        assertEquals(oldEncryptAES(SECRET_KEY, DATA), CryptoUtils.encryptAES(SECRET_KEY, DATA));
+        assertArrayEquals(CryptoUtils.base64Decode(oldEncryptAES(SECRET_KEY, DATA)),
+                context.encrypt(data));
+
+        report("encryptAES(key, data)",
+                measure(() -> oldEncryptAES(SECRET_KEY, DATA)),
+                measure(() -> CryptoUtils.encryptAES(SECRET_KEY, DATA)),
+                "CipherContext.encrypt(byte[])", measure(() -> context.encrypt(data)));
+    }
+
+    @Test
+    public void encryptByPublic() throws Exception {
+        Map<String, String> keyPair = CryptoUtils.generateRSAKeyPair(2048);
+        String publicKey = keyPair.get(CryptoUtils.PUBLIC_KEY);
+        String privateKey = keyPair.get(CryptoUtils.PRIVATE_KEY);
+        // PKCS#1 padding is random, so compare the plain texts.
+        // 简体中文：PKCS#1填充是随机的，因此比较明文。
+        assertEquals(DATA, CryptoUtils.decryptByPrivate(privateKey,
+                oldEncryptByPublic(publicKey, DATA)));
+        assertEquals(DATA, CryptoUtils.decryptByPrivate(privateKey,
+                CryptoUtils.encryptByPublic(publicKey, DATA)));
+
+        report("encryptByPublic, 2048-bit",
+                measure(() -> oldEncryptByPublic(publicKey, DATA)),
+                measure(() -> CryptoUtils.encryptByPublic(publicKey, DATA)),
+                null, 0);
+    }
+
+    // <editor-folder desc="The per-call path before the contexts">
+
+    private static String oldCalcHMAC(String data, String secretKey) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        SecretKeySpec keySpec = new SecretKeySpec(
+                secretKey.getBytes(StandardCharsets.UTF_8),
+                "HmacSHA256"
+        );
+        mac.init(keySpec);
+        byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoUtils.base64Encode(hash);
+    }
+
+    private static String oldEncryptAES(String secretKey, String data) throws Exception {
+        Cipher cipher = Cipher.getInstance(CryptoUtils.AES_ECB_PKCS5);
+        cipher.init(Cipher.ENCRYPT_MODE, CryptoUtils.getSecretKey(secretKey, CryptoUtils.AES));
+        byte[] encryptByte = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        return CryptoUtils.base64Encode(encryptByte);
+    }
+
+    private static String oldEncryptByPublic(String rsaPublic, String content) throws Exception {
+        RSAPublicKey publicKey = CryptoUtils.getPublicKey(rsaPublic);
+        Cipher cipher = Cipher.getInstance(CryptoUtils.RSA_ECB_PKCS1);
+        cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+        return CryptoUtils.base64Encode(CryptoUtils.rsaSplitCodec(cipher, Cipher.ENCRYPT_MODE,
+                content.getBytes(StandardCharsets.UTF_8), publicKey.getModulus().bitLength()));
+    }
+
+    // </editor-folder>
+
+    /**
+     * The average nanoseconds per call of the last round, after the warm-up rounds.
+     * 简体中文：预热轮次之后，最后一轮中每次调用的平均纳秒数。
+     */
+    private static double measure(Call call) throws Exception {
+        double nanosPerCall = 0;
+        for (int round = 0; round <= WARM_UP_ROUNDS; round++) {
+            long calls = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                for (int i = 0; i < 100; i++) {
+                    call.run();
+                }
+                calls += 100;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < ROUND_NANOS);
+            nanosPerCall = (double) elapsed / calls;
+        }
+        return nanosPerCall;
+    }
+
+    private static void report(String name, double oldNanos, double newNanos,
+                               String contextName, double contextNanos) {
+        StringBuilder sb = new StringBuilder(name).append(": ")
+                .append(String.format("%.2f us -> %.2f us", oldNanos / 1000, newNanos / 1000));
+        if (contextName != null) {
+            sb.append(String.format(" (%s %.2f us)", contextName, contextNanos / 1000));
+        }
+        System.out.println(sb);
+    }
+
+    private interface Call {
+
+        void run() throws Exception;
+    }
+}
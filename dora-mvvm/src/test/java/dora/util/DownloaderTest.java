@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumes downloads against a local HTTP server that honors Range and If-Range like a real one.
+ * 简体中文：针对一个像真实服务器一样支持Range和If-Range的本地HTTP服务器测试续传。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class DownloaderTest {
+
+    private static final long TIMEOUT_MILLIS = 10 * 1000;
+
+    private HttpServer mServer;
+    private volatile byte[] mContent;
+    private volatile String mETag;
+    /**
+     * The Range and If-Range headers of every request, as "range|ifRange".
+     * 简体中文：每个请求的Range和If-Range请求头，格式为"range|ifRange"。
+     */
+    private final List<String> mRequests = new CopyOnWriteArrayList<>();
+    private File mFolder;
+    private File mTarget;
+    private String mUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        mServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        mServer.createContext("/file", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+            mRequests.add(range + "|" + ifRange);
+            byte[] body = mContent;
+            exchange.getResponseHeaders().add("ETag", mETag);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (range != null && (ifRange == null || ifRange.equals(mETag))) {
+                    int start = Integer.parseInt(range.substring("bytes=".length(),
+                            range.length() - 1));
+                    exchange.getResponseHeaders().add("Content-Range",
+                            "bytes " + start + "-" + (body.length - 1) + "/" + body.length);
+                    exchange.sendResponseHeaders(206, body.length - start);
+                    out.write(body, start, body.length - start);
+                } else {
+                    exchange.sendResponseHeaders(200, body.length);
+                    out.write(body);
+                }
+            }
+        });
+        mServer.start();
+        mUrl = "http://127.0.0.1:" + mServer.getAddress().getPort() + "/file";
+        mFolder = Files.createTempDirectory("downloader").toFile();
+        mTarget = new File(mFolder, "file.bin");
+    }
+
+    @After
+    public void tearDown() {
+        mServer.stop(0);
+        IoUtils.delete(mFolder);
+    }
+
+    @Test
+    public void resumesWhenTheFileIsUnchanged() throws Exception {
+        byte[] content = randomBytes(300_000, 1);
+        serve(content, "\"v1\"");
+        writePart(Arrays.copyOf(content, 1000), "\"v1\"");
+
+        assertNull(download());
+
+        assertArrayEquals(content, IoUtils.read(mTarget));
+        assertEquals(Arrays.asList("bytes=1000-|\"v1\""), mRequests);
+        assertLeavesOnlyTarget();
+    }
+
+    @Test
+    public void startsOverWhenTheFileChanged() throws Exception {
+        byte[] oldContent = randomBytes(300_000, 1);
+        byte[] newContent = randomBytes(250_000, 2);
+        serve(newContent, "\"v2\"");
+        writePart(Arrays.copyOf(oldContent, 1000), "\"v1\"");
+
+        assertNull(download());
+
+        assertArrayEquals(newContent, IoUtils.read(mTarget));
+        assertEquals(Arrays.asList("bytes=1000-|\"v1\""), mRequests);
+        assertLeavesOnlyTarget();
+    }
+
+    @Test
+    public void startsOverWithoutAValidator() throws Exception {
+        byte[] content = randomBytes(300_000, 3);
+        serve(content, "\"v1\"");
+        writePart(Arrays.copyOf(randomBytes(300_000, 4), 1000), null);
+
+        assertNull(download());
+
+        assertArrayEquals(content, IoUtils.read(mTarget));
+        assertEquals(Arrays.asList("null|null"), mRequests);
+        assertLeavesOnlyTarget();
+    }
+
+    private void serve(byte[] content, String eTag) {
+        mContent = content;
+        mETag = eTag;
+    }
+
+    private void writePart(byte[] part, String validator) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(mTarget.getPath()
+                + Downloader.PART_SUFFIX)) {
+            out.write(part);
+        }
+        if (validator != null) {
+            try (FileOutputStream out = new FileOutputStream(mTarget.getPath()
+                    + Downloader.VALIDATOR_SUFFIX)) {
+                out.write(validator.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Download the file and wait for the callback on the main looper.
+     * 简体中文：下载文件并在主线程Looper上等待回调。
+     *
+     * @return the failure, null on success.简体中文：失败原因，成功时为null
+     */
+    private Throwable download() throws InterruptedException {
+        Throwable[] result = new Throwable[1];
+        boolean[] done = new boolean[1];
+        new Downloader(1).download(mUrl, mTarget, new Downloader.SimpleCallback() {
+
+            @Override
+            public void onSuccess(File file) {
+                done[0] = true;
+            }
+
+            @Override
+            public void onFail(Throwable t) {
+                result[0] = t;
+                done[0] = true;
+            }
+        });
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!done[0]) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("The download didn't finish in time.");
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+            shadowOf(Looper.getMainLooper()).idle();
+        }
+        return result[0];
+    }
+
+    private void assertLeavesOnlyTarget() {
+        assertFalse(new File(mTarget.getPath() + Downloader.PART_SUFFIX).exists());
+        assertFalse(new File(mTarget.getPath() + Downloader.VALIDATOR_SUFFIX).exists());
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of N single writes against one batch of {@link SPUtils#editSync(Context,
+ * SPUtils.Transaction)}, on the default SharedPreferences, which rewrite the whole XML file per
+ * commit, and then on {@link MmapPreferences}. Run it with {@code ./gradlew
+ * :dora-mvvm:testDebugUnitTest --tests dora.util.SPUtilsBenchmark -i} to see the numbers.
+ * 简体中文：N次单独写入与一次{@link SPUtils#editSync(Context, SPUtils.Transaction)}批量写入的基准测试，先在每次
+ * 提交都重写整个XML文件的默认SharedPreferences上运行，再在{@link MmapPreferences}上运行。通过
+ * {@code ./gradlew :dora-mvvm:testDebugUnitTest --tests dora.util.SPUtilsBenchmark -i}运行以查看数据。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class SPUtilsBenchmark {
+
+    private static final int SETTING_COUNT = 30;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    @Test
+    public void singleWritesVsOneBatch() {
+        Context context = ApplicationProvider.getApplicationContext();
+        measure(context, "SharedPreferences");
+        assertTrue(SPUtils.useMmapBackend(context));
+        measure(context, "MmapPreferences");
+    }
+
+    private static void measure(Context context, String backend) {
+        long singleNanos = 0;
+        long batchNanos = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS + ROUNDS; round++) {
+            String value = "value " + round;
+            long start = System.nanoTime();
+            for (int i = 0; i < SETTING_COUNT; i++) {
+                SPUtils.writeStringSync(context, "single_" + i, value);
+            }
+            long single = System.nanoTime() - start;
+            start = System.nanoTime();
+            SPUtils.editSync(context, editor -> {
+                for (int i = 0; i < SETTING_COUNT; i++) {
+                    editor.putString("batch_" + i, value);
+                }
+            });
+            long batch = System.nanoTime() - start;
+            if (round >= WARM_UP_ROUNDS) {
+                singleNanos += single;
+                batchNanos += batch;
+            }
+            for (int i = 0; i < SETTING_COUNT; i++) {
+                assertEquals(value, SPUtils.readString(context, "single_" + i));
+                assertEquals(value, SPUtils.getPreferences().getString("batch_" + i, null));
+            }
+        }
+        System.out.println(backend + ", " + SETTING_COUNT + " settings: " + SETTING_COUNT
+                + " single commits " + toMillis(singleNanos / ROUNDS) + " ms, one batch "
+                + toMillis(batchNanos / ROUNDS) + " ms");
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The read cache of {@link SPUtils} sees the writes made through
+ * {@link SPUtils#getPreferences()} right away, on any thread, before the change listener is
+ * called on the main thread.
+ * 简体中文：{@link SPUtils}的读缓存能立即看到通过{@link SPUtils#getPreferences()}做的写入，无论在哪个线程，
+ * 都早于在主线程中调用变更监听器。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class SPUtilsTest {
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = ApplicationProvider.getApplicationContext();
+        SPUtils.clearSync(mContext);
+    }
+
+    @Test
+    public void seesAWriteOfGetPreferencesOnAWorkerThread() throws InterruptedException {
+        SPUtils.writeStringSync(mContext, "key", "old");
+        assertEquals("old", SPUtils.readString(mContext, "key"));
+
+        AtomicReference<String> read = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            SPUtils.getPreferences().edit().putString("key", "new").commit();
+            read.set(SPUtils.readString(mContext, "key"));
+        });
+        worker.start();
+        worker.join();
+
+        assertEquals("new", read.get());
+        assertEquals("new", SPUtils.readString(mContext, "key"));
+    }
+
+    @Test
+    public void seesAClearOfGetPreferences() {
+        SPUtils.writeStringSync(mContext, "key", "old");
+        assertEquals("old", SPUtils.readString(mContext, "key"));
+
+        SPUtils.getPreferences().edit().clear().commit();
+
+        assertNull(SPUtils.readString(mContext, "key", null));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2024 The Dora Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dora.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark of the {@link ThreadUtils.Task} timeouts: 2000 timed tasks run at once, half of
+ * them finish before their timeout, which is cancelled then, and the other half block until
+ * they time out. It checks that the timeouts take no thread per task, and prints how late they
+ * fire. Run it with {@code ./gradlew :dora-mvvm:testDebugUnitTest --tests
+ * dora.util.TaskTimeoutBenchmark -i} to see the numbers.
+ * 简体中文：{@link ThreadUtils.Task}超时的基准测试：同时运行2000个带超时的任务，其中一半在超时前完成，此时其超时
+ * 会被取消，另一半阻塞直到超时。它检查超时不会为每个任务占用一个线程，并输出超时触发的延迟。通过
+ * {@code ./gradlew :dora-mvvm:testDebugUnitTest --tests dora.util.TaskTimeoutBenchmark -i}运行以查看数据。
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class TaskTimeoutBenchmark {
+
+    private static final int TASK_COUNT = 2000;
+    private static final long TIMEOUT_MILLIS = 500;
+    private static final String WORKER_PREFIX = "bench-worker-";
+    private static final String DELIVER_NAME = "bench-deliver";
+
+    @Test
+    public void timeouts() throws InterruptedException {
+        AtomicInteger workerIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(TASK_COUNT,
+                r -> new Thread(r, WORKER_PREFIX + workerIds.incrementAndGet()));
+        ExecutorService deliver = Executors.newSingleThreadExecutor(
+                r -> new Thread(r, DELIVER_NAME));
+        // Initialize ThreadUtils first, it starts the timer of the scheduled tasks.
+        // 简体中文：先初始化ThreadUtils，它会启动计划任务的计时器。
+        ThreadUtils.isMainThread();
+        int threadsBefore = countOtherThreads();
+        CountDownLatch started = new CountDownLatch(TASK_COUNT);
+        CountDownLatch done = new CountDownLatch(TASK_COUNT);
+        AtomicInteger timeouts = new AtomicInteger();
+        AtomicLong maxLateNanos = new AtomicLong();
+        AtomicLong totalLateNanos = new AtomicLong();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            final boolean blocks = i % 2 == 0;
+            final long[] startNanos = new long[1];
+            ThreadUtils.Task<Void> task = new ThreadUtils.SimpleTask<Void>() {
+
+                @Override
+                public Void doInBackground() throws Throwable {
+                    startNanos[0] = System.nanoTime();
+                    started.countDown();
+                    if (blocks) {
+                        // Interrupted by the timeout.
+                        // 简体中文：被超时中断。
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    }
+                    return null;
+                }
+
+                @Override
+                public void onSuccess(Void result) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onCancel() {
+                }
+            };
+            task.setDeliver(deliver);
+            task.setTimeout(TIMEOUT_MILLIS, () -> {
+                long late = System.nanoTime() - startNanos[0]
+                        - TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+                maxLateNanos.accumulateAndGet(late, Math::max);
+                totalLateNanos.addAndGet(late);
+                timeouts.incrementAndGet();
+                done.countDown();
+            });
+            workers.execute(task);
+        }
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+        // Every task has registered its timeout by now.
+        // 简体中文：此时每个任务都已注册了超时。
+        int timerThreads = countOtherThreads() - threadsBefore;
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        workers.shutdownNow();
+        deliver.shutdownNow();
+
+        System.out.println(TASK_COUNT + " timed tasks: " + timerThreads + " timer thread(s), "
+                + timeouts.get() + " timeouts, late by "
+                + TimeUnit.NANOSECONDS.toMicros(totalLateNanos.get() / timeouts.get())
+                + " us on average, " + TimeUnit.NANOSECONDS.toMicros(maxLateNanos.get())
+                + " us at most");
+        assertEquals(TASK_COUNT / 2, timeouts.get());
+        assertTrue("A thread per timeout: " + timerThreads, timerThreads <= 1);
+    }
+
+    /**
+     * The live threads except the workers and the deliver of this benchmark.
+     * 简体中文：除本基准测试的工作线程和分发线程之外的存活线程。
+     */
+    private static int countOtherThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (thread.isAlive() && !name.startsWith(WORKER_PREFIX)
+                    && !name.equals(DELIVER_NAME)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}